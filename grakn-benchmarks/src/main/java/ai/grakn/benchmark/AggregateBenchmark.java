@@ -0,0 +1,67 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmark;
+
+import ai.grakn.GraknTx;
+import ai.grakn.graql.AggregateQuery;
+import ai.grakn.test.kbs.MovieKB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Benchmarks computing the aggregates of the answers of match queries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AggregateBenchmark extends KBBenchmark {
+
+    @Param({
+            "match $x isa movie; aggregate count;",
+            "match $x isa movie, has tmdb-vote-count $v; aggregate sum $v;",
+            "match $x isa movie, has tmdb-vote-count $v; aggregate mean $v;",
+            "match $x isa movie, has tmdb-vote-count $v; aggregate median $v;",
+            "match $x isa movie, has tmdb-vote-count $v; aggregate std $v;",
+            "match (actor: $a, production-with-cast: $m) isa has-cast; aggregate group $m;",
+            "match $x isa movie, has tmdb-vote-count $v; aggregate (min $v as min, max $v as max);"
+    })
+    public String query;
+
+    private AggregateQuery<?> aggregateQuery;
+
+    @Override
+    protected Consumer<GraknTx> kb() {
+        return MovieKB.get();
+    }
+
+    @Override
+    protected void prepare(GraknTx tx) {
+        aggregateQuery = tx.graql().parse(query);
+    }
+
+    @Benchmark
+    public Object aggregate() {
+        return aggregateQuery.execute();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmark;
+
+import ai.grakn.GraknTx;
+import ai.grakn.test.kbs.MovieKB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Benchmarks analytics queries, which run on the {@code TinkerGraphComputer} of the in-memory knowledge base.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnalyticsBenchmark extends KBBenchmark {
+
+    @Override
+    protected Consumer<GraknTx> kb() {
+        return MovieKB.get();
+    }
+
+    @Benchmark
+    public long count() {
+        return tx().graql().compute().count().execute();
+    }
+
+    @Benchmark
+    public long countMovies() {
+        return tx().graql().compute().count().in("movie").execute();
+    }
+
+    @Benchmark
+    public Optional<Double> meanVoteCount() {
+        return tx().graql().compute().mean().of("tmdb-vote-count").in("movie", "tmdb-vote-count").execute();
+    }
+
+    @Benchmark
+    public Map<Long, Set<String>> degrees() {
+        return tx().graql().compute().degree().execute();
+    }
+
+    @Benchmark
+    public Map<String, Long> clusterSizes() {
+        return tx().graql().compute().cluster().execute();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>
+ * Runs the benchmarks and writes their results as Json, so they can be compared with the results of earlier runs
+ * to find regressions.
+ * </p>
+ *
+ * <p>
+ * The arguments are regular expressions selecting the benchmarks to run, all of them if there are none.
+ * The results are written to the file named by the system property {@value #RESULT_PROPERTY}, or to
+ * {@value #DEFAULT_RESULT} if it is not set. Any other JMH options can be given by running
+ * {@code org.openjdk.jmh.Main} instead.
+ * </p>
+ *
+ * <p>
+ * The benchmarks run with the gc profiler, so the results include the memory allocated per operation as well as
+ * the time taken.
+ * </p>
+ */
+public class BenchmarkRunner {
+
+    static final String RESULT_PROPERTY = "grakn.benchmark.result";
+    static final String DEFAULT_RESULT = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty(RESULT_PROPERTY, DEFAULT_RESULT))
+                .addProfiler(GCProfiler.class);
+
+        if (args.length == 0) {
+            options.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+        } else {
+            for (String benchmark : args) {
+                options.include(benchmark);
+            }
+        }
+
+        new Runner(options.build()).run();
+    }
+}
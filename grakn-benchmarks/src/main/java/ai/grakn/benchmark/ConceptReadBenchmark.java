@@ -0,0 +1,101 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmark;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.test.kbs.MovieKB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Benchmarks reading instances, their ids, types, attributes and role players, which builds the concepts and fills
+ * their caches.
+ * </p>
+ *
+ * <p>
+ * A new transaction is opened for every invocation, so the concepts are built again instead of being found in the
+ * transaction. Run it with the gc profiler, as {@link BenchmarkRunner} does, to see the memory allocated per
+ * invocation in {@code gc.alloc.rate.norm}.
+ * </p>
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConceptReadBenchmark {
+
+    private GraknSession session;
+    private GraknTx tx;
+
+    @Setup(Level.Trial)
+    public void loadKB() {
+        session = KBBenchmark.load(MovieKB.get());
+    }
+
+    @Setup(Level.Invocation)
+    public void openTx() {
+        tx = session.open(GraknTxType.READ);
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeTx() {
+        tx.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeSession() {
+        session.close();
+    }
+
+    @Benchmark
+    public void readEntities(Blackhole blackhole) {
+        tx.admin().getMetaEntityType().instances().forEach(thing -> {
+            blackhole.consume(thing.getId());
+            blackhole.consume(thing.type());
+            thing.attributes().forEach(blackhole::consume);
+        });
+    }
+
+    @Benchmark
+    public void readRelationships(Blackhole blackhole) {
+        tx.admin().getMetaRelationType().instances().forEach(relationship -> {
+            blackhole.consume(relationship.getId());
+            blackhole.consume(relationship.type());
+            blackhole.consume(relationship.allRolePlayers());
+        });
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmark;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.Role;
+import ai.grakn.graql.admin.Answer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ai.grakn.graql.Graql.var;
+
+/**
+ * <p>
+ * Benchmarks the number of insert queries executed in a transaction per millisecond.
+ * </p>
+ *
+ * <p>
+ * The in-memory knowledge base does not roll back, so it is deleted after every iteration and every iteration starts
+ * from the same schema, rather than from the instances inserted by the iterations before it.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class InsertBenchmark {
+
+    private GraknSession session;
+    private GraknTx tx;
+    private long count;
+
+    @Setup(Level.Trial)
+    public void openSession() {
+        session = KBBenchmark.load(InsertBenchmark::schema);
+    }
+
+    @Setup(Level.Iteration)
+    public void openTx() {
+        tx = session.open(GraknTxType.WRITE);
+        schema(tx);
+        count = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteKB() {
+        tx.admin().delete();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeSession() {
+        session.close();
+    }
+
+    @Benchmark
+    public List<Answer> insertEntity() {
+        return tx.graql().insert(var("x").isa("person").has("name", "person-" + count++)).execute();
+    }
+
+    @Benchmark
+    public List<Answer> insertRelationship() {
+        long id = count++;
+        return tx.graql().insert(
+                var("x").isa("person").has("name", "actor-" + id),
+                var("y").isa("movie").has("name", "movie-" + id),
+                var().rel("actor", "x").rel("production-with-cast", "y").isa("has-cast")
+        ).execute();
+    }
+
+    private static void schema(GraknTx tx) {
+        AttributeType<String> name = tx.putAttributeType("name", AttributeType.DataType.STRING);
+        Role actor = tx.putRole("actor");
+        Role productionWithCast = tx.putRole("production-with-cast");
+        tx.putRelationshipType("has-cast").relates(actor).relates(productionWithCast);
+        tx.putEntityType("person").attribute(name).plays(actor);
+        tx.putEntityType("movie").attribute(name).plays(productionWithCast);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmark;
+
+import ai.grakn.Grakn;
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.util.SampleKBLoader;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * A benchmark run against a knowledge base held in memory.
+ * </p>
+ *
+ * <p>
+ * The knowledge base is loaded once for every fork of the benchmark. A transaction is opened on it for every
+ * iteration, in the thread running the benchmark, because transactions are bound to the thread opening them, so
+ * opening it is never part of the measured time. The in-memory knowledge base does not roll back when the transaction
+ * is closed, so benchmarks should only read from it. Anything a benchmark needs afresh, such as its queries, is built
+ * again for every iteration by {@link #prepare(GraknTx)}.
+ * </p>
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public abstract class KBBenchmark {
+
+    private GraknSession session;
+    private GraknTx tx;
+
+    /**
+     * @return the knowledge base to run the benchmark against
+     */
+    protected abstract Consumer<GraknTx> kb();
+
+    @Setup(Level.Trial)
+    public void loadKB() {
+        session = load(kb());
+    }
+
+    @Setup(Level.Iteration)
+    public void openTx() {
+        tx = session.open(GraknTxType.WRITE);
+        prepare(tx);
+    }
+
+    /**
+     * Prepare anything the benchmark needs from the transaction of an iteration, such as queries bound to it
+     *
+     * @param tx the transaction of the iteration
+     */
+    protected void prepare(GraknTx tx) {
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeTx() {
+        tx.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeSession() {
+        session.close();
+    }
+
+    protected final GraknTx tx() {
+        return tx;
+    }
+
+    /**
+     * @param kb the knowledge base to load
+     * @return a session on a new in-memory keyspace holding the knowledge base
+     */
+    static GraknSession load(Consumer<GraknTx> kb) {
+        GraknSession session = Grakn.session(Grakn.IN_MEMORY, SampleKBLoader.randomKeyspace());
+        try (GraknTx tx = session.open(GraknTxType.WRITE)) {
+            kb.accept(tx);
+            tx.commit();
+        }
+        return session;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmark;
+
+import ai.grakn.GraknTx;
+import ai.grakn.graql.MatchQuery;
+import ai.grakn.test.kbs.MovieKB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Benchmarks finding every answer of a match query, including building the concepts of the answers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MatchQueryBenchmark extends KBBenchmark {
+
+    @Param({
+            "match $x isa movie;",
+            "match $x isa movie, has title \"Godfather\";",
+            "match (actor: $a, production-with-cast: $m) isa has-cast; $m has title $t; $a has name $n;",
+            "match ($x, $y); $x isa person; $y isa movie; $y has tmdb-vote-count > 500;",
+            "match $x has name $n; {$n val contains \"Mar\";} or {$n val contains \"Al\";};",
+            "match $x isa movie, has title $t; order by $t; limit 5;"
+    })
+    public String query;
+
+    private MatchQuery matchQuery;
+
+    @Override
+    protected Consumer<GraknTx> kb() {
+        return MovieKB.get();
+    }
+
+    @Override
+    protected void prepare(GraknTx tx) {
+        matchQuery = tx.graql().parse(query);
+    }
+
+    @Benchmark
+    public void match(Blackhole blackhole) {
+        matchQuery.stream().forEach(blackhole::consume);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmark;
+
+import ai.grakn.GraknTx;
+import ai.grakn.graql.MatchQuery;
+import ai.grakn.test.kbs.CWKB;
+import ai.grakn.test.kbs.GeoKB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Benchmarks resolving queries with the reasoner, without materialising the inferred answers.
+ * </p>
+ *
+ * <p>
+ * Each case is a knowledge base and a query on it: the transitive location of every geographical object,
+ * the transitive location of a single one, and the criminals inferred from the rules of the "Colonel West" example.
+ * The query is parsed again for every iteration, so an iteration never starts from the state left in the query by
+ * the iteration before it.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReasonerBenchmark extends KBBenchmark {
+
+    @Param({"geo-transitivity", "geo-transitivity-bound", "cw-criminal"})
+    public String resolution;
+
+    private MatchQuery matchQuery;
+
+    @Override
+    protected Consumer<GraknTx> kb() {
+        return resolution.startsWith("geo") ? GeoKB.get() : CWKB.get();
+    }
+
+    @Override
+    protected void prepare(GraknTx tx) {
+        matchQuery = tx.graql().infer(true).materialise(false).parse(query());
+    }
+
+    private String query() {
+        switch (resolution) {
+            case "geo-transitivity":
+                return "match (geo-entity: $x, entity-location: $y) isa is-located-in;";
+            case "geo-transitivity-bound":
+                return "match (geo-entity: $x, entity-location: $y) isa is-located-in; $y has name 'Poland';";
+            case "cw-criminal":
+                return "match $x isa criminal;";
+            default:
+                throw new IllegalArgumentException("Unknown resolution benchmark [" + resolution + "]");
+        }
+    }
+
+    @Benchmark
+    public void resolve(Blackhole blackhole) {
+        matchQuery.stream().forEach(blackhole::consume);
+    }
+}
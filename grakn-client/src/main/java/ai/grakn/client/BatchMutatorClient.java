@@ -18,48 +18,44 @@
 
 package ai.grakn.client;
 
-import static ai.grakn.engine.TaskStatus.COMPLETED;
-import static ai.grakn.engine.TaskStatus.FAILED;
-import static ai.grakn.engine.TaskStatus.STOPPED;
 import static ai.grakn.util.ErrorMessage.READ_ONLY_QUERY;
 import static ai.grakn.util.REST.Request.BATCH_NUMBER;
 import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
 import static ai.grakn.util.REST.Request.TASK_LOADER_MUTATIONS;
-import static ai.grakn.util.REST.Request.TASK_STATUS_PARAMETER;
-import static ai.grakn.util.REST.WebPath.Tasks.TASKS;
+import static ai.grakn.util.REST.Response.Task.ID;
+import static org.apache.http.HttpStatus.SC_OK;
 import com.github.rholder.retry.WaitStrategies;
 import static java.lang.String.format;
-import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import static java.util.stream.Collectors.toList;
 
 import ai.grakn.engine.TaskId;
-import ai.grakn.engine.TaskStatus;
 import ai.grakn.graql.Query;
-import ai.grakn.util.ErrorMessage;
-import ai.grakn.util.REST;
 import com.github.rholder.retry.Retryer;
 import com.github.rholder.retry.RetryerBuilder;
 import com.github.rholder.retry.StopStrategies;
-import java.io.BufferedReader;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.net.HttpRetryException;
-import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import mjson.Json;
@@ -73,26 +69,48 @@ import org.slf4j.LoggerFactory;
  * that will execute when a batch finishes loading. BatchMutatorClient will block when the configured
  * resources are being used to execute tasks.
  *
+ * Batches are queued and submitted by a background thread, so adding queries does not wait on engine. Batches
+ * waiting to be submitted are sent together, several tasks per request, with a few requests in flight at once over
+ * the pooled connections of the {@link TaskClient}. The number of tasks sent per request grows while engine answers
+ * quickly and batches are waiting, and shrinks when engine slows down.
+ *
+ * A single background thread waits on engine for any of the submitted tasks to finish, so finished tasks release
+ * their resources as soon as engine reports them and the number of requests does not grow with the number of tasks.
+ * Close the client once it is not needed any more, to stop its background threads and release its connections.
+ *
  * @author alexandraorth
  */
-public class BatchMutatorClient {
+public class BatchMutatorClient implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(BatchMutatorClient.class);
 
     // Change in behaviour in v0.14 Previously infinite, now limited
     private static final int MAX_RETRIES = 100;
 
-    private final String GET = "http://%s" + TASKS + "/%s";
+    // How long engine is asked to wait for a task to finish before answering
+    private static final Duration COMPLETION_WAIT = Duration.ofSeconds(5);
 
-    private final Map<Integer,CompletableFuture> futures;
+    private static final int MAX_REQUESTS_IN_FLIGHT = 4;
+    static final int MAX_TASKS_PER_REQUEST = 25;
+    // Requests slower than this send fewer tasks at once
+    static final Duration TARGET_REQUEST_LATENCY = Duration.ofMillis(500);
+
+    private final Map<Integer, CompletableFuture<Void>> futures;
+    private final Map<TaskId, CompletableFuture<Json>> inFlight;
     private final Collection<Query> queries;
     private final String keyspace;
     private final String uri;
     private final TaskClient taskClient;
-    private final Retryer<Json> getStatusRetrier;
+    private final ExecutorService completionWatcher;
+    private final AtomicBoolean watching;
+    private final ExecutorService dispatcher;
+    private final AtomicBoolean dispatching;
+    private final ExecutorService senders;
+    private final AtomicInteger tasksPerRequest;
 
     private Consumer<Json> onCompletionOfTask;
     private AtomicInteger batchNumber;
+    private BlockingQueue<Batch> pending;
     private Semaphore blocker;
     private int batchSize;
     private int blockerSize;
@@ -103,37 +121,47 @@ public class BatchMutatorClient {
     }
 
     public BatchMutatorClient(String keyspace, String uri, Consumer<Json> onCompletionOfTask) {
+        this(keyspace, uri, taskClient(uri), onCompletionOfTask);
+    }
+
+    BatchMutatorClient(String keyspace, String uri, TaskClient taskClient, Consumer<Json> onCompletionOfTask) {
         this.uri = uri;
         this.keyspace = keyspace;
+        this.taskClient = taskClient;
         this.queries = new ArrayList<>();
         this.futures = new ConcurrentHashMap<>();
+        this.inFlight = new ConcurrentHashMap<>();
+        this.completionWatcher = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("batch-mutator-completion-%s").setDaemon(true).build());
+        this.watching = new AtomicBoolean(false);
+        this.dispatcher = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("batch-mutator-dispatcher-%s").setDaemon(true).build());
+        this.dispatching = new AtomicBoolean(false);
+        this.senders = Executors.newFixedThreadPool(MAX_REQUESTS_IN_FLIGHT,
+                new ThreadFactoryBuilder().setNameFormat("batch-mutator-sender-%s").setDaemon(true).build());
+        this.tasksPerRequest = new AtomicInteger(1);
         this.onCompletionOfTask = onCompletionOfTask;
         this.batchNumber = new AtomicInteger(0);
+
+        setBatchSize(25);
+        setNumberActiveTasks(25);
+    }
+
+    private static TaskClient taskClient(String uri) {
         // Some extra logic here since we don't provide a well formed URI by default
         if (uri.startsWith("http")) {
             try {
                 URI parsedUri = new URI(uri);
-                this.taskClient = TaskClient.of(parsedUri.getHost(), parsedUri.getPort());
+                return TaskClient.of(parsedUri.getHost(), parsedUri.getPort());
             } catch (URISyntaxException e) {
                 throw new RuntimeException("Could not parse given uri " + uri);
             }
         } else if (uri.contains(":")){
             String[] splitUri = uri.split(":");
-            this.taskClient = TaskClient.of(splitUri[0], Integer.parseInt(splitUri[1]));
+            return TaskClient.of(splitUri[0], Integer.parseInt(splitUri[1]));
         } else {
             throw new RuntimeException("Invalid uri " + uri);
         }
-
-        getStatusRetrier = RetryerBuilder.<Json>newBuilder()
-                .retryIfExceptionOfType(IOException.class)
-                .retryIfRuntimeException()
-                .retryIfResult(Objects::isNull)
-                .withStopStrategy(StopStrategies.stopAfterAttempt(MAX_RETRIES/10))
-                .withWaitStrategy(WaitStrategies.fixedWait(1, TimeUnit.SECONDS))
-                .build();
-
-        setBatchSize(25);
-        setNumberActiveTasks(25);
     }
 
     /**
@@ -177,13 +205,14 @@ public class BatchMutatorClient {
      * Number of active tasks running on the server at any one time.
      * Consider this a safeguard on system load.
      *
-     * The Loader {@link #add(Query)} method will block on the value of this field.
+     * As many batches again can wait to be submitted, after which the Loader {@link #add(Query)} method will block.
      *
      * @param size number of tasks to allow to run at any given time
      */
     public BatchMutatorClient setNumberActiveTasks(int size){
         this.blockerSize = size;
         this.blocker = new Semaphore(size);
+        this.pending = new LinkedBlockingQueue<>(size);
         return this;
     }
 
@@ -191,7 +220,8 @@ public class BatchMutatorClient {
      * Add an insert query to the queue.
      *
      * This method will block while the number of currently executing tasks
-     * is equal to the set {@link #blockerSize} which can be set with {@link #setNumberActiveTasks(int)}.
+     * is equal to the set {@link #blockerSize} which can be set with {@link #setNumberActiveTasks(int)}
+     * and as many batches are waiting to be submitted.
      * It will become unblocked as tasks are completed.
      *
      * @param query insert query to be executed
@@ -223,176 +253,320 @@ public class BatchMutatorClient {
      */
     public void waitToFinish(){
         flush();
-        while(!futures.values().stream().allMatch(CompletableFuture::isDone)
-                && blocker.availablePermits() != blockerSize){
+        while(!futures.isEmpty()){
+            CompletableFuture<?>[] waiting = futures.values().toArray(new CompletableFuture<?>[0]);
+            // Errors have already been logged by the callbacks
+            CompletableFuture.allOf(waiting).handle((result, error) -> null).join();
+        }
+        LOG.info("All tasks completed");
+    }
+
+    /**
+     * Wait for all of the submitted tasks to have been completed, for at most the given time.
+     *
+     * Tasks which have not finished by then are given up on: their completion function receives null and the
+     * resources they hold are released. Batches which have not been submitted yet are not submitted.
+     *
+     * @param timeout How long to wait for the tasks
+     * @return true if all the tasks finished in time
+     */
+    public boolean waitToFinish(Duration timeout){
+        flush();
+        Instant deadline = Instant.now().plus(timeout);
+        while(!futures.isEmpty()){
+            CompletableFuture<?>[] waiting = futures.values().toArray(new CompletableFuture<?>[0]);
+            long remaining = Math.max(0, Duration.between(Instant.now(), deadline).toMillis());
             try {
-                Thread.sleep(500);
+                // Errors have already been logged by the callbacks
+                CompletableFuture.allOf(waiting).handle((result, error) -> null).get(remaining, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                LOG.error("Tasks did not finish within {}, giving up on:\n{}", timeout, inFlight.keySet());
+                giveUp(e);
+                return false;
             } catch (InterruptedException e) {
-                LOG.error(e.getMessage());
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                // Cannot happen since errors are handled above
+                throw new RuntimeException(e);
             }
         }
         LOG.info("All tasks completed");
+        return true;
+    }
+
+    /**
+     * Stop the background threads of this client and close its connections to engine.
+     *
+     * Call {@link #waitToFinish()} first to make sure all of the submitted tasks have completed. Batches which have
+     * not been submitted yet and tasks which are still in flight are given up on, so their completion function
+     * receives null.
+     */
+    @Override
+    public void close(){
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        giveUp(new IllegalStateException("Closed client with tasks in flight"));
+        completionWatcher.shutdownNow();
+        taskClient.close();
+    }
+
+    /**
+     * Fail the batches waiting to be submitted and the tasks in flight, which releases the resources they hold
+     */
+    private void giveUp(Exception cause){
+        Batch batch;
+        while((batch = pending.poll()) != null) {
+            batch.status.completeExceptionally(cause);
+        }
+        inFlight.keySet().forEach(id -> {
+            CompletableFuture<Json> status = inFlight.remove(id);
+            if(status != null) status.completeExceptionally(cause);
+        });
     }
 
     /**
-     * Send a collection of queries to the TasksController, blocking until
-     * there is availability to send.
-     * If the collection contains read only queries throw an illegal argument exception.
+     * Queue a collection of queries to be sent to the TasksController, blocking until
+     * there is space in the queue.
      *
      * Release the semaphore when a task completes.
-     * If there was an error communicating with the host to get the status, throw an exception.
+     * If the task could not be submitted or there was an error communicating with the host to get the status,
+     * the completion function receives null.
      *
      * @param queries Queries to be inserted
      */
     void sendQueriesToLoader(Collection<Query> queries){
+        int batch = batchNumber.getAndIncrement();
+        CompletableFuture<Json> status = new CompletableFuture<>();
+
+        CompletableFuture<Void> completion = status
+        // Log errors when task completes
+        .handle((result, error) -> {
+            if(error != null){
+                LOG.error("Error while executing mutator", error);
+            }
+
+            return result;
+        })
+        // Execute registered completion function
+        .thenAcceptAsync(onCompletionOfTask)
+        // Log errors in completion function
+        .exceptionally(t -> {
+            LOG.error("Error in callback for mutator", t);
+            throw new RuntimeException(t);
+        });
+
+        // Add this batch to the set of completable futures until it and its callback are done
+        futures.put(batch, completion);
+        completion.whenComplete((result, error) -> futures.remove(batch));
+
         try {
-            blocker.acquire();
+            pending.put(new Batch(batch, queries, status));
         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status.completeExceptionally(e);
             throw new RuntimeException(e);
         }
+        dispatch();
+    }
 
+    /**
+     * Start submitting the queued batches on the background thread, unless it is already submitting them
+     */
+    private void dispatch(){
+        if(dispatching.compareAndSet(false, true)){
+            dispatcher.submit(this::dispatchPending);
+        }
+    }
 
+    /**
+     * Take the queued batches as tasks become available, and hand them to the senders in groups of at most
+     * {@link #tasksPerRequest}. Returns once there is no batch left in the queue.
+     */
+    private void dispatchPending(){
+        while(true) {
+            Batch first = pending.poll();
+            if(first == null) {
+                dispatching.set(false);
+                // Keep dispatching if a batch was queued before it could see this thread stopping
+                if(pending.isEmpty() || !dispatching.compareAndSet(false, true)) return;
+                continue;
+            }
+
+            Semaphore activeTasks = blocker;
+            try {
+                activeTasks.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                first.status.completeExceptionally(e);
+                dispatching.set(false);
+                return;
+            }
+
+            // Only send the batches which can run straight away along with the first one
+            List<Batch> group = new ArrayList<>();
+            group.add(first);
+            while(group.size() < tasksPerRequest.get() && !pending.isEmpty() && activeTasks.tryAcquire()) {
+                group.add(pending.poll());
+            }
+
+            // The task is active until it is known to be done or could not be submitted
+            group.forEach(batch -> batch.status.whenComplete((result, error) -> activeTasks.release()));
+
+            List<Json> tasks = group.stream().map(this::task).collect(toList());
+            senders.submit(() -> send(group, tasks));
+        }
+    }
+
+    /**
+     * Build the task which executes the queries of the given batch
+     */
+    private Json task(Batch batch){
         Json configuration = Json.object()
                 .set(KEYSPACE_PARAM, keyspace)
-                .set(BATCH_NUMBER, batchNumber)
+                .set(BATCH_NUMBER, batch.number)
                 .set(TASK_LOADER_MUTATIONS,
-                        queries.stream().map(Query::toString).collect(toList()));
+                        batch.queries.stream().map(Query::toString).collect(toList()));
 
-        Callable<TaskId> callable = () -> taskClient
-                .sendTask("ai.grakn.engine.loader.MutatorTask",
-                        BatchMutatorClient.class.getName(),
-                        Instant.ofEpochMilli(new Date().getTime()), null, configuration, 10000);
+        return TaskClient.task("ai.grakn.engine.loader.MutatorTask",
+                BatchMutatorClient.class.getName(),
+                Instant.ofEpochMilli(new Date().getTime()), null, configuration, 10000);
+    }
 
-        TaskId taskId;
+    /**
+     * Submit the tasks of a group of batches in a single request, and start waiting for the ones which were submitted
+     */
+    private void send(List<Batch> group, List<Json> tasks){
+        Callable<List<Json>> callable = () -> taskClient.sendTasks(tasks);
 
-        Retryer<TaskId> sendQueryRetry = RetryerBuilder.<TaskId>newBuilder()
+        Retryer<List<Json>> sendQueryRetry = RetryerBuilder.<List<Json>>newBuilder()
                 .retryIfExceptionOfType(IOException.class)
                 .retryIfRuntimeException()
                 .withStopStrategy(StopStrategies.stopAfterAttempt(retry ? MAX_RETRIES : 1))
                 .withWaitStrategy(WaitStrategies.fixedWait(1, TimeUnit.SECONDS))
                 .build();
 
+        List<Json> results;
         try {
-            taskId = sendQueryRetry.call(callable);
+            Instant start = Instant.now();
+            results = sendQueryRetry.call(callable);
+            adaptTasksPerRequest(Duration.between(start, Instant.now()));
         } catch (Exception e) {
-            LOG.error("Error while executing queries:\n{}", queries);
-            throw new RuntimeException(e);
+            LOG.error("Error while executing queries:\n{}", group.stream().map(batch -> batch.queries).collect(toList()));
+            tasksPerRequest.set(1);
+            group.forEach(batch -> batch.status.completeExceptionally(e));
+            return;
         }
 
-        CompletableFuture<Json> status = makeTaskCompletionFuture(taskId);
-
-        // Add this status to the set of completable futures
-        // TODO: use an async client
-        futures.put(status.hashCode(), status);
-
-        status
-        // Unblock and log errors when task completes
-        .handle((result, error) -> {
-            unblock(status);
-
-            // Log any errors
-            if(error != null){
-                LOG.error("Error while executing mutator", error);
+        for(int i = 0; i < group.size(); i++) {
+            Json result = results.get(i);
+            CompletableFuture<Json> status = group.get(i).status;
+            if(result.at("code").asInteger() == SC_OK) {
+                inFlight.put(TaskId.of(result.at("id").asString()), status);
+            } else {
+                status.completeExceptionally(new RuntimeException(
+                        format("Status %s returned from server", result.at("code").asInteger())));
             }
-
-            return result;
-        })
-        // Execute registered completion function
-        .thenAcceptAsync(onCompletionOfTask)
-        // Log errors in completion function
-        .exceptionally(t -> {
-            LOG.error("Error in callback for mutator", t);
-            throw new RuntimeException(t);
-        });
-
+        }
+        watchForCompletion();
     }
 
-    private void unblock(CompletableFuture<Json> status){
-        blocker.release();
-        futures.remove(status.hashCode());
+    /**
+     * Send more tasks at once while engine answers quickly and batches are waiting, and fewer when it slows down
+     */
+    private void adaptTasksPerRequest(Duration latency){
+        boolean batchesWaiting = !pending.isEmpty();
+        tasksPerRequest.updateAndGet(size -> nextTasksPerRequest(size, latency, batchesWaiting));
     }
 
     /**
-     * Fetch the status of a single task from the Tasks Controller
-     * @param id ID of the task to be fetched
-     * @return Json object containing status of the task
+     * @param size The number of tasks sent per request
+     * @param latency How long the last request took
+     * @param batchesWaiting If batches are waiting to be submitted
+     * @return The number of tasks to send per request from now on
      */
-    private Json getStatus(TaskId id) throws HttpRetryException {
-        HttpURLConnection connection = null;
-        try {
-            URL url = new URL(format(GET, uri, id.getValue()));
-
-            connection = (HttpURLConnection) url.openConnection();
-            connection.setDoOutput(true);
-
-            // create post
-            connection.setRequestMethod(REST.HttpConn.GET_METHOD);
+    static int nextTasksPerRequest(int size, Duration latency, boolean batchesWaiting){
+        if(latency.compareTo(TARGET_REQUEST_LATENCY) > 0) {
+            return Math.max(1, size / 2);
+        } else if(batchesWaiting) {
+            return Math.min(MAX_TASKS_PER_REQUEST, size + 1);
+        } else {
+            return size;
+        }
+    }
 
-            if(connection.getResponseCode() == 404){
-                throw new IllegalArgumentException("Not found in Grakn task storage: " + id);
-            }
+    /**
+     * @return The number of tasks sent per request
+     */
+    int getTasksPerRequest(){
+        return tasksPerRequest.get();
+    }
 
-            // get response
-            return Json.read(readResponse(connection.getInputStream()));
-        }
-        catch (IOException e){
-            throw new HttpRetryException(ErrorMessage.ERROR_COMMUNICATING_TO_HOST.getMessage(uri), 404);
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
-            }
+    /**
+     * Start waiting for the tasks in flight on the background thread, unless it is already waiting for them
+     */
+    private void watchForCompletion(){
+        if(watching.compareAndSet(false, true)){
+            completionWatcher.submit(this::waitForTasksInFlight);
         }
     }
 
     /**
-     * A completable future that polls the Task Controller to check for the status of the
-     * given ID. It terminates when the status of that task is COMPLETED, FAILED or STOPPED.
+     * Wait on engine for the tasks in flight, completing the future of every task which has finished as soon as
+     * engine reports it. Returns once there is no task left in flight.
      *
-     * @param id ID of the task to wait on completion
-     * @return Completable future that will await completion of the given task
+     * If engine cannot be reached for some time, the futures of all the tasks in flight fail.
      */
-    private CompletableFuture<Json> makeTaskCompletionFuture(TaskId id){
-        return CompletableFuture.supplyAsync(() -> {
+    private void waitForTasksInFlight(){
+        int failedAttempts = 0;
+        while(true) {
+            if(inFlight.isEmpty()) {
+                watching.set(false);
+                // Keep waiting if a task was sent before it could see this thread stopping
+                if(inFlight.isEmpty() || !watching.compareAndSet(false, true)) return;
+            }
+
             try {
-                return getStatusRetrier.call(() -> {
+                List<Json> finished = taskClient.waitForCompletion(inFlight.keySet(), COMPLETION_WAIT);
+                failedAttempts = 0;
+                for(Json taskState : finished) {
+                    CompletableFuture<Json> status = inFlight.remove(TaskId.of(taskState.at(ID).asString()));
+                    if(status != null) status.complete(taskState);
+                }
+            } catch (RuntimeException e) {
+                LOG.warn(format("Could not communicate with host %s to wait for tasks", uri));
+                if(++failedAttempts >= MAX_RETRIES/10) {
+                    LOG.error("Error while waiting for tasks:\n{}", inFlight.keySet());
+                    inFlight.keySet().forEach(id -> {
+                        CompletableFuture<Json> status = inFlight.remove(id);
+                        if(status != null) status.completeExceptionally(e);
+                    });
+                    failedAttempts = 0;
+                } else {
                     try {
-                        Json taskState = getStatus(id);
-                        TaskStatus status = TaskStatus.valueOf(taskState.at(TASK_STATUS_PARAMETER).asString());
-                        if (status == COMPLETED || status == FAILED || status == STOPPED) {
-                            return taskState;
-                        } else {
-                            return null;
-                        }
-                    } catch (IllegalArgumentException e) {
-                        // Means the task has not yet been stored: we want to log the error, but continue looping
-                        LOG.warn(format("Task [%s] not found on server. Attempting to get status again.", id));
-                        throw e;
-                    } catch (HttpRetryException e){
-                        LOG.warn(format("Could not communicate with host %s for task [%s] ", uri, id));
-                        throw e;
+                        Thread.sleep(1000);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        watching.set(false);
+                        return;
                     }
-                });
-            } catch (Exception e) {
-                LOG.error("Error while executing queries:\n{}", queries);
-                throw new RuntimeException(e);
+                }
             }
-        });
+        }
     }
 
     /**
-     * Read the input stream from a HttpURLConnection into a String
-     * @return String containing response from the server
+     * Queries waiting to be submitted as a single task, and the future completed with the last state of the task
      */
-    private String readResponse(InputStream inputStream) throws IOException {
-        try(BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))){
-            StringBuilder response = new StringBuilder();
-            String inputLine;
-            while ((inputLine = reader.readLine()) != null) {
-                response.append(inputLine);
-            }
-
-            return response.toString();
+    private static class Batch {
+        private final int number;
+        private final Collection<Query> queries;
+        private final CompletableFuture<Json> status;
+
+        Batch(int number, Collection<Query> queries, CompletableFuture<Json> status){
+            this.number = number;
+            this.queries = queries;
+            this.status = status;
         }
     }
 }
-
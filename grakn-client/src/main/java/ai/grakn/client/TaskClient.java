@@ -26,12 +26,17 @@ import static ai.grakn.util.REST.Request.TASK_CLASS_NAME_PARAMETER;
 import static ai.grakn.util.REST.Request.TASK_CREATOR_PARAMETER;
 import static ai.grakn.util.REST.Request.TASK_RUN_AT_PARAMETER;
 import static ai.grakn.util.REST.Request.TASK_RUN_INTERVAL_PARAMETER;
+import static ai.grakn.util.REST.Request.TIMEOUT_PARAM;
+import static ai.grakn.util.REST.WebPath.Tasks.COMPLETED;
 import static ai.grakn.util.REST.WebPath.Tasks.GET;
 import static ai.grakn.util.REST.WebPath.Tasks.STOP;
 import static ai.grakn.util.REST.WebPath.Tasks.TASKS;
 import static java.lang.String.format;
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toList;
 import static org.apache.http.HttpHeaders.CONTENT_TYPE;
 import static org.apache.http.HttpHost.DEFAULT_SCHEME_NAME;
+import static org.apache.http.HttpStatus.SC_ACCEPTED;
 import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.apache.http.entity.ContentType.APPLICATION_JSON;
@@ -39,6 +44,7 @@ import static org.apache.http.entity.ContentType.APPLICATION_JSON;
 import ai.grakn.engine.TaskId;
 import ai.grakn.engine.TaskStatus;
 import ai.grakn.exception.GraknBackendException;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
 import java.io.IOException;
@@ -46,27 +52,39 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import mjson.Json;
 import org.apache.http.HttpResponse;
-import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Client for interacting with tasks on engine
  *
+ * Connections to engine are pooled and kept alive, so they are shared by all the requests of this client, including
+ * the ones waiting for tasks to finish. Close the client to release them.
+ *
  * @author Felix Chapman, alexandraorth
  */
-public class TaskClient extends Client {
+public class TaskClient extends Client implements AutoCloseable {
     private final Logger LOG = LoggerFactory.getLogger(TaskClient.class);
 
-    private final HttpClient httpClient = HttpClients.createDefault();
+    private static final int MAX_CONNECTIONS = 10;
+
+    private final CloseableHttpClient httpClient = HttpClients.custom()
+            .setMaxConnPerRoute(MAX_CONNECTIONS)
+            .setMaxConnTotal(MAX_CONNECTIONS)
+            .build();
     private final String host;
     private final int port;
 
@@ -94,44 +112,41 @@ public class TaskClient extends Client {
     }
 
     TaskId sendTask(String taskClass, String creator, Instant runAt, Duration interval, Json configuration, long limit){
+        Json result = sendTasks(ImmutableList.of(task(taskClass, creator, runAt, interval, configuration, limit))).get(0);
+        if (result.at("code").asInteger() != SC_OK) {
+            throw new RuntimeException(format("Status %s returned from server", result.at("code").asInteger()));
+        }
+        return TaskId.of(result.at("id").asString());
+    }
+
+    /**
+     * Submit several tasks to run on an Grakn Engine server in a single request
+     *
+     * @param tasks Tasks built by {@link #task(String, String, Instant, Duration, Json, long)}
+     * @return The result of submitting each task, in the order of the given tasks. A result has the status code of
+     * the submission of the task and, if it was submitted, the identifier of the task.
+     */
+    List<Json> sendTasks(List<Json> tasks){
         try {
             URIBuilder uri = new URIBuilder(TASKS)
                     .setScheme(DEFAULT_SCHEME_NAME)
                     .setHost(host)
                     .setPort(port);
 
-
-            Builder<String, String> taskBuilder = ImmutableMap.builder();
-            taskBuilder.put(TASK_CLASS_NAME_PARAMETER, taskClass);
-            taskBuilder.put(TASK_CREATOR_PARAMETER, creator);
-
-            taskBuilder.put(TASK_RUN_AT_PARAMETER, Long.toString(runAt.toEpochMilli()));
-
-            if (limit > -1) {
-                taskBuilder.put(LIMIT_PARAM, Long.toString(limit));
-            }
-
-            if (interval != null){
-                taskBuilder.put(TASK_RUN_INTERVAL_PARAMETER, Long.toString(interval.toMillis()));
-            }
-
-            Json jsonTask = Json.make(taskBuilder.build());
-            jsonTask.set(CONFIGURATION_PARAM, configuration);
-
-
             HttpPost httpPost = new HttpPost(uri.build());
             httpPost.setHeader(CONTENT_TYPE, APPLICATION_JSON.getMimeType());
-            // This is a special case of sending a list of task
-            // TODO update the client to support a list
-            httpPost.setEntity(new StringEntity(Json.object().set(TASKS_PARAM, Json.array().add(jsonTask)).toString()));
+            httpPost.setEntity(new StringEntity(Json.object().set(TASKS_PARAM, Json.make(tasks)).toString()));
 
             HttpResponse response = httpClient.execute(httpPost);
 
-            assertOk(response);
-
-            Json jsonResponse = asJsonHandler.handleResponse(response);
+            // 202 Accepted returned when only some of the tasks could be submitted
+            if (response.getStatusLine().getStatusCode() != SC_ACCEPTED) {
+                assertOk(response);
+            }
 
-            return TaskId.of(jsonResponse.at(0).at("id").asString());
+            List<Json> results = new ArrayList<>(asJsonHandler.handleResponse(response).asJsonList());
+            results.sort(comparingInt(result -> result.at("index").asInteger()));
+            return results;
         } catch (IOException e){
             throw GraknBackendException.engineUnavailable(host, port, e);
         } catch (URISyntaxException e){
@@ -139,6 +154,36 @@ public class TaskClient extends Client {
         }
     }
 
+    /**
+     * Build a task which can be submitted by {@link #sendTasks(List)}
+     *
+     * @param taskClass Name of the class of the Task to run
+     * @param creator Class creating the task
+     * @param runAt Time at which the task should be executed
+     * @param interval Interval at which the task should recur, can be null
+     * @param configuration Data on which to execute the task
+     * @param limit Limit on the task, ignored if -1
+     */
+    static Json task(String taskClass, String creator, Instant runAt, Duration interval, Json configuration, long limit){
+        Builder<String, String> taskBuilder = ImmutableMap.builder();
+        taskBuilder.put(TASK_CLASS_NAME_PARAMETER, taskClass);
+        taskBuilder.put(TASK_CREATOR_PARAMETER, creator);
+
+        taskBuilder.put(TASK_RUN_AT_PARAMETER, Long.toString(runAt.toEpochMilli()));
+
+        if (limit > -1) {
+            taskBuilder.put(LIMIT_PARAM, Long.toString(limit));
+        }
+
+        if (interval != null){
+            taskBuilder.put(TASK_RUN_INTERVAL_PARAMETER, Long.toString(interval.toMillis()));
+        }
+
+        Json jsonTask = Json.make(taskBuilder.build());
+        jsonTask.set(CONFIGURATION_PARAM, configuration);
+        return jsonTask;
+    }
+
     /**
      * Get the status of a given task on the server
      *
@@ -160,6 +205,7 @@ public class TaskClient extends Client {
             // 404 Not found returned when task not yet stored
             boolean notFound = response.getStatusLine().getStatusCode() == SC_NOT_FOUND;
             if(notFound){
+                EntityUtils.consumeQuietly(response.getEntity());
                 throw GraknBackendException.stateStorage();
             }
 
@@ -175,6 +221,42 @@ public class TaskClient extends Client {
         }
     }
 
+    /**
+     * Wait for any of the given tasks to complete, fail or stop. Engine answers as soon as at least one of them has
+     * finished, so a single request notifies the client of the tasks finishing at about the same time.
+     *
+     * @param ids Identifiers of the tasks to wait on
+     * @param timeout How long engine should wait for a task to finish, engine waits for 10 seconds at most
+     * @return The states of the tasks which have finished, empty if none finished before the timeout
+     */
+    public List<Json> waitForCompletion(Collection<TaskId> ids, Duration timeout){
+        try {
+            URI uri = new URIBuilder(COMPLETED)
+                    .setScheme(DEFAULT_SCHEME_NAME)
+                    .setPort(port)
+                    .setHost(host)
+                    .build();
+
+            Json body = Json.object()
+                    .set(TASKS_PARAM, Json.make(ids.stream().map(TaskId::getValue).collect(toList())))
+                    .set(TIMEOUT_PARAM, timeout.toMillis());
+
+            HttpPost httpPost = new HttpPost(uri);
+            httpPost.setHeader(CONTENT_TYPE, APPLICATION_JSON.getMimeType());
+            httpPost.setEntity(new StringEntity(body.toString()));
+
+            HttpResponse response = httpClient.execute(httpPost);
+
+            assertOk(response);
+
+            return asJsonHandler.handleResponse(response).asJsonList();
+        } catch (URISyntaxException e){
+            throw new RuntimeException(e);
+        } catch (IOException e){
+            throw GraknBackendException.engineUnavailable(host, port, e);
+        }
+    }
+
     /**
      * Stop a task using the given ID.
      * @param id the ID of the task to stop
@@ -205,6 +287,18 @@ public class TaskClient extends Client {
         }
     }
 
+    /**
+     * Close the pooled connections to engine
+     */
+    @Override
+    public void close(){
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            LOG.warn("Could not close the connections to {}:{}", host, port, e);
+        }
+    }
+
     private boolean isOk(HttpResponse response){
         return response.getStatusLine().getStatusCode() == SC_OK;
     }
@@ -212,6 +306,8 @@ public class TaskClient extends Client {
     private void assertOk(HttpResponse response){
         // 200 Only returned when request successfully completed
         if(!isOk(response)){
+            // Release the connection so it can be reused
+            EntityUtils.consumeQuietly(response.getEntity());
             throw new RuntimeException(format("Status %s returned from server", response.getStatusLine().getStatusCode()));
         }
     }
@@ -0,0 +1,38 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn;
+
+/**
+ * <p>
+ *     A Class Describing where a {@link GraknComputer} executes its programs
+ * </p>
+ *
+ * <p>
+ *     This class is used to describe which graph computer should be used when producing a {@link GraknComputer}
+ *     using a {@link GraknSession}:
+ *         AUTO - Executes in-process when the subgraph is below the configured size threshold, distributed otherwise.
+ *         LOCAL - Always executes in-process on a thread pool reading the graph directly.
+ *         DISTRIBUTED - Always executes on the distributed (Spark) graph computer.
+ * </p>
+ */
+public enum GraknComputerType {
+    AUTO, //Choose the graph computer based on the size of the subgraph
+    LOCAL, //In-process graph computer
+    DISTRIBUTED //Distributed graph computer
+}
@@ -60,6 +60,16 @@ public interface GraknSession extends AutoCloseable {
     @CheckReturnValue
     GraknComputer getGraphComputer();
 
+    /**
+     * Get a new or existing GraknComputer which executes on the given type of graph computer.
+     *
+     * @param computerType The type of graph computer to use see {@link GraknComputerType} for more details
+     * @return A new or existing Grakn graph computer
+     * @see GraknComputer
+     */
+    @CheckReturnValue
+    GraknComputer getGraphComputer(GraknComputerType computerType);
+
     /**
      * Closes the main connection to the graph. This should be done at the end of using the graph.
      *
@@ -24,6 +24,7 @@ import static ai.grakn.util.ErrorMessage.ENGINE_ERROR;
 import static ai.grakn.util.ErrorMessage.EXPLAIN_ONLY_MATCH;
 import static ai.grakn.util.ErrorMessage.INVALID_CONTENT_TYPE;
 import static ai.grakn.util.ErrorMessage.INVALID_QUERY_USAGE;
+import static ai.grakn.util.ErrorMessage.INVALID_REQUEST_PARAMETER;
 import static ai.grakn.util.ErrorMessage.MISSING_MANDATORY_BODY_REQUEST_PARAMETERS;
 import static ai.grakn.util.ErrorMessage.MISSING_MANDATORY_REQUEST_PARAMETERS;
 import static ai.grakn.util.ErrorMessage.MISSING_REQUEST_BODY;
@@ -94,6 +95,13 @@ public class GraknServerException extends GraknBackendException {
         return new GraknServerException(MISSING_MANDATORY_BODY_REQUEST_PARAMETERS.getMessage(parameter), 400);
     }
 
+    /**
+     * Thrown when a request has a query parameter with a value that is not allowed
+     */
+    public static GraknServerException requestInvalidParameter(String parameter, String value){
+        return new GraknServerException(INVALID_REQUEST_PARAMETER.getMessage(value, parameter), 400);
+    }
+
     /**
      * Thrown when a request is missing the body
      */
@@ -260,6 +260,16 @@ public class GraqlQueryException extends GraknException{
         return new GraqlQueryException("resource types " + resourceTypes + " have different data types");
     }
 
+    public static GraqlQueryException cannotPersistAs(Label resourceType, AttributeType.DataType<?> dataType) {
+        return new GraqlQueryException(
+                "results can only be persisted as " + resourceType + " if it is a resource type with data type " +
+                        dataType.getName());
+    }
+
+    public static GraqlQueryException noTypeCanPersist(Label resourceType) {
+        return new GraqlQueryException("none of the selected types can have resource type " + resourceType);
+    }
+
     public static GraqlQueryException unificationAtomIncompatibility() {
         return new GraqlQueryException(ErrorMessage.UNIFICATION_ATOM_INCOMPATIBILITY.getMessage());
     }
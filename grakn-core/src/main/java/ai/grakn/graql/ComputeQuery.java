@@ -18,6 +18,7 @@
 
 package ai.grakn.graql;
 
+import ai.grakn.GraknComputerType;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 
@@ -54,6 +55,13 @@ public interface ComputeQuery<T> extends Query<T> {
     @CheckReturnValue
     ComputeQuery<T> in(Collection<Label> subLabels);
 
+    /**
+     * @param computerType the type of graph computer to execute the compute query on
+     * @return a ComputeQuery with the computer type set
+     */
+    @CheckReturnValue
+    ComputeQuery<T> withComputerType(GraknComputerType computerType);
+
     /**
      * kill the compute query, terminate the job
      */
@@ -143,4 +143,19 @@ public interface QueryBuilder {
      */
     @CheckReturnValue
     QueryBuilder materialise(boolean materialise);
+
+    /**
+     * Enable or disable finding the answers of each disjunct of a match query in parallel, each on a read transaction
+     * of its own. This is only done in read transactions and without inference, because the other transactions
+     * cannot see uncommitted or inferred concepts.
+     */
+    @CheckReturnValue
+    QueryBuilder parallel(boolean parallel);
+
+    /**
+     * Enable or disable returning the answers of disjuncts found in parallel in the order of the disjuncts,
+     * instead of as soon as they are found
+     */
+    @CheckReturnValue
+    QueryBuilder keepOrder(boolean keepOrder);
 }
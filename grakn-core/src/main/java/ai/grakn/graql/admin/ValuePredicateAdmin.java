@@ -19,6 +19,7 @@
 package ai.grakn.graql.admin;
 
 import ai.grakn.graql.ValuePredicate;
+import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 
@@ -60,6 +61,24 @@ public interface ValuePredicateAdmin extends ValuePredicate {
         return Optional.empty();
     }
 
+    /**
+     * @return the property holding the values compared, if this predicate compares against a value by order
+     * (e.g. "gt" or "lte"), otherwise nothing
+     */
+    @CheckReturnValue
+    default Optional<Schema.VertexProperty> rangeProperty() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return a regular expression matching every string value this predicate could match, if the values can be looked
+     * up in a text index (e.g. "contains"), otherwise nothing
+     */
+    @CheckReturnValue
+    default Optional<String> textIndexPattern() {
+        return Optional.empty();
+    }
+
     /**
      * @return the gremlin predicate object this ValuePredicate wraps
      */
@@ -49,6 +49,24 @@ public interface ClusterQuery<T> extends ComputeQuery<T> {
      */
     ClusterQuery<T> clusterSize(long clusterSize);
 
+    /**
+     * Write the cluster of each instance back to the graph, as a resource of type {@code cluster}. Because the
+     * results are written in transactions of their own, only transactions opened afterwards will see them.
+     *
+     * @return a ClusterQuery with persist flag set
+     */
+    ClusterQuery<T> persist();
+
+    /**
+     * Write the cluster of each instance back to the graph, as a resource of the given type. The resource type must
+     * have data type {@code string}, and the clusters are only written to instances of types which can have it.
+     * A previous cluster of the same type is replaced.
+     *
+     * @param resourceTypeLabel the label of the resource type the clusters are written as
+     * @return a ClusterQuery with persist flag set
+     */
+    ClusterQuery<T> persist(String resourceTypeLabel);
+
     /**
      * @param subTypeLabels an array of types to include in the subgraph
      * @return a ClusterQuery with the subTypeLabels set
@@ -46,6 +46,15 @@ public interface CountQuery extends ComputeQuery<Long> {
     @Override
     CountQuery in(Collection<Label> subLabels);
 
+    /**
+     * Count the instances by running a graph computer job rather than reading the instance counts maintained by
+     * engine. The maintained counts are updated asynchronously from the commit logs, so they can briefly lag behind
+     * recent commits. They are only used when the subgraph contains no relationship types.
+     *
+     * @return a CountQuery which always counts the instances using the graph computer
+     */
+    CountQuery exact();
+
     /**
      * Execute the query.
      *
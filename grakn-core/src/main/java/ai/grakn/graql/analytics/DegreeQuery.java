@@ -61,6 +61,24 @@ public interface DegreeQuery extends ComputeQuery<Map<Long, Set<String>>> {
      */
     DegreeQuery of(Collection<Label> ofLabels);
 
+    /**
+     * Write the degree of each instance back to the graph, as a resource of type {@code degree}. Because the results
+     * are written in transactions of their own, only transactions opened afterwards will see them.
+     *
+     * @return a DegreeQuery with persist flag set
+     */
+    DegreeQuery persist();
+
+    /**
+     * Write the degree of each instance back to the graph, as a resource of the given type. The resource type must
+     * have data type {@code long}, and the degrees are only written to instances of types which can have it.
+     * A previous degree of the same type is replaced.
+     *
+     * @param resourceTypeLabel the label of the resource type the degrees are written as
+     * @return a DegreeQuery with persist flag set
+     */
+    DegreeQuery persist(String resourceTypeLabel);
+
     /**
      * @param tx the graph to execute the query on
      * @return a DegreeQuery with the graph set
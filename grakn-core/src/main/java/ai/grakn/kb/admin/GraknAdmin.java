@@ -27,10 +27,12 @@ import ai.grakn.concept.Label;
 import ai.grakn.concept.LabelId;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.SchemaConcept;
+import ai.grakn.concept.Thing;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.RuleType;
 import ai.grakn.exception.InvalidKBException;
 import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -190,6 +192,40 @@ public interface GraknAdmin {
      */
     void updateConceptCounts(Map<ConceptId, Long> conceptCounts);
 
+    /**
+     * Get the number of instances of the given types as maintained by engine from the commit logs.
+     * These counts are updated asynchronously so they do not reflect uncommitted or very recent changes.
+     *
+     * @param typeIds The ids of the types to count the direct instances of
+     * @return The total number of instances or empty if engine could not provide the counts
+     */
+    @CheckReturnValue
+    Optional<Long> getMaintainedInstanceCount(Set<ConceptId> typeIds);
+
+    /**
+     * Get the number of relationships of the given types some {@link Thing}s play a role in, as maintained by engine
+     * from the commit logs when {@code graph.maintain-degrees} is set. Like the instance counts these are updated
+     * asynchronously, and a {@link Thing} which plays no role in those relationships is left out. Only the degrees
+     * of the given {@link Thing}s are sent by engine, in a single request, so the things of a large knowledge base
+     * should be asked for in pages of many thousands.
+     *
+     * @param relationshipTypeIds The ids of the relationship types to count the relationships of
+     * @param thingIds The ids of the {@link Thing}s to get the degrees of
+     * @return The number of relationships of each {@link Thing}, or empty if engine does not maintain them
+     */
+    @CheckReturnValue
+    Optional<Map<ConceptId, Long>> getMaintainedDegrees(Set<ConceptId> relationshipTypeIds, Set<ConceptId> thingIds);
+
+    /**
+     * Get the version of the schema and rules this transaction is reading. A new version is published whenever a
+     * transaction which changes the schema or adds or removes rules is committed, so anything derived from the
+     * schema and rules can be shared between transactions reading the same version.
+     *
+     * @return The version, or empty if this transaction has itself removed types or added or removed rules
+     */
+    @CheckReturnValue
+    Optional<Long> getSchemaVersion();
+
     /**
      * Creates a new shard for the concept
      * @param conceptId the id of the concept to shard
@@ -206,6 +242,28 @@ public interface GraknAdmin {
     @Nullable
     <T extends Concept> T getConcept(Schema.VertexProperty key, Object value);
 
+    /**
+     * Checks if the values of a property are held in an ordered index, so the concepts with a value in a range
+     * can be looked up without scanning all the values.
+     *
+     * @param key The property holding the values
+     * @return true if the property can be looked up by range
+     */
+    @CheckReturnValue
+    boolean isRangeIndexed(Schema.VertexProperty key);
+
+    /**
+     * Gets a predicate which finds string values in a text index, so the concepts with a value containing some text
+     * can be looked up without scanning all the values. The predicate may find values which do not match the pattern
+     * exactly, so the values it finds must still be checked.
+     *
+     * @param pattern A regular expression matching the whole of every string value to look up. Characters other than
+     *                letters and digits must be escaped with a backslash when they are meant literally.
+     * @return A predicate looking the pattern up in the text index, or nothing if string values are not text indexed
+     */
+    @CheckReturnValue
+    Optional<P<Object>> getTextIndexPredicate(String pattern);
+
     /**
      * Closes the root session this graph stems from. This will automatically rollback any pending transactions.
      */
@@ -110,6 +110,7 @@ public enum ErrorMessage {
     //--------------------------------------------- Factory Errors
     INVALID_PATH_TO_CONFIG("Unable to open config file [%s]"),
     INVALID_COMPUTER("The graph computer [%s] is not supported"),
+    UNSUPPORTED_MESSAGE_SCOPE("The message scope [%s] is not supported by the local graph computer"),
     CONFIG_IGNORED("The config parameter [%s] with value [%s] is ignored for this implementation"),
     CANNOT_PRODUCE_TX("Cannot produce a Grakn Transaction using the backend [%s]"),
 
@@ -172,6 +173,7 @@ public enum ErrorMessage {
     UNAVAILABLE_PROPERTY("Property requested [%s] has not been defined. See configuration file [%s] for configured properties."),
     MISSING_MANDATORY_REQUEST_PARAMETERS("Missing mandatory query parameter [%s]"),
     MISSING_MANDATORY_BODY_REQUEST_PARAMETERS("Missing mandatory parameter in body [%s]"),
+    INVALID_REQUEST_PARAMETER("Invalid value [%s] of query parameter [%s]"),
     MISSING_REQUEST_BODY("Empty body- it should contain the Graql query to be executed."),
     UNSUPPORTED_CONTENT_TYPE("Unsupported Content-Type [%s] requested"),
     INVALID_CONTENT_TYPE("Invalid combination of query [%s] and content type [%s]"),
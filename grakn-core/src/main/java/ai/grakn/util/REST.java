@@ -31,6 +31,9 @@ public class REST {
     public static class WebPath{
 
         public static final String COMMIT_LOG_URI = "/commit_log";
+        public static final String COMMIT_LOG_COUNT_URI = "/commit_log/count";
+        public static final String COMMIT_LOG_DEGREES_URI = "/commit_log/degrees";
+        public static final String COMMIT_LOG_DEGREES_LOOKUP_URI = "/commit_log/degrees/lookup";
 
         public static final String REMOTE_SHELL_URI = "/shell/remote";
 
@@ -41,6 +44,7 @@ public class REST {
             @Deprecated
             public static final String GRAQL = "/kb/graql";
             public static final String ANY_GRAQL = "/kb/graql/execute";
+            public static final String SLOW_QUERIES = "/kb/graql/slow-queries";
         }
 
         /**
@@ -50,6 +54,7 @@ public class REST {
             public static final String TASKS = "/tasks";
             public static final String GET = "/tasks/:id";
             public static final String STOP = "/tasks/:id/stop";
+            public static final String COMPLETED = "/tasks/completed";
         }
 
         /**
@@ -110,6 +115,7 @@ public class REST {
         public static final String LIMIT_PARAM = "limit";
         public static final String OFFSET_PARAM = "offset";
         public static final String TASKS_PARAM = "tasks";
+        public static final String TIMEOUT_PARAM = "timeout";
         public static final String CONFIGURATION_PARAM = "configuration";
         public static final String KEYSPACE = "keyspace";
         public static final String FORMAT = "format";
@@ -120,6 +126,10 @@ public class REST {
         public static final String COMMIT_LOG_COUNTING = "types-with-new-counts";
         public static final String COMMIT_LOG_CONCEPT_ID = "concept-id";
         public static final String COMMIT_LOG_SHARDING_COUNT = "sharding-count";
+        public static final String COMMIT_LOG_INSTANCE_COUNT = "instance-count";
+        public static final String COMMIT_LOG_DEGREE_CHANGES = "degree-changes";
+        public static final String COMMIT_LOG_DEGREES = "degrees";
+        public static final String COMMIT_LOG_THING_ID = "thing-id";
 
         /**
          * Concept controller request parameters
@@ -137,6 +147,10 @@ public class REST {
             public static final String INFER = "infer";
             public static final String MATERIALISE = "materialise";
             public static final String LIMIT_EMBEDDED = "limitEmbedded";
+            public static final String EXPLAIN = "explain";
+            public static final String PROFILE = "profile";
+            public static final String SLOW_QUERY_THRESHOLD = "thresholdMs";
+            public static final String SLOW_QUERY_SAMPLE_RATE = "sampleRate";
         }
     }
 
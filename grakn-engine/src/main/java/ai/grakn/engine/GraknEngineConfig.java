@@ -66,6 +66,12 @@ public class GraknEngineConfig {
     public static final String REDIS_SENTINEL_MASTER = "redis.sentinel.master";
     public static final String REDIS_POOL_SIZE = "redis.pool-size";
 
+    public static final String KEYSPACE_CACHE_TIMEOUT = "keyspace.cache-timeout-ms";
+
+    // Queries taking longer than the threshold are logged, a negative threshold logs none
+    public static final String SLOW_QUERY_THRESHOLD = "graql.slow-query-threshold-ms";
+    public static final String SLOW_QUERY_SAMPLE_RATE = "graql.slow-query-sample-rate";
+
     public static final String QUEUE_CONSUMERS = "queue.consumers";
 
     public static final String STATIC_FILES_PATH = "server.static-file-dir";
@@ -76,6 +82,8 @@ public class GraknEngineConfig {
     // Delay for the post processing task in milliseconds
     public static final String POST_PROCESSING_TASK_DELAY = "tasks.postprocessing.delay";
     public static final String TASKS_RETRY_DELAY = "tasks.retry.delay";
+    // Number of high priority tasks taken in a row before a low priority task, 0 to always take high priority first
+    public static final String TASKS_HIGH_PRIORITY_WEIGHT = "tasks.high-priority-weight";
 
     public static final int WEBSOCKET_TIMEOUT = 3600000;
 
@@ -31,6 +31,7 @@ import ai.grakn.engine.controller.GraqlController;
 import ai.grakn.engine.controller.SystemController;
 import ai.grakn.engine.controller.TasksController;
 import ai.grakn.engine.controller.UserController;
+import ai.grakn.engine.data.RedisKeyspaceChannel;
 import ai.grakn.engine.data.RedisWrapper;
 import ai.grakn.engine.data.RedisWrapper.Builder;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
@@ -45,6 +46,7 @@ import ai.grakn.engine.tasks.manager.redisqueue.RedisTaskManager;
 import ai.grakn.engine.user.UsersHandler;
 import ai.grakn.engine.util.EngineID;
 import ai.grakn.engine.util.JWTHandler;
+import ai.grakn.engine.util.SlowQueryLog;
 import ai.grakn.exception.GraknBackendException;
 import ai.grakn.exception.GraknServerException;
 import ai.grakn.util.REST;
@@ -99,6 +101,8 @@ public class GraknEngineServer implements AutoCloseable {
     private final LockProvider lockProvider;
     private final GraknEngineStatus graknEngineStatus = new GraknEngineStatus();
     private final RedisWrapper redisWrapper;
+    private final RedisCountStorage redisCountStorage;
+    private final RedisKeyspaceChannel keyspaceChannel;
 
     public GraknEngineServer(GraknEngineConfig prop) {
         this.prop = prop;
@@ -106,12 +110,16 @@ public class GraknEngineServer implements AutoCloseable {
         this.metricRegistry = new MetricRegistry();
         // Redis connection pool
         this.redisWrapper = instantiateRedis(prop);
+        this.redisCountStorage = RedisCountStorage.create(redisWrapper.getJedisPool(), metricRegistry);
         // Lock provider
         String taskManagerClassName = prop.getProperty(GraknEngineConfig.TASK_MANAGER_IMPLEMENTATION);
         boolean inMemoryQueue = !taskManagerClassName.contains("RedisTaskManager");
         this.lockProvider = inMemoryQueue ? new ProcessWideLockProvider()
-                : new JedisLockProvider(redisWrapper.getJedisPool());
+                : new JedisLockProvider(redisWrapper.getJedisPool(), metricRegistry);
         this.factory = EngineGraknTxFactory.create(prop.getProperties());
+        // Tell the other engines about deleted keyspaces so they do not keep them cached
+        this.keyspaceChannel = RedisKeyspaceChannel.create(redisWrapper.getJedisPool());
+        factory.systemKeyspace().shareDeletionsThrough(keyspaceChannel);
         // Task manager
         this.taskManager = startTaskManager(inMemoryQueue, redisWrapper.getJedisPool(), lockProvider);
     }
@@ -144,6 +152,8 @@ public class GraknEngineServer implements AutoCloseable {
         synchronized (this) {
             stopTaskManager();
             stopHTTP();
+            keyspaceChannel.close();
+            lockProvider.close();
             redisWrapper.close();
         }
     }
@@ -198,7 +208,6 @@ public class GraknEngineServer implements AutoCloseable {
                     .orElseGet(() -> new RedisTaskManager(engineId, prop, jedisPool, factory, lockProvider, metricRegistry));
         } else  {
             // Redis storage for counts, in the RedisTaskManager it's created in consumers
-            RedisCountStorage redisCountStorage = RedisCountStorage.create(jedisPool, metricRegistry);
             taskManager = new StandaloneTaskManager(engineId, prop, redisCountStorage, factory, lockProvider, metricRegistry);
         }
         taskManager.start();
@@ -223,13 +232,13 @@ public class GraknEngineServer implements AutoCloseable {
         int postProcessingDelay = prop.getPropertyAsInt(GraknEngineConfig.POST_PROCESSING_TASK_DELAY);
 
         // Start all the controllers
-        new GraqlController(factory, spark, metricRegistry);
+        new GraqlController(factory, spark, metricRegistry, SlowQueryLog.create(prop));
         new ConceptController(factory, spark, metricRegistry);
         new DashboardController(factory, spark);
         new SystemController(factory, spark, graknEngineStatus, metricRegistry);
         new AuthController(spark, passwordProtected, jwtHandler, usersHandler);
         new UserController(spark, usersHandler);
-        new CommitLogController(spark, defaultKeyspace, postProcessingDelay, taskManager);
+        new CommitLogController(spark, defaultKeyspace, postProcessingDelay, taskManager, redisCountStorage);
         new TasksController(spark, taskManager, metricRegistry);
 
         // This method will block until all the controllers are ready to serve requests
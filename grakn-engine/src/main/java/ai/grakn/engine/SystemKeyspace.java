@@ -25,17 +25,22 @@ import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.Thing;
+import ai.grakn.engine.data.RedisKeyspaceChannel;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.loader.MutatorTask;
 import ai.grakn.exception.GraknBackendException;
 import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.exception.InvalidKBException;
 import ai.grakn.kb.admin.GraknAdmin;
 import ai.grakn.util.GraknVersion;
 import com.google.common.base.Stopwatch;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>
@@ -53,14 +58,20 @@ import java.util.concurrent.ConcurrentHashMap;
  * given name already exists or not. We maintain the list in our Grakn system
  * keyspace. An element is added to that list when there is an attempt to create
  * a graph from a factory bound to the keyspace name. The list is simply the
- * instances of the system entity type 'keyspace'. Nothing is ever removed from
- * that list. The set of known keyspaces is maintained in a static map so we
- * don't connect to the system keyspace every time a factory produces a new
- * graph. That means that we can't have several different factories (e.g. Janus
+ * instances of the system entity type 'keyspace'. A keyspace is only removed
+ * from that list when it is deleted. The known keyspaces are cached for a short
+ * time so we don't connect to the system keyspace every time a factory produces
+ * a new graph. That means that we can't have several different factories (e.g. Janus
  * and in-memory Tinkerpop) at the same time sharing keyspace names. We can't
  * identify the factory builder by engineUrl and config because we don't know
  * what's inside the config, which is residing remotely at the engine!
  * </p>
+ *
+ * <p>
+ * Keyspaces deleted by this engine are dropped from the cache straight away. Keyspaces deleted by other engines
+ * are dropped when the deletion is received through the {@link RedisKeyspaceChannel}, or when they expire.
+ * Keyspaces which are not known to exist are never cached, so a keyspace created by another engine is seen at once.
+ * </p>
  * 
  * @author borislav, fppt
  *
@@ -74,9 +85,12 @@ public class SystemKeyspace {
     public static final Label KEYSPACE_ENTITY = Label.of("keyspace");
     public static final Label KEYSPACE_RESOURCE = Label.of("keyspace-name");
 
+    private static final long DEFAULT_KEYSPACE_CACHE_TIMEOUT_MS = 60000;
+
     private static final Logger LOG = LoggerFactory.getLogger(SystemKeyspace.class);
-    private final ConcurrentHashMap<String, Boolean> openSpaces;
+    private final Cache<String, Boolean> knownKeyspaces;
     private final EngineGraknTxFactory factory;
+    private @Nullable RedisKeyspaceChannel keyspaceChannel = null;
 
     public SystemKeyspace(EngineGraknTxFactory factory){
         this(factory, true);
@@ -84,17 +98,38 @@ public class SystemKeyspace {
 
     public SystemKeyspace(EngineGraknTxFactory factory, boolean loadSystemSchema){
         this.factory = factory;
-        this.openSpaces = new ConcurrentHashMap<>();
+        long cacheTimeout = Long.parseLong(factory.properties().getProperty(
+                GraknEngineConfig.KEYSPACE_CACHE_TIMEOUT, String.valueOf(DEFAULT_KEYSPACE_CACHE_TIMEOUT_MS)));
+        this.knownKeyspaces = CacheBuilder.newBuilder().expireAfterWrite(cacheTimeout, TimeUnit.MILLISECONDS).build();
         if (loadSystemSchema) {
             loadSystemSchema();
         }
     }
 
+    /**
+     * Shares deletions of keyspaces with the other engines through the given channel, and drops the keyspaces
+     * deleted by other engines from the cache.
+     *
+     * @param keyspaceChannel The channel the engines use to tell each other about deleted keyspaces
+     */
+    public synchronized void shareDeletionsThrough(RedisKeyspaceChannel keyspaceChannel) {
+        this.keyspaceChannel = keyspaceChannel;
+        keyspaceChannel.subscribe(this::forget);
+    }
+
+    /**
+     * Drops everything this engine keeps about a deleted keyspace
+     */
+    private void forget(String keyspace){
+        knownKeyspaces.invalidate(keyspace);
+        MutatorTask.keyspaceDeleted(keyspace);
+    }
+
     /**
      * Notify that we just opened a keyspace with the same engineUrl & config.
      */
      public boolean ensureKeyspaceInitialised(String keyspace) {
-         if(openSpaces.containsKey(keyspace)){
+         if(isKnownKeyspace(keyspace)){
              return true;
          }
 
@@ -112,20 +147,33 @@ public class SystemKeyspace {
             throw new RuntimeException("Could not add keyspace [" + keyspace + "] to system graph", e);
         }
 
+        knownKeyspaces.put(keyspace, true);
         return true;
     }
 
     /**
-     * Checks if the keyspace exists in the system. The persisted graph is checked each time because the graph
-     * may have been deleted in another JVM.
+     * Checks if the keyspace exists in the system. The persisted graph is only checked when the keyspace is not
+     * cached, the cache being kept up to date with the keyspaces deleted in other JVMs.
      *
      * @param keyspace The keyspace which might be in the system
      * @return true if the keyspace is in the system
      */
     public boolean containsKeyspace(String keyspace){
+        if(isKnownKeyspace(keyspace)){
+            return true;
+        }
+
+        boolean exists;
         try (GraknTx graph = factory.tx(SYSTEM_KB_NAME, GraknTxType.READ)) {
-            return graph.getAttributeType(KEYSPACE_RESOURCE.getValue()).getAttribute(keyspace) != null;
+            exists = graph.getAttributeType(KEYSPACE_RESOURCE.getValue()).getAttribute(keyspace) != null;
         }
+
+        if(exists) knownKeyspaces.put(keyspace, true);
+        return exists;
+    }
+
+    private boolean isKnownKeyspace(String keyspace){
+        return knownKeyspaces.getIfPresent(keyspace) != null;
     }
 
     /**
@@ -148,14 +196,19 @@ public class SystemKeyspace {
             if(thing != null) thing.delete();
             attribute.delete();
 
-            openSpaces.remove(keyspace);
-
             graph.admin().commitNoLogs();
         }
 
+        forget(keyspace);
+        publishDeletion(keyspace);
+
         return true;
     }
 
+    private synchronized void publishDeletion(String keyspace){
+        if(keyspaceChannel != null) keyspaceChannel.publish(keyspace);
+    }
+
     /**
      * Load the system schema into a newly created system keyspace. Because the schema
      * only consists of types, the inserts are idempotent and it is safe to load it
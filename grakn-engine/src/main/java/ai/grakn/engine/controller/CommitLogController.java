@@ -18,29 +18,48 @@
 
 package ai.grakn.engine.controller;
 
+import ai.grakn.concept.ConceptId;
 import ai.grakn.engine.postprocessing.PostProcessingTask;
+import ai.grakn.engine.postprocessing.RebuildingDegreesTask;
+import ai.grakn.engine.postprocessing.UpdatingDegreesTask;
 import ai.grakn.engine.postprocessing.UpdatingInstanceCountTask;
+import ai.grakn.engine.tasks.connection.RedisCountStorage;
 import ai.grakn.engine.tasks.manager.TaskConfiguration;
 import ai.grakn.engine.tasks.manager.TaskManager;
 import ai.grakn.engine.tasks.manager.TaskState;
 import ai.grakn.util.REST;
+import static ai.grakn.engine.controller.util.Requests.mandatoryBody;
+import static ai.grakn.util.REST.Request.COMMIT_LOG_CONCEPT_ID;
 import static ai.grakn.util.REST.Request.COMMIT_LOG_COUNTING;
+import static ai.grakn.util.REST.Request.COMMIT_LOG_DEGREES;
+import static ai.grakn.util.REST.Request.COMMIT_LOG_DEGREE_CHANGES;
 import static ai.grakn.util.REST.Request.COMMIT_LOG_FIXING;
+import static ai.grakn.util.REST.Request.COMMIT_LOG_INSTANCE_COUNT;
+import static ai.grakn.util.REST.Request.COMMIT_LOG_THING_ID;
 import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import mjson.Json;
 import spark.Request;
 import spark.Response;
 import spark.Service;
 
 /**
  * A controller which core submits commit logs to so we can post-process jobs for cleanup.
+ * It also exposes the instance counts and degrees which are maintained from those commit logs.
  *
  * @author Filipe Teixeira
  */
@@ -49,14 +68,20 @@ public class CommitLogController {
     private final String defaultKeyspace;
     private final TaskManager manager;
     private final int postProcessingDelay;
+    private final RedisCountStorage redisCountStorage;
 
-    public CommitLogController(Service spark, String defaultKeyspace, int postProcessingDelay, TaskManager manager){
+    public CommitLogController(Service spark, String defaultKeyspace, int postProcessingDelay, TaskManager manager,
+                               RedisCountStorage redisCountStorage){
         this.defaultKeyspace = defaultKeyspace;
         this.postProcessingDelay = postProcessingDelay;
         this.manager = manager;
+        this.redisCountStorage = redisCountStorage;
 
         spark.post(REST.WebPath.COMMIT_LOG_URI, this::submitConcepts);
         spark.delete(REST.WebPath.COMMIT_LOG_URI, this::deleteConcepts);
+        spark.get(REST.WebPath.COMMIT_LOG_COUNT_URI, this::getInstanceCount);
+        spark.post(REST.WebPath.COMMIT_LOG_DEGREES_LOOKUP_URI, this::getDegrees);
+        spark.post(REST.WebPath.COMMIT_LOG_DEGREES_URI, this::rebuildDegrees);
     }
 
 
@@ -75,7 +100,8 @@ public class CommitLogController {
     @ApiImplicitParams({
         @ApiImplicitParam(name = "keyspace", value = "The key space of an opened graph", required = true, dataType = "string", paramType = "path"),
         @ApiImplicitParam(name = COMMIT_LOG_FIXING, value = "A Json Array of IDs representing concepts to be post processed", required = true, dataType = "string", paramType = "body"),
-        @ApiImplicitParam(name = COMMIT_LOG_COUNTING, value = "A Json Array types with new and removed instances", required = true, dataType = "string", paramType = "body")
+        @ApiImplicitParam(name = COMMIT_LOG_COUNTING, value = "A Json Array types with new and removed instances", required = true, dataType = "string", paramType = "body"),
+        @ApiImplicitParam(name = COMMIT_LOG_DEGREE_CHANGES, value = "A Json Object of the roles things have gained or lost, by relationship type", dataType = "string", paramType = "body")
     })
     private String submitConcepts(Request req, Response res) {
         String keyspace = Optional.ofNullable(req.queryParams(KEYSPACE_PARAM)).orElse(defaultKeyspace);
@@ -94,7 +120,81 @@ public class CommitLogController {
                 CompletableFuture.runAsync(() -> manager.addTask(countingTaskState, countingTaskConfiguration)))
                 .join();
 
+        //Degrees to update, only logged when the keyspace maintains degrees
+        if (UpdatingDegreesTask.hasDegreeChanges(req.body())) {
+            manager.addTask(UpdatingDegreesTask.createTask(this.getClass()), UpdatingDegreesTask.createConfig(keyspace, req.body()));
+        }
+
         // TODO return Json
         return "PP Task [ " + postProcessingTaskState.getId().getValue() + " ] and Counting task [" + countingTaskState.getId().getValue() + "] created for graph [" + keyspace + "]";
     }
+
+    @GET
+    @Path("/commit_log/count")
+    @ApiOperation(value = "Get the number of instances of a set of types in a specific keyspace, as maintained from the commit logs")
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "keyspace", value = "The key space of an opened graph", required = true, dataType = "string", paramType = "query"),
+        @ApiImplicitParam(name = COMMIT_LOG_CONCEPT_ID, value = "The IDs of the types to count the instances of", required = true, dataType = "string", allowMultiple = true, paramType = "query")
+    })
+    private Json getInstanceCount(Request req, Response res) {
+        String keyspace = Optional.ofNullable(req.queryParams(KEYSPACE_PARAM)).orElse(defaultKeyspace);
+        String[] typeIds = Optional.ofNullable(req.queryParamsValues(COMMIT_LOG_CONCEPT_ID)).orElse(new String[0]);
+
+        long count = Arrays.stream(typeIds)
+                .mapToLong(id -> redisCountStorage.getCount(RedisCountStorage.getKeyNumInstances(keyspace, ConceptId.of(id))))
+                .sum();
+
+        res.type(REST.Response.ContentType.APPLICATION_JSON);
+        return Json.object(KEYSPACE_PARAM, keyspace, COMMIT_LOG_INSTANCE_COUNT, count);
+    }
+
+    @POST
+    @Path("/commit_log/degrees/lookup")
+    @ApiOperation(value = "Get the degrees of some things in a specific keyspace, as maintained from the commit logs",
+            notes = "The degrees are null until they have been rebuilt for the keyspace. Things which play no role are left out. " +
+                    "The IDs are sent in the body, so the degrees of many things can be read in one request.")
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "keyspace", value = "The key space of an opened graph", required = true, dataType = "string", paramType = "query"),
+        @ApiImplicitParam(name = COMMIT_LOG_CONCEPT_ID, value = "A Json Array of the IDs of the relationship types to count the roles played in", required = true, dataType = "string", paramType = "body"),
+        @ApiImplicitParam(name = COMMIT_LOG_THING_ID, value = "A Json Array of the IDs of the things to get the degrees of", required = true, dataType = "string", paramType = "body")
+    })
+    private Json getDegrees(Request req, Response res) {
+        String keyspace = Optional.ofNullable(req.queryParams(KEYSPACE_PARAM)).orElse(defaultKeyspace);
+        Json body = Json.read(mandatoryBody(req));
+        List<String> relationshipTypeIds = ids(body, COMMIT_LOG_CONCEPT_ID);
+        List<String> thingIds = ids(body, COMMIT_LOG_THING_ID);
+
+        res.type(REST.Response.ContentType.APPLICATION_JSON);
+        if (redisCountStorage.getCount(RedisCountStorage.getKeyDegreesBuilt(keyspace)) == 0) {
+            return Json.object(KEYSPACE_PARAM, keyspace, COMMIT_LOG_DEGREES, Json.nil());
+        }
+
+        Map<String, Long> degrees = new HashMap<>();
+        relationshipTypeIds.forEach(id ->
+                redisCountStorage.getCounts(RedisCountStorage.getKeyDegrees(keyspace, ConceptId.of(id)), thingIds)
+                        .forEach((thingId, degree) -> degrees.merge(thingId, degree, Long::sum)));
+
+        return Json.object(KEYSPACE_PARAM, keyspace, COMMIT_LOG_DEGREES, Json.make(degrees));
+    }
+
+    private static List<String> ids(Json body, String key) {
+        Json ids = body.at(key);
+        if (ids == null) return Collections.emptyList();
+        return ids.asJsonList().stream().map(Json::asString).collect(Collectors.toList());
+    }
+
+    @POST
+    @Path("/commit_log/degrees")
+    @ApiOperation(value = "Rebuild the degrees of all the things in a specific keyspace",
+            notes = "Needed once before the degrees are served, and to repair degrees which have drifted")
+    @ApiImplicitParam(name = "keyspace", value = "The key space of an opened graph", required = true, dataType = "string", paramType = "query")
+    private Json rebuildDegrees(Request req, Response res) {
+        String keyspace = Optional.ofNullable(req.queryParams(KEYSPACE_PARAM)).orElse(defaultKeyspace);
+
+        TaskState rebuildingTaskState = RebuildingDegreesTask.createTask(this.getClass());
+        manager.addTask(rebuildingTaskState, RebuildingDegreesTask.createConfig(keyspace));
+
+        res.type(REST.Response.ContentType.APPLICATION_JSON);
+        return Json.object(KEYSPACE_PARAM, keyspace, REST.Response.Task.ID, rebuildingTaskState.getId().getValue());
+    }
 }
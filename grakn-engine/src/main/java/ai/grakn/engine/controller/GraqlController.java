@@ -20,6 +20,7 @@ package ai.grakn.engine.controller;
 
 import ai.grakn.GraknTx;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.util.SlowQueryLog;
 import ai.grakn.exception.GraknServerException;
 import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.exception.GraqlQueryException;
@@ -32,9 +33,11 @@ import ai.grakn.graql.Printer;
 import ai.grakn.graql.Query;
 import ai.grakn.graql.analytics.PathQuery;
 import ai.grakn.graql.internal.printer.Printers;
+import ai.grakn.graql.internal.query.QueryProfile;
 import ai.grakn.util.REST;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import com.google.common.base.Stopwatch;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
@@ -49,6 +52,7 @@ import spark.Service;
 
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
+import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import java.util.ArrayList;
@@ -59,16 +63,22 @@ import static ai.grakn.engine.controller.util.Requests.mandatoryQueryParameter;
 import static ai.grakn.engine.controller.util.Requests.queryParameter;
 import static ai.grakn.graql.internal.hal.HALBuilder.renderHALArrayData;
 import static ai.grakn.graql.internal.hal.HALBuilder.renderHALConceptData;
+import static ai.grakn.util.REST.Request.Graql.EXPLAIN;
 import static ai.grakn.util.REST.Request.Graql.INFER;
 import static ai.grakn.util.REST.Request.Graql.LIMIT_EMBEDDED;
 import static ai.grakn.util.REST.Request.Graql.MATERIALISE;
+import static ai.grakn.util.REST.Request.Graql.PROFILE;
 import static ai.grakn.util.REST.Request.Graql.QUERY;
+import static ai.grakn.util.REST.Request.Graql.SLOW_QUERY_SAMPLE_RATE;
+import static ai.grakn.util.REST.Request.Graql.SLOW_QUERY_THRESHOLD;
 import static ai.grakn.util.REST.Request.KEYSPACE;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_HAL;
+import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON_GRAQL;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_TEXT;
 import static com.codahale.metrics.MetricRegistry.name;
 import static java.lang.Boolean.parseBoolean;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 
 /**
@@ -76,6 +86,11 @@ import static java.lang.Boolean.parseBoolean;
  * Endpoints used to query the graph using Graql and build a HAL, Graql or Json response.
  * </p>
  *
+ * <p>
+ * A query can be explained, returning its plan without executing it, or profiled, returning its plan together with
+ * what each step of it did instead of its answers. Queries which take too long are logged to the {@link SlowQueryLog}.
+ * </p>
+ *
  * @author Marco Scoppetta, alexandraorth
  */
 @Path("/graph/graql")
@@ -87,15 +102,24 @@ public class GraqlController {
     private final EngineGraknTxFactory factory;
     private final Timer executeGraqlGetTimer;
     private final Timer executeGraqlPostTimer;
+    private final SlowQueryLog slowQueryLog;
 
     public GraqlController(EngineGraknTxFactory factory, Service spark,
                            MetricRegistry metricRegistry) {
+        this(factory, spark, metricRegistry, SlowQueryLog.disabled());
+    }
+
+    public GraqlController(EngineGraknTxFactory factory, Service spark,
+                           MetricRegistry metricRegistry, SlowQueryLog slowQueryLog) {
         this.factory = factory;
+        this.slowQueryLog = slowQueryLog;
         this.executeGraqlGetTimer = metricRegistry.timer(name(GraqlController.class, "execute-graql-get"));
         this.executeGraqlPostTimer = metricRegistry.timer(name(GraqlController.class, "execute-graql-post"));
 
         spark.post(REST.WebPath.KB.ANY_GRAQL, this::executeGraql);
         spark.get(REST.WebPath.KB.GRAQL,    this::executeGraqlGET);
+        spark.get(REST.WebPath.KB.SLOW_QUERIES, this::getSlowQueryLog);
+        spark.put(REST.WebPath.KB.SLOW_QUERIES, this::setSlowQueryLog);
 
         //TODO The below exceptions are very broad. They should be revised after we improve exception
         //TODO hierarchies in Graql and GraknTx
@@ -116,12 +140,21 @@ public class GraqlController {
         boolean infer = parseBoolean(mandatoryQueryParameter(request, INFER));
         boolean materialise = parseBoolean(mandatoryQueryParameter(request, MATERIALISE));
         int limitEmbedded = queryParameter(request, LIMIT_EMBEDDED).map(Integer::parseInt).orElse(-1);
+        boolean explain = queryParameter(request, EXPLAIN).map(Boolean::parseBoolean).orElse(false);
+        boolean profile = queryParameter(request, PROFILE).map(Boolean::parseBoolean).orElse(false);
         String acceptType = getAcceptType(request);
 
         try(GraknTx graph = factory.tx(keyspace, WRITE); Timer.Context context = executeGraqlPostTimer.time()) {
             Query<?> query = graph.graql().materialise(materialise).infer(infer).parse(queryString);
-            Object resp = respond(response, acceptType, executeQuery(keyspace, limitEmbedded, query, acceptType));
+
+            if (explain) return respond(response, APPLICATION_JSON, QueryProfile.explain(graph, query).toJson());
+
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            Object resp = profile ?
+                    respond(response, APPLICATION_JSON, QueryProfile.profile(graph, query).toJson()) :
+                    respond(response, acceptType, executeQuery(keyspace, limitEmbedded, query, acceptType));
             graph.commit();
+            slowQueryLog.record(keyspace, queryString, stopwatch.elapsed(MILLISECONDS));
             return resp;
         }
     }
@@ -135,7 +168,9 @@ public class GraqlController {
             @ApiImplicitParam(name = KEYSPACE,    value = "Name of graph to use", required = true, dataType = "string", paramType = "query"),
             @ApiImplicitParam(name = QUERY,       value = "Match query to execute", required = true, dataType = "string", paramType = "query"),
             @ApiImplicitParam(name = INFER,       value = "Should reasoner with the current query.", required = true, dataType = "boolean", paramType = "query"),
-            @ApiImplicitParam(name = MATERIALISE, value = "Should reasoner materialise results with the current query.", required = true, dataType = "boolean", paramType = "query")
+            @ApiImplicitParam(name = MATERIALISE, value = "Should reasoner materialise results with the current query.", required = true, dataType = "boolean", paramType = "query"),
+            @ApiImplicitParam(name = EXPLAIN,     value = "Return the plan of the query instead of executing it.", dataType = "boolean", paramType = "query"),
+            @ApiImplicitParam(name = PROFILE,     value = "Return the plan of the query and what each step of it did instead of its answers.", dataType = "boolean", paramType = "query")
     })
     private Object executeGraqlGET(Request request, Response response) {
         String keyspace = mandatoryQueryParameter(request, KEYSPACE);
@@ -143,6 +178,8 @@ public class GraqlController {
         boolean infer = parseBoolean(mandatoryQueryParameter(request, INFER));
         boolean materialise = parseBoolean(mandatoryQueryParameter(request, MATERIALISE));
         int limitEmbedded = queryParameter(request, LIMIT_EMBEDDED).map(Integer::parseInt).orElse(-1);
+        boolean explain = queryParameter(request, EXPLAIN).map(Boolean::parseBoolean).orElse(false);
+        boolean profile = queryParameter(request, PROFILE).map(Boolean::parseBoolean).orElse(false);
         String acceptType = getAcceptType(request);
 
         try(GraknTx graph = factory.tx(keyspace, WRITE); Timer.Context context = executeGraqlGetTimer.time()) {
@@ -150,11 +187,56 @@ public class GraqlController {
 
             if(!query.isReadOnly()) throw GraknServerException.invalidQuery("\"read-only\"");
 
-            if(!validContentType(acceptType, query)) throw GraknServerException.contentTypeQueryMismatch(acceptType, query);
+            if (explain) return respond(response, APPLICATION_JSON, QueryProfile.explain(graph, query).toJson());
+
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            Object responseBody;
+            if (profile) {
+                responseBody = respond(response, APPLICATION_JSON, QueryProfile.profile(graph, query).toJson());
+            } else {
+                if(!validContentType(acceptType, query)) throw GraknServerException.contentTypeQueryMismatch(acceptType, query);
+                responseBody = respond(response, acceptType, executeGET(keyspace, limitEmbedded, query, acceptType));
+            }
+            slowQueryLog.record(keyspace, queryString, stopwatch.elapsed(MILLISECONDS));
+            return responseBody;
+        }
+    }
 
-            Object responseBody = executeGET(keyspace, limitEmbedded, query, acceptType);
-            return respond(response, acceptType, responseBody);
+    @GET
+    @Path("/slow-queries")
+    @ApiOperation(value = "Get the threshold in milliseconds over which queries are logged, and the fraction of them logged.")
+    private Json getSlowQueryLog(Request request, Response response) {
+        return respond(response, APPLICATION_JSON, slowQueryLog.toJson());
+    }
+
+    @PUT
+    @Path("/slow-queries")
+    @ApiOperation(value = "Change the threshold in milliseconds over which queries are logged, or the fraction of them logged. " +
+            "Needs an authenticated user, so it is only possible when the engine is password protected.")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = SLOW_QUERY_THRESHOLD,   value = "Threshold in milliseconds, negative to log no queries", dataType = "long", paramType = "query"),
+            @ApiImplicitParam(name = SLOW_QUERY_SAMPLE_RATE, value = "Fraction of slow queries to log, between 0 and 1", dataType = "double", paramType = "query")
+    })
+    private Json setSlowQueryLog(Request request, Response response) {
+        // Changing the slow query log affects every client, so only authenticated users may do it
+        if (request.attribute(REST.Request.USER_ATTR) == null) {
+            throw GraknServerException.authenticationFailure();
         }
+        queryParameter(request, SLOW_QUERY_THRESHOLD).ifPresent(threshold -> {
+            try {
+                slowQueryLog.setThreshold(Long.parseLong(threshold));
+            } catch (NumberFormatException e) {
+                throw GraknServerException.requestInvalidParameter(SLOW_QUERY_THRESHOLD, threshold);
+            }
+        });
+        queryParameter(request, SLOW_QUERY_SAMPLE_RATE).ifPresent(sampleRate -> {
+            try {
+                slowQueryLog.setSampleRate(Double.parseDouble(sampleRate));
+            } catch (IllegalArgumentException e) {
+                throw GraknServerException.requestInvalidParameter(SLOW_QUERY_SAMPLE_RATE, sampleRate);
+            }
+        });
+        return respond(response, APPLICATION_JSON, slowQueryLog.toJson());
     }
 
     /**
@@ -198,7 +280,7 @@ public class GraqlController {
      * @param response response to the client
      * @return formatted result of the executed query
      */
-    private Object respond(Response response, String contentType, Object responseBody){
+    private <T> T respond(Response response, String contentType, T responseBody){
         response.type(contentType);
         response.body(responseBody.toString());
         response.status(200);
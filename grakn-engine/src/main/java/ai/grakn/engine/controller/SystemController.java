@@ -29,6 +29,7 @@ import ai.grakn.engine.GraknEngineStatus;
 import ai.grakn.engine.SystemKeyspace;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.exception.GraknServerException;
+import ai.grakn.factory.IndexBackends;
 import ai.grakn.util.ErrorMessage;
 import com.codahale.metrics.MetricFilter;
 import com.codahale.metrics.MetricRegistry;
@@ -188,6 +189,12 @@ public class SystemController {
                 throw GraknServerException.internalError("Unrecognised graph config: " + graphConfig);
         }
 
+        // Remove the index backends kept on the disk of this engine, which clients cannot share
+        properties.stringPropertyNames().stream()
+                .filter(key -> IndexBackends.isLocalIndexProperty(properties, key))
+                .collect(Collectors.toList())
+                .forEach(properties::remove);
+
         // Turn the properties into a Json object
         Json config = Json.make(properties);
 
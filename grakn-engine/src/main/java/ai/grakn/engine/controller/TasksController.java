@@ -53,13 +53,17 @@ import javax.ws.rs.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import static ai.grakn.engine.controller.util.Requests.mandatoryQueryParameter;
@@ -75,6 +79,7 @@ import static ai.grakn.util.REST.Response.Task.RECURRING;
 import static ai.grakn.util.REST.Response.Task.RUN_AT;
 import static ai.grakn.util.REST.Response.Task.STACK_TRACE;
 import static ai.grakn.util.REST.Response.Task.STATUS;
+import static ai.grakn.util.REST.WebPath.Tasks.COMPLETED;
 import static ai.grakn.util.REST.WebPath.Tasks.GET;
 import static ai.grakn.util.REST.WebPath.Tasks.STOP;
 import static ai.grakn.util.REST.WebPath.Tasks.TASKS;
@@ -82,6 +87,7 @@ import static com.codahale.metrics.MetricRegistry.name;
 import static java.lang.Long.parseLong;
 import static java.time.Instant.ofEpochMilli;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * <p>
@@ -99,6 +105,9 @@ public class TasksController {
 
     private static final int MAX_THREADS = 10;
     private static final Duration MAX_EXECUTION_TIME = Duration.ofSeconds(10);
+    // Notifications of finished tasks can be lost, so the states are read again at least this often
+    private static final Duration COMPLETION_CHECK_INTERVAL = Duration.ofSeconds(1);
+    private static final Set<TaskStatus> FINISHED = EnumSet.of(TaskStatus.COMPLETED, TaskStatus.FAILED, TaskStatus.STOPPED);
 
     private final TaskManager manager;
     private final ExecutorService executor;
@@ -106,6 +115,10 @@ public class TasksController {
     private final Timer stopTaskTimer;
     private final Timer getTaskTimer;
     private final Timer getTasksTimer;
+    private final Timer waitForTasksTimer;
+    private final AtomicBoolean listeningForFinishedTasks = new AtomicBoolean(false);
+    // Counts the finished tasks the storage has told about, and is notified whenever one does
+    private final AtomicLong finishedTasks = new AtomicLong();
 
     public TasksController(Service spark, TaskManager manager, MetricRegistry metricRegistry) {
         if (manager==null) {
@@ -117,11 +130,13 @@ public class TasksController {
         this.getTaskTimer = metricRegistry.timer(name(TasksController.class, "get-task"));
         this.stopTaskTimer = metricRegistry.timer(name(TasksController.class, "stop-task"));
         this.createTasksTimer = metricRegistry.timer(name(TasksController.class, "create-tasks"));
+        this.waitForTasksTimer = metricRegistry.timer(name(TasksController.class, "wait-for-tasks"));
 
         spark.get(TASKS, this::getTasks);
         spark.get(GET, this::getTask);
         spark.put(STOP, this::stopTask);
         spark.post(TASKS, this::createTasks);
+        spark.post(COMPLETED, this::waitForTasks);
 
         spark.exception(GraknServerException.class, (e, req, res) -> handleNotFoundInStorage(e, res));
         spark.exception(GraknBackendException.class, (e, req, res) -> handleNotFoundInStorage(e, res));
@@ -246,6 +261,68 @@ public class TasksController {
         }
     }
 
+    @POST
+    @Path("/completed")
+    @ApiOperation(value = "Wait for any of a set of tasks to complete, fail or stop.",
+            notes = "Returns the states of the given tasks which have finished as soon as there is at least one, "
+                    + "or an empty list once the timeout has passed. Tasks which have not been stored yet are waited on.")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = REST.Request.TASKS_PARAM, value = "JSON Array containing the IDs of the tasks to wait on.", required = true, dataType = "List", paramType = "body"),
+            @ApiImplicitParam(name = REST.Request.TIMEOUT_PARAM, value = "How long to wait in milliseconds, at most 10 seconds.", dataType = "integer", paramType = "body")
+    })
+    private Json waitForTasks(Request request, Response response) throws InterruptedException {
+        Json requestBodyAsJson = bodyAsJson(request);
+        if (!requestBodyAsJson.has(REST.Request.TASKS_PARAM)) {
+            throw GraknServerException.requestMissingBodyParameters(REST.Request.TASKS_PARAM);
+        }
+        Set<TaskId> ids = requestBodyAsJson.at(REST.Request.TASKS_PARAM).asJsonList().stream()
+                .map(id -> TaskId.of(id.asString()))
+                .collect(toSet());
+        long timeout = MAX_EXECUTION_TIME.toMillis();
+        if (requestBodyAsJson.has(REST.Request.TIMEOUT_PARAM)) {
+            timeout = Math.min(requestBodyAsJson.at(REST.Request.TIMEOUT_PARAM).asLong(), timeout);
+        }
+
+        if (listeningForFinishedTasks.compareAndSet(false, true)) {
+            manager.storage().onTaskFinished(id -> {
+                synchronized (finishedTasks) {
+                    finishedTasks.incrementAndGet();
+                    finishedTasks.notifyAll();
+                }
+            });
+        }
+
+        try (Context context = waitForTasksTimer.time()) {
+            // The states are only read again when the storage tells about a finished task
+            Instant deadline = Instant.now().plusMillis(timeout);
+            long seen = finishedTasks.get();
+            List<TaskState> finished = finishedTasks(ids);
+            while (finished.isEmpty() && !ids.isEmpty()) {
+                long remaining = Duration.between(Instant.now(), deadline).toMillis();
+                if (remaining <= 0) break;
+                synchronized (finishedTasks) {
+                    if (finishedTasks.get() == seen) {
+                        finishedTasks.wait(Math.min(remaining, COMPLETION_CHECK_INTERVAL.toMillis()));
+                    }
+                }
+                seen = finishedTasks.get();
+                finished = finishedTasks(ids);
+            }
+
+            Json result = Json.array();
+            finished.stream().map(this::serialiseStateFull).forEach(result::add);
+            response.status(HttpStatus.SC_OK);
+            response.type(APPLICATION_JSON);
+            return result;
+        }
+    }
+
+    private List<TaskState> finishedTasks(Set<TaskId> ids) {
+        return manager.storage().getStates(ids).values().stream()
+                .filter(state -> FINISHED.contains(state.status()))
+                .collect(toList());
+    }
+
     private Json buildResponseForTasks(Response response, Json responseJson,
             CompletableFuture<List<Json>> completableFuture)
             throws InterruptedException, java.util.concurrent.ExecutionException, TimeoutException {
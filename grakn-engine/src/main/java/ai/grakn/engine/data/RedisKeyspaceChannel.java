@@ -0,0 +1,125 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+package ai.grakn.engine.data;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.util.Pool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ *     Redis channel used by engines to tell each other about deleted keyspaces
+ * </p>
+ *
+ * <p>
+ *     Every engine caches the keyspaces it knows about. When a keyspace is deleted the engine which deleted it
+ *     publishes the keyspace on this channel so every other engine can drop it from its own cache straight away.
+ *     Messages published while an engine is disconnected from redis are lost, so the caches must still expire.
+ * </p>
+ */
+public class RedisKeyspaceChannel implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(RedisKeyspaceChannel.class);
+    private static final String CHANNEL = "grakn-keyspace-deleted";
+    private static final long RECONNECT_DELAY_MS = 1000;
+
+    private final Pool<Jedis> jedisPool;
+    private final ExecutorService subscriber;
+    private volatile boolean closed = false;
+    private volatile JedisPubSub subscription = null;
+
+    private RedisKeyspaceChannel(Pool<Jedis> jedisPool) {
+        this.jedisPool = jedisPool;
+        this.subscriber = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("keyspace-channel-%s").setDaemon(true).build());
+    }
+
+    public static RedisKeyspaceChannel create(Pool<Jedis> jedisPool) {
+        return new RedisKeyspaceChannel(jedisPool);
+    }
+
+    /**
+     * Tells all the engines listening on this channel that a keyspace has been deleted
+     *
+     * @param keyspace The deleted keyspace
+     */
+    public void publish(String keyspace) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.publish(CHANNEL, keyspace);
+        } catch (JedisException e) {
+            // Other engines will still see the deletion once their cached keyspace expires
+            LOG.warn("Could not publish deletion of keyspace {}", keyspace, e);
+        }
+    }
+
+    /**
+     * Listens for deleted keyspaces on a background thread until this channel is closed.
+     * The connection is re-established if it is lost.
+     *
+     * @param listener Called with every deleted keyspace
+     */
+    public void subscribe(Consumer<String> listener) {
+        subscriber.submit(() -> {
+            while (!closed) {
+                JedisPubSub pubSub = new JedisPubSub() {
+                    @Override
+                    public void onMessage(String channel, String keyspace) {
+                        listener.accept(keyspace);
+                    }
+                };
+                subscription = pubSub;
+                try (Jedis jedis = jedisPool.getResource()) {
+                    // Blocks until unsubscribed or disconnected
+                    jedis.subscribe(pubSub, CHANNEL);
+                } catch (JedisException e) {
+                    if (closed) return;
+                    LOG.warn("Lost subscription to {}, reconnecting", CHANNEL, e);
+                    try {
+                        Thread.sleep(RECONNECT_DELAY_MS);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        JedisPubSub pubSub = subscription;
+        if (pubSub != null && pubSub.isSubscribed()) {
+            pubSub.unsubscribe();
+        }
+        subscriber.shutdownNow();
+        try {
+            subscriber.awaitTermination(RECONNECT_DELAY_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -22,6 +22,7 @@ import ai.grakn.GraknTx;
 import ai.grakn.engine.GraknEngineConfig;
 import ai.grakn.engine.postprocessing.GraknTxMutators;
 import ai.grakn.engine.postprocessing.PostProcessingTask;
+import ai.grakn.engine.postprocessing.UpdatingDegreesTask;
 import ai.grakn.engine.postprocessing.UpdatingInstanceCountTask;
 import ai.grakn.engine.tasks.BackgroundTask;
 import ai.grakn.engine.tasks.manager.TaskConfiguration;
@@ -30,12 +31,25 @@ import ai.grakn.graql.Query;
 import ai.grakn.graql.QueryBuilder;
 import static ai.grakn.util.ErrorMessage.ILLEGAL_ARGUMENT_EXCEPTION;
 import static ai.grakn.util.ErrorMessage.READ_ONLY_QUERY;
+import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.REST;
 import static ai.grakn.util.REST.Request.TASK_LOADER_MUTATIONS;
 import static com.codahale.metrics.MetricRegistry.name;
 import com.codahale.metrics.Timer.Context;
+import com.google.common.collect.Lists;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import mjson.Json;
 
@@ -43,7 +57,16 @@ import mjson.Json;
  * Task that will mutate data in a graph. It uses the engine running on the
  * engine executing the task.
  *
- * The task will then submit all modified concepts for post processing.
+ * The queries are committed in transactions of the {@link TransactionSize} of the keyspace. When a transaction
+ * fails, usually because it conflicted with another one, its queries are split in two halves which are retried
+ * separately after a random back off, so only the queries in the half which keeps failing are retried again.
+ *
+ * The transactions are not atomic with each other: when the task fails, the transactions it committed before failing
+ * stay committed and retrying the task executes their queries again. Queries sent in the same task should therefore be
+ * safe to execute more than once, for example by matching on a key before inserting.
+ *
+ * The commit logs of all the transactions are merged, so the task submits the modified concepts for post processing,
+ * the changed instance counts and the changed degrees once, even when it fails part way through.
  *
  * @author Alexandra Orth
  */
@@ -58,24 +81,164 @@ public class MutatorTask extends BackgroundTask {
         String keyspace = configuration().json().at(REST.Request.KEYSPACE).asString();
         int maxRetry = engineConfiguration().getPropertyAsInt(GraknEngineConfig.LOADER_REPEAT_COMMITS);
 
-        GraknTxMutators.runBatchMutationWithRetry(factory(), keyspace, maxRetry, (graph) ->
-                insertQueriesInOneTransaction(graph, inserts)
-        );
+        if (inserts.isEmpty()) {
+            metricRegistry().meter(name(MutatorTask.class, "empty")).mark();
+            return true;
+        }
+
+        GraknTxMutators.checkKeyspace(factory(), keyspace);
+        TransactionSize transactionSize = TransactionSize.of(keyspace);
+
+        Deque<Mutation> mutations = new ArrayDeque<>();
+        Lists.partition(new ArrayList<>(inserts), transactionSize.get())
+                .forEach(queries -> mutations.add(new Mutation(queries, 0)));
+
+        List<Json> logs = new ArrayList<>();
+        try {
+            while (!mutations.isEmpty()) {
+                Mutation mutation = mutations.pop();
+                if (commit(keyspace, mutation.queries, transactionSize, logs)) continue;
+
+                List<Query> queries = mutation.queries;
+                if (queries.size() > 1) {
+                    // Splitting always makes progress, so only retrying single queries counts towards the limit
+                    GraknTxMutators.backOff(mutation.retry);
+                    int half = queries.size() / 2;
+                    mutations.push(new Mutation(queries.subList(half, queries.size()), mutation.retry));
+                    mutations.push(new Mutation(queries.subList(0, half), mutation.retry));
+                } else if (mutation.retry + 1 < maxRetry) {
+                    GraknTxMutators.backOff(mutation.retry);
+                    mutations.push(new Mutation(queries, mutation.retry + 1));
+                } else {
+                    throw new RuntimeException(ErrorMessage.UNABLE_TO_MUTATE.getMessage(keyspace));
+                }
+            }
+        } finally {
+            // The transactions committed before a failure still need post processing
+            if (!logs.isEmpty()) submitPostProcessing(keyspace, mergeLogs(logs).toString());
+        }
 
         return true;
     }
 
     /**
-     * Execute the given queries against the given graph. Return if the operation was successfully completed.
+     * Submit the tasks which post process the concepts, update the instance counts and update the degrees
+     * modified by the committed transactions
+     *
+     * @param keyspace keyspace which was mutated
+     * @param logs commit log of all the committed transactions
+     */
+    private void submitPostProcessing(String keyspace, String logs) {
+        addTask(PostProcessingTask.createTask(this.getClass(), engineConfiguration()
+                        .getPropertyAsInt(GraknEngineConfig.POST_PROCESSING_TASK_DELAY)),
+                PostProcessingTask.createConfig(keyspace, logs));
+        addTask(UpdatingInstanceCountTask.createTask(this.getClass()),
+                UpdatingInstanceCountTask.createConfig(keyspace, logs));
+        if(UpdatingDegreesTask.hasDegreeChanges(logs)) {
+            addTask(UpdatingDegreesTask.createTask(this.getClass()),
+                    UpdatingDegreesTask.createConfig(keyspace, logs));
+        }
+    }
+
+    /**
+     * Merge the commit logs of several transactions into the commit log of one transaction making all their changes
+     *
+     * @param logs commit logs in the format of {@link ai.grakn.kb.internal.cache.TxCache#getFormattedLog()}
+     * @return a single commit log in the same format
+     */
+    static Json mergeLogs(List<Json> logs) {
+        Map<String, Map<String, Set<String>>> conceptsToFix = new HashMap<>();
+        Map<String, Long> instanceCounts = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> degreeChanges = new LinkedHashMap<>();
+
+        for (Json log : logs) {
+            log.at(REST.Request.COMMIT_LOG_FIXING).asJsonMap().forEach((baseType, byIndex) ->
+                    byIndex.asJsonMap().forEach((index, ids) -> {
+                        Set<String> merged = conceptsToFix.computeIfAbsent(baseType, k -> new HashMap<>())
+                                .computeIfAbsent(index, k -> new HashSet<>());
+                        ids.asJsonList().forEach(id -> merged.add(id.asString()));
+                    }));
+
+            log.at(REST.Request.COMMIT_LOG_COUNTING).asJsonList().forEach(count ->
+                    instanceCounts.merge(count.at(REST.Request.COMMIT_LOG_CONCEPT_ID).asString(),
+                            count.at(REST.Request.COMMIT_LOG_SHARDING_COUNT).asLong(), Long::sum));
+
+            if (log.has(REST.Request.COMMIT_LOG_DEGREE_CHANGES)) {
+                log.at(REST.Request.COMMIT_LOG_DEGREE_CHANGES).asJsonMap().forEach((relationshipType, changes) -> {
+                    Map<String, Long> merged = degreeChanges.computeIfAbsent(relationshipType, k -> new LinkedHashMap<>());
+                    changes.asJsonMap().forEach((rolePlayer, change) -> merged.merge(rolePlayer, change.asLong(), Long::sum));
+                });
+            }
+        }
+
+        Json counting = Json.array();
+        instanceCounts.forEach((conceptId, count) -> {
+            if (count != 0) {
+                counting.add(Json.object(REST.Request.COMMIT_LOG_CONCEPT_ID, conceptId,
+                        REST.Request.COMMIT_LOG_SHARDING_COUNT, count));
+            }
+        });
+
+        Json merged = Json.object();
+        merged.set(REST.Request.COMMIT_LOG_FIXING, Json.make(conceptsToFix));
+        merged.set(REST.Request.COMMIT_LOG_COUNTING, counting);
+
+        // Like a single transaction, changes which cancel out are left out of the log
+        Json degrees = Json.object();
+        degreeChanges.forEach((relationshipType, changes) -> {
+            Json changesOfType = Json.object();
+            changes.forEach((rolePlayer, change) -> {
+                if (change != 0) changesOfType.set(rolePlayer, change);
+            });
+            if (!changesOfType.asJsonMap().isEmpty()) degrees.set(relationshipType, changesOfType);
+        });
+        if (!degrees.asJsonMap().isEmpty()) merged.set(REST.Request.COMMIT_LOG_DEGREE_CHANGES, degrees);
+
+        return merged;
+    }
+
+    /**
+     * Forget what was learnt about mutating a keyspace, because it has been deleted
+     *
+     * @param keyspace the deleted keyspace
+     */
+    public static void keyspaceDeleted(String keyspace) {
+        TransactionSize.remove(keyspace);
+    }
+
+    /**
+     * Commit the given queries in one transaction, recording how long it took and whether it failed
+     * @param logs the commit log of the transaction is added to these when it is committed
+     * @return true if the queries were committed
+     */
+    private boolean commit(String keyspace, List<Query> queries, TransactionSize transactionSize, List<Json> logs) {
+        Instant start = Instant.now();
+        boolean committed = GraknTxMutators.tryBatchMutation(factory(), keyspace, (graph) ->
+                insertQueriesInOneTransaction(graph, queries).ifPresent(logs::add)
+        );
+
+        metricRegistry().meter(name(MutatorTask.class, "commits", keyspace)).mark();
+        if (committed) {
+            transactionSize.committed(queries.size(), Duration.between(start, Instant.now()));
+            metricRegistry().histogram(name(MutatorTask.class, "commit-size", keyspace)).update(queries.size());
+        } else {
+            transactionSize.failed();
+            metricRegistry().meter(name(MutatorTask.class, "conflicts", keyspace)).mark();
+        }
+        return committed;
+    }
+
+    /**
+     * Execute the given queries against the given graph and commit them.
      * @param graph grakn graph in which to insert the data
      * @param inserts graql queries to insert into the graph
-     * @return true if the data was inserted, false otherwise
+     * @return the commit log of the transaction, if the commit created one
      */
-    private boolean insertQueriesInOneTransaction(GraknTx graph, Collection<Query> inserts) {
+    private Optional<Json> insertQueriesInOneTransaction(GraknTx graph, Collection<Query> inserts) {
         try(Context context = metricRegistry().timer(name(MutatorTask.class, "execution")).time()) {
             if (inserts.isEmpty()) {
                 metricRegistry().meter(name(MutatorTask.class, "empty")).mark();
-                return false;
+                return Optional.empty();
             } else {
                 inserts.forEach(q -> {
                     try(Context contextSingle = metricRegistry().timer(name(MutatorTask.class, "execution-single")).time()){
@@ -83,16 +246,7 @@ public class MutatorTask extends BackgroundTask {
                     }
                 });
 
-                Optional<String> result = graph.admin().commitNoLogs();
-                if(result.isPresent()){ // Submit more tasks if commit resulted in created commit logs
-                    String logs = result.get();
-                    addTask(PostProcessingTask.createTask(this.getClass(), engineConfiguration()
-                                    .getPropertyAsInt(GraknEngineConfig.POST_PROCESSING_TASK_DELAY)),
-                            PostProcessingTask.createConfig(graph.getKeyspace(), logs));
-                    addTask(UpdatingInstanceCountTask.createTask(this.getClass()),
-                            UpdatingInstanceCountTask.createConfig(graph.getKeyspace(), logs));
-                }
-                return true;
+                return graph.admin().commitNoLogs().map(Json::read);
             }
         }
     }
@@ -119,4 +273,17 @@ public class MutatorTask extends BackgroundTask {
 
         throw new IllegalArgumentException(ILLEGAL_ARGUMENT_EXCEPTION.getMessage("No inserts", configuration));
     }
+
+    /**
+     * Queries to commit in one transaction, and how many times they have been retried on their own
+     */
+    private static class Mutation {
+        private final List<Query> queries;
+        private final int retry;
+
+        Mutation(List<Query> queries, int retry) {
+            this.queries = queries;
+            this.retry = retry;
+        }
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.loader;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ *     The number of queries a {@link MutatorTask} commits in one transaction on a keyspace.
+ * </p>
+ *
+ * <p>
+ *     The size grows while transactions of that size commit faster than {@link #TARGET_COMMIT_LATENCY}, shrinks by a
+ *     quarter when they are slower, and is halved when a transaction fails, so loading settles on transactions which
+ *     commit quickly and rarely conflict. The size is shared by all the tasks mutating the keyspace on this engine.
+ * </p>
+ */
+class TransactionSize {
+
+    static final int MIN_SIZE = 1;
+    static final int MAX_SIZE = 1000;
+    static final int INITIAL_SIZE = 100;
+    static final Duration TARGET_COMMIT_LATENCY = Duration.ofSeconds(1);
+
+    private static final Map<String, TransactionSize> KEYSPACES = new ConcurrentHashMap<>();
+
+    private final AtomicInteger size;
+
+    TransactionSize(int initialSize) {
+        this.size = new AtomicInteger(initialSize);
+    }
+
+    /**
+     * @param keyspace keyspace being mutated
+     * @return the size of the transactions mutating the keyspace
+     */
+    static TransactionSize of(String keyspace) {
+        return KEYSPACES.computeIfAbsent(keyspace, k -> new TransactionSize(INITIAL_SIZE));
+    }
+
+    /**
+     * Forget the size of the transactions mutating a keyspace, so a keyspace created again with the same name starts
+     * from {@link #INITIAL_SIZE}
+     *
+     * @param keyspace keyspace which has been deleted
+     */
+    static void remove(String keyspace) {
+        KEYSPACES.remove(keyspace);
+    }
+
+    /**
+     * @return number of queries to commit in one transaction
+     */
+    int get() {
+        return size.get();
+    }
+
+    /**
+     * Record a transaction which committed
+     *
+     * @param queries number of queries committed in the transaction
+     * @param latency how long the transaction took
+     */
+    void committed(int queries, Duration latency) {
+        if (latency.compareTo(TARGET_COMMIT_LATENCY) > 0) {
+            size.updateAndGet(current -> Math.max(MIN_SIZE, current - current / 4));
+        } else if (queries >= size.get()) {
+            // Only transactions as large as the current size say whether larger ones would commit in time
+            size.updateAndGet(current -> Math.min(MAX_SIZE, current + Math.max(1, current / 10)));
+        }
+    }
+
+    /**
+     * Record a transaction which failed, usually because it conflicted with another transaction
+     */
+    void failed() {
+        size.updateAndGet(current -> Math.max(MIN_SIZE, current / 2));
+    }
+}
@@ -20,77 +20,90 @@
 package ai.grakn.engine.lock;
 
 import com.google.common.base.Preconditions;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-import redis.clients.jedis.Jedis;
-import redis.clients.util.Pool;
+import javax.annotation.Nullable;
+
+import static java.util.Collections.singletonList;
 
 /**
- * Wrapper for Jedis lock
+ * <p>
+ *     Lock held in redis under a lease
+ * </p>
+ *
+ * <p>
+ *     The lock is held by setting its key to a token unique to this acquisition, which expires after the lease of
+ *     the {@link JedisLockProvider}. The lease is renewed in the background until the lock is released, so a lock can
+ *     be held for longer than its lease, but it is freed shortly after an engine holding it dies.
+ *     Threads waiting for the lock are woken when it is released instead of polling redis.
+ * </p>
  *
  * @author Domenico Corapi
  */
 public class JedisLock implements Lock {
 
-    private static final long TIMEOUT_MS = 10 * 1000;
+    private final JedisLockProvider provider;
     private final String lockName;
     // Name of the lock
-    private String internalLockName;
-
-    // Lock expiration in miliseconds.
-    private int expireMsecs = 60 * 1000;
+    private final String internalLockName;
 
-    private boolean locked = false;
-    private Pool<Jedis> jedis;
-    private Lock lock = new ReentrantLock();
+    // Token of the current acquisition, null if not held
+    private volatile @Nullable String token = null;
+    private volatile @Nullable ScheduledFuture<?> renewal = null;
 
-    public JedisLock(Pool<Jedis> jedis, String internalLockName) {
-        Preconditions.checkNotNull(jedis,"JedisPool used in lock cannot be null");
+    JedisLock(JedisLockProvider provider, String internalLockName) {
+        Preconditions.checkNotNull(provider,"Provider used in lock cannot be null");
         Preconditions.checkArgument(internalLockName != null && !internalLockName.isEmpty(),"Lock name not valid");
-        this.jedis = jedis;
+        this.provider = provider;
         this.lockName = internalLockName;
         this.internalLockName = "lock:" + internalLockName;
     }
 
     @Override
     public void lock() {
-        try {
-            lockInterruptibly();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                lockInterruptibly();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
         }
+        if (interrupted) Thread.currentThread().interrupt();
     }
 
     @Override
     public void lockInterruptibly() throws InterruptedException {
-        try(Jedis r = jedis.getResource()) {
-            acquire(r, TIMEOUT_MS);
-        }
+        provider.acquire(singletonList(this), JedisLockProvider.WAIT_FOREVER);
     }
 
     @Override
     public boolean tryLock() {
-        try(Jedis r = jedis.getResource()) {
-            return tryOnce(r);
+        try {
+            return provider.acquire(singletonList(this), 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
     }
 
     @Override
     public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
         Preconditions.checkNotNull(unit);
-        long timeout = unit.convert(time, TimeUnit.MILLISECONDS);
-        try(Jedis r = jedis.getResource()) {
-            return acquire(r, timeout);
-        }
+        return provider.acquire(singletonList(this), Math.max(unit.toMillis(time), 0));
     }
 
     @Override
     public void unlock() {
-        try(Jedis r = jedis.getResource()) {
-            release(r);
-        }
+        String currentToken = token;
+        if (currentToken == null) return;
+
+        stopRenewal();
+        token = null;
+        provider.release(internalLockName, currentToken);
     }
 
     @Override
@@ -99,66 +112,34 @@ public class JedisLock implements Lock {
         throw new RuntimeException("Not implemented");
     }
 
-    private boolean acquire(Jedis jedis, long timeout) throws InterruptedException {
-            while (timeout >= 0) {
-                lock.lock();
-                try{
-                    if (tryOnce(jedis)) {
-                        return true;
-                    }
-                } finally {
-                    lock.unlock();
-                }
-                timeout -= 100;
-                Thread.sleep(100);
-            }
-            return false;
+    /**
+     * Records that the lock was acquired with the given token and starts renewing its lease
+     */
+    void acquired(String acquiredToken) {
+        token = acquiredToken;
+        renewal = provider.scheduleRenewal(this::renewLease);
     }
 
-    private boolean tryOnce(Jedis jedis) {
-        long expires = System.currentTimeMillis() + expireMsecs + 1;
-        String expiresStr = String.valueOf(expires);
+    private void renewLease() {
+        String currentToken = token;
+        if (currentToken == null || provider.renew(internalLockName, currentToken)) return;
 
-        lock.lock();
-        try{
-            if (jedis.setnx(internalLockName, expiresStr) == 1) {
-                // lock acquired
-                locked = true;
-                return true;
-            }
-        } finally {
-            lock.unlock();
+        // Unless the lock was released meanwhile, the lease ran out before it could be renewed
+        // so another engine may hold the lock now
+        if (currentToken.equals(token)) {
+            stopRenewal();
+            provider.leaseLost(lockName);
         }
+    }
 
-        String currentValueStr = jedis.get(internalLockName);
-        if (currentValueStr != null && Long.parseLong(currentValueStr) < System
-                .currentTimeMillis()) {
-            // lock is expired
-            lock.lock();
-            try{
-                String oldValueStr = jedis.getSet(internalLockName, expiresStr);
-                if (oldValueStr != null && oldValueStr.equals(currentValueStr)) {
-                    // lock acquired
-                    locked = true;
-                    return true;
-                }
-            } finally {
-                lock.unlock();
-            }
-        }
-        return false;
+    private void stopRenewal() {
+        ScheduledFuture<?> currentRenewal = renewal;
+        if (currentRenewal != null) currentRenewal.cancel(false);
+        renewal = null;
     }
 
-    private  void release(Jedis jedis) {
-        lock.lock();
-        try {
-            if (locked) {
-                jedis.del(internalLockName);
-                locked = false;
-            }
-        } finally {
-            lock.unlock();
-        }
+    String getInternalLockName() {
+        return internalLockName;
     }
 
     public String getLockName() {
@@ -17,25 +17,318 @@
  */
 package ai.grakn.engine.lock;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.util.Pool;
 
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
 /**
- * Provider for Jedis lock
+ * <p>
+ *     Provider for Jedis lock
+ * </p>
+ *
+ * <p>
+ *     Locks are leases set atomically in redis and renewed in the background while they are held. When a lock is
+ *     released the provider which released it publishes its name, and every provider wakes its threads waiting
+ *     for that lock. Threads of the same engine waiting for a lock take it in the order they asked for it.
+ *     Waiters still check the lock at least every second in case a release was published while disconnected.
+ * </p>
  *
  * @author Domenico Corapi
  */
 public class JedisLockProvider implements LockProvider {
+    private static final Logger LOG = LoggerFactory.getLogger(JedisLockProvider.class);
+    private static final String CHANNEL = "grakn-lock-released";
+    private static final long LEASE_MS = 30 * 1000;
+    private static final long MAX_WAIT_MS = 1000;
+    private static final long RECONNECT_DELAY_MS = 1000;
+    static final long WAIT_FOREVER = -1;
+
+    // Sets every key to the token if none of them are set. Otherwise returns the position of the first key which is
+    // set and how long its lease has left.
+    private static final String ACQUIRE_SCRIPT =
+            "for i, key in ipairs(KEYS) do " +
+            "  if redis.call('exists', key) == 1 then return {i, redis.call('pttl', key)} end " +
+            "end " +
+            "for i, key in ipairs(KEYS) do redis.call('set', key, ARGV[1], 'PX', ARGV[2]) end " +
+            "return {0, 0}";
+
+    private static final String RENEW_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) end " +
+            "return 0";
+
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "  redis.call('del', KEYS[1]) " +
+            "  redis.call('publish', ARGV[2], KEYS[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0";
+
+    private final Pool<Jedis> client;
+    private final long leaseMs;
+    private final ConcurrentHashMap<String, Waiters> waiters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService renewals;
+    private final ExecutorService subscriber;
+    private volatile boolean closed = false;
+    private volatile JedisPubSub subscription = null;
 
-    private Pool<Jedis> client;
+    private final Timer acquireTimer;
+    private final Meter contended;
+    private final Meter timedOut;
+    private final Meter leasesLost;
+    private final Counter waiting;
 
     public JedisLockProvider(Pool<Jedis> client) {
+        this(client, new MetricRegistry());
+    }
+
+    public JedisLockProvider(Pool<Jedis> client, MetricRegistry metricRegistry) {
+        this(client, metricRegistry, LEASE_MS);
+    }
+
+    JedisLockProvider(Pool<Jedis> client, MetricRegistry metricRegistry, long leaseMs) {
         this.client = client;
+        this.leaseMs = leaseMs;
+        this.renewals = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("lock-renewal-%s").setDaemon(true).build());
+        this.subscriber = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("lock-release-channel-%s").setDaemon(true).build());
+        this.acquireTimer = metricRegistry.timer(name(JedisLockProvider.class, "acquire"));
+        this.contended = metricRegistry.meter(name(JedisLockProvider.class, "contended"));
+        this.timedOut = metricRegistry.meter(name(JedisLockProvider.class, "timed_out"));
+        this.leasesLost = metricRegistry.meter(name(JedisLockProvider.class, "leases_lost"));
+        this.waiting = metricRegistry.counter(name(JedisLockProvider.class, "waiting"));
+        subscribe();
     }
 
     @Override
     public Lock getLock(String lockName) {
-        return new JedisLock(client, lockName);
+        return new JedisLock(this, lockName);
+    }
+
+    /**
+     * Acquires all the locks at once in a single round trip to redis, so none of them is held while waiting for
+     * the others.
+     */
+    @Override
+    public Optional<List<Lock>> tryLockAll(Collection<String> lockNames, long time, TimeUnit unit)
+            throws InterruptedException {
+        List<JedisLock> locks = new TreeSet<>(lockNames).stream().map(name -> new JedisLock(this, name)).collect(toList());
+        if (locks.isEmpty()) return Optional.of(ImmutableList.of());
+        boolean acquired = acquire(locks, Math.max(unit.toMillis(time), 0));
+        return acquired ? Optional.of(ImmutableList.copyOf(locks)) : Optional.empty();
+    }
+
+    /**
+     * Acquires all the given locks, or none of them
+     *
+     * @param locks The locks to acquire
+     * @param timeoutMs How long to wait for the locks, 0 to only try once or {@link #WAIT_FOREVER}
+     * @return true if all the locks were acquired
+     */
+    boolean acquire(List<JedisLock> locks, long timeoutMs) throws InterruptedException {
+        List<String> keys = locks.stream().map(JedisLock::getInternalLockName).collect(toList());
+        String token = UUID.randomUUID().toString();
+        long deadline = timeoutMs == WAIT_FOREVER ? Long.MAX_VALUE : System.currentTimeMillis() + timeoutMs;
+
+        List<Waiters> lockWaiters = keys.stream().map(this::join).collect(toList());
+        Timer.Context context = acquireTimer.time();
+        try {
+            // Only one thread of this engine tries for a lock at a time, so they take it in turns
+            ReentrantLock turn = lockWaiters.get(0).turn;
+            if (!turn.tryLock(remaining(deadline), TimeUnit.MILLISECONDS)) {
+                timedOut.mark();
+                return false;
+            }
+
+            try {
+                boolean wasContended = false;
+                while (true) {
+                    long[] releases = lockWaiters.stream().mapToLong(Waiters::releases).toArray();
+                    List<Long> result = trySet(keys, token);
+
+                    int heldIndex = result.get(0).intValue() - 1;
+                    if (heldIndex < 0) {
+                        locks.forEach(lock -> lock.acquired(token));
+                        return true;
+                    }
+
+                    if (!wasContended) {
+                        wasContended = true;
+                        contended.mark();
+                    }
+
+                    long remaining = remaining(deadline);
+                    if (remaining <= 0) {
+                        timedOut.mark();
+                        return false;
+                    }
+
+                    // Wait for the lock to be released or for its lease to run out if its holder died
+                    long lease = Math.max(result.get(1), 1);
+                    long wait = Math.min(remaining, Math.min(lease, MAX_WAIT_MS));
+                    waiting.inc();
+                    try {
+                        lockWaiters.get(heldIndex).awaitRelease(releases[heldIndex], wait);
+                    } finally {
+                        waiting.dec();
+                    }
+                }
+            } finally {
+                turn.unlock();
+            }
+        } finally {
+            context.stop();
+            keys.forEach(this::leave);
+        }
+    }
+
+    void release(String key, String token) {
+        try (Jedis jedis = client.getResource()) {
+            Object released = jedis.eval(RELEASE_SCRIPT, singletonList(key), ImmutableList.of(token, CHANNEL));
+            if (Long.valueOf(0).equals(released)) {
+                LOG.warn("Lock {} was released after its lease ran out", key);
+            }
+        }
+    }
+
+    /**
+     * @return false if the lease could not be renewed because the lock is no longer held with the given token
+     */
+    boolean renew(String key, String token) {
+        try (Jedis jedis = client.getResource()) {
+            Object renewed = jedis.eval(RENEW_SCRIPT, singletonList(key), ImmutableList.of(token, String.valueOf(leaseMs)));
+            return !Long.valueOf(0).equals(renewed);
+        } catch (JedisException e) {
+            // The lease may still be renewed next time if redis comes back before it runs out
+            LOG.warn("Could not renew lease of lock {}", key, e);
+            return true;
+        }
+    }
+
+    ScheduledFuture<?> scheduleRenewal(Runnable renewal) {
+        long period = leaseMs / 3;
+        return renewals.scheduleAtFixedRate(renewal, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    void leaseLost(String lockName) {
+        leasesLost.mark();
+        LOG.warn("Lease of lock {} ran out while it was held", lockName);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> trySet(List<String> keys, String token) {
+        try (Jedis jedis = client.getResource()) {
+            return (List<Long>) jedis.eval(ACQUIRE_SCRIPT, keys, ImmutableList.of(token, String.valueOf(leaseMs)));
+        }
+    }
+
+    private static long remaining(long deadline) {
+        return deadline == Long.MAX_VALUE ? Long.MAX_VALUE : deadline - System.currentTimeMillis();
+    }
+
+    private Waiters join(String key) {
+        return waiters.compute(key, (k, current) -> {
+            Waiters lockWaiters = current != null ? current : new Waiters();
+            lockWaiters.users++;
+            return lockWaiters;
+        });
+    }
+
+    private void leave(String key) {
+        waiters.computeIfPresent(key, (k, current) -> --current.users == 0 ? null : current);
+    }
+
+    private void subscribe() {
+        subscriber.submit(() -> {
+            while (!closed) {
+                JedisPubSub pubSub = new JedisPubSub() {
+                    @Override
+                    public void onMessage(String channel, String key) {
+                        Waiters lockWaiters = waiters.get(key);
+                        if (lockWaiters != null) lockWaiters.released();
+                    }
+                };
+                subscription = pubSub;
+                try (Jedis jedis = client.getResource()) {
+                    // Blocks until unsubscribed or disconnected
+                    jedis.subscribe(pubSub, CHANNEL);
+                } catch (JedisException e) {
+                    if (closed) return;
+                    LOG.warn("Lost subscription to {}, reconnecting", CHANNEL, e);
+                    try {
+                        Thread.sleep(RECONNECT_DELAY_MS);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        JedisPubSub pubSub = subscription;
+        if (pubSub != null && pubSub.isSubscribed()) {
+            pubSub.unsubscribe();
+        }
+        subscriber.shutdownNow();
+        renewals.shutdownNow();
+    }
+
+    /**
+     * The threads of this engine waiting for a lock
+     */
+    private static class Waiters {
+        private final ReentrantLock turn = new ReentrantLock(true);
+        // Guarded by the map of waiters
+        private int users = 0;
+        private long releases = 0;
+
+        synchronized long releases() {
+            return releases;
+        }
+
+        synchronized void released() {
+            releases++;
+            notifyAll();
+        }
+
+        synchronized void awaitRelease(long seenReleases, long timeoutMs) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            long remaining = timeoutMs;
+            while (releases == seenReleases && remaining > 0) {
+                wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
     }
 }
@@ -17,6 +17,12 @@
  */
 package ai.grakn.engine.lock;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
 /**
@@ -24,6 +30,61 @@ import java.util.concurrent.locks.Lock;
  *
  * @author Domenico Corapi
  */
-public interface LockProvider {
+public interface LockProvider extends AutoCloseable {
     Lock getLock(String lockName);
+
+    /**
+     * Acquires either all of the given locks or none of them. The locks are taken in the order of their names,
+     * so two callers locking overlapping sets of names cannot each wait on a lock held by the other.
+     *
+     * @param lockNames The names of the locks to acquire
+     * @param time The maximum time to wait for all the locks
+     * @param unit The unit of the time argument
+     * @return The acquired locks, which must each be unlocked by the caller, or empty if they were not all acquired
+     * @throws InterruptedException if interrupted while waiting, in which case no lock is held
+     */
+    default Optional<List<Lock>> tryLockAll(Collection<String> lockNames, long time, TimeUnit unit)
+            throws InterruptedException {
+        List<Lock> locks = new ArrayList<>();
+        for (String lockName : new TreeSet<>(lockNames)) {
+            locks.add(getLock(lockName));
+        }
+        return tryLockInOrder(locks, time, unit);
+    }
+
+    /**
+     * Acquires either all of the given locks, in the given order, or none of them.
+     *
+     * @param locks The locks to acquire, in an order every caller agrees on
+     * @param time The maximum time to wait for all the locks
+     * @param unit The unit of the time argument
+     * @return The acquired locks, which must each be unlocked by the caller, or empty if they were not all acquired
+     * @throws InterruptedException if interrupted while waiting, in which case no lock is held
+     */
+    static Optional<List<Lock>> tryLockInOrder(List<Lock> locks, long time, TimeUnit unit)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(time);
+        List<Lock> acquired = new ArrayList<>();
+        boolean acquiredAll = false;
+
+        try {
+            for (Lock lock : locks) {
+                if (!lock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    return Optional.empty();
+                }
+                acquired.add(lock);
+            }
+            acquiredAll = true;
+            return Optional.of(acquired);
+        } finally {
+            if (!acquiredAll) acquired.forEach(Lock::unlock);
+        }
+    }
+
+    /**
+     * Stops any background work of the provider, such as keeping held locks alive.
+     */
+    @Override
+    default void close() {
+    }
 }
@@ -18,7 +18,12 @@
 
 package ai.grakn.engine.lock;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.Striped;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
 /**
@@ -39,4 +44,14 @@ public class ProcessWideLockProvider implements LockProvider {
     public Lock getLock(String lockToObtain){
         return locks.get(lockToObtain);
     }
+
+    /**
+     * Several names share a stripe, so the locks are taken in the order of their stripes rather than of their names.
+     * A stripe shared by several of the names is taken once for each of them.
+     */
+    @Override
+    public Optional<List<Lock>> tryLockAll(Collection<String> lockNames, long time, TimeUnit unit)
+            throws InterruptedException {
+        return LockProvider.tryLockInOrder(ImmutableList.copyOf(locks.bulkGet(lockNames)), time, unit);
+    }
 }
@@ -26,6 +26,7 @@ import ai.grakn.util.ErrorMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 
 /**
@@ -43,6 +44,9 @@ public abstract class GraknTxMutators {
 
     private static final Logger LOG = LoggerFactory.getLogger(GraknTxMutators.class);
 
+    private static final long BACK_OFF_BASE_MS = 100;
+    private static final long BACK_OFF_MAX_MS = 5000;
+
     /**
      *
      *
@@ -73,9 +77,7 @@ public abstract class GraknTxMutators {
             EngineGraknTxFactory factory , String keyspace, GraknTxType txType, int maxRetry,
             Consumer<GraknTx> mutatingFunction
     ){
-        if(!factory.systemKeyspace().containsKeyspace(keyspace)){ //This may be slow.
-            throw GraknBackendException.noSuchKeyspace(keyspace);
-        }
+        checkKeyspace(factory, keyspace);
 
         for(int retry = 0; retry < maxRetry; retry++) {
             try(GraknTx graph = factory.tx(keyspace, txType))  {
@@ -93,6 +95,53 @@ public abstract class GraknTxMutators {
         throw new RuntimeException(ErrorMessage.UNABLE_TO_MUTATE.getMessage(keyspace));
     }
 
+    /**
+     * Mutate a graph in a single batch transaction, without retrying when the transaction fails
+     *
+     * @param keyspace keyspace of the graph to mutate
+     * @param mutatingFunction Function that accepts a graph object and will mutate the given graph
+     * @return true if the mutation succeeded, false if it failed because of the backend, e.g. a conflicting commit
+     */
+    public static boolean tryBatchMutation(
+            EngineGraknTxFactory factory, String keyspace, Consumer<GraknTx> mutatingFunction){
+        try(GraknTx graph = factory.tx(keyspace, GraknTxType.BATCH))  {
+            mutatingFunction.accept(graph);
+            return true;
+        } catch (GraknBackendException e){
+            LOG.debug(ErrorMessage.TX_MUTATION_ERROR.getMessage(e.getMessage()), e);
+            return false;
+        }
+    }
+
+    /**
+     * @param keyspace keyspace of the graph to mutate
+     * @throws GraknBackendException if the keyspace does not exist
+     */
+    public static void checkKeyspace(EngineGraknTxFactory factory, String keyspace){
+        if(!factory.systemKeyspace().containsKeyspace(keyspace)){
+            throw GraknBackendException.noSuchKeyspace(keyspace);
+        }
+    }
+
+    /**
+     * Sleep the current thread for a random amount of time of up to twice as long as the previous retry.
+     * The randomness spreads out the retries of mutations which conflicted with each other.
+     *
+     * @param retry Number of times the mutation has been retried
+     */
+    public static void backOff(int retry) {
+        long maxWaitTime = Math.min(BACK_OFF_MAX_MS, BACK_OFF_BASE_MS << Math.min(retry, 16));
+        long waitTime = ThreadLocalRandom.current().nextLong(maxWaitTime / 2, maxWaitTime + 1);
+        LOG.debug(ErrorMessage.BACK_OFF_RETRY.getMessage(waitTime / 1000.0));
+
+        try {
+            Thread.sleep(waitTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.error("Exception", e);
+        }
+    }
+
     /**
      * Sleep the current thread for a random amount of time
      * @param retry Seed with which to calculate sleep time
@@ -34,9 +34,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
@@ -51,12 +53,18 @@ import static com.codahale.metrics.MetricRegistry.name;
  *     This task begins only if enough time has passed (configurable) since the last time a job was added.
  * </p>
  *
+ * <p>
+ *     All the duplicates found by one task are merged and committed in a single transaction, holding the locks of
+ *     their indices, which are acquired all at once.
+ * </p>
+ *
  * @author alexandraorth, fppt
  */
 public class PostProcessingTask extends BackgroundTask {
     private static final Logger LOG = LoggerFactory.getLogger(PostProcessingTask.class);
     private static final String JOB_FINISHED = "Post processing Job [{}] completed for indeces and ids: [{}]";
     private static final String LOCK_KEY = "/post-processing-lock";
+    private static final long LOCK_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(10);
 
     /**
      * Apply {@link ai.grakn.concept.Attribute} post processing jobs the concept ids in the provided configuration
@@ -69,20 +77,12 @@ public class PostProcessingTask extends BackgroundTask {
                 .timer(name(PostProcessingTask.class, "execution")).time()) {
             Map<String, Set<ConceptId>> allToPostProcess = getPostProcessingJobs(Schema.BaseType.ATTRIBUTE, configuration());
 
-            allToPostProcess.forEach((conceptIndex, conceptIds) -> {
-                Context contextSingle = metricRegistry()
-                        .timer(name(PostProcessingTask.class, "execution-single")).time();
-                try {
-                    String keyspace = configuration().json().at(REST.Request.KEYSPACE).asString();
-                    int maxRetry = engineConfiguration()
-                            .getPropertyAsInt(GraknEngineConfig.LOADER_REPEAT_COMMITS);
-
-                    GraknTxMutators.runMutationWithRetry(factory(), keyspace, maxRetry,
-                            (graph) -> runPostProcessingMethod(graph, conceptIndex, conceptIds));
-                } finally {
-                    contextSingle.stop();
-                }
-            });
+            String keyspace = configuration().json().at(REST.Request.KEYSPACE).asString();
+            int maxRetry = engineConfiguration()
+                    .getPropertyAsInt(GraknEngineConfig.LOADER_REPEAT_COMMITS);
+
+            GraknTxMutators.runMutationWithRetry(factory(), keyspace, maxRetry,
+                    (graph) -> runPostProcessingMethod(graph, allToPostProcess));
 
             LOG.debug(JOB_FINISHED, Schema.BaseType.ATTRIBUTE.name(), allToPostProcess);
 
@@ -105,36 +105,57 @@ public class PostProcessingTask extends BackgroundTask {
     }
 
     /**
-     * Apply the given post processing method to the provided concept index and set of ids.
+     * Merge the duplicates of all the given concept indices in one transaction. The indices which have duplicates
+     * are locked together, so the transaction never waits for one index while holding the lock of another.
      *
-     * @param graph
-     * @param conceptIndex
-     * @param conceptIds
+     * @param graph The transaction in which to merge the duplicates
+     * @param allToPostProcess The concept indices mapped to the ids of the concepts which may be duplicates
      */
-    private void runPostProcessingMethod(GraknTx graph, String conceptIndex, Set<ConceptId> conceptIds){
+    private void runPostProcessingMethod(GraknTx graph, Map<String, Set<ConceptId>> allToPostProcess){
         Preconditions.checkNotNull(this.getLockProvider(), "Lock provider was null, possible race condition in initialisation");
-        if(graph.admin().duplicateResourcesExist(conceptIndex, conceptIds)){
-
-            // Acquire a lock when you post process on an index to prevent race conditions
-            // Lock is acquired after checking for duplicates to reduce runtime
-            Lock indexLock = this.getLockProvider().getLock(PostProcessingTask.LOCK_KEY + "/" + conceptIndex);
-            indexLock.lock();
-
-            try {
-                // execute the provided post processing method
-                graph.admin().fixDuplicateResources(conceptIndex, conceptIds);
-
-                // ensure post processing was correctly executed
-                validateMerged(graph, conceptIndex, conceptIds).
-                        ifPresent(message -> {
-                            throw new RuntimeException(message);
-                        });
-
-                // persist merged concepts
-                graph.admin().commitNoLogs();
-            } finally {
-                indexLock.unlock();
-            }
+
+        // Locks are acquired after checking for duplicates to reduce runtime
+        Map<String, Set<ConceptId>> duplicated = allToPostProcess.entrySet().stream()
+                .filter(e -> graph.admin().duplicateResourcesExist(e.getKey(), e.getValue()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if(duplicated.isEmpty()) return;
+
+        // Acquire the locks of the indices you post process on to prevent race conditions
+        Set<String> lockNames = duplicated.keySet().stream()
+                .map(conceptIndex -> PostProcessingTask.LOCK_KEY + "/" + conceptIndex)
+                .collect(Collectors.toSet());
+        List<Lock> indexLocks = lockAll(lockNames);
+
+        try {
+            duplicated.forEach((conceptIndex, conceptIds) -> {
+                try (Context contextSingle = metricRegistry()
+                        .timer(name(PostProcessingTask.class, "execution-single")).time()) {
+                    // execute the provided post processing method
+                    graph.admin().fixDuplicateResources(conceptIndex, conceptIds);
+
+                    // ensure post processing was correctly executed
+                    validateMerged(graph, conceptIndex, conceptIds).
+                            ifPresent(message -> {
+                                throw new RuntimeException(message);
+                            });
+                }
+            });
+
+            // persist merged concepts
+            graph.admin().commitNoLogs();
+        } finally {
+            indexLocks.forEach(Lock::unlock);
+        }
+    }
+
+    private List<Lock> lockAll(Set<String> lockNames){
+        try {
+            return this.getLockProvider().tryLockAll(lockNames, LOCK_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                    .orElseThrow(() -> new RuntimeException(
+                            "Could not lock the indices " + lockNames + " within " + LOCK_TIMEOUT_MS + "ms"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
         }
     }
 
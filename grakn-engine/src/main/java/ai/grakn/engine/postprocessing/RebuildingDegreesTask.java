@@ -0,0 +1,176 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.postprocessing;
+
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Relationship;
+import ai.grakn.concept.RelationshipType;
+import ai.grakn.engine.tasks.BackgroundTask;
+import ai.grakn.engine.tasks.connection.RedisCountStorage;
+import ai.grakn.engine.tasks.manager.TaskConfiguration;
+import ai.grakn.engine.tasks.manager.TaskSchedule;
+import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.util.REST;
+import static com.codahale.metrics.MetricRegistry.name;
+import com.codahale.metrics.Timer.Context;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+import mjson.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ *     Task that recomputes the degrees of all the things in a keyspace
+ * </p>
+ *
+ * <p>
+ *     The degrees updated from the commit logs only hold the changes made since degrees started being maintained, and
+ *     can drift when commit logs are lost. This task counts the roles played by every thing from scratch. Until it has
+ *     finished once for a keyspace, the degrees of that keyspace are not served.
+ * </p>
+ *
+ * <p>
+ *     The degrees are rebuilt one relationship type at a time, into a separate hash which replaces the current degrees
+ *     of the relationship type once it is complete, so the degrees served are never partial. The changes logged for
+ *     the relationship type while it is rebuilt are held aside in redis, and applied to the rebuilt degrees when they
+ *     replace the current ones, so the tasks updating degrees never wait for a rebuild. A change committed while its
+ *     relationship type is rebuilt may still be counted twice, by the rebuild and by the change.
+ * </p>
+ */
+public class RebuildingDegreesTask extends BackgroundTask {
+    private final static Logger LOG = LoggerFactory.getLogger(RebuildingDegreesTask.class);
+
+    //The number of things counted before their degrees are sent to redis
+    private final static int CHUNK_SIZE = 1000;
+
+    @Override
+    public boolean start() {
+        String keyspace = configuration().json().at(REST.Request.KEYSPACE).asString();
+        Lock engineLock = this.getLockProvider().getLock(getLockingKey(keyspace));
+        engineLock.lock();
+
+        try (Context context = metricRegistry()
+                .timer(name(RebuildingDegreesTask.class, "execution")).time()) {
+            Set<ConceptId> relationshipTypeIds;
+            try (GraknTx graph = factory().tx(keyspace, GraknTxType.READ)) {
+                RelationshipType metaRelationshipType = graph.admin().getMetaRelationType();
+                relationshipTypeIds = metaRelationshipType.subs()
+                        .filter(type -> !type.equals(metaRelationshipType))
+                        .map(Concept::getId)
+                        .collect(Collectors.toSet());
+            }
+
+            relationshipTypeIds.forEach(relationshipTypeId -> rebuildDegrees(keyspace, relationshipTypeId));
+            redis().setCount(RedisCountStorage.getKeyDegreesBuilt(keyspace), 1);
+
+            LOG.info("Rebuilding degrees successful for {} relationship types in keyspace {}", relationshipTypeIds.size(), keyspace);
+            return true;
+        } catch(Exception e) {
+            LOG.error("Could not terminate task", e);
+            throw e;
+        } finally {
+            engineLock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the degrees of a single relationship type, in its own transaction so the things read are not all held
+     * until the whole keyspace is rebuilt
+     *
+     * @param keyspace The keyspace of the relationship type
+     * @param relationshipTypeId The id of the relationship type to count the roles played in
+     */
+    private void rebuildDegrees(String keyspace, ConceptId relationshipTypeId){
+        String degreesKey = RedisCountStorage.getKeyDegrees(keyspace, relationshipTypeId);
+        String rebuildingKey = RedisCountStorage.getKeyDegreesRebuilding(keyspace, relationshipTypeId);
+
+        //Left over by a rebuild which did not finish
+        redis().deleteCounts(rebuildingKey);
+        //Changes logged from now on are applied to the rebuilt degrees
+        redis().holdCounts(degreesKey);
+        boolean replaced = false;
+
+        try {
+            try (GraknTx graph = factory().tx(keyspace, GraknTxType.READ)) {
+                RelationshipType relationshipType = graph.getConcept(relationshipTypeId);
+                if (relationshipType != null) {
+                    Map<String, Long> degreeOfThing = new HashMap<>();
+                    relationshipType.instances().filter(relationship -> relationship.type().equals(relationshipType))
+                            .forEach(relationship -> {
+                                countRolePlayers(relationship, degreeOfThing);
+                                if (degreeOfThing.size() >= CHUNK_SIZE) {
+                                    redis().adjustCounts(rebuildingKey, degreeOfThing);
+                                    degreeOfThing.clear();
+                                }
+                            });
+                    redis().adjustCounts(rebuildingKey, degreeOfThing);
+                }
+            }
+
+            redis().replaceCounts(degreesKey, rebuildingKey);
+            replaced = true;
+        } finally {
+            //Keep the changes held so far, on top of the current degrees
+            if (!replaced) redis().releaseCounts(degreesKey);
+        }
+    }
+
+    /**
+     * @param relationship The relationship whose role players are counted
+     * @param degreeOfThing The number of roles each thing plays, increased by the roles played in the relationship
+     */
+    private static void countRolePlayers(Relationship relationship, Map<String, Long> degreeOfThing){
+        relationship.allRolePlayers().values().stream().flatMap(Set::stream)
+                .forEach(thing -> degreeOfThing.merge(thing.getId().getValue(), 1L, Long::sum));
+    }
+
+    private static String getLockingKey(String keyspace){
+        return "/rebuilding-degrees-lock/" + keyspace;
+    }
+
+    /**
+     * Helper method which creates the task state of the rebuilding degrees task.
+     *
+     * @param creator The class which is creating the task
+     * @return The executable rebuilding degrees task state
+     */
+    public static TaskState createTask(Class creator){
+        return TaskState.of(RebuildingDegreesTask.class,
+                creator.getName(),
+                TaskSchedule.now(),
+                TaskState.Priority.LOW);
+    }
+
+    /**
+     * Helper method which creates the task config needed in order to execute the rebuilding degrees task
+     *
+     * @param keyspace The keyspace of the graph to execute this on.
+     * @return The task configuration encapsulating the above details in a manner executable by the task runner
+     */
+    public static TaskConfiguration createConfig(String keyspace){
+        return TaskConfiguration.of(Json.object(REST.Request.KEYSPACE, keyspace));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.postprocessing;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.engine.tasks.BackgroundTask;
+import ai.grakn.engine.tasks.connection.RedisCountStorage;
+import ai.grakn.engine.tasks.manager.TaskConfiguration;
+import ai.grakn.engine.tasks.manager.TaskSchedule;
+import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.util.REST;
+import static com.codahale.metrics.MetricRegistry.name;
+import com.codahale.metrics.Timer.Context;
+import java.util.HashMap;
+import java.util.Map;
+import mjson.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ *     Task that applies the changes to the degrees of things logged by a commit
+ * </p>
+ *
+ * <p>
+ *     The degrees are kept in redis, one hash per relationship type mapping each thing to the number of roles it plays
+ *     in relationships of that type. They are only logged when the keyspace maintains degrees.
+ * </p>
+ */
+public class UpdatingDegreesTask extends BackgroundTask {
+    private final static Logger LOG = LoggerFactory.getLogger(UpdatingDegreesTask.class);
+
+    @Override
+    public boolean start() {
+        try (Context context = metricRegistry()
+                .timer(name(UpdatingDegreesTask.class, "execution")).time()) {
+            String keyspace = configuration().json().at(REST.Request.KEYSPACE).asString();
+            Map<String, Json> jobs = configuration().json().at(REST.Request.COMMIT_LOG_DEGREE_CHANGES).asJsonMap();
+            metricRegistry().histogram(name(UpdatingDegreesTask.class, "jobs")).update(jobs.size());
+
+            jobs.forEach((relationshipTypeId, changes) -> {
+                Map<String, Long> changeOfThing = new HashMap<>();
+                changes.asJsonMap().forEach((thingId, change) -> changeOfThing.put(thingId, change.asLong()));
+                adjustDegrees(keyspace, ConceptId.of(relationshipTypeId), changeOfThing);
+            });
+
+            LOG.debug("Updating degrees successful for {} relationship types", jobs.size());
+            return true;
+        } catch(Exception e) {
+            LOG.error("Could not terminate task", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Applies the changes to the degrees of one relationship type. While the degrees of the relationship type are
+     * rebuilt, redis holds the changes aside and applies them to the rebuilt degrees, so they are not lost.
+     */
+    private void adjustDegrees(String keyspace, ConceptId relationshipTypeId, Map<String, Long> changeOfThing){
+        redis().adjustCounts(RedisCountStorage.getKeyDegrees(keyspace, relationshipTypeId), changeOfThing);
+    }
+
+    /**
+     * Checks if a commit log contains any changes to degrees, so the task is only created when it has work to do
+     *
+     * @param config The commit log
+     * @return true if the commit log contains changes to the degrees of things
+     */
+    public static boolean hasDegreeChanges(String config){
+        Json changes = Json.read(config).at(REST.Request.COMMIT_LOG_DEGREE_CHANGES);
+        return changes != null && changes.isObject() && !changes.asJsonMap().isEmpty();
+    }
+
+    /**
+     * Helper method which creates the task state of the updating degrees task.
+     *
+     * @param creator The class which is creating the task
+     * @return The executable updating degrees task state
+     */
+    public static TaskState createTask(Class creator){
+        return TaskState.of(UpdatingDegreesTask.class,
+                creator.getName(),
+                TaskSchedule.now(),
+                TaskState.Priority.HIGH);
+    }
+
+    /**
+     * Helper method which creates the task config needed in order to execute the updating degrees task
+     *
+     * @param keyspace The keyspace of the graph to execute this on.
+     * @param config The commit log which contains the changes to the degrees
+     * @return The task configuration encapsulating the above details in a manner executable by the task runner
+     */
+    public static TaskConfiguration createConfig(String keyspace, String config){
+        Json degreesConfiguration = Json.object();
+        degreesConfiguration.set(REST.Request.KEYSPACE, keyspace);
+        degreesConfiguration.set(REST.Request.COMMIT_LOG_DEGREE_CHANGES, Json.read(config).at(REST.Request.COMMIT_LOG_DEGREE_CHANGES));
+        return TaskConfiguration.of(degreesConfiguration);
+    }
+}
@@ -40,6 +40,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
@@ -67,6 +68,10 @@ import static org.apache.commons.lang.exception.ExceptionUtils.getFullStackTrace
 
 /**
  * A Graql shell session for a single client, running on one knowledge base in one thread
+ *
+ * The transaction of a session is bound to its thread, so the thread is kept until the session is closed.
+ * Messages are sent to the client from that thread as well, waiting for each one to be sent, so results are only
+ * read from the knowledge base as fast as the client receives them.
  */
 class GraqlSession {
     private final Session session;
@@ -80,7 +85,6 @@ class GraqlSession {
     private final Logger LOG = LoggerFactory.getLogger(GraqlSession.class);
 
     private static final int QUERY_CHUNK_SIZE = 1000;
-    private static final int PING_INTERVAL = 60_000;
 
     // All requests are run within a single thread, so they always happen in a single thread-bound transaction
     private final ExecutorService queryExecutor =
@@ -113,11 +117,6 @@ class GraqlSession {
                 throw e;
             }
         });
-
-        // Begin sending pings
-        Thread thread = new Thread(this::ping, "graql-session-ping");
-        thread.setDaemon(true);
-        thread.start();
     }
 
     private void refreshTx() {
@@ -153,23 +152,19 @@ class GraqlSession {
         }
     }
 
-    private void ping() {
-        // This runs on a daemon thread, so it will be terminated when the JVM stops
-        while (session.isOpen()) {
-            try {
-                sendJson(Json.object(ACTION, ACTION_PING));
-            } catch (WebSocketException e) {
-                // Report an error if the session is still open
-                if (session.isOpen()) {
-                    LOG.error(e.getMessage());
-                }
-            } finally {
-                try {
-                    Thread.sleep(PING_INTERVAL);
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }
+    /**
+     * Ping the client so the connection is not closed when idle. A ping is a websocket control frame, so it is sent
+     * straight away from the calling thread, even while the session thread is busy running a query. The client answers
+     * with a pong without involving the shell. If the client does not read the ping, sending it gives up once the
+     * websocket idle timeout has passed.
+     */
+    void ping() {
+        if (!session.isOpen()) return;
+        try {
+            session.getRemote().sendPing(ByteBuffer.allocate(0));
+        } catch (IOException | WebSocketException e) {
+            // The session has just been closed
+            LOG.debug("Could not ping session", e);
         }
     }
 
@@ -184,6 +179,8 @@ class GraqlSession {
                 throw new RuntimeException(e);
             }
         });
+        // The thread stops once the transaction is closed
+        queryExecutor.shutdown();
 
         // Kill any compute queries that might be running
         // TODO: Avoid this weird cast
@@ -344,17 +341,18 @@ class GraqlSession {
     }
 
     /**
-     * Send the given JSON to the client
+     * Send the given JSON to the client, waiting until it has been sent. Must be called from the session thread.
      */
     private void sendJson(Json json) {
-        queryExecutor.execute(() -> {
-            LOG.debug("Sending message: " + json);
-            try {
-                session.getRemote().sendString(json.toString());
-            } catch (IOException e) {
+        LOG.debug("Sending message: " + json);
+        try {
+            session.getRemote().sendString(json.toString());
+        } catch (IOException | WebSocketException e) {
+            // Report an error if the session is still open
+            if (session.isOpen()) {
                 LOG.error("Error while sending JSON: " + json, e);
             }
-        });
+        }
     }
 
     /**
@@ -22,6 +22,7 @@ import ai.grakn.Grakn;
 import ai.grakn.GraknSession;
 import ai.grakn.engine.user.UsersHandler;
 import ai.grakn.util.REST;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import mjson.Json;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.WebSocketAdapter;
@@ -29,8 +30,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static ai.grakn.util.REST.RemoteShell.ACTION;
 import static ai.grakn.util.REST.RemoteShell.ACTION_INIT;
@@ -41,15 +45,23 @@ import static org.apache.commons.lang.exception.ExceptionUtils.getFullStackTrace
 /**
  * Web socket for running a Graql shell
  *
+ * A single thread pings the clients of all the open sessions, so idle connections are not closed. The pings do not
+ * wait for the queries the sessions are running.
+ *
  * @author Felix Chapman
  */
 public class RemoteSession extends WebSocketAdapter {
-    private final Map<Session, GraqlSession> sessions = new HashMap<>();
+    private static final long PING_INTERVAL = 60_000;
+
+    private final Map<Session, GraqlSession> sessions = new ConcurrentHashMap<>();
     private final Logger LOG = LoggerFactory.getLogger(RemoteSession.class);
     private final @Nullable UsersHandler usersHandler;
+    private final ScheduledExecutorService pinger = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("graql-session-ping").setDaemon(true).build());
 
     private RemoteSession(@Nullable UsersHandler usersHandler) {
         this.usersHandler = usersHandler;
+        pinger.scheduleAtFixedRate(this::pingSessions, PING_INTERVAL, PING_INTERVAL, TimeUnit.MILLISECONDS);
     }
 
     public static RemoteSession create() {
@@ -60,6 +72,15 @@ public class RemoteSession extends WebSocketAdapter {
         return new RemoteSession(usersHandler);
     }
 
+    private void pingSessions() {
+        // An exception would stop any further pings
+        try {
+            sessions.values().forEach(GraqlSession::ping);
+        } catch (Exception e) {
+            LOG.error("Error while pinging sessions", e);
+        }
+    }
+
     @Override
     public void onWebSocketClose(int statusCode, String reason) {
         String message = "Websocket closed, code: " + statusCode + ", reason: " + reason;
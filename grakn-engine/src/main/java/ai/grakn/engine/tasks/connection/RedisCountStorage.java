@@ -23,6 +23,12 @@ import com.codahale.metrics.MetricRegistry;
 import static com.codahale.metrics.MetricRegistry.name;
 import com.codahale.metrics.Timer;
 import com.codahale.metrics.Timer.Context;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import static java.util.Collections.emptyList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +50,33 @@ import redis.clients.util.Pool;
 public class RedisCountStorage {
     private final static Logger LOG = LoggerFactory.getLogger(RedisCountStorage.class);
 
+    private static final String ADJUST_COUNTS_SCRIPT =
+            "local key = KEYS[1] " +
+            "if redis.call('exists', KEYS[3]) == 1 then key = KEYS[2] end " +
+            "for i = 1, #ARGV, 2 do " +
+            "  if redis.call('hincrby', key, ARGV[i], ARGV[i + 1]) == 0 then redis.call('hdel', key, ARGV[i]) end " +
+            "end " +
+            "return 0";
+
+    // Adds the held adjustments at KEYS[2] to the hash at KEYS[1] and deletes them
+    private static final String APPLY_HELD_COUNTS =
+            "local held = redis.call('hgetall', KEYS[2]) " +
+            "for i = 1, #held, 2 do " +
+            "  if redis.call('hincrby', KEYS[1], held[i], held[i + 1]) == 0 then redis.call('hdel', KEYS[1], held[i]) end " +
+            "end " +
+            "redis.call('del', KEYS[2]) ";
+
+    private static final String HOLD_COUNTS_SCRIPT = APPLY_HELD_COUNTS +
+            "return redis.call('set', KEYS[3], '1')";
+
+    private static final String RELEASE_COUNTS_SCRIPT = APPLY_HELD_COUNTS +
+            "return redis.call('del', KEYS[3])";
+
+    private static final String REPLACE_COUNTS_SCRIPT = APPLY_HELD_COUNTS +
+            "redis.call('del', KEYS[3]) " +
+            "if redis.call('exists', KEYS[1]) == 1 then return redis.call('rename', KEYS[1], KEYS[4]) end " +
+            "return redis.call('del', KEYS[4])";
+
     private final Timer contactRedisTimer;
     private Pool<Jedis> jedisPool;
 
@@ -87,6 +120,107 @@ public class RedisCountStorage {
         });
     }
 
+    /**
+     * Adjusts the counts of several fields of the hash stored at a specific key.
+     * Fields which reach 0 are removed from the hash. All the fields are adjusted atomically, so a field is never
+     * removed after another client has increased it again. A field can go below 0 when a decrease is applied before
+     * the increase it undoes, so it is kept until that increase brings it back to 0.
+     *
+     * While the adjustments of the hash are held, see {@link #holdCounts(String)}, they are kept aside instead.
+     *
+     * @param key the key of the hash to adjust
+     * @param counts the numbers to adjust each field by
+     */
+    public void adjustCounts(String key, Map<String, Long> counts){
+        List<String> args = new ArrayList<>();
+        counts.forEach((field, count) -> {
+            if(count != 0) {
+                args.add(field);
+                args.add(Long.toString(count));
+            }
+        });
+        if(args.isEmpty()) return;
+
+        contactRedis(jedis -> jedis.eval(ADJUST_COUNTS_SCRIPT, heldKeys(key), args));
+    }
+
+    /**
+     * Gets the counts of some fields of the hash stored at a specific key.
+     * Fields which are not in the hash, or keys which are not in redis, are left out.
+     *
+     * @param key the key of the hash stored in redis
+     * @param fields the fields to get the counts of
+     * @return the current count of each field in the hash
+     */
+    public Map<String, Long> getCounts(String key, List<String> fields){
+        Map<String, Long> counts = new HashMap<>();
+        if(fields.isEmpty()) return counts;
+
+        List<String> values = contactRedis(jedis -> jedis.hmget(key, fields.toArray(new String[fields.size()])));
+        for(int i = 0; i < fields.size(); i ++) {
+            if(values.get(i) != null) counts.put(fields.get(i), Long.parseLong(values.get(i)));
+        }
+        return counts;
+    }
+
+    /**
+     * Starts keeping the adjustments of the hash stored at a specific key aside, so they can be applied to a new hash
+     * replacing it. Adjustments left aside by a replacement which did not finish are applied to the hash first.
+     *
+     * @param key the key of the hash whose adjustments are held
+     */
+    public void holdCounts(String key){
+        contactRedis(jedis -> jedis.eval(HOLD_COUNTS_SCRIPT, heldKeys(key), emptyList()));
+    }
+
+    /**
+     * Atomically applies the adjustments held aside to the hash stored at a specific key, and stops holding them.
+     *
+     * @param key the key of the hash whose adjustments are held
+     */
+    public void releaseCounts(String key){
+        contactRedis(jedis -> jedis.eval(RELEASE_COUNTS_SCRIPT, heldKeys(key), emptyList()));
+    }
+
+    /**
+     * Atomically replaces the hash stored at a specific key with the hash stored at another key, which is removed.
+     * The adjustments held aside for the hash are applied to the new hash, and are not held any more.
+     * If there is no hash at the other key, and no adjustment was held, the hash is deleted.
+     *
+     * @param key the key of the hash to replace
+     * @param newKey the key of the new hash
+     */
+    public void replaceCounts(String key, String newKey){
+        List<String> keys = ImmutableList.of(newKey, getKeyHeldCounts(key), getKeyHoldingCounts(key), key);
+        contactRedis(jedis -> jedis.eval(REPLACE_COUNTS_SCRIPT, keys, emptyList()));
+    }
+
+    /**
+     * @return the key of a hash, the key of the adjustments held aside for it and the key marking they are held
+     */
+    private static List<String> heldKeys(String key){
+        return ImmutableList.of(key, getKeyHeldCounts(key), getKeyHoldingCounts(key));
+    }
+
+    /**
+     * Deletes the hash stored at a specific key.
+     *
+     * @param key the key of the hash to delete
+     */
+    public void deleteCounts(String key){
+        contactRedis(jedis -> jedis.del(key));
+    }
+
+    /**
+     * Sets the count for a specific key.
+     *
+     * @param key the key of the value to set
+     * @param count the new value
+     */
+    public void setCount(String key, long count){
+        contactRedis(jedis -> jedis.set(key, Long.toString(count)));
+    }
+
     /**
      * A helper function which acquires a connection to redis from the pool and then uses it for some operations.
      * This function ensures the connection is closed properly.
@@ -113,4 +247,19 @@ public class RedisCountStorage {
     public static String getKeyNumShards(String keyspace, ConceptId conceptId){
         return "NS_" + keyspace + "_" + conceptId.getValue();
     }
+    public static String getKeyDegrees(String keyspace, ConceptId relationshipTypeId){
+        return "DG_" + keyspace + "_" + relationshipTypeId.getValue();
+    }
+    public static String getKeyDegreesRebuilding(String keyspace, ConceptId relationshipTypeId){
+        return "DR_" + keyspace + "_" + relationshipTypeId.getValue();
+    }
+    public static String getKeyDegreesBuilt(String keyspace){
+        return "DB_" + keyspace;
+    }
+    private static String getKeyHeldCounts(String key){
+        return "HC_" + key;
+    }
+    private static String getKeyHoldingCounts(String key){
+        return "HM_" + key;
+    }
 }
@@ -18,6 +18,8 @@
 
 package ai.grakn.engine.tasks.manager;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
 import java.io.Serializable;
 import java.time.Instant;
 import mjson.Json;
@@ -49,6 +51,16 @@ public class TaskCheckpoint implements Serializable {
         return checkpoint;
     }
 
+    @JsonCreator
+    private static TaskCheckpoint fromJson(String checkpoint){
+        return of(Json.read(checkpoint));
+    }
+
+    @JsonValue
+    private String toJson(){
+        return checkpoint.toString();
+    }
+
     public Instant createdAt(){
         return createdAt;
     }
@@ -40,7 +40,7 @@ import static org.apache.commons.lang.exception.ExceptionUtils.getFullStackTrace
 
 /**
  * Internal task state model used to keep track of scheduled tasks.
- * TODO: make immutable, fix json serialisation/deserialisation
+ * TODO: make immutable
  *
  * @author Denis Lobanov
  */
@@ -112,12 +112,7 @@ public class TaskState implements Serializable {
         return new TaskState(null, null, null, id, null);
     }
 
-    @JsonCreator
-    public TaskState(@JsonProperty("taskClass") Class<?> taskClass,
-            @JsonProperty("creator") String creator,
-            @JsonProperty("schedule") TaskSchedule schedule,
-            @JsonProperty("id") TaskId id,
-            @JsonProperty("priority") Priority priority) {
+    public TaskState(Class<?> taskClass, String creator, TaskSchedule schedule, TaskId id, Priority priority) {
         this.status = CREATED;
         this.statusChangeTime = now();
         this.taskClassName = taskClass != null ? taskClass.getName() : null;
@@ -127,6 +122,35 @@ public class TaskState implements Serializable {
         this.priority = priority;
     }
 
+    /**
+     * Reads a task state written in json by Jackson, which is how it is both queued and stored. Fields which are
+     * missing are left empty, so states written before a field was added can still be read.
+     */
+    @JsonCreator
+    private TaskState(@JsonProperty("id") TaskId id,
+            @JsonProperty("priority") Priority priority,
+            @JsonProperty("status") TaskStatus status,
+            @JsonProperty("statusChangeTime") Long statusChangeTime,
+            @JsonProperty("taskClassName") String taskClassName,
+            @JsonProperty("creator") String creator,
+            @JsonProperty("engineId") EngineID engineID,
+            @JsonProperty("schedule") TaskSchedule schedule,
+            @JsonProperty("stackTrace") String stackTrace,
+            @JsonProperty("exception") String exception,
+            @JsonProperty("taskCheckpoint") TaskCheckpoint taskCheckpoint) {
+        this.taskId = id.getValue();
+        this.priority = priority;
+        this.status = status != null ? status : CREATED;
+        this.statusChangeTime = statusChangeTime != null ? Instant.ofEpochMilli(statusChangeTime) : now();
+        this.taskClassName = taskClassName;
+        this.creator = creator;
+        this.engineID = engineID;
+        this.schedule = schedule;
+        this.stackTrace = stackTrace;
+        this.exception = exception;
+        this.taskCheckpoint = taskCheckpoint;
+    }
+
     private TaskState(TaskState taskState) {
         this.taskId = taskState.taskId;
         this.status = taskState.status;
@@ -273,11 +297,26 @@ public class TaskState implements Serializable {
         return status;
     }
 
+    @JsonProperty("statusChangeTime")
+    public long getStatusChangeTime() {
+        return statusChangeTime.toEpochMilli();
+    }
+
     @JsonProperty("taskClassName")
     public String getTaskClassName() {
         return taskClassName;
     }
 
+    @JsonProperty("stackTrace")
+    public String getStackTrace() {
+        return stackTrace;
+    }
+
+    @JsonProperty("exception")
+    public String getException() {
+        return exception;
+    }
+
     @JsonProperty("engineId")
     public EngineID getEngineID() {
         return engineID;
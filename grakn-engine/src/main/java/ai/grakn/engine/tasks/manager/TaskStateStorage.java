@@ -23,7 +23,11 @@ import ai.grakn.engine.TaskStatus;
 import ai.grakn.engine.util.EngineID;
 import ai.grakn.exception.GraknBackendException;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import javax.annotation.Nullable;
 
 /**
@@ -73,6 +77,21 @@ public interface TaskStateStorage {
      */
     boolean containsTask(TaskId id);
 
+    /**
+     * Get the states of many tasks at once. Tasks which could not be found are left out of the result.
+     * @param ids ids of the tasks
+     * @return the states which could be found, by task id
+     */
+    default Map<TaskId, TaskState> getStates(Collection<TaskId> ids) {
+        Map<TaskId, TaskState> states = new HashMap<>();
+        for (TaskId id : ids) {
+            if (containsTask(id)) {
+                states.put(id, getState(id));
+            }
+        }
+        return states;
+    }
+
     /**
      * Return a Set of Pairs of tasks that match any of the criteria. The first value of the Pair is the task id, whilst
      * the second is the TaskState. Parameters may be set to null to not match against then (rather than to match null
@@ -94,5 +113,14 @@ public interface TaskStateStorage {
             int limit,
             int offset);
 
+    /**
+     * Registers a listener called with the id of every task which completes, fails or stops from now on, so tasks can
+     * be waited on without reading their states over and over. Storages which cannot tell when tasks finish never
+     * call it, and notifications can be lost, so the states must still be read once in a while.
+     * @param listener Called with the id of every finished task
+     */
+    default void onTaskFinished(Consumer<TaskId> listener) {
+    }
+
     void clear();
 }
@@ -18,6 +18,7 @@
  */
 package ai.grakn.engine.tasks.manager.redisqueue;
 
+import ai.grakn.engine.tasks.manager.TaskState.Priority;
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
@@ -30,7 +31,13 @@ import java.security.SecureRandom;
 import java.text.SimpleDateFormat;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import net.greghaines.jesque.Config;
 import net.greghaines.jesque.Job;
 import net.greghaines.jesque.json.ObjectMapperFactory;
@@ -41,6 +48,7 @@ import static net.greghaines.jesque.utils.ResqueConstants.FAILED;
 import static net.greghaines.jesque.utils.ResqueConstants.INFLIGHT;
 import static net.greghaines.jesque.utils.ResqueConstants.PROCESSED;
 import static net.greghaines.jesque.utils.ResqueConstants.QUEUE;
+import static net.greghaines.jesque.utils.ResqueConstants.QUEUES;
 import static net.greghaines.jesque.utils.ResqueConstants.STARTED;
 import static net.greghaines.jesque.utils.ResqueConstants.STAT;
 import static net.greghaines.jesque.utils.ResqueConstants.WORKER;
@@ -62,7 +70,8 @@ import redis.clients.util.Pool;
 
 
 /**
- * Queue implemented in redis
+ * Worker taking tasks from the queues implemented in redis. The queue each task is taken from is decided by a
+ * {@link QueueScheduler}.
  *
  * @author Domenico Corapi
  */
@@ -70,23 +79,35 @@ public class BlockingWorker extends WorkerPoolImpl {
 
     private static final Logger LOG = LoggerFactory.getLogger(BlockingWorker.class);
     public static final int BLOCKING_TIMEOUT = 500 /*ms*/;
+    // How long to wait for a task, in seconds, when none of the queues has one
+    private static final int IDLE_TIMEOUT = 1;
+    private static final long IDLE_WAIT_MS = 1000;
+    private static final long QUEUE_REFRESH_INTERVAL_MS = 1000;
     private static SecureRandom random = new SecureRandom();
     private final String name;
+    private final String queuePrefix;
+    private final QueueScheduler scheduler;
     private final Timer popTimer;
     private final Timer processTimer;
     private final Timer pollTimer;
     private final Counter processingCounter;
+    private final Map<Priority, Timer> waitTimers = new EnumMap<>(Priority.class);
     private final ExecutorService executor;
 
-    public BlockingWorker(Config config, String queue,
+    public BlockingWorker(Config config, String queuePrefix, int highPriorityWeight,
             JobFactory jobFactory, Pool<Jedis> jedis, ExecutorService executor, MetricRegistry metricRegistry) {
-        super(config, Collections.singletonList(queue), jobFactory, jedis);
+        super(config, Collections.singletonList(queuePrefix), jobFactory, jedis);
         this.executor = executor;
         this.name = "worker_" + new BigInteger(130, random).toString(32);
+        this.queuePrefix = queuePrefix;
+        this.scheduler = new QueueScheduler(queuePrefix, highPriorityWeight);
         this.popTimer = metricRegistry.timer(MetricRegistry.name(BlockingWorker.class, "pop"));
         this.pollTimer = metricRegistry.timer(MetricRegistry.name(BlockingWorker.class, "poll"));
         this.processTimer = metricRegistry.timer(MetricRegistry.name(BlockingWorker.class, "process"));
         this.processingCounter = metricRegistry.counter(MetricRegistry.name(BlockingWorker.class, "processing"));
+        for (Priority priority : Priority.values()) {
+            waitTimers.put(priority, metricRegistry.timer(MetricRegistry.name(BlockingWorker.class, "wait", priority.name())));
+        }
     }
 
     @Override
@@ -131,20 +152,46 @@ public class BlockingWorker extends WorkerPoolImpl {
 
     @Override
     protected void poll() {
-        // This supports only one queue
-        String curQueue = queueNames.peek();
-        LOG.info("Worker {} consuming from {}", this.name, key(QUEUE, curQueue));
+        LOG.info("Worker {} consuming from queues {}*", this.name, key(QUEUE, queuePrefix));
+        long queuesReadAt = 0;
         while (RUNNING.equals(this.state.get())) {
+            String curQueue = null;
             try (Context ignoredPoll = pollTimer.time()) {
+                if (System.currentTimeMillis() - queuesReadAt > QUEUE_REFRESH_INTERVAL_MS) {
+                    scheduler.setQueues(readQueues());
+                    queuesReadAt = System.currentTimeMillis();
+                }
+                List<String> order = scheduler.order();
+                if (order.isEmpty()) {
+                    waitForQueues();
+                    continue;
+                }
+
                 this.listenerDelegate
-                        .fireEvent(WORKER_POLL, this, curQueue, null, null, null, null);
-                final String payload = pop(curQueue);
+                        .fireEvent(WORKER_POLL, this, order.get(0), null, null, null, null);
+                String payload = null;
+                for (String queue : order) {
+                    curQueue = queue;
+                    payload = popNow(queue);
+                    if (payload != null) break;
+                }
+                if (payload == null) {
+                    // Every queue is empty, so wait on the queue which would be tried first
+                    curQueue = order.get(0);
+                    payload = pop(curQueue);
+                    // Queues of other keyspaces may have been created in the meantime
+                    if (payload == null) queuesReadAt = 0;
+                }
+
                 if (payload != null) {
+                    scheduler.taken(curQueue);
                     Job job = ObjectMapperFactory.get().readValue(payload, Job.class);
+                    recordWait(curQueue, job);
+                    final String jobQueue = curQueue;
                     executor.execute(() -> {
                         try (Context ignoredProcess = processTimer.time()) {
                             processingCounter.inc();
-                            process(job, curQueue);
+                            process(job, jobQueue);
                             processingCounter.dec();
                         }
                     });
@@ -164,6 +211,48 @@ public class BlockingWorker extends WorkerPoolImpl {
         }
     }
 
+    private Set<String> readQueues() {
+        return PoolUtils.doWorkInPoolNicely(this.jedisPool,
+                (PoolWork<Jedis, Set<String>>) jedis -> jedis.smembers(key(QUEUES)));
+    }
+
+    private void waitForQueues() {
+        try {
+            Thread.sleep(IDLE_WAIT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            end(false);
+        }
+    }
+
+    /**
+     * Records how long the task waited in the queue since it was scheduled to run
+     */
+    private void recordWait(String curQueue, Job job) {
+        Optional<Priority> priority = QueueScheduler.priorityOf(queuePrefix, curQueue);
+        Object[] args = job.getArgs();
+        if (!priority.isPresent() || args == null || args.length == 0) return;
+
+        // The arguments of the job have already been read into maps, so they are not parsed again
+        Object runAt = args[0];
+        for (String field : new String[]{"taskState", "schedule", "runAt"}) {
+            if (!(runAt instanceof Map)) return;
+            runAt = ((Map<?, ?>) runAt).get(field);
+        }
+        if (runAt instanceof Number) {
+            long wait = Math.max(0, System.currentTimeMillis() - ((Number) runAt).longValue());
+            waitTimers.get(priority.get()).update(wait, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private String popNow(final String curQueue) {
+        try (Context ignored = popTimer.time()){
+            final String key = key(QUEUE, curQueue);
+            return PoolUtils.doWorkInPoolNicely(this.jedisPool,
+                    (PoolWork<Jedis, String>) jedis -> jedis.rpoplpush(key, key(INFLIGHT, name, curQueue)));
+        }
+    }
+
     @Override
     protected String pop(final String curQueue) {
         try (Context ignored = popTimer.time()){
@@ -174,7 +263,7 @@ public class BlockingWorker extends WorkerPoolImpl {
                  */
                 @Override
                 public String doWork(final Jedis jedis) {
-                    return jedis.brpoplpush(key, key(INFLIGHT, name, curQueue), BLOCKING_TIMEOUT);
+                    return jedis.brpoplpush(key, key(INFLIGHT, name, curQueue), IDLE_TIMEOUT);
                 }
             });
         }
@@ -0,0 +1,152 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import ai.grakn.engine.tasks.manager.TaskState.Priority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Decides which queue a worker should take its next task from.
+ * </p>
+ *
+ * <p>
+ * Every priority and keyspace has a queue of its own. High priority queues are tried before low priority ones, so
+ * a task which is quick to run is not stuck behind a bulk load. When the weight of high priority tasks is more than
+ * zero, a low priority task is taken after that many high priority tasks in a row so low priority tasks are never
+ * starved. Within a priority the queues of the keyspaces take turns, so one keyspace cannot hold up the others.
+ * </p>
+ *
+ * <p>
+ * Not thread safe, every worker has its own scheduler.
+ * </p>
+ */
+class QueueScheduler {
+
+    private static final String SEPARATOR = ":";
+    static final String NO_KEYSPACE = "default";
+
+    private final String queuePrefix;
+    private final int highPriorityWeight;
+    private final Map<Priority, List<String>> queues = new EnumMap<>(Priority.class);
+    private final Map<Priority, Integer> nextQueue = new EnumMap<>(Priority.class);
+    private int highPriorityTaken = 0;
+
+    /**
+     * @param queuePrefix The prefix of the names of all the queues
+     * @param highPriorityWeight The number of high priority tasks to take in a row before taking a low priority one,
+     *                           or zero to always take high priority tasks first
+     */
+    QueueScheduler(String queuePrefix, int highPriorityWeight) {
+        this.queuePrefix = queuePrefix;
+        this.highPriorityWeight = highPriorityWeight;
+        for (Priority priority : Priority.values()) {
+            queues.put(priority, Collections.emptyList());
+            nextQueue.put(priority, 0);
+        }
+    }
+
+    /**
+     * @return The name of the queue holding the tasks of a priority in a keyspace
+     */
+    static String queueName(String queuePrefix, Priority priority, String keyspace) {
+        return queuePrefix + SEPARATOR + priority.name() + SEPARATOR + keyspace;
+    }
+
+    /**
+     * @return The priority of the tasks in the queue, or nothing if it is not one of the queues with the prefix
+     */
+    static Optional<Priority> priorityOf(String queuePrefix, String queueName) {
+        if (!queueName.startsWith(queuePrefix + SEPARATOR)) return Optional.empty();
+        String rest = queueName.substring(queuePrefix.length() + SEPARATOR.length());
+        int end = rest.indexOf(SEPARATOR);
+        if (end < 0) return Optional.empty();
+        String priority = rest.substring(0, end);
+        for (Priority candidate : Priority.values()) {
+            if (candidate.name().equals(priority)) return Optional.of(candidate);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Replaces the queues known to the scheduler. Queues without the prefix of this scheduler are ignored.
+     */
+    void setQueues(Collection<String> queueNames) {
+        Map<Priority, List<String>> found = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) found.put(priority, new ArrayList<>());
+
+        queueNames.forEach(queueName ->
+                priorityOf(queuePrefix, queueName).ifPresent(priority -> found.get(priority).add(queueName)));
+
+        found.forEach((priority, names) -> {
+            // Sorted so the turns of the keyspaces stay in the same order when the queues are read again
+            Collections.sort(names);
+            queues.put(priority, names);
+        });
+    }
+
+    /**
+     * @return The queues in the order they should be tried, which is empty if there are no queues
+     */
+    List<String> order() {
+        List<String> order = new ArrayList<>();
+        boolean lowPriorityTurn = highPriorityWeight > 0 && highPriorityTaken >= highPriorityWeight;
+
+        if (lowPriorityTurn) {
+            addInTurn(order, Priority.LOW);
+            addInTurn(order, Priority.HIGH);
+        } else {
+            addInTurn(order, Priority.HIGH);
+            addInTurn(order, Priority.LOW);
+        }
+
+        return order;
+    }
+
+    /**
+     * Tells the scheduler a task has been taken from the queue, so the next queue gets a turn
+     */
+    void taken(String queueName) {
+        priorityOf(queuePrefix, queueName).ifPresent(priority -> {
+            int index = queues.get(priority).indexOf(queueName);
+            if (index >= 0) nextQueue.put(priority, index + 1);
+
+            if (priority == Priority.HIGH) {
+                highPriorityTaken++;
+            } else {
+                highPriorityTaken = 0;
+            }
+        });
+    }
+
+    private void addInTurn(List<String> order, Priority priority) {
+        List<String> names = queues.get(priority);
+        if (names.isEmpty()) return;
+
+        int first = nextQueue.get(priority) % names.size();
+        order.addAll(names.subList(first, names.size()));
+        order.addAll(names.subList(0, first));
+    }
+}
@@ -33,6 +33,7 @@ import net.greghaines.jesque.Config;
 import net.greghaines.jesque.Job;
 import net.greghaines.jesque.utils.JesqueUtils;
 import net.greghaines.jesque.utils.ResqueConstants;
+import static net.greghaines.jesque.utils.ResqueConstants.INFLIGHT;
 import static net.greghaines.jesque.utils.ResqueConstants.QUEUE;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,16 +62,14 @@ public class RedisInflightTaskConsumer extends TimerTask {
     private Pool<Jedis> jedisPool;
     private Duration processInterval;
     private Config config;
-    private String queueName;
 
     public RedisInflightTaskConsumer(Pool<Jedis> jedisPool, Duration processInterval,
-            Config config, String queueName, MetricRegistry metricRegistry) {
+            Config config, MetricRegistry metricRegistry) {
         this.jedisPool = jedisPool;
         this.processInterval = processInterval;
         // After a certain time we get rid of it
         this.destroyInterval = processInterval.multipliedBy(10);
         this.config = config;
-        this.queueName = queueName;
         this.exceptions = metricRegistry.meter(name(RedisInflightTaskConsumer.class, "exceptions"));
         this.failedMove = metricRegistry.meter(name(RedisInflightTaskConsumer.class, "failed", "move"));
         this.failedDestroy = metricRegistry.meter(name(RedisInflightTaskConsumer.class, "failed", "destroy"));
@@ -123,12 +122,31 @@ public class RedisInflightTaskConsumer extends TimerTask {
         }
         if (gap.getSeconds() > processInterval.getSeconds()) {
             dead.mark();
+            String queueName = queueOf(key);
+            if (queueName == null) {
+                LOG.warn("Found dead task in inflight {} which does not belong to a queue: {}", key, head);
+                return;
+            }
             LOG.info("Found dead task in inflight, moving it: {}", head);
             String keyDest = JesqueUtils.createKey(config.getNamespace(), QUEUE, queueName);
             attemptMove(resource, key, keyDest);
         }
     }
 
+    /**
+     * Finds the queue a task in flight was taken from. Inflight keys are made of the worker and queue names,
+     * e.g. "resque:inflight:worker_1:grakn_engine_queue:LOW:grakn"
+     *
+     * @return The name of the queue, or null if it is not part of the key
+     */
+    private String queueOf(String inflightKey) {
+        String prefix = JesqueUtils.createKey(config.getNamespace(), INFLIGHT) + ":";
+        if (!inflightKey.startsWith(prefix)) return null;
+        String workerAndQueue = inflightKey.substring(prefix.length());
+        int separator = workerAndQueue.indexOf(':');
+        return separator < 0 ? null : workerAndQueue.substring(separator + 1);
+    }
+
     private void attemptDestroy(String key, Jedis resource) {
         Transaction transaction = resource.multi();
         transaction.rpop(key);
@@ -0,0 +1,109 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import ai.grakn.engine.TaskId;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.util.Pool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ *     Redis channel on which the ids of tasks are published when they complete, fail or stop
+ * </p>
+ *
+ * <p>
+ *     The ids are published by {@link RedisTaskStorage} in the same transaction as the state, so clients waiting for
+ *     tasks to finish are told straight away instead of reading the states over and over. Messages published while
+ *     an engine is disconnected from redis are lost, so the states must still be read once in a while.
+ * </p>
+ */
+class RedisTaskFinishedChannel implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(RedisTaskFinishedChannel.class);
+    static final String CHANNEL = "grakn-task-finished";
+    private static final long RECONNECT_DELAY_MS = 1000;
+
+    private final Pool<Jedis> jedisPool;
+    private final ExecutorService subscriber;
+    private volatile boolean closed = false;
+    private volatile JedisPubSub subscription = null;
+
+    RedisTaskFinishedChannel(Pool<Jedis> jedisPool) {
+        this.jedisPool = jedisPool;
+        this.subscriber = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("task-finished-channel-%s").setDaemon(true).build());
+    }
+
+    /**
+     * Listens for finished tasks on a background thread until this channel is closed.
+     * The connection is re-established if it is lost.
+     *
+     * @param listener Called with the id of every finished task
+     */
+    void subscribe(Consumer<TaskId> listener) {
+        subscriber.submit(() -> {
+            while (!closed) {
+                JedisPubSub pubSub = new JedisPubSub() {
+                    @Override
+                    public void onMessage(String channel, String id) {
+                        listener.accept(TaskId.of(id));
+                    }
+                };
+                subscription = pubSub;
+                try (Jedis jedis = jedisPool.getResource()) {
+                    // Blocks until unsubscribed or disconnected
+                    jedis.subscribe(pubSub, CHANNEL);
+                } catch (JedisException e) {
+                    if (closed) return;
+                    LOG.warn("Lost subscription to {}, reconnecting", CHANNEL, e);
+                    try {
+                        Thread.sleep(RECONNECT_DELAY_MS);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        JedisPubSub pubSub = subscription;
+        if (pubSub != null && pubSub.isSubscribed()) {
+            pubSub.unsubscribe();
+        }
+        subscriber.shutdownNow();
+        try {
+            subscriber.awaitTermination(RECONNECT_DELAY_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
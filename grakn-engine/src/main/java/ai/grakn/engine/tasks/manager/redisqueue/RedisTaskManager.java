@@ -20,6 +20,7 @@
 package ai.grakn.engine.tasks.manager.redisqueue;
 
 import ai.grakn.engine.GraknEngineConfig;
+import static ai.grakn.engine.GraknEngineConfig.TASKS_HIGH_PRIORITY_WEIGHT;
 import static ai.grakn.engine.GraknEngineConfig.TASKS_RETRY_DELAY;
 import ai.grakn.engine.TaskId;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
@@ -66,7 +67,7 @@ public class RedisTaskManager implements TaskManager {
         this.factory = factory;
         this.redisTaskStorage = RedisTaskStorage.create(jedisPool, metricRegistry);
         this.redisTaskQueue = new RedisTaskQueue(jedisPool, distributedLockClient, metricRegistry,
-                config.tryIntProperty(TASKS_RETRY_DELAY, 15));
+                config.tryIntProperty(TASKS_RETRY_DELAY, 15), config.tryIntProperty(TASKS_HIGH_PRIORITY_WEIGHT, 10));
         this.threads = threads;
     }
 
@@ -78,6 +79,7 @@ public class RedisTaskManager implements TaskManager {
         } catch (InterruptedException e) {
             LOG.error("Interrupted while closing queue", e);
         }
+        this.redisTaskStorage.close();
     }
 
     @Override
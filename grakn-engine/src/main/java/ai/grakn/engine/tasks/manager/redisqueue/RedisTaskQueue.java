@@ -22,15 +22,21 @@ package ai.grakn.engine.tasks.manager.redisqueue;
 import ai.grakn.engine.GraknEngineConfig;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.lock.LockProvider;
+import ai.grakn.engine.tasks.manager.TaskState.Priority;
 import ai.grakn.engine.util.EngineID;
 import com.codahale.metrics.CachedGauge;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
+import static ai.grakn.util.REST.Request.KEYSPACE;
 import static com.codahale.metrics.MetricRegistry.name;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mjson.Json;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
 import java.util.Timer;
+import java.util.TimerTask;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -39,6 +45,10 @@ import net.greghaines.jesque.ConfigBuilder;
 import net.greghaines.jesque.Job;
 import net.greghaines.jesque.client.Client;
 import net.greghaines.jesque.client.ClientPoolImpl;
+import net.greghaines.jesque.json.ObjectMapperFactory;
+import net.greghaines.jesque.utils.JesqueUtils;
+import static net.greghaines.jesque.utils.ResqueConstants.QUEUE;
+import static net.greghaines.jesque.utils.ResqueConstants.QUEUES;
 import static net.greghaines.jesque.utils.JesqueUtils.entry;
 import static net.greghaines.jesque.utils.JesqueUtils.map;
 import net.greghaines.jesque.worker.MapBasedJobFactory;
@@ -49,11 +59,13 @@ import net.greghaines.jesque.worker.WorkerPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Transaction;
 import redis.clients.util.Pool;
 
 
 /**
- * Queue implemented in redis
+ * Queue implemented in redis. Tasks are held in a queue for each priority and keyspace, and the workers take turns
+ * between the queues as decided by a {@link QueueScheduler}.
  *
  * @author Domenico Corapi
  */
@@ -80,6 +92,7 @@ class RedisTaskQueue {
     private final Timer timer;
     private final Meter jobExecute;
     private final ExecutorService executor;
+    private final int highPriorityWeight;
     private Pool<Jedis> jedisPool;
     private LockProvider lockProvider;
     private final MetricRegistry metricRegistry;
@@ -91,23 +104,32 @@ class RedisTaskQueue {
             Pool<Jedis> jedisPool,
             LockProvider lockProvider,
             MetricRegistry metricRegistry,
-            int processingDelay) {
+            int processingDelay,
+            int highPriorityWeight) {
         this.jedisPool = jedisPool;
         this.lockProvider = lockProvider;
         this.metricRegistry = metricRegistry;
         this.config = new ConfigBuilder().build();
         this.redisClient = new ClientPoolImpl(config, jedisPool);
         this.processingDelay = processingDelay;
+        this.highPriorityWeight = highPriorityWeight;
         this.executor = Executors.newFixedThreadPool(1);
         metricRegistry.register(MetricRegistry.name(RedisTaskQueue.class, "job-queue", "size"),
                 new CachedGauge<Long>(GAUGE_CACHING_INTERVAL, TimeUnit.SECONDS) {
                     @Override
                     public Long loadValue() {
-                        try (Jedis resource = jedisPool.getResource()) {
-                            return resource.llen(String.format("*:queue:%s", QUEUE_NAME));
-                        }
+                        return queueSize(Optional.empty());
                     }
                 });
+        for (Priority priority : Priority.values()) {
+            metricRegistry.register(MetricRegistry.name(RedisTaskQueue.class, "job-queue", priority.name(), "size"),
+                    new CachedGauge<Long>(GAUGE_CACHING_INTERVAL, TimeUnit.SECONDS) {
+                        @Override
+                        public Long loadValue() {
+                            return queueSize(Optional.of(priority));
+                        }
+                    });
+        }
         metricRegistry.register(MetricRegistry.name(RedisTaskQueue.class, "workers", "active"),
                 new CachedGauge<Long>(GAUGE_CACHING_INTERVAL, TimeUnit.SECONDS) {
                     @Override
@@ -143,14 +165,93 @@ class RedisTaskQueue {
 
     void putJob(Task job) {
         putJobMeter.mark();
-        LOG.debug("Enqueuing job {}", job.getTaskState().getId());
+        String queueName = queueName(job);
+        LOG.debug("Enqueuing job {} in {}", job.getTaskState().getId(), queueName);
         final Job queueJob = new Job(SUBSCRIPTION_CLASS_NAME, job);
-        redisClient.enqueue(QUEUE_NAME, queueJob);
+        redisClient.enqueue(queueName, queueJob);
+    }
+
+    /**
+     * @return The queue of the priority and keyspace of the task
+     */
+    static String queueName(Task job) {
+        Json configuration = job.getTaskConfiguration().json();
+        Json keyspace = configuration != null && configuration.isObject() ? configuration.at(KEYSPACE) : null;
+        return QueueScheduler.queueName(QUEUE_NAME, job.getTaskState().priority(),
+                keyspace != null && keyspace.isString() ? keyspace.asString() : QueueScheduler.NO_KEYSPACE);
+    }
+
+    /**
+     * @param priority The priority of the queues to count, or nothing to count all of them
+     * @return The number of tasks waiting in the queues
+     */
+    private long queueSize(Optional<Priority> priority) {
+        try (Jedis resource = jedisPool.getResource()) {
+            return resource.smembers(JesqueUtils.createKey(config.getNamespace(), QUEUES)).stream()
+                    .filter(queueName -> {
+                        Optional<Priority> queuePriority = QueueScheduler.priorityOf(QUEUE_NAME, queueName);
+                        return queuePriority.isPresent() && (!priority.isPresent() || priority.equals(queuePriority));
+                    })
+                    .mapToLong(queueName -> resource.llen(JesqueUtils.createKey(config.getNamespace(), QUEUE, queueName)))
+                    .sum();
+        }
     }
 
     void runInFlightProcessor() {
         timer.scheduleAtFixedRate(new RedisInflightTaskConsumer(jedisPool, Duration.ofSeconds(
-                processingDelay), config, QUEUE_NAME, metricRegistry), new Date(), 1000);
+                processingDelay), config, metricRegistry), new Date(), 1000);
+        // Engines which have not been upgraded yet, and their dead tasks in flight, still use the single queue
+        timer.scheduleAtFixedRate(new TimerTask() {
+            @Override
+            public void run() {
+                try {
+                    drainLegacyQueue();
+                } catch (Exception e) {
+                    LOG.error("Could not move the tasks out of queue {}", QUEUE_NAME, e);
+                }
+            }
+        }, new Date(), 1000);
+    }
+
+    /**
+     * Moves the tasks in the single queue used before tasks were queued by priority and keyspace to the queue of
+     * their priority and keyspace, so they are still run after an upgrade.
+     */
+    void drainLegacyQueue() {
+        String legacyKey = JesqueUtils.createKey(config.getNamespace(), QUEUE, QUEUE_NAME);
+        String queuesKey = JesqueUtils.createKey(config.getNamespace(), QUEUES);
+        try (Jedis resource = jedisPool.getResource()) {
+            while (true) {
+                // Optimistic concurrency control, so the task moved is always the one the queue was chosen for
+                resource.watch(legacyKey);
+                String payload = resource.lindex(legacyKey, -1);
+                if (payload == null) {
+                    resource.unwatch();
+                    resource.srem(queuesKey, QUEUE_NAME);
+                    return;
+                }
+                String queueName = legacyTaskQueueName(payload);
+                Transaction transaction = resource.multi();
+                transaction.rpoplpush(legacyKey, JesqueUtils.createKey(config.getNamespace(), QUEUE, queueName));
+                transaction.sadd(queuesKey, queueName);
+                if (transaction.exec() != null) {
+                    LOG.debug("Moved job from {} to {}", QUEUE_NAME, queueName);
+                }
+            }
+        }
+    }
+
+    private static String legacyTaskQueueName(String payload) {
+        try {
+            Job job = ObjectMapperFactory.get().readValue(payload, Job.class);
+            if (job.getArgs() != null && job.getArgs().length > 0) {
+                return queueName(ObjectMapperFactory.get().convertValue(job.getArgs()[0], Task.class));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.error("Could not deserialize task in {}: {}", QUEUE_NAME, payload, e);
+        }
+        // The worker taking it drops it if it cannot be deserialized
+        return QueueScheduler.queueName(QUEUE_NAME, Priority.LOW, QueueScheduler.NO_KEYSPACE);
     }
 
     void subscribe(
@@ -159,7 +260,7 @@ class RedisTaskQueue {
             GraknEngineConfig engineConfig,
             EngineGraknTxFactory factory,
             int poolSize) {
-        LOG.info("Subscribing worker to jobs in queue {}", QUEUE_NAME);
+        LOG.info("Subscribing worker to jobs in queues {}", QUEUE_NAME);
         // sync to avoid close while starting
         synchronized(this) {
             this.workerPool = new WorkerPool(() -> getWorker(redisTaskManager, engineId, engineConfig, factory), poolSize);
@@ -170,7 +271,7 @@ class RedisTaskQueue {
 
     private Worker getWorker(RedisTaskManager redisTaskManager, EngineID engineId,
             GraknEngineConfig engineConfig, EngineGraknTxFactory factory) {
-        Worker worker = new BlockingWorker(config, QUEUE_NAME, JOB_FACTORY, jedisPool,
+        Worker worker = new BlockingWorker(config, QUEUE_NAME, highPriorityWeight, JOB_FACTORY, jedisPool,
                 executor, metricRegistry);
         // We need this since the job can only be instantiated with the
         // task coming from the queue
@@ -30,23 +30,48 @@ import com.codahale.metrics.MetricRegistry;
 import static com.codahale.metrics.MetricRegistry.name;
 import com.codahale.metrics.Timer;
 import com.codahale.metrics.Timer.Context;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import static java.util.stream.Collectors.toSet;
-import java.util.stream.Stream;
 import javax.annotation.Nullable;
-import org.apache.commons.io.Charsets;
-import org.apache.commons.lang.SerializationUtils;
+import net.greghaines.jesque.json.ObjectMapperFactory;
 import static org.apache.commons.lang.SerializationUtils.deserialize;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.ZParams;
 import redis.clients.util.Pool;
 
 
 /**
+ * <p>
  * DAO for redis task states
+ * </p>
+ *
+ * <p>
+ * Every state is kept in json under its own key, and expires when it has not been updated for a while. The ids of the
+ * states are also kept in sorted sets indexing them by status, task class, creator and engine, scored by the time the
+ * state was last updated. Listing tasks reads a page of ids from the index, or from the intersection of the indexes
+ * being filtered on, and then only reads the states in that page.
+ * </p>
+ *
+ * <p>
+ * Entries of the indexes are dropped once their state must have expired. Indexes expire along with the states, so an
+ * index which is no longer written to disappears.
+ * </p>
  *
  * @author Domenico Corapi
  */
@@ -54,20 +79,35 @@ public class RedisTaskStorage implements TaskStateStorage {
 
     private static final Logger LOG = LoggerFactory.getLogger(RedisTaskStorage.class);
     public static final int EXPIRE_TIME_S = 15 * 60;
+    private static final int QUERY_EXPIRE_TIME_S = 10;
+    private static final int UPDATE_ATTEMPTS = 10;
     private final Timer updateTimer;
     private final Timer getTimer;
+    private final Timer listTimer;
     private final Meter writeError;
 
     private Pool<Jedis> redis;
+    private final RedisTaskFinishedChannel finishedChannel;
+    private final List<Consumer<TaskId>> finishedListeners = new CopyOnWriteArrayList<>();
 
     private static final String PREFIX = "state:";
+    private static final String INDEX_PREFIX = "state-index:";
+    private static final String ALL_INDEX = INDEX_PREFIX + "all";
+    private static final String STATUS_INDEX = INDEX_PREFIX + "status:";
+    private static final String CLASS_INDEX = INDEX_PREFIX + "class:";
+    private static final String CREATOR_INDEX = INDEX_PREFIX + "creator:";
+    private static final String ENGINE_INDEX = INDEX_PREFIX + "engine:";
+    private static final String QUERY_PREFIX = INDEX_PREFIX + "query:";
     private static final Function<String, String> encodeKey = o -> PREFIX + o;
+    private static final Set<TaskStatus> FINISHED = EnumSet.of(TaskStatus.COMPLETED, TaskStatus.FAILED, TaskStatus.STOPPED);
 
     private RedisTaskStorage(Pool<Jedis> redis, MetricRegistry metricRegistry) {
         this.redis = redis;
         this.updateTimer = metricRegistry.timer(name(RedisTaskStorage.class, "update"));
         this.getTimer = metricRegistry.timer(name(RedisTaskStorage.class, "get"));
+        this.listTimer = metricRegistry.timer(name(RedisTaskStorage.class, "list"));
         this.writeError = metricRegistry.meter(name(RedisTaskStorage.class, "write", "error"));
+        this.finishedChannel = new RedisTaskFinishedChannel(redis);
     }
 
     public static RedisTaskStorage create(Pool<Jedis> jedisPool, MetricRegistry metricRegistry) {
@@ -79,16 +119,24 @@ public class RedisTaskStorage implements TaskStateStorage {
         try(Jedis jedis = redis.getResource(); Context ignore = updateTimer.time()){
             String key = encodeKey.apply(state.getId().getValue());
             LOG.debug("New state {}", key);
-            String value = new String(Base64.getEncoder().encode(SerializationUtils.serialize(state)),
-                    Charsets.UTF_8);
-            String status = jedis.set(key, value, "nx", "ex", EXPIRE_TIME_S);
-            if (status != null && status.equalsIgnoreCase("OK")) {
-                return state.getId();
-            } else {
+            // Optimistic concurrency control, so the state is only indexed if it is the one written
+            jedis.watch(key);
+            if (jedis.exists(key)) {
+                jedis.unwatch();
                 writeError.mark();
-                LOG.error("Could not write state {} to redis. Returned: {}", key, status);
+                LOG.error("Could not write state {} to redis, it already exists", key);
                 throw GraknBackendException.stateStorage();
             }
+            Transaction transaction = jedis.multi();
+            transaction.setex(key, EXPIRE_TIME_S, encode(state));
+            index(transaction, state, null);
+            publishIfFinished(transaction, state);
+            if (transaction.exec() == null) {
+                writeError.mark();
+                LOG.error("Could not write state {} to redis, it was written concurrently", key);
+                throw GraknBackendException.stateStorage();
+            }
+            return state.getId();
         }
     }
 
@@ -96,11 +144,22 @@ public class RedisTaskStorage implements TaskStateStorage {
     public Boolean updateState(TaskState state) {
         try(Jedis jedis = redis.getResource(); Context ignore = updateTimer.time()){
             String key = encodeKey.apply(state.getId().getValue());
+            String value = encode(state);
             LOG.debug("Updating state {}", key);
-            String value = new String(Base64.getEncoder().encode(SerializationUtils.serialize(state)),
-                    Charsets.UTF_8);
-            String status = jedis.setex(key, 15*60, value);
-            return status.equalsIgnoreCase("OK");
+            for (int i = 0; i < UPDATE_ATTEMPTS; i++) {
+                // Optimistic concurrency control, so the indexes left are always those of the state written
+                jedis.watch(key);
+                String previous = jedis.get(key);
+                Transaction transaction = jedis.multi();
+                transaction.setex(key, EXPIRE_TIME_S, value);
+                index(transaction, state, previous != null ? decode(previous) : null);
+                publishIfFinished(transaction, state);
+                if (transaction.exec() != null) return true;
+                LOG.debug("State {} was updated concurrently, retrying", key);
+            }
+            writeError.mark();
+            LOG.error("Could not update state {} in redis, it kept being updated concurrently", key);
+            return false;
         }
     }
 
@@ -110,7 +169,7 @@ public class RedisTaskStorage implements TaskStateStorage {
         try(Jedis jedis = redis.getResource(); Context ignore = getTimer.time()){
             String value = jedis.get(encodeKey.apply(id.getValue()));
             if (value != null) {
-                return (TaskState) deserialize(Base64.getDecoder().decode(value));
+                return decode(value);
             } else {
                 // TODO Don't use exceptions for an expected return like this
                 throw GraknBackendException.stateStorageMissingId(id);
@@ -118,45 +177,80 @@ public class RedisTaskStorage implements TaskStateStorage {
         }
     }
 
+    @Override
+    public Map<TaskId, TaskState> getStates(Collection<TaskId> ids) {
+        Map<TaskId, TaskState> states = new HashMap<>();
+        if (ids.isEmpty()) return states;
+        List<TaskId> idList = new ArrayList<>(ids);
+        try(Jedis jedis = redis.getResource(); Context ignore = getTimer.time()){
+            List<String> values = jedis.mget(idList.stream().map(id -> encodeKey.apply(id.getValue())).toArray(String[]::new));
+            for (int i = 0; i < idList.size(); i++) {
+                String value = values.get(i);
+                if (value != null) states.put(idList.get(i), decode(value));
+            }
+        }
+        return states;
+    }
+
     @Override
     public boolean containsTask(TaskId id) {
         try(Jedis jedis = redis.getResource()){
-            String value = jedis.get(encodeKey.apply(id.getValue()));
-            return value != null;
+            return jedis.exists(encodeKey.apply(id.getValue()));
         }
     }
 
     @Override
     public Set<TaskState> getTasks(@Nullable TaskStatus taskStatus, @Nullable String taskClassName,
             @Nullable String createdBy, @Nullable EngineID runningOnEngine, int limit, int offset) {
-        try (Jedis jedis = redis.getResource()) {
-            Stream<TaskState> stream = jedis.keys(PREFIX + "*").stream().map(key -> {
-                String v = jedis.get(key);
-                try {
-                    return (TaskState) deserialize(Base64.getDecoder().decode(v));
-                } catch (IllegalArgumentException e) {
-                    LOG.error("Could not decode key:value {}:{}", key, v);
-                    throw e;
-                }
-            });
-            if (taskStatus != null) {
-                stream = stream.filter(t -> t.status().equals(taskStatus));
-            }
-            if (taskClassName != null) {
-                stream = stream.filter(t -> t.taskClass().getName().equals(taskClassName));
-            }
-            if (createdBy != null) {
-                stream = stream.filter(t -> t.creator().equals(createdBy));
+        try (Jedis jedis = redis.getResource(); Context ignore = listTimer.time()) {
+            List<String> indexes = new ArrayList<>();
+            if (taskStatus != null) indexes.add(STATUS_INDEX + taskStatus.name());
+            if (taskClassName != null) indexes.add(CLASS_INDEX + taskClassName);
+            if (createdBy != null) indexes.add(CREATOR_INDEX + createdBy);
+            if (runningOnEngine != null) indexes.add(ENGINE_INDEX + runningOnEngine.value());
+            if (indexes.isEmpty()) indexes.add(ALL_INDEX);
+
+            double expired = expiredBefore();
+            indexes.forEach(index -> jedis.zremrangeByScore(index, Double.NEGATIVE_INFINITY, expired));
+
+            String index;
+            if (indexes.size() == 1) {
+                index = indexes.get(0);
+            } else {
+                index = QUERY_PREFIX + UUID.randomUUID();
+                Transaction transaction = jedis.multi();
+                transaction.zinterstore(index, new ZParams().aggregate(ZParams.Aggregate.MAX),
+                        indexes.toArray(new String[indexes.size()]));
+                transaction.expire(index, QUERY_EXPIRE_TIME_S);
+                transaction.exec();
             }
-            if (runningOnEngine != null) {
-                stream = stream
-                        .filter(t -> t.engineID() != null && t.engineID().equals(runningOnEngine));
+
+            // Most recently updated first, so the pages stay put while older tasks expire
+            List<String> ids;
+            try {
+                ids = new ArrayList<>(jedis.zrevrange(index, offset, limit > 0 ? offset + limit - 1 : -1));
+            } finally {
+                if (indexes.size() > 1) jedis.del(index);
             }
-            stream = stream.skip(offset);
-            if (limit > 0) {
-                stream = stream.limit(limit);
+
+            Set<TaskState> results = new LinkedHashSet<>();
+            if (!ids.isEmpty()) {
+                List<String> values = jedis.mget(ids.stream().map(encodeKey).toArray(String[]::new));
+                for (int i = 0; i < ids.size(); i++) {
+                    String value = values.get(i);
+                    if (value == null) {
+                        LOG.debug("State {} expired before it could be listed", ids.get(i));
+                        continue;
+                    }
+                    // The state may have changed since its id was read from the indexes
+                    TaskState state = decode(value);
+                    if (matches(state, taskStatus, taskClassName, createdBy, runningOnEngine)) {
+                        results.add(state);
+                    } else {
+                        LOG.debug("State {} changed before it could be listed", ids.get(i));
+                    }
+                }
             }
-            Set<TaskState> results = stream.collect(toSet());
             LOG.debug("getTasks returning {} results", results.size());
             return results;
         } catch (Exception e) {
@@ -164,10 +258,29 @@ public class RedisTaskStorage implements TaskStateStorage {
         }
     }
 
+    @Override
+    public void onTaskFinished(Consumer<TaskId> listener) {
+        // A single subscription is shared by all the listeners
+        synchronized (finishedListeners) {
+            if (finishedListeners.isEmpty()) {
+                finishedChannel.subscribe(id -> finishedListeners.forEach(finished -> finished.accept(id)));
+            }
+            finishedListeners.add(listener);
+        }
+    }
+
+    /**
+     * Stops telling the listeners about finished tasks
+     */
+    public void close() {
+        finishedChannel.close();
+    }
+
     @Override
     public void clear() {
         try (Jedis jedis = redis.getResource()) {
             Set<String> keys = jedis.keys(PREFIX + "*");
+            keys.addAll(jedis.keys(INDEX_PREFIX + "*"));
             for (String key : keys) {
                 jedis.del(key);
             }
@@ -182,4 +295,79 @@ public class RedisTaskStorage implements TaskStateStorage {
             return false;
         }
     }
+
+    /**
+     * Adds the state to the indexes of its current fields, and removes it from the indexes of the fields it had.
+     * This is done in the same transaction as writing the state.
+     */
+    private static void index(Transaction transaction, TaskState state, @Nullable TaskState previous) {
+        String id = state.getId().getValue();
+        double now = System.currentTimeMillis();
+        Set<String> indexes = indexesOf(state);
+
+        if (previous != null) {
+            indexesOf(previous).stream().filter(index -> !indexes.contains(index))
+                    .forEach(index -> transaction.zrem(index, id));
+        }
+        for (String index : indexes) {
+            transaction.zadd(index, now, id);
+            transaction.zremrangeByScore(index, Double.NEGATIVE_INFINITY, expiredBefore());
+            transaction.expire(index, EXPIRE_TIME_S);
+        }
+    }
+
+    private static void publishIfFinished(Transaction transaction, TaskState state) {
+        if (FINISHED.contains(state.status())) {
+            transaction.publish(RedisTaskFinishedChannel.CHANNEL, state.getId().getValue());
+        }
+    }
+
+    private static boolean matches(TaskState state, @Nullable TaskStatus taskStatus, @Nullable String taskClassName,
+            @Nullable String createdBy, @Nullable EngineID runningOnEngine) {
+        return (taskStatus == null || taskStatus.equals(state.status()))
+                && (taskClassName == null || taskClassName.equals(state.getTaskClassName()))
+                && (createdBy == null || createdBy.equals(state.creator()))
+                && (runningOnEngine == null || runningOnEngine.equals(state.engineID()));
+    }
+
+    private static Set<String> indexesOf(TaskState state) {
+        Set<String> indexes = new LinkedHashSet<>();
+        indexes.add(ALL_INDEX);
+        if (state.status() != null) indexes.add(STATUS_INDEX + state.status().name());
+        if (state.getTaskClassName() != null) indexes.add(CLASS_INDEX + state.getTaskClassName());
+        if (state.creator() != null) indexes.add(CREATOR_INDEX + state.creator());
+        if (state.engineID() != null) indexes.add(ENGINE_INDEX + state.engineID().value());
+        return indexes;
+    }
+
+    /**
+     * @return The time before which a state must have been last updated for it to have expired
+     */
+    private static double expiredBefore() {
+        return System.currentTimeMillis() - EXPIRE_TIME_S * 1000L;
+    }
+
+    /**
+     * States are written in json with the same mapper the task queue uses, so they are serialised in one way only
+     */
+    private static String encode(TaskState state) {
+        try {
+            return ObjectMapperFactory.get().writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw GraknBackendException.stateStorage(e);
+        }
+    }
+
+    private static TaskState decode(String value) {
+        if (value.startsWith("{")) {
+            try {
+                return ObjectMapperFactory.get().readValue(value, TaskState.class);
+            } catch (IOException e) {
+                throw GraknBackendException.stateStorage(e);
+            }
+        } else {
+            // States written before they were stored in json, these expire soon after upgrading
+            return (TaskState) deserialize(Base64.getDecoder().decode(value));
+        }
+    }
 }
@@ -18,6 +18,8 @@
 
 package ai.grakn.engine.util;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +49,7 @@ public class EngineID implements Serializable {
         this.value = value;
     }
 
+    @JsonCreator
     public static EngineID of(String value) {
         return new EngineID(value);
     }
@@ -65,6 +68,7 @@ public class EngineID implements Serializable {
         return EngineID.of(value);
     }
 
+    @JsonValue
     public String value() {
         return value;
     }
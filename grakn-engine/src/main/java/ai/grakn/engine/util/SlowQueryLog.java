@@ -0,0 +1,122 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.util;
+
+import ai.grakn.engine.GraknEngineConfig;
+import ai.grakn.util.REST;
+import mjson.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static ai.grakn.engine.GraknEngineConfig.SLOW_QUERY_SAMPLE_RATE;
+import static ai.grakn.engine.GraknEngineConfig.SLOW_QUERY_THRESHOLD;
+
+/**
+ * <p>
+ * Logs the queries which take longer than a threshold to execute.
+ * </p>
+ *
+ * <p>
+ * Only a sample of the slow queries is logged, so a burst of slow queries does not flood the log. Both the threshold
+ * and the rate at which slow queries are sampled can be changed while engine is running.
+ * The queries are logged at info level by a logger of their own, so they can be sent to a file of their own.
+ * </p>
+ */
+public class SlowQueryLog {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final long DISABLED = -1;
+    private static final double SAMPLE_ALL = 1.0;
+
+    private volatile long thresholdMs;
+    private volatile double sampleRate;
+
+    public SlowQueryLog(long thresholdMs, double sampleRate) {
+        setThreshold(thresholdMs);
+        setSampleRate(sampleRate);
+    }
+
+    /**
+     * @return a log of the slow queries which logs no queries
+     */
+    public static SlowQueryLog disabled() {
+        return new SlowQueryLog(DISABLED, SAMPLE_ALL);
+    }
+
+    public static SlowQueryLog create(GraknEngineConfig config) {
+        long thresholdMs = config.tryProperty(SLOW_QUERY_THRESHOLD).map(Long::parseLong).orElse(DISABLED);
+        double sampleRate = config.tryProperty(SLOW_QUERY_SAMPLE_RATE).map(Double::parseDouble).orElse(SAMPLE_ALL);
+        return new SlowQueryLog(thresholdMs, sampleRate);
+    }
+
+    public long threshold() {
+        return thresholdMs;
+    }
+
+    public double sampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @param thresholdMs how long in milliseconds a query must take to be logged, or a negative number to log none
+     */
+    public void setThreshold(long thresholdMs) {
+        this.thresholdMs = thresholdMs < 0 ? DISABLED : thresholdMs;
+    }
+
+    /**
+     * @param sampleRate the fraction of slow queries to log, between 0 and 1
+     * @throws IllegalArgumentException if the rate is not between 0 and 1
+     */
+    public void setSampleRate(double sampleRate) {
+        if (!(sampleRate >= 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("The sample rate of slow queries must be between 0 and 1, not " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Log a query if it took longer than the threshold and it is sampled
+     *
+     * @param keyspace the keyspace the query was executed on
+     * @param query the query
+     * @param elapsedMs how long in milliseconds the query took to execute
+     * @return true if the query was logged
+     */
+    public boolean record(String keyspace, Object query, long elapsedMs) {
+        long threshold = thresholdMs;
+        if (threshold == DISABLED || elapsedMs < threshold) return false;
+
+        double rate = sampleRate;
+        if (rate < SAMPLE_ALL && ThreadLocalRandom.current().nextDouble() >= rate) return false;
+
+        LOG.info("Query on keyspace [{}] took {}ms: {}", keyspace, elapsedMs, query);
+        return true;
+    }
+
+    public Json toJson() {
+        return Json.object(
+                REST.Request.Graql.SLOW_QUERY_THRESHOLD, thresholdMs,
+                REST.Request.Graql.SLOW_QUERY_SAMPLE_RATE, sampleRate
+        );
+    }
+}
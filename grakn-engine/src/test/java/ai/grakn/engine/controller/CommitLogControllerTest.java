@@ -0,0 +1,116 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.controller;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.engine.postprocessing.RebuildingDegreesTask;
+import ai.grakn.engine.tasks.connection.RedisCountStorage;
+import ai.grakn.engine.tasks.manager.TaskManager;
+import ai.grakn.util.REST;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.jayway.restassured.response.Response;
+import mjson.Json;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import static ai.grakn.util.REST.Request.COMMIT_LOG_CONCEPT_ID;
+import static ai.grakn.util.REST.Request.COMMIT_LOG_DEGREES;
+import static ai.grakn.util.REST.Request.COMMIT_LOG_THING_ID;
+import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
+import static com.jayway.restassured.RestAssured.given;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CommitLogControllerTest {
+
+    private static final String KEYSPACE = "keyspace";
+    private static final ConceptId RELATIONSHIP_TYPE_1 = ConceptId.of("R1");
+    private static final ConceptId RELATIONSHIP_TYPE_2 = ConceptId.of("R2");
+
+    private static TaskManager mockManager = mock(TaskManager.class);
+    private static RedisCountStorage mockRedis = mock(RedisCountStorage.class);
+
+    @ClassRule
+    public static SparkContext sparkContext = SparkContext.withControllers(spark ->
+            new CommitLogController(spark, KEYSPACE, 0, mockManager, mockRedis));
+
+    @Before
+    public void setupMock() {
+        reset(mockManager, mockRedis);
+        when(mockRedis.getCount(RedisCountStorage.getKeyDegreesBuilt(KEYSPACE))).thenReturn(1L);
+    }
+
+    @Test
+    public void POSTDegreesLookupBeforeTheyAreRebuilt_DegreesAreNull() {
+        when(mockRedis.getCount(RedisCountStorage.getKeyDegreesBuilt(KEYSPACE))).thenReturn(0L);
+
+        Json degrees = getDegrees("V1").at(COMMIT_LOG_DEGREES);
+
+        assertTrue(degrees.isNull());
+    }
+
+    @Test
+    public void POSTDegreesLookup_OnlyTheRequestedThingsAreReadAndSummed() {
+        when(mockRedis.getCounts(eq(RedisCountStorage.getKeyDegrees(KEYSPACE, RELATIONSHIP_TYPE_1)), anyList()))
+                .thenReturn(ImmutableMap.of("V1", 2L));
+        when(mockRedis.getCounts(eq(RedisCountStorage.getKeyDegrees(KEYSPACE, RELATIONSHIP_TYPE_2)), anyList()))
+                .thenReturn(ImmutableMap.of("V1", 1L, "V2", 3L));
+
+        Json degrees = getDegrees("V1", "V2").at(COMMIT_LOG_DEGREES);
+
+        assertEquals(3L, degrees.at("V1").asLong());
+        assertEquals(3L, degrees.at("V2").asLong());
+        verify(mockRedis).getCounts(RedisCountStorage.getKeyDegrees(KEYSPACE, RELATIONSHIP_TYPE_1), ImmutableList.of("V1", "V2"));
+        verify(mockRedis).getCounts(RedisCountStorage.getKeyDegrees(KEYSPACE, RELATIONSHIP_TYPE_2), ImmutableList.of("V1", "V2"));
+    }
+
+    @Test
+    public void POSTDegreesLookupWithoutBody_ResponseStatusIs400() {
+        given().queryParam(KEYSPACE_PARAM, KEYSPACE).post(REST.WebPath.COMMIT_LOG_DEGREES_LOOKUP_URI).then().statusCode(400);
+    }
+
+    @Test
+    public void POSTDegrees_RebuildingDegreesTaskIsAdded() {
+        given().queryParam(KEYSPACE_PARAM, KEYSPACE).post(REST.WebPath.COMMIT_LOG_DEGREES_URI).then().statusCode(200);
+
+        verify(mockManager).addTask(argThat(task -> task.taskClass().equals(RebuildingDegreesTask.class)), any());
+    }
+
+    private Json getDegrees(String... thingIds) {
+        Json body = Json.object(
+                COMMIT_LOG_CONCEPT_ID, ImmutableList.of(RELATIONSHIP_TYPE_1.getValue(), RELATIONSHIP_TYPE_2.getValue()),
+                COMMIT_LOG_THING_ID, ImmutableList.copyOf(thingIds));
+        Response response = given()
+                .queryParam(KEYSPACE_PARAM, KEYSPACE)
+                .body(body.toString())
+                .post(REST.WebPath.COMMIT_LOG_DEGREES_LOOKUP_URI);
+        response.then().statusCode(200);
+        return Json.read(response.body().asString());
+    }
+}
@@ -53,6 +53,8 @@ import static ai.grakn.util.REST.Request.Graql.INFER;
 import static ai.grakn.util.REST.Request.Graql.LIMIT_EMBEDDED;
 import static ai.grakn.util.REST.Request.Graql.MATERIALISE;
 import static ai.grakn.util.REST.Request.Graql.QUERY;
+import static ai.grakn.util.REST.Request.Graql.SLOW_QUERY_SAMPLE_RATE;
+import static ai.grakn.util.REST.Request.Graql.SLOW_QUERY_THRESHOLD;
 import static ai.grakn.util.REST.Request.KEYSPACE;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_HAL;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON_GRAQL;
@@ -86,6 +88,7 @@ public class GraqlControllerReadOnlyTest {
     private static EngineGraknTxFactory mockFactory = mock(EngineGraknTxFactory.class);
     private static SystemKeyspace mockSystemKeyspace = mock(SystemKeyspace.class);
 
+    private static final String AUTHORIZATION = "Authorization";
     private static final JsonMapper jsonMapper = new JsonMapper();
 
     @ClassRule
@@ -93,6 +96,10 @@ public class GraqlControllerReadOnlyTest {
 
     @ClassRule
     public static SparkContext sparkContext = SparkContext.withControllers(spark -> {
+        // Stands in for the engine's authentication filter, which runs before every controller
+        spark.before((request, response) -> {
+            if (request.headers(AUTHORIZATION) != null) request.attribute(REST.Request.USER_ATTR, "admin");
+        });
         MetricRegistry metricRegistry = new MetricRegistry();
         new SystemController(mockFactory, spark, new GraknEngineStatus(), metricRegistry);
         new GraqlController(mockFactory, spark, metricRegistry);
@@ -168,6 +175,43 @@ public class GraqlControllerReadOnlyTest {
         assertThat(exception(response), containsString(UNSUPPORTED_CONTENT_TYPE.getMessage("invalid")));
     }
 
+    @Test
+    public void PUTSlowQueries_SettingsAreReturnedByGET() {
+        Response put = RestAssured.with()
+                .header(AUTHORIZATION, "Bearer token")
+                .queryParam(SLOW_QUERY_THRESHOLD, 500)
+                .queryParam(SLOW_QUERY_SAMPLE_RATE, 0.5)
+                .put(REST.WebPath.KB.SLOW_QUERIES);
+        assertThat(put.statusCode(), equalTo(200));
+
+        Json settings = Json.read(RestAssured.get(REST.WebPath.KB.SLOW_QUERIES).asString());
+        assertThat(settings.at(SLOW_QUERY_THRESHOLD).asLong(), equalTo(500L));
+        assertThat(settings.at(SLOW_QUERY_SAMPLE_RATE).asDouble(), equalTo(0.5));
+    }
+
+    @Test
+    public void PUTSlowQueriesWithoutAuthenticatedUser_ResponseStatusIs401() {
+        long threshold = Json.read(RestAssured.get(REST.WebPath.KB.SLOW_QUERIES).asString()).at(SLOW_QUERY_THRESHOLD).asLong();
+
+        Response put = RestAssured.with()
+                .queryParam(SLOW_QUERY_THRESHOLD, threshold + 1)
+                .put(REST.WebPath.KB.SLOW_QUERIES);
+        assertThat(put.statusCode(), equalTo(401));
+
+        Json settings = Json.read(RestAssured.get(REST.WebPath.KB.SLOW_QUERIES).asString());
+        assertThat(settings.at(SLOW_QUERY_THRESHOLD).asLong(), equalTo(threshold));
+    }
+
+    @Test
+    public void PUTSlowQueriesWithInvalidSampleRate_ResponseStatusIs400() {
+        Response response = RestAssured.with()
+                .header(AUTHORIZATION, "Bearer token")
+                .queryParam(SLOW_QUERY_SAMPLE_RATE, 2)
+                .put(REST.WebPath.KB.SLOW_QUERIES);
+
+        assertThat(response.statusCode(), equalTo(400));
+    }
+
     @Test
     public void GETGraqlMatchWithNoKeyspace_ResponseStatusIs400() {
         Response response = RestAssured.with().body("match $x isa movie;").post(REST.WebPath.KB.ANY_GRAQL);
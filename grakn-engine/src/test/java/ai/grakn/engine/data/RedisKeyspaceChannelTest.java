@@ -0,0 +1,95 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.data;
+
+import ai.grakn.util.EmbeddedRedis;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class RedisKeyspaceChannelTest {
+
+    private static final int PORT = 7001;
+    private static final long TIMEOUT_MS = 10000;
+    private static JedisPool jedisPool;
+
+    @BeforeClass
+    public static void setupClass() {
+        EmbeddedRedis.start(PORT);
+        jedisPool = new JedisPool(new JedisPoolConfig(), "localhost", PORT);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        jedisPool.close();
+        EmbeddedRedis.stop();
+    }
+
+    @Test
+    public void whenAnEnginePublishesADeletedKeyspace_TheOtherEnginesReceiveIt() throws InterruptedException {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+        try (RedisKeyspaceChannel publisher = RedisKeyspaceChannel.create(jedisPool);
+             RedisKeyspaceChannel subscriber = RedisKeyspaceChannel.create(jedisPool)) {
+            subscriber.subscribe(received::add);
+
+            assertEquals("deleted", publishUntilReceived(publisher, "deleted", received));
+        }
+    }
+
+    @Test
+    public void whenTheChannelIsClosed_DeletedKeyspacesAreNoLongerReceived() throws InterruptedException {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+        try (RedisKeyspaceChannel publisher = RedisKeyspaceChannel.create(jedisPool)) {
+            RedisKeyspaceChannel subscriber = RedisKeyspaceChannel.create(jedisPool);
+            subscriber.subscribe(received::add);
+            publishUntilReceived(publisher, "before", received);
+
+            subscriber.close();
+            received.clear();
+            publisher.publish("after");
+
+            assertNull(received.poll(1, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * The subscription is made on a background thread, so messages published before it is made are lost
+     */
+    private static String publishUntilReceived(
+            RedisKeyspaceChannel publisher, String keyspace, BlockingQueue<String> received) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        String message = null;
+        while (message == null && System.currentTimeMillis() < deadline) {
+            publisher.publish(keyspace);
+            message = received.poll(100, TimeUnit.MILLISECONDS);
+        }
+        return message;
+    }
+}
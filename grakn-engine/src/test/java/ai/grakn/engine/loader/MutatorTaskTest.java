@@ -1,16 +1,26 @@
 package ai.grakn.engine.loader;
 
+import ai.grakn.engine.postprocessing.UpdatingDegreesTask;
 import ai.grakn.engine.tasks.manager.TaskConfiguration;
 import ai.grakn.graql.Graql;
 import static ai.grakn.util.ErrorMessage.READ_ONLY_QUERY;
+import static ai.grakn.util.REST.Request.COMMIT_LOG_COUNTING;
+import static ai.grakn.util.REST.Request.COMMIT_LOG_DEGREE_CHANGES;
+import static ai.grakn.util.REST.Request.COMMIT_LOG_FIXING;
 import static ai.grakn.util.REST.Request.KEYSPACE;
 import static ai.grakn.util.REST.Request.TASK_LOADER_MUTATIONS;
 import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableSet;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 import mjson.Json;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -47,4 +57,41 @@ public class MutatorTaskTest {
         exception.expectMessage(READ_ONLY_QUERY.getMessage(readOnlyQuery));
         mutatorTask.start();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenMergingCommitLogs_TheChangesOfAllTransactionsAreKept() {
+        Json first = Json.read("{\"concepts-to-fix\": {\"ATTRIBUTE\": {\"index1\": [\"a\"]}}," +
+                "\"types-with-new-counts\": [{\"concept-id\": \"type1\", \"sharding-count\": 2}]," +
+                "\"degree-changes\": {\"rel1\": {\"x\": 1, \"y\": 1}}}");
+        Json second = Json.read("{\"concepts-to-fix\": {\"ATTRIBUTE\": {\"index1\": [\"b\"], \"index2\": [\"c\"]}}," +
+                "\"types-with-new-counts\": [{\"concept-id\": \"type1\", \"sharding-count\": 3}," +
+                "{\"concept-id\": \"type2\", \"sharding-count\": 1}]," +
+                "\"degree-changes\": {\"rel1\": {\"x\": -1}}}");
+
+        Json merged = MutatorTask.mergeLogs(Arrays.asList(first, second));
+
+        Json fixing = merged.at(COMMIT_LOG_FIXING).at("ATTRIBUTE");
+        assertEquals(ImmutableSet.of("a", "b"), ids(fixing.at("index1")));
+        assertEquals(ImmutableSet.of("c"), ids(fixing.at("index2")));
+        assertEquals(Json.read("[{\"concept-id\": \"type1\", \"sharding-count\": 5}," +
+                "{\"concept-id\": \"type2\", \"sharding-count\": 1}]"), merged.at(COMMIT_LOG_COUNTING));
+        assertEquals(Json.read("{\"rel1\": {\"y\": 1}}"), merged.at(COMMIT_LOG_DEGREE_CHANGES));
+    }
+
+    @Test
+    public void whenDegreeChangesCancelOut_TheMergedLogHasNoDegreeChanges() {
+        Json first = Json.read("{\"concepts-to-fix\": {\"ATTRIBUTE\": {}}, \"types-with-new-counts\": []," +
+                "\"degree-changes\": {\"rel1\": {\"x\": 1}}}");
+        Json second = Json.read("{\"concepts-to-fix\": {\"ATTRIBUTE\": {}}, \"types-with-new-counts\": []," +
+                "\"degree-changes\": {\"rel1\": {\"x\": -1}}}");
+
+        Json merged = MutatorTask.mergeLogs(Arrays.asList(first, second));
+
+        assertFalse(merged.has(COMMIT_LOG_DEGREE_CHANGES));
+        assertFalse(UpdatingDegreesTask.hasDegreeChanges(merged.toString()));
+    }
+
+    private static Set<String> ids(Json ids) {
+        return ids.asJsonList().stream().map(Json::asString).collect(Collectors.toSet());
+    }
+}
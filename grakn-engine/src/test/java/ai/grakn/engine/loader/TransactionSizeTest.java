@@ -0,0 +1,88 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.loader;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static ai.grakn.engine.loader.TransactionSize.MAX_SIZE;
+import static ai.grakn.engine.loader.TransactionSize.MIN_SIZE;
+import static ai.grakn.engine.loader.TransactionSize.TARGET_COMMIT_LATENCY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class TransactionSizeTest {
+
+    private static final Duration FAST = Duration.ofMillis(10);
+    private static final Duration SLOW = TARGET_COMMIT_LATENCY.multipliedBy(2);
+
+    @Test
+    public void whenFullTransactionsCommitFast_TheSizeGrows() {
+        TransactionSize size = new TransactionSize(100);
+        size.committed(100, FAST);
+        assertEquals(110, size.get());
+    }
+
+    @Test
+    public void whenSmallerTransactionsCommitFast_TheSizeDoesNotChange() {
+        TransactionSize size = new TransactionSize(100);
+        size.committed(20, FAST);
+        assertEquals(100, size.get());
+    }
+
+    @Test
+    public void whenTransactionsCommitSlowly_TheSizeShrinks() {
+        TransactionSize size = new TransactionSize(100);
+        size.committed(100, SLOW);
+        assertEquals(75, size.get());
+    }
+
+    @Test
+    public void whenATransactionFails_TheSizeIsHalved() {
+        TransactionSize size = new TransactionSize(100);
+        size.failed();
+        assertEquals(50, size.get());
+    }
+
+    @Test
+    public void theSizeStaysWithinItsBounds() {
+        TransactionSize size = new TransactionSize(MAX_SIZE);
+        size.committed(MAX_SIZE, FAST);
+        assertEquals(MAX_SIZE, size.get());
+
+        size = new TransactionSize(MIN_SIZE);
+        size.failed();
+        size.committed(MIN_SIZE, SLOW);
+        assertEquals(MIN_SIZE, size.get());
+    }
+
+    @Test
+    public void whenAKeyspaceIsDeleted_ItsSizeIsForgotten() {
+        TransactionSize size = TransactionSize.of("deleted-keyspace");
+        size.failed();
+        assertSame(size, TransactionSize.of("deleted-keyspace"));
+
+        MutatorTask.keyspaceDeleted("deleted-keyspace");
+
+        assertNotSame(size, TransactionSize.of("deleted-keyspace"));
+        assertEquals(TransactionSize.INITIAL_SIZE, TransactionSize.of("deleted-keyspace").get());
+    }
+}
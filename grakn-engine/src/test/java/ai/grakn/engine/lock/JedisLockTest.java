@@ -1,7 +1,14 @@
 package ai.grakn.engine.lock;
 
 import ai.grakn.util.EmbeddedRedis;
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import org.junit.AfterClass;
@@ -16,16 +23,19 @@ public class JedisLockTest {
     private static final int PORT = 7001;
     public static final String LOCK_NAME = "LOCK_NAME";
     private static JedisPool jedisPool;
+    private static JedisLockProvider lockProvider;
 
     @BeforeClass
     public static void setupClass() {
         EmbeddedRedis.start(PORT);
         JedisPoolConfig poolConfig = new JedisPoolConfig();
         jedisPool = new JedisPool(poolConfig, "localhost", PORT);
+        lockProvider = new JedisLockProvider(jedisPool);
     }
 
     @AfterClass
     public static void tearDownClass() throws InterruptedException {
+        lockProvider.close();
         jedisPool.close();
         EmbeddedRedis.stop();
 
@@ -33,11 +43,11 @@ public class JedisLockTest {
 
     @Test
     public void whenOtherThreadHasLock_TryLockFails() throws Exception {
-        Lock lock = new JedisLock(jedisPool, LOCK_NAME);
+        Lock lock = lockProvider.getLock(LOCK_NAME);
         lock.lock();
 
         Thread t = new Thread(() -> {
-            Lock lock1 = new JedisLock(jedisPool, LOCK_NAME);
+            Lock lock1 = lockProvider.getLock(LOCK_NAME);
             Assert.assertFalse(lock1.tryLock());
         });
 
@@ -46,7 +56,7 @@ public class JedisLockTest {
         lock.unlock();
 
         Thread t2 = new Thread(() -> {
-            Lock lock1 = new JedisLock(jedisPool, LOCK_NAME);
+            Lock lock1 = lockProvider.getLock(LOCK_NAME);
             Assert.assertTrue(lock1.tryLock());
         });
 
@@ -56,11 +66,11 @@ public class JedisLockTest {
 
     @Test
     public void whenOtherThreadHasLock_TryLockTimesOut() throws Exception {
-        Lock lock = new JedisLock(jedisPool, LOCK_NAME);
+        Lock lock = lockProvider.getLock(LOCK_NAME);
         lock.lock();
 
         Thread t = new Thread(() -> {
-            Lock lock1 = new JedisLock(jedisPool, LOCK_NAME);
+            Lock lock1 = lockProvider.getLock(LOCK_NAME);
             try {
                 Stopwatch stopwatch = Stopwatch.createStarted();
                 int time = 5000;
@@ -75,4 +85,70 @@ public class JedisLockTest {
         t.join();
         lock.unlock();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenLockIsReleased_AWaitingThreadAcquiresItWithoutPolling() throws Exception {
+        Lock lock = lockProvider.getLock(LOCK_NAME);
+        lock.lock();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Boolean> acquired = executor.submit(() -> {
+            Lock lock1 = lockProvider.getLock(LOCK_NAME);
+            boolean locked = lock1.tryLock(5, TimeUnit.SECONDS);
+            if (locked) lock1.unlock();
+            return locked;
+        });
+
+        Thread.sleep(500);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        lock.unlock();
+        Assert.assertTrue(acquired.get());
+
+        // The waiting thread is woken by the release rather than checking again after a delay
+        Assert.assertTrue(stopwatch.stop().elapsed(TimeUnit.MILLISECONDS) < 500);
+        executor.shutdown();
+    }
+
+    @Test
+    public void whenLockIsHeldForLongerThanItsLease_ItIsNotAcquiredByOthers() throws Exception {
+        try (JedisLockProvider shortLeases = new JedisLockProvider(jedisPool, new MetricRegistry(), 300)) {
+            Lock lock = shortLeases.getLock(LOCK_NAME);
+            lock.lock();
+
+            Thread.sleep(1000);
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            Assert.assertFalse(executor.submit(() -> shortLeases.getLock(LOCK_NAME).tryLock()).get());
+            executor.shutdown();
+
+            lock.unlock();
+            Lock lock1 = shortLeases.getLock(LOCK_NAME);
+            Assert.assertTrue(lock1.tryLock());
+            lock1.unlock();
+        }
+    }
+
+    @Test
+    public void whenOneOfManyLocksIsHeld_TryLockAllAcquiresNone() throws Exception {
+        Lock lock = lockProvider.getLock("B");
+        lock.lock();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Optional<List<Lock>> locks =
+                executor.submit(() -> lockProvider.tryLockAll(ImmutableSet.of("A", "B", "C"), 100, TimeUnit.MILLISECONDS)).get();
+        Assert.assertFalse(locks.isPresent());
+
+        Lock lockA = lockProvider.getLock("A");
+        Assert.assertTrue(lockA.tryLock());
+        lockA.unlock();
+
+        lock.unlock();
+        locks = executor.submit(() -> lockProvider.tryLockAll(ImmutableSet.of("A", "B", "C"), 100, TimeUnit.MILLISECONDS)).get();
+        Assert.assertTrue(locks.isPresent());
+        Assert.assertEquals(3, locks.get().size());
+        Assert.assertFalse(lockProvider.getLock("C").tryLock());
+
+        locks.get().forEach(Lock::unlock);
+        executor.shutdown();
+    }
+}
@@ -23,12 +23,21 @@ import org.junit.Test;
 import org.junit.contrib.java.lang.system.SystemOutRule;
 import org.junit.rules.ExpectedException;
 
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class ProcessWideLockProviderTest {
 
@@ -54,4 +63,50 @@ public class ProcessWideLockProviderTest {
 
         assertEquals(lock1, lock2);
     }
+
+    @Test
+    public void whenLockingNamesWhoseStripesAreInOppositeOrders_TryLockAllDoesNotDeadlock() throws Exception {
+        ProcessWideLockProvider l = new ProcessWideLockProvider();
+
+        // Find a < b and c < d where b shares a stripe with c and a shares a stripe with d
+        Map<Lock, List<String>> namesByStripe = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            String name = String.format("%04d", i);
+            namesByStripe.computeIfAbsent(l.getLock(name), lock -> new ArrayList<>()).add(name);
+        }
+        List<String> first = null;
+        List<String> second = null;
+        for (List<String> stripe1 : namesByStripe.values()) {
+            for (List<String> stripe2 : namesByStripe.values()) {
+                if (stripe1 != stripe2 && stripe1.size() > 1 && stripe2.size() > 1 &&
+                        stripe1.get(0).compareTo(stripe2.get(1)) < 0 && stripe2.get(0).compareTo(stripe1.get(1)) < 0) {
+                    first = ImmutableList.of(stripe1.get(0), stripe2.get(1));
+                    second = ImmutableList.of(stripe2.get(0), stripe1.get(1));
+                }
+            }
+        }
+        assertTrue(first != null);
+
+        List<String> firstNames = first;
+        List<String> secondNames = second;
+        CompletableFuture<Boolean> firstLocked = CompletableFuture.supplyAsync(() -> lockRepeatedly(l, firstNames));
+        CompletableFuture<Boolean> secondLocked = CompletableFuture.supplyAsync(() -> lockRepeatedly(l, secondNames));
+
+        assertTrue(firstLocked.get());
+        assertTrue(secondLocked.get());
+    }
+
+    private static boolean lockRepeatedly(LockProvider lockProvider, List<String> lockNames) {
+        try {
+            for (int i = 0; i < 1000; i++) {
+                Optional<List<Lock>> locks = lockProvider.tryLockAll(lockNames, 10, TimeUnit.SECONDS);
+                if (!locks.isPresent()) return false;
+                locks.get().forEach(Lock::unlock);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
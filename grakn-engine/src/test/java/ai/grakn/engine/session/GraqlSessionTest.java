@@ -22,17 +22,28 @@ package ai.grakn.engine.session;
 import ai.grakn.GraknTx;
 import ai.grakn.GraknSession;
 import ai.grakn.GraknTxType;
+import ai.grakn.graql.MatchQuery;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.analytics.CountQuery;
 import mjson.Json;
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
 import org.eclipse.jetty.websocket.api.Session;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static ai.grakn.util.REST.RemoteShell.QUERY;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -64,4 +75,75 @@ public class GraqlSessionTest {
         session.close();
         verify(count).kill();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenPingingWhileAQueryIsRunning_ThePingIsSentWithoutWaitingForTheQuery() throws Exception {
+        Session jettySession = mock(Session.class);
+        RemoteEndpoint remote = mock(RemoteEndpoint.class);
+        when(jettySession.isOpen()).thenReturn(true);
+        when(jettySession.getRemote()).thenReturn(remote);
+
+        GraknSession factory = mock(GraknSession.class);
+        GraknTx graph = mock(GraknTx.class, RETURNS_DEEP_STUBS);
+        QueryBuilder qb = mock(QueryBuilder.class);
+        MatchQuery slowQuery = mock(MatchQuery.class);
+        CountDownLatch queryRunning = new CountDownLatch(1);
+        CountDownLatch finishQuery = new CountDownLatch(1);
+
+        when(factory.open(GraknTxType.WRITE)).thenReturn(graph);
+        when(graph.graql()).thenReturn(qb);
+        when(qb.infer(false)).thenReturn(qb);
+        when(qb.materialise(false)).thenReturn(qb);
+        when(qb.parseList("match $x isa thing;")).thenReturn(Stream.of(slowQuery));
+        when(slowQuery.resultsString(any())).thenAnswer(invocation -> {
+            queryRunning.countDown();
+            finishQuery.await();
+            return Stream.empty();
+        });
+
+        GraqlSession session = new GraqlSession(jettySession, factory, "json", false, false);
+        session.receiveQuery(Json.object(QUERY, "match $x isa thing;"));
+        Future<?> query = session.executeQuery();
+
+        try {
+            assertTrue(queryRunning.await(10, TimeUnit.SECONDS));
+            session.ping();
+            verify(remote).sendPing(any(ByteBuffer.class));
+            assertFalse(query.isDone());
+        } finally {
+            finishQuery.countDown();
+        }
+
+        query.get(10, TimeUnit.SECONDS);
+        session.close();
+    }
+
+    @Test
+    public void whenTheSessionIsClosed_ItIsNotPinged() throws IOException {
+        Session jettySession = mock(Session.class, RETURNS_DEEP_STUBS);
+        GraknSession factory = mock(GraknSession.class, RETURNS_DEEP_STUBS);
+        when(jettySession.isOpen()).thenReturn(false);
+
+        GraqlSession session = new GraqlSession(jettySession, factory, "json", false, false);
+        session.ping();
+
+        verify(jettySession.getRemote(), never()).sendPing(any(ByteBuffer.class));
+        session.close();
+    }
+
+    @Test
+    public void whenThePingCannotBeSent_NoExceptionIsThrown() throws IOException {
+        Session jettySession = mock(Session.class);
+        RemoteEndpoint remote = mock(RemoteEndpoint.class);
+        when(jettySession.isOpen()).thenReturn(true);
+        when(jettySession.getRemote()).thenReturn(remote);
+        doThrow(new IOException("timed out")).when(remote).sendPing(any(ByteBuffer.class));
+        GraknSession factory = mock(GraknSession.class, RETURNS_DEEP_STUBS);
+
+        GraqlSession session = new GraqlSession(jettySession, factory, "json", false, false);
+        session.ping();
+
+        verify(remote).sendPing(any(ByteBuffer.class));
+        session.close();
+    }
+}
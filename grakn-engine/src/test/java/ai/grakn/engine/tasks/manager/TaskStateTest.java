@@ -0,0 +1,76 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ *
+ */
+
+package ai.grakn.engine.tasks.manager;
+
+import ai.grakn.engine.TaskStatus;
+import ai.grakn.engine.postprocessing.PostProcessingTask;
+import ai.grakn.engine.util.EngineID;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mjson.Json;
+import net.greghaines.jesque.json.ObjectMapperFactory;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class TaskStateTest {
+
+    private final ObjectMapper mapper = ObjectMapperFactory.get();
+
+    @Test
+    public void whenWritingStateToJsonAndReadingItBack_AllFieldsAreKept() throws IOException {
+        TaskSchedule schedule = TaskSchedule.recurring(Instant.ofEpochMilli(1000), Duration.ofMillis(500));
+        TaskState state = TaskState.of(PostProcessingTask.class, "me", schedule, TaskState.Priority.HIGH)
+                .markRunning(EngineID.of("engine"))
+                .checkpoint(TaskCheckpoint.of(Json.object("done", 10)))
+                .markFailed(new IllegalStateException("broken"));
+
+        TaskState read = mapper.readValue(mapper.writeValueAsString(state), TaskState.class);
+
+        assertEquals(state.getId(), read.getId());
+        assertEquals(TaskStatus.FAILED, read.status());
+        assertEquals(state.statusChangeTime().toEpochMilli(), read.statusChangeTime().toEpochMilli());
+        assertEquals(PostProcessingTask.class, read.taskClass());
+        assertEquals("me", read.creator());
+        assertEquals(EngineID.of("engine"), read.engineID());
+        assertEquals(TaskState.Priority.HIGH, read.priority());
+        assertEquals(schedule.runAt(), read.schedule().runAt());
+        assertEquals(schedule.interval(), read.schedule().interval());
+        assertEquals(IllegalStateException.class.getName(), read.exception());
+        assertEquals(state.stackTrace(), read.stackTrace());
+        assertEquals(Json.object("done", 10), read.checkpoint().checkpoint());
+    }
+
+    @Test
+    public void whenReadingStateWithoutOptionalFields_FieldsAreEmpty() throws IOException {
+        TaskState read = mapper.readValue(Json.object("id", Json.object("value", "abc")).toString(), TaskState.class);
+
+        assertEquals("abc", read.getId().getValue());
+        assertEquals(TaskStatus.CREATED, read.status());
+        assertNull(read.creator());
+        assertNull(read.engineID());
+        assertNull(read.schedule());
+        assertNull(read.checkpoint());
+    }
+}
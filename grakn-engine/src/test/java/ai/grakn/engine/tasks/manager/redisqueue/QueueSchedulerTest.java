@@ -0,0 +1,93 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ *
+ */
+
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import ai.grakn.engine.tasks.manager.TaskState.Priority;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QueueSchedulerTest {
+
+    private static final String PREFIX = "queue";
+    private static final String HIGH_A = QueueScheduler.queueName(PREFIX, Priority.HIGH, "a");
+    private static final String HIGH_B = QueueScheduler.queueName(PREFIX, Priority.HIGH, "b");
+    private static final String LOW_A = QueueScheduler.queueName(PREFIX, Priority.LOW, "a");
+    private static final String LOW_B = QueueScheduler.queueName(PREFIX, Priority.LOW, "b");
+
+    @Test
+    public void whenReadingPriorityOfQueue_PriorityIsInTheName() {
+        assertEquals(Optional.of(Priority.HIGH), QueueScheduler.priorityOf(PREFIX, HIGH_A));
+        assertEquals(Optional.of(Priority.LOW), QueueScheduler.priorityOf(PREFIX, LOW_B));
+        assertEquals(Optional.empty(), QueueScheduler.priorityOf(PREFIX, "other:HIGH:a"));
+    }
+
+    @Test
+    public void whenThereAreNoQueues_NothingIsTried() {
+        QueueScheduler scheduler = new QueueScheduler(PREFIX, 0);
+        scheduler.setQueues(ImmutableList.of("other:HIGH:a"));
+
+        assertTrue(scheduler.order().isEmpty());
+    }
+
+    @Test
+    public void whenPriorityIsStrict_HighPriorityQueuesAreAlwaysTriedFirst() {
+        QueueScheduler scheduler = new QueueScheduler(PREFIX, 0);
+        scheduler.setQueues(ImmutableList.of(LOW_A, HIGH_A));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(ImmutableList.of(HIGH_A, LOW_A), scheduler.order());
+            scheduler.taken(HIGH_A);
+        }
+    }
+
+    @Test
+    public void whenPriorityIsWeighted_LowPriorityQueuesAreTriedFirstAfterEnoughHighPriorityTasks() {
+        QueueScheduler scheduler = new QueueScheduler(PREFIX, 2);
+        scheduler.setQueues(ImmutableList.of(LOW_A, HIGH_A));
+
+        scheduler.taken(HIGH_A);
+        assertEquals(ImmutableList.of(HIGH_A, LOW_A), scheduler.order());
+        scheduler.taken(HIGH_A);
+        assertEquals(ImmutableList.of(LOW_A, HIGH_A), scheduler.order());
+        scheduler.taken(LOW_A);
+        assertEquals(ImmutableList.of(HIGH_A, LOW_A), scheduler.order());
+    }
+
+    @Test
+    public void whenTakingTasksOfAPriority_KeyspacesTakeTurns() {
+        QueueScheduler scheduler = new QueueScheduler(PREFIX, 0);
+        scheduler.setQueues(ImmutableList.of(LOW_B, LOW_A, HIGH_B, HIGH_A));
+
+        List<String> order = scheduler.order();
+        assertEquals(ImmutableList.of(HIGH_A, HIGH_B, LOW_A, LOW_B), order);
+
+        scheduler.taken(HIGH_A);
+        assertEquals(ImmutableList.of(HIGH_B, HIGH_A, LOW_A, LOW_B), scheduler.order());
+
+        scheduler.taken(LOW_A);
+        assertEquals(ImmutableList.of(HIGH_B, HIGH_A, LOW_B, LOW_A), scheduler.order());
+    }
+}
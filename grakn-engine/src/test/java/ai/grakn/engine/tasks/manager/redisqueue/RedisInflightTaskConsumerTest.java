@@ -42,7 +42,7 @@ import redis.clients.jedis.Transaction;
 
 public class RedisInflightTaskConsumerTest {
 
-    private static final String QUEUE_NAME = "QUEUE_NAME";
+    private static final String QUEUE_NAME = "QUEUE_NAME:LOW:keyspace";
     public static final MetricRegistry METRIC_REGISTRY = new MetricRegistry();
 
     private static String TRICKY_TASK = "{\"class\":\"ai.grakn.engine.tasks.manager.redisqueue.Task\",\"args\":[{\"taskState\":{\"creator\":\"\",\"schedule\":{\"runAt\":1499800245809,\"interval\":null},\"id\":{\"value\":\"0debb87c-a4cd-46d2-90a7-03efbb10318f\"},\"priority\":\"LOW\",\"status\":\"CREATED\",\"taskClassName\":\"ai.grakn.engine.tasks.mock.LongExecutionMockTask\"},\"taskConfiguration\":{\"configuration\":\"{\\\"id\\\":\\\"0cc42a2d-134c-4385-a4e9-69edcc10fee8\\\"}\"}}],\"vars\":null}";
@@ -54,7 +54,7 @@ public class RedisInflightTaskConsumerTest {
         Jedis jedis = mock(Jedis.class);
         when(jedisPool.getResource()).thenReturn(jedis);
         HashSet<String> stringHashSet = new HashSet<>();
-        String k = "resque:something:something";
+        String k = "resque:inflight:worker_1:" + QUEUE_NAME;
         stringHashSet.add(k);
         when(jedis.keys(anyString())).thenReturn(stringHashSet);
         ArrayList<String> v = new ArrayList<>();
@@ -67,8 +67,8 @@ public class RedisInflightTaskConsumerTest {
         when(jedis.multi()).thenReturn(transaction);
         RedisInflightTaskConsumer redisInflightTaskConsumer =
                 new RedisInflightTaskConsumer(jedisPool, Duration.ofSeconds(30),
-                        new ConfigBuilder().build(), QUEUE_NAME, METRIC_REGISTRY);
+                        new ConfigBuilder().build(), METRIC_REGISTRY);
         redisInflightTaskConsumer.run();
-        verify(transaction, times( ITERATIONS)).rpoplpush(anyString(), anyString());
+        verify(transaction, times( ITERATIONS)).rpoplpush(k, "resque:queue:" + QUEUE_NAME);
     }
 }
\ No newline at end of file
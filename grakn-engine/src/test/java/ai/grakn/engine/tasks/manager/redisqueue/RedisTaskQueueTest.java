@@ -0,0 +1,72 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import ai.grakn.engine.lock.LockProvider;
+import com.codahale.metrics.MetricRegistry;
+import java.util.Collections;
+import org.junit.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Transaction;
+
+public class RedisTaskQueueTest {
+
+    private static final String LEGACY_QUEUE = "resque:queue:grakn_engine_queue";
+
+    private static String TASK = "{\"class\":\"ai.grakn.engine.tasks.manager.redisqueue.Task\",\"args\":[{\"taskState\":{\"creator\":\"\",\"schedule\":{\"runAt\":1499800245809,\"interval\":null},\"id\":{\"value\":\"0debb87c-a4cd-46d2-90a7-03efbb10318f\"},\"priority\":\"HIGH\",\"status\":\"CREATED\",\"taskClassName\":\"ai.grakn.engine.tasks.mock.LongExecutionMockTask\"},\"taskConfiguration\":{\"configuration\":\"{\\\"keyspace\\\":\\\"grakn\\\"}\"}}],\"vars\":null}";
+
+    @Test
+    public void whenTheSingleQueueHoldsATask_MoveItToTheQueueOfItsPriorityAndKeyspace() {
+        JedisPool jedisPool = mock(JedisPool.class);
+        Jedis jedis = mock(Jedis.class);
+        Transaction transaction = mock(Transaction.class);
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.lindex(LEGACY_QUEUE, -1)).thenReturn(TASK, (String) null);
+        when(jedis.multi()).thenReturn(transaction);
+        when(transaction.exec()).thenReturn(Collections.emptyList());
+
+        newQueue(jedisPool).drainLegacyQueue();
+
+        verify(transaction).rpoplpush(LEGACY_QUEUE, "resque:queue:grakn_engine_queue:HIGH:grakn");
+        verify(transaction).sadd("resque:queues", "grakn_engine_queue:HIGH:grakn");
+        verify(jedis).srem("resque:queues", "grakn_engine_queue");
+    }
+
+    @Test
+    public void whenTheSingleQueueIsEmpty_MoveNothing() {
+        JedisPool jedisPool = mock(JedisPool.class);
+        Jedis jedis = mock(Jedis.class);
+        when(jedisPool.getResource()).thenReturn(jedis);
+
+        newQueue(jedisPool).drainLegacyQueue();
+
+        verify(jedis, never()).multi();
+        verify(jedis, never()).rpoplpush(anyString(), anyString());
+    }
+
+    private static RedisTaskQueue newQueue(JedisPool jedisPool) {
+        return new RedisTaskQueue(jedisPool, mock(LockProvider.class), new MetricRegistry(), 30, 10);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import ai.grakn.engine.TaskId;
+import ai.grakn.engine.TaskStatus;
+import ai.grakn.engine.postprocessing.PostProcessingTask;
+import ai.grakn.engine.tasks.manager.TaskSchedule;
+import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.engine.util.EngineID;
+import ai.grakn.util.EmbeddedRedis;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RedisTaskStorageTest {
+
+    private static final int PORT = 7001;
+    private static final long TIMEOUT_MS = 10000;
+    private static JedisPool jedisPool;
+    private static RedisTaskStorage storage;
+
+    @BeforeClass
+    public static void setupClass() {
+        EmbeddedRedis.start(PORT);
+        jedisPool = new JedisPool(new JedisPoolConfig(), "localhost", PORT);
+        storage = RedisTaskStorage.create(jedisPool, new MetricRegistry());
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        storage.close();
+        jedisPool.close();
+        EmbeddedRedis.stop();
+    }
+
+    @Before
+    public void setUp() {
+        storage.clear();
+    }
+
+    @Test
+    public void whenUpdatingAState_ItIsOnlyListedUnderItsNewStatus() {
+        TaskState state = newState();
+        storage.newState(state);
+        storage.updateState(state.markRunning(EngineID.of("engine")));
+
+        assertTrue(storage.getTasks(TaskStatus.CREATED, null, null, null, 0, 0).isEmpty());
+        Set<TaskState> running = storage.getTasks(TaskStatus.RUNNING, null, null, EngineID.of("engine"), 0, 0);
+        assertEquals(1, running.size());
+        assertEquals(state.getId(), running.iterator().next().getId());
+    }
+
+    @Test
+    public void whenReadingAState_AllFieldsAreKept() {
+        TaskState state = newState().markRunning(EngineID.of("engine"));
+        storage.newState(state);
+
+        TaskState read = storage.getState(state.getId());
+        assertEquals(TaskStatus.RUNNING, read.status());
+        assertEquals(EngineID.of("engine"), read.engineID());
+        assertEquals("me", read.creator());
+        assertEquals(PostProcessingTask.class, read.taskClass());
+    }
+
+    @Test
+    public void whenAnIndexIsOutOfDate_StatesWhichNoLongerMatchAreNotListed() {
+        TaskState state = newState();
+        storage.newState(state);
+        storage.updateState(state.copy().markRunning(EngineID.of("engine")));
+        // As if the state changed after its id was read from the index
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.zadd("state-index:status:CREATED", System.currentTimeMillis(), state.getId().getValue());
+        }
+
+        assertTrue(storage.getTasks(TaskStatus.CREATED, null, null, null, 0, 0).isEmpty());
+    }
+
+    @Test
+    public void whenATaskFinishes_TheListenersAreTold() throws InterruptedException {
+        BlockingQueue<TaskId> finished = new LinkedBlockingQueue<>();
+        storage.onTaskFinished(finished::add);
+
+        TaskState state = newState();
+        storage.newState(state);
+        storage.updateState(state.markRunning(EngineID.of("engine")));
+        state.markCompleted();
+
+        // The subscription is made in the background, so the state is written until the listener is told
+        TaskId told = null;
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (told == null && System.currentTimeMillis() < deadline) {
+            storage.updateState(state);
+            told = finished.poll(100, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(state.getId(), told);
+    }
+
+    private static TaskState newState() {
+        return TaskState.of(PostProcessingTask.class, "me", TaskSchedule.now(), TaskState.Priority.LOW);
+    }
+}
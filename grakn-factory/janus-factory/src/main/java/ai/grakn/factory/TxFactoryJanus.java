@@ -22,6 +22,7 @@ import ai.grakn.GraknTx;
 import ai.grakn.kb.internal.GraknTxJanus;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
+import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.structure.Direction;
@@ -36,6 +37,7 @@ import org.janusgraph.core.RelationType;
 import org.janusgraph.core.VertexLabel;
 import org.janusgraph.core.schema.JanusGraphIndex;
 import org.janusgraph.core.schema.JanusGraphManagement;
+import org.janusgraph.core.schema.Mapping;
 import org.janusgraph.graphdb.database.StandardJanusGraph;
 import org.janusgraph.graphdb.transaction.StandardJanusGraphTx;
 import org.slf4j.Logger;
@@ -43,12 +45,15 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Paths;
 import java.util.Properties;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+import static ai.grakn.factory.IndexBackends.INDEX_BACKEND;
+import static ai.grakn.factory.IndexBackends.INDEX_CONFIG_PREFIX;
 import static java.util.Arrays.stream;
 
 
@@ -67,6 +72,8 @@ import static java.util.Arrays.stream;
 final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusGraph> {
     private final static Logger LOG = LoggerFactory.getLogger(TxFactoryJanus.class);
     private final static String DEFAULT_CONFIG = "backend-default";
+    private final static String INDEX_DIRECTORY = ".directory";
+    private final static String INDEX_NAME = ".index-name";
 
     private static final AtomicBoolean strategiesApplied = new AtomicBoolean(false);
 
@@ -128,6 +135,16 @@ final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusG
                 set("storage.batch-loading", batchLoading);
 
         properties.forEach((key, value) -> builder.set(key.toString(), value));
+
+        //Every keyspace needs its own index in the index backends so their values are not mixed up
+        for (String indexBackend : IndexBackends.getIndexBackends(properties)) {
+            String directory = properties.getProperty(INDEX_CONFIG_PREFIX + indexBackend + INDEX_DIRECTORY);
+            if (directory != null) {
+                builder.set(INDEX_CONFIG_PREFIX + indexBackend + INDEX_DIRECTORY, Paths.get(directory, name).toString());
+            }
+            builder.set(INDEX_CONFIG_PREFIX + indexBackend + INDEX_NAME, name);
+        }
+
         LOG.debug("Opening graph on {}", address);
         return builder.open();
     }
@@ -142,6 +159,7 @@ final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusG
 
         makeIndicesVertexCentric(management);
         makeIndicesComposite(management);
+        makeIndicesMixed(management, graph.configuration());
 
         management.commit();
     }
@@ -231,5 +249,39 @@ final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusG
             }
         }
     }
+
+    /**
+     * Builds the mixed indexes used to look up values by range, or strings by their text. These are only built when
+     * the index backend they use has been configured and is shared, see {@link IndexBackends}. Otherwise values can
+     * only be filtered by scanning them.
+     */
+    private static void makeIndicesMixed(JanusGraphManagement management, Configuration configuration){
+        ResourceBundle keys = ResourceBundle.getBundle("indices-mixed");
+        Set<String> keyString = keys.keySet();
+        for(String propertyKeyLabel : keyString){
+            String indexBackend = keys.getString(propertyKeyLabel);
+            String backend = configuration.getString(INDEX_CONFIG_PREFIX + indexBackend + INDEX_BACKEND, null);
+            if(backend == null) continue;
+            if(!IndexBackends.isShared(backend)) {
+                LOG.warn("Not building the {} index on {}, which is not shared by every engine", indexBackend, backend);
+                continue;
+            }
+
+            PropertyKey key = management.getPropertyKey(propertyKeyLabel);
+            if(String.class.equals(key.dataType())) {
+                //Strings are held whole rather than split into words so they can be matched by substring or regex
+                String indexLabel = GraknTxJanus.textIndexName(propertyKeyLabel);
+                if(management.getGraphIndex(indexLabel) == null) {
+                    management.buildIndex(indexLabel, Vertex.class).
+                            addKey(key, Mapping.STRING.asParameter()).buildMixedIndex(indexBackend);
+                }
+            } else {
+                String indexLabel = GraknTxJanus.rangeIndexName(propertyKeyLabel);
+                if(management.getGraphIndex(indexLabel) == null) {
+                    management.buildIndex(indexLabel, Vertex.class).addKey(key).buildMixedIndex(indexBackend);
+                }
+            }
+        }
+    }
 }
 
@@ -23,20 +23,31 @@ import ai.grakn.GraknTxType;
 import ai.grakn.concept.Concept;
 import ai.grakn.exception.GraknBackendException;
 import ai.grakn.exception.TemporaryWriteException;
+import ai.grakn.factory.IndexBackends;
 import ai.grakn.kb.internal.concept.ConceptImpl;
 import ai.grakn.kb.internal.structure.VertexElement;
 import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.janusgraph.core.JanusGraph;
 import org.janusgraph.core.JanusGraphException;
 import org.janusgraph.core.JanusGraphVertex;
+import org.janusgraph.core.PropertyKey;
+import org.janusgraph.core.attribute.Text;
+import org.janusgraph.core.schema.JanusGraphIndex;
+import org.janusgraph.core.schema.JanusGraphManagement;
+import org.janusgraph.core.schema.SchemaStatus;
 import org.janusgraph.core.util.JanusGraphCleanup;
 import org.janusgraph.diskstorage.locking.PermanentLockingException;
 import org.janusgraph.diskstorage.locking.TemporaryLockingException;
 import org.janusgraph.graphdb.database.StandardJanusGraph;
 
+import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -53,8 +64,66 @@ import java.util.function.Supplier;
  * @author fppt
  */
 public class GraknTxJanus extends GraknTxAbstract<JanusGraph> {
+    private static final String RANGE_INDEX_PREFIX = "range";
+    private static final String TEXT_INDEX_PREFIX = "text";
+
+    private final Set<String> rangeIndexedKeys;
+    private final boolean textIndexed;
+
     public GraknTxJanus(JanusGraph graph, String name, String engineUrl, Properties properties){
         super(graph, name, engineUrl, properties);
+        JanusGraphManagement management = graph.openManagement();
+        try {
+            rangeIndexedKeys = Stream.of(Schema.VertexProperty.values()).map(Enum::name)
+                    .filter(propertyKey -> isIndexEnabled(graph, management, rangeIndexName(propertyKey), propertyKey))
+                    .collect(Collectors.toSet());
+            String stringKey = Schema.VertexProperty.VALUE_STRING.name();
+            textIndexed = isIndexEnabled(graph, management, textIndexName(stringKey), stringKey);
+        } finally {
+            management.rollback();
+        }
+    }
+
+    /**
+     * @param propertyKey The property key held in a mixed index
+     * @return The name of the mixed index used to look up the values of the property key by range
+     */
+    public static String rangeIndexName(String propertyKey){
+        return RANGE_INDEX_PREFIX + propertyKey;
+    }
+
+    /**
+     * @param propertyKey The string property key held in a mixed index
+     * @return The name of the mixed index used to look up the values of the property key by their text
+     */
+    public static String textIndexName(String propertyKey){
+        return TEXT_INDEX_PREFIX + propertyKey;
+    }
+
+    /**
+     * Checks if a mixed index can be used. Indexes added to a graph which already holds values are not enabled until
+     * they are reindexed, so they are not used until then. Indexes kept in a backend which is not shared by every
+     * engine, such as Lucene, are never used because they would only hold the values written through this engine.
+     */
+    private static boolean isIndexEnabled(JanusGraph graph, JanusGraphManagement management, String indexName, String propertyKey){
+        JanusGraphIndex index = management.getGraphIndex(indexName);
+        PropertyKey key = management.getPropertyKey(propertyKey);
+        if(index == null || key == null || !index.isMixedIndex()) return false;
+
+        String backend = graph.configuration().getString(
+                IndexBackends.INDEX_CONFIG_PREFIX + index.getBackingIndex() + IndexBackends.INDEX_BACKEND, null);
+        return IndexBackends.isShared(backend) && SchemaStatus.ENABLED.equals(index.getIndexStatus(key));
+    }
+
+    @Override
+    public boolean isRangeIndexed(Schema.VertexProperty key) {
+        return rangeIndexedKeys.contains(key.name());
+    }
+
+    @Override
+    public Optional<P<Object>> getTextIndexPredicate(String pattern) {
+        // The text index holds every string value whole, so it can match a regular expression against the values
+        return textIndexed ? Optional.of(new P<Object>(Text.REGEX, pattern)) : Optional.empty();
     }
 
     /**
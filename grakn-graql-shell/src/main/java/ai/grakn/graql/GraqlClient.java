@@ -64,6 +64,9 @@ class GraqlClient {
         }
     }
 
+    /**
+     * @return A new client to batch load queries, which the caller must close
+     */
     public BatchMutatorClient loaderClient(String keyspace, String uriString) {
         return new BatchMutatorClient(keyspace, uriString).setRetryPolicy(true);
     }
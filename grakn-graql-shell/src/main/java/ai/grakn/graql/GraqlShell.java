@@ -236,9 +236,8 @@ public class GraqlShell {
                 if (cmd.hasOption("s")) {
                     batchSize = Optional.of(Integer.parseInt(cmd.getOptionValue("s")));
                 }
-                try {
-                    sendBatchRequest(client.loaderClient(keyspace, uriString), cmd.getOptionValue("b"),
-                            activeTasks, batchSize);
+                try(BatchMutatorClient batchMutatorClient = client.loaderClient(keyspace, uriString)) {
+                    sendBatchRequest(batchMutatorClient, cmd.getOptionValue("b"), activeTasks, batchSize);
                 } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
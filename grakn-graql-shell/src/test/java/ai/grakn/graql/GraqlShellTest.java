@@ -91,6 +91,7 @@ public class GraqlShellTest {
         GraqlShell.runShell(new String[]{"-s", String.valueOf(batchSize), "-a", String.valueOf(activeTasks), "-b", testFilePath}, expectedVersion, historyFile, client);
         verify(batchMutatorClient).setNumberActiveTasks(activeTasks);
         verify(batchMutatorClient).setBatchSize(batchSize);
+        verify(batchMutatorClient).close();
     }
 
     @Test
@@ -35,13 +35,14 @@ median         : MEDIAN   'of' ofList      ('in' inList)? ';' ;
 mean           : MEAN     'of' ofList      ('in' inList)? ';' ;
 std            : STD      'of' ofList      ('in' inList)? ';' ;
 sum            : SUM      'of' ofList      ('in' inList)? ';' ;
-degrees        : DEGREES ('of' ofList)?    ('in' inList)? ';' ;
+degrees        : DEGREES ('of' ofList)?    ('in' inList)? ';' (PERSIST label? ';')? ;
 cluster        : CLUSTER                   ('in' inList)? ';' clusterParam* ;
 path           : PATH    'from' id 'to' id ('in' inList)? ';' ;
-count          : COUNT                     ('in' inList)? ';' ;
+count          : COUNT                     ('in' inList)? ';' (EXACT ';')? ;
 
 clusterParam   : MEMBERS      ';' # clusterMembers
                | SIZE INTEGER ';' # clusterSize
+               | PERSIST label? ';' # clusterPersist
                ;
 
 ofList         : labelList ;
@@ -116,7 +117,7 @@ id             : identifier ;
 // Some keywords can also be used as identifiers
 identifier     : ID | STRING
                | MIN | MAX| MEDIAN | MEAN | STD | SUM | COUNT | PATH | CLUSTER
-               | DEGREES | MEMBERS | SIZE
+               | DEGREES | MEMBERS | SIZE | EXACT | PERSIST
                ;
 
 // keywords
@@ -132,6 +133,8 @@ CLUSTER        : 'cluster' ;
 DEGREES        : 'degrees' ;
 MEMBERS        : 'members' ;
 SIZE           : 'size' ;
+EXACT          : 'exact' ;
+PERSIST        : 'persist' ;
 MATCH          : 'match' ;
 INSERT         : 'insert' ;
 DEFINE         : 'define' ;
@@ -18,13 +18,13 @@
 
 package ai.grakn.graql.internal.analytics;
 
-import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.process.computer.KeyValue;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -37,12 +37,19 @@ import static ai.grakn.graql.internal.analytics.Utility.reduceSet;
  * It returns a map, the key being the cluster id, the value being a vertex id set containing all the vertices
  * in the given cluster
  * <p>
+ * Vertices are shuffled as numeric vertex ids. The final result keeps the members as vertex ids, which can be mapped
+ * back to concept ids with {@link Utility#vertexIdsToConceptIds(Set)}. Numeric cluster labels are mapped back to
+ * concept ids in the final result.
+ * <p>
+ * When the clusters are persisted, the members of a cluster are only known once they are reduced, so every worker
+ * writes the clusters it reduces, and the partial clusters are not combined before then.
+ * <p>
  *
  * @author Jason Liu
  * @author Sheldon Hall
  */
 
-public class ClusterMemberMapReduce extends GraknMapReduce<Set<String>> {
+public class ClusterMemberMapReduce extends GraknMapReduce<Set<Long>> {
 
     private static final String CLUSTER_LABEL = "clusterMemberMapReduce.clusterLabel";
     private static final String CLUSTER_SIZE = "clusterMemberMapReduce.clusterSize";
@@ -61,28 +68,57 @@ public class ClusterMemberMapReduce extends GraknMapReduce<Set<String>> {
     }
 
     @Override
-    public void safeMap(final Vertex vertex, final MapEmitter<Serializable, Set<String>> emitter) {
+    public void safeMap(final Vertex vertex, final MapEmitter<Serializable, Set<Long>> emitter) {
         if (vertex.property((String) persistentProperties.get(CLUSTER_LABEL)).isPresent()) {
             emitter.emit(vertex.value((String) persistentProperties.get(CLUSTER_LABEL)),
-                    Collections.singleton(vertex.value(Schema.VertexProperty.ID.name())));
+                    Collections.singleton(Utility.getVertexId(vertex)));
         } else {
             emitter.emit(NullObject.instance(), Collections.emptySet());
         }
     }
 
     @Override
-    Set<String> reduceValues(Iterator<Set<String>> values) {
+    Set<Long> reduceValues(Iterator<Set<Long>> values) {
         return reduceSet(values);
     }
 
     @Override
-    public Map<Serializable, Set<String>> generateFinalResult(Iterator<KeyValue<Serializable, Set<String>>> keyValues) {
+    public void reduce(Serializable key, Iterator<Set<Long>> values,
+                       ReduceEmitter<Serializable, Set<Long>> emitter) {
+        Set<Long> members = reduceValues(values);
+        if (persisting() && !key.equals(NullObject.instance()) && hasClusterSize(members.size())) {
+            String cluster = Utility.vertexIdKeyToConceptId(key).toString();
+            members.forEach(member -> persist(Utility.vertexIdToConceptId(member), cluster));
+        }
+        emitter.emit(key, members);
+    }
+
+    @Override
+    Stage persistStage() {
+        return Stage.REDUCE;
+    }
+
+    @Override
+    public boolean doStage(final Stage stage) {
+        return !stage.equals(Stage.COMBINE) || !persisting();
+    }
+
+    private boolean hasClusterSize(long size) {
+        return !persistentProperties.containsKey(CLUSTER_SIZE) || (long) persistentProperties.get(CLUSTER_SIZE) == size;
+    }
+
+    @Override
+    public Map<Serializable, Set<Long>> generateFinalResult(Iterator<KeyValue<Serializable, Set<Long>>> keyValues) {
         if (this.persistentProperties.containsKey(CLUSTER_SIZE)) {
             long clusterSize = (long) persistentProperties.get(CLUSTER_SIZE);
             keyValues = IteratorUtils.filter(keyValues, pair -> Long.valueOf(pair.getValue().size()).equals(clusterSize));
         }
-        final Map<Serializable, Set<String>> clusterPopulation = Utility.keyValuesToMap(keyValues);
-        clusterPopulation.remove(NullObject.instance());
+        final Map<Serializable, Set<Long>> clusterPopulation = new HashMap<>();
+        keyValues.forEachRemaining(pair -> {
+            if (!pair.getKey().equals(NullObject.instance())) {
+                clusterPopulation.put(Utility.vertexIdKeyToConceptId(pair.getKey()), pair.getValue());
+            }
+        });
         return clusterPopulation;
     }
 }
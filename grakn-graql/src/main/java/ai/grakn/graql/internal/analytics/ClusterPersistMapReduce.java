@@ -0,0 +1,98 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.analytics;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The MapReduce program for persisting the result of a clustering query without collecting its members.
+ * <p>
+ * It returns the same map as {@link ClusterSizeMapReduce}, the key being the cluster id, the value being the number of
+ * vertices the given cluster has. The vertices are shuffled as numeric vertex ids instead of being counted as they
+ * are mapped, and every worker writes the clusters it reduces before emitting only their sizes. The partial clusters
+ * are not combined, because the size of a cluster is only known once all its members are reduced.
+ * <p>
+ */
+
+public class ClusterPersistMapReduce extends ClusterSizeMapReduce {
+
+    // Needed internally for OLAP tasks
+    public ClusterPersistMapReduce() {
+    }
+
+    public ClusterPersistMapReduce(String clusterLabel, ResultWriter writer) {
+        super(clusterLabel);
+        persistWith(writer);
+    }
+
+    public ClusterPersistMapReduce(String clusterLabel, Long clusterSize, ResultWriter writer) {
+        super(clusterLabel, clusterSize);
+        persistWith(writer);
+    }
+
+    @Override
+    public void safeMap(final Vertex vertex, final MapEmitter<Serializable, Long> emitter) {
+        if (vertex.property((String) persistentProperties.get(CLUSTER_LABEL)).isPresent()) {
+            emitter.emit(vertex.value((String) persistentProperties.get(CLUSTER_LABEL)), Utility.getVertexId(vertex));
+        } else {
+            emitter.emit(NullObject.instance(), 0L);
+        }
+    }
+
+    @Override
+    public void reduce(Serializable key, Iterator<Long> values, ReduceEmitter<Serializable, Long> emitter) {
+        if (key.equals(NullObject.instance())) {
+            emitter.emit(key, 0L);
+            return;
+        }
+
+        String cluster = Utility.vertexIdKeyToConceptId(key).toString();
+        long size = 0L;
+        if (persistentProperties.containsKey(CLUSTER_SIZE)) {
+            // Only the clusters of the given size are persisted, so the members are written once they are counted
+            List<Long> members = new ArrayList<>();
+            values.forEachRemaining(members::add);
+            size = members.size();
+            if (size == (long) persistentProperties.get(CLUSTER_SIZE)) {
+                members.forEach(member -> persist(Utility.vertexIdToConceptId(member), cluster));
+            }
+        } else {
+            while (values.hasNext()) {
+                persist(Utility.vertexIdToConceptId(values.next()), cluster);
+                size++;
+            }
+        }
+        emitter.emit(key, size);
+    }
+
+    @Override
+    Stage persistStage() {
+        return Stage.REDUCE;
+    }
+
+    @Override
+    public boolean doStage(final Stage stage) {
+        return !stage.equals(Stage.COMBINE);
+    }
+}
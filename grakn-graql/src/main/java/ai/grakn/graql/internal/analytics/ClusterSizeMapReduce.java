@@ -23,6 +23,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -30,6 +31,7 @@ import java.util.Map;
  * The MapReduce program for collecting the result of a clustering query.
  * <p>
  * It returns a map, the key being the cluster id, the value being the number of vertices the given cluster has.
+ * Numeric cluster labels are only mapped back to concept ids in the final result.
  * <p>
  *
  * @author Jason Liu
@@ -38,8 +40,8 @@ import java.util.Map;
 
 public class ClusterSizeMapReduce extends GraknMapReduce<Long> {
 
-    private static final String CLUSTER_LABEL = "clusterSizeMapReduce.clusterLabel";
-    private static final String CLUSTER_SIZE = "clusterSizeMapReduce.clusterSize";
+    static final String CLUSTER_LABEL = "clusterSizeMapReduce.clusterLabel";
+    static final String CLUSTER_SIZE = "clusterSizeMapReduce.clusterSize";
 
     // Needed internally for OLAP tasks
     public ClusterSizeMapReduce() {
@@ -74,8 +76,12 @@ public class ClusterSizeMapReduce extends GraknMapReduce<Long> {
             long clusterSize = (long) persistentProperties.get(CLUSTER_SIZE);
             keyValues = IteratorUtils.filter(keyValues, pair -> pair.getValue().equals(clusterSize));
         }
-        final Map<Serializable, Long> clusterPopulation = Utility.keyValuesToMap(keyValues);
-        clusterPopulation.remove(NullObject.instance());
+        final Map<Serializable, Long> clusterPopulation = new HashMap<>();
+        keyValues.forEachRemaining(pair -> {
+            if (!pair.getKey().equals(NullObject.instance())) {
+                clusterPopulation.put(Utility.vertexIdKeyToConceptId(pair.getKey()), pair.getValue());
+            }
+        });
         return clusterPopulation;
     }
 }
\ No newline at end of file
@@ -19,10 +19,10 @@
 package ai.grakn.graql.internal.analytics;
 
 import ai.grakn.exception.GraqlQueryException;
-import ai.grakn.util.Schema;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
 import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
@@ -31,17 +31,22 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * The vertex program for connected components in a graph.
  * <p>
+ * Every vertex is labelled with the smallest numeric vertex id in its component. Only numeric ids are sent between
+ * vertices, and they are combined before being sent, so each vertex receives at most one message per iteration.
+ * The labels are mapped back to concept ids by {@link ClusterMemberMapReduce} and {@link ClusterSizeMapReduce}.
+ * <p>
  *
  * @author Jason Liu
  * @author Sheldon Hall
  */
 
-public class ConnectedComponentVertexProgram extends GraknVertexProgram<String> {
+public class ConnectedComponentVertexProgram extends GraknVertexProgram<Long> {
 
     private static final int MAX_ITERATION = 100;
 
@@ -77,6 +82,11 @@ public class ConnectedComponentVertexProgram extends GraknVertexProgram<String>
         return MEMORY_COMPUTE_KEYS;
     }
 
+    @Override
+    public Optional<MessageCombiner<Long>> getMessageCombiner() {
+        return Optional.of(MinLabelCombiner.INSTANCE);
+    }
+
     @Override
     public void setup(final Memory memory) {
         LOGGER.debug("ConnectedComponentVertexProgram Started !!!!!!!!");
@@ -84,10 +94,10 @@ public class ConnectedComponentVertexProgram extends GraknVertexProgram<String>
     }
 
     @Override
-    public void safeExecute(final Vertex vertex, Messenger<String> messenger, final Memory memory) {
+    public void safeExecute(final Vertex vertex, Messenger<Long> messenger, final Memory memory) {
         switch (memory.getIteration()) {
             case 0:
-                String id = vertex.value(Schema.VertexProperty.ID.name());
+                Long id = Utility.getVertexId(vertex);
                 vertex.property(clusterLabel, id);
                 messenger.sendMessage(messageScopeIn, id);
                 messenger.sendMessage(messageScopeOut, id);
@@ -98,14 +108,13 @@ public class ConnectedComponentVertexProgram extends GraknVertexProgram<String>
         }
     }
 
-    private void update(Vertex vertex, Messenger<String> messenger, Memory memory) {
-        String currentMax = vertex.value(clusterLabel);
-        String max = IteratorUtils.reduce(messenger.receiveMessages(), currentMax,
-                (a, b) -> a.compareTo(b) > 0 ? a : b);
-        if (max.compareTo(currentMax) > 0) {
-            vertex.property(clusterLabel, max);
-            messenger.sendMessage(messageScopeIn, max);
-            messenger.sendMessage(messageScopeOut, max);
+    private void update(Vertex vertex, Messenger<Long> messenger, Memory memory) {
+        long currentMin = vertex.value(clusterLabel);
+        long min = IteratorUtils.reduce(messenger.receiveMessages(), currentMin, Math::min);
+        if (min < currentMin) {
+            vertex.property(clusterLabel, min);
+            messenger.sendMessage(messageScopeIn, min);
+            messenger.sendMessage(messageScopeOut, min);
             memory.add(VOTE_TO_HALT, false);
         }
     }
@@ -126,4 +135,16 @@ public class ConnectedComponentVertexProgram extends GraknVertexProgram<String>
         return false;
     }
 
-}
\ No newline at end of file
+    /**
+     * Only the smallest label a vertex receives can change its cluster, so the others are dropped before sending
+     */
+    private static class MinLabelCombiner implements MessageCombiner<Long> {
+        private static final long serialVersionUID = -3479154621802475916L;
+        private static final MinLabelCombiner INSTANCE = new MinLabelCombiner();
+
+        @Override
+        public Long combine(Long messageA, Long messageB) {
+            return Math.min(messageA, messageB);
+        }
+    }
+}
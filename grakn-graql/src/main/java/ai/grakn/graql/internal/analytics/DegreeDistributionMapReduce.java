@@ -36,7 +36,7 @@ import static ai.grakn.graql.internal.analytics.Utility.vertexHasSelectedTypeId;
  * The MapReduce program for collecting the result of a degree query.
  * <p>
  * It returns a map, the key being the degree, the value being a vertex id set containing all the vertices
- * with the given degree.
+ * with the given degree. When the degrees are persisted, every worker writes the degrees of the vertices it maps.
  * <p>
  *
  * @author Jason Liu
@@ -57,8 +57,10 @@ public class DegreeDistributionMapReduce extends GraknMapReduce<Set<String>> {
     @Override
     public void safeMap(final Vertex vertex, final MapEmitter<Serializable, Set<String>> emitter) {
         if (selectedTypes.isEmpty() || vertexHasSelectedTypeId(vertex, selectedTypes)) {
-            emitter.emit(vertex.value((String) persistentProperties.get(DegreeVertexProgram.DEGREE)),
-                    Collections.singleton(vertex.value(Schema.VertexProperty.ID.name())));
+            Long degree = vertex.value((String) persistentProperties.get(DegreeVertexProgram.DEGREE));
+            String id = vertex.value(Schema.VertexProperty.ID.name());
+            if (persisting()) persist(id, degree);
+            emitter.emit(degree, Collections.singleton(id));
         } else {
             emitter.emit(NullObject.instance(), Collections.emptySet());
         }
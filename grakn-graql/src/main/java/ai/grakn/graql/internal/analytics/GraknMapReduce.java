@@ -27,6 +27,7 @@ import org.apache.tinkerpop.gremlin.process.computer.KeyValue;
 import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import javax.annotation.Nullable;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Map;
@@ -51,6 +52,9 @@ public abstract class GraknMapReduce<T> extends CommonOLAP
     // Here, -10 is just a number that is not used as a type id.
     public static final int RESERVED_TYPE_LABEL_KEY = -10;
 
+    // The results written by this worker, if they are persisted
+    private @Nullable ResultWriter.Batch batch = null;
+
     GraknMapReduce(Set<LabelId> selectedTypes) {
         this.selectedTypes = selectedTypes;
     }
@@ -64,6 +68,50 @@ public abstract class GraknMapReduce<T> extends CommonOLAP
     GraknMapReduce() {
     }
 
+    /**
+     * Write the results back to the graph as they are computed, in the workers running the stage returned by
+     * {@link #persistStage()}
+     *
+     * @param writer the writer of the results
+     * @return this map reduce
+     */
+    public final GraknMapReduce<T> persistWith(ResultWriter writer) {
+        writer.storeIn(persistentProperties);
+        return this;
+    }
+
+    /**
+     * @return the stage in which the results are persisted, which is the map stage unless the results of a vertex
+     * are only known once the values of its key are reduced
+     */
+    Stage persistStage() {
+        return Stage.MAP;
+    }
+
+    final boolean persisting() {
+        return ResultWriter.isStoredIn(persistentProperties);
+    }
+
+    /**
+     * Persist the result of an instance from the worker running the stage returned by {@link #persistStage()}
+     */
+    final void persist(String conceptId, Object value) {
+        if (batch == null) {
+            batch = ResultWriter.loadFrom(persistentProperties)
+                    .orElseThrow(() -> new IllegalStateException("The results of " + this + " are not persisted"))
+                    .batch();
+        }
+        batch.write(conceptId, value);
+    }
+
+    @Override
+    public void workerEnd(Stage stage) {
+        if (batch != null && stage.equals(persistStage())) {
+            batch.close();
+            batch = null;
+        }
+    }
+
     /**
      * An alternative to the execute method when ghost vertices are an issue. Our "Ghostbuster".
      *
@@ -89,7 +137,7 @@ public abstract class GraknMapReduce<T> extends CommonOLAP
     }
 
     @Override
-    public final void reduce(Serializable key, Iterator<T> values, ReduceEmitter<Serializable, T> emitter) {
+    public void reduce(Serializable key, Iterator<T> values, ReduceEmitter<Serializable, T> emitter) {
         emitter.emit(key, reduceValues(values));
     }
 
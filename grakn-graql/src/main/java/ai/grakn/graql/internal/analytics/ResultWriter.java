@@ -0,0 +1,270 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.analytics;
+
+import ai.grakn.Grakn;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Attribute;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.LabelId;
+import ai.grakn.concept.Relationship;
+import ai.grakn.concept.Role;
+import ai.grakn.concept.Thing;
+import ai.grakn.concept.Type;
+import ai.grakn.exception.GraqlQueryException;
+import ai.grakn.util.Schema;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the results of a compute query back to the graph, as resources of the instances they were computed for.
+ *
+ * <p>
+ * The results are written by the workers of the graph computer while the {@link GraknMapReduce} of the query runs,
+ * each worker writing the instances of its own partition of the graph, so the results are never collected in one
+ * place before they are written. The writer is passed to the workers through the persistent properties of the
+ * {@link GraknMapReduce}. Every worker writes in a {@link Batch} of its own, committed after every
+ * {@link #BATCH_SIZE} instances so a large partition is never held in a single transaction.
+ * </p>
+ *
+ * <p>
+ * A graph without transactions, such as the in-memory graph, cannot be written to while the graph computer runs on
+ * it, so its results are collected and written once the graph computer is done, in batches of the same size.
+ * </p>
+ */
+public class ResultWriter {
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final String URL = "resultWriter.url";
+    private static final String KEYSPACE = "resultWriter.keyspace";
+    private static final String RESOURCE_TYPE = "resultWriter.resourceType";
+    private static final String OWNER_TYPE = "resultWriter.ownerType.";
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("graql-compute-persist-%d").setDaemon(true).build()
+    );
+
+    private final String url;
+    private final String keyspace;
+    private final Label resourceType;
+    private final Set<LabelId> ownerTypes;
+    private final boolean inWorkers;
+
+    private ResultWriter(String url, String keyspace, Label resourceType, Set<LabelId> ownerTypes, boolean inWorkers) {
+        this.url = url;
+        this.keyspace = keyspace;
+        this.resourceType = resourceType;
+        this.ownerTypes = ownerTypes;
+        this.inWorkers = inWorkers;
+    }
+
+    /**
+     * Check the results can be written before they are computed.
+     *
+     * @param tx the transaction the query is executed in
+     * @param resourceType the label of the resource type the results are written as
+     * @param dataType the data type the resource type must have
+     * @param types the types of the instances the results are computed for
+     * @return a writer of the results to the instances of those types which can have the resource type
+     */
+    public static ResultWriter of(
+            GraknTx tx, Label resourceType, AttributeType.DataType<?> dataType, Set<Label> types) {
+        AttributeType<?> attributeType = tx.getAttributeType(resourceType.getValue());
+        if (attributeType == null || !dataType.equals(attributeType.getDataType())) {
+            throw GraqlQueryException.cannotPersistAs(resourceType, dataType);
+        }
+
+        Role owner = tx.getSchemaConcept(Schema.ImplicitType.HAS_OWNER.getLabel(resourceType));
+        if (owner == null) throw GraqlQueryException.noTypeCanPersist(resourceType);
+
+        Set<LabelId> ownerTypes = types.stream()
+                .map(label -> tx.<Type>getSchemaConcept(label))
+                .filter(type -> type.plays().anyMatch(owner::equals))
+                .map(Type::getLabelId)
+                .collect(Collectors.toSet());
+        if (ownerTypes.isEmpty()) throw GraqlQueryException.noTypeCanPersist(resourceType);
+
+        // Without transactions every write goes straight to the graph the graph computer is running on
+        boolean inWorkers = tx.admin().getTinkerTraversal().getGraph().features().graph().supportsTransactions();
+
+        return new ResultWriter(tx.admin().getEngineUrl(), tx.getKeyspace(), resourceType, ownerTypes, inWorkers);
+    }
+
+    /**
+     * @return if the results are written by the workers of the graph computer, rather than once it is done
+     */
+    public boolean inWorkers() {
+        return inWorkers;
+    }
+
+    /**
+     * Write the results collected from the graph computer, when they are not written by its workers.
+     * Transactions are bound to their thread and the transaction the query is executed in is still open, so the
+     * results are written from another thread.
+     *
+     * @param results the IDs of the instances with each value, as returned by the map reduce of the query
+     */
+    public <V> void write(Map<V, Set<String>> results) {
+        Future<?> written = EXECUTOR.submit(() -> {
+            try (Batch batch = batch()) {
+                results.forEach((value, ids) -> ids.forEach(id -> batch.write(id, value)));
+            }
+        });
+
+        try {
+            written.get();
+        } catch (InterruptedException e) {
+            written.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new TraversalInterruptedException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * @param properties the persistent properties of a {@link GraknMapReduce} to pass this writer to its workers in
+     */
+    void storeIn(Map<String, Object> properties) {
+        properties.put(URL, url);
+        properties.put(KEYSPACE, keyspace);
+        properties.put(RESOURCE_TYPE, resourceType.getValue());
+        ownerTypes.forEach(type -> properties.put(OWNER_TYPE + type.getValue(), type.getValue()));
+    }
+
+    /**
+     * @param properties the persistent properties of a {@link GraknMapReduce}
+     * @return if a writer is passed in the properties
+     */
+    static boolean isStoredIn(Map<String, Object> properties) {
+        return properties.containsKey(URL);
+    }
+
+    /**
+     * @param properties the persistent properties of a {@link GraknMapReduce}
+     * @return the writer passed in the properties, if there is one
+     */
+    static Optional<ResultWriter> loadFrom(Map<String, Object> properties) {
+        if (!isStoredIn(properties)) return Optional.empty();
+
+        Set<LabelId> ownerTypes = properties.keySet().stream()
+                .filter(key -> key.startsWith(OWNER_TYPE))
+                .map(key -> LabelId.of(Integer.parseInt(key.substring(OWNER_TYPE.length()))))
+                .collect(Collectors.toSet());
+
+        return Optional.of(new ResultWriter(
+                properties.get(URL).toString(),
+                properties.get(KEYSPACE).toString(),
+                Label.of(properties.get(RESOURCE_TYPE).toString()),
+                ownerTypes,
+                true
+        ));
+    }
+
+    /**
+     * @return a new batch, which must be closed by the worker writing to it once it is done
+     */
+    Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * The results written by one worker, or by {@link #write(Map)}, in a batch transaction opened when the first of
+     * them is written. Transactions are bound to their thread, so a batch must only be used by the thread which
+     * opened it.
+     */
+    class Batch implements AutoCloseable {
+
+        private @Nullable GraknTx tx = null;
+        private int size = 0;
+
+        /**
+         * @param conceptId the ID of the instance the result was computed for
+         * @param value the result, which must be of the data type of the resource type
+         */
+        void write(String conceptId, Object value) {
+            if (tx == null) tx = Grakn.session(url, keyspace).open(GraknTxType.BATCH);
+
+            try {
+                Thing thing = tx.getConcept(ConceptId.of(conceptId));
+
+                // The instance may have been deleted since the results were computed
+                if (thing == null || !ownerTypes.contains(thing.type().getLabelId())) return;
+
+                AttributeType<Object> attributeType = tx.getSchemaConcept(resourceType);
+                Role owner = tx.getSchemaConcept(Schema.ImplicitType.HAS_OWNER.getLabel(resourceType));
+                replaceResource(thing, owner, attributeType.putAttribute(value));
+            } catch (RuntimeException e) {
+                // The worker gives up on the batch, so the transaction must not be left open on its thread
+                tx.close();
+                tx = null;
+                size = 0;
+                throw e;
+            }
+
+            if (++size == BATCH_SIZE) commit();
+        }
+
+        @Override
+        public void close() {
+            commit();
+        }
+
+        private void commit() {
+            if (tx == null) return;
+            try {
+                tx.commit();
+            } finally {
+                tx.close();
+                tx = null;
+                size = 0;
+            }
+        }
+    }
+
+    /**
+     * Give the instance the resource, removing any other resource of the same type left by a previous query
+     */
+    private static void replaceResource(Thing thing, Role owner, Attribute<?> attribute) {
+        boolean present = false;
+        for (Relationship has : thing.relationships(owner).collect(Collectors.toList())) {
+            if (has.rolePlayers().anyMatch(attribute::equals)) {
+                present = true;
+            } else {
+                has.delete();
+            }
+        }
+        if (!present) thing.attribute(attribute);
+    }
+}
@@ -21,7 +21,6 @@ package ai.grakn.graql.internal.analytics;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.util.ErrorMessage;
-import ai.grakn.util.Schema;
 import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
 import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
@@ -30,8 +29,6 @@ import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.javatuples.Pair;
-import org.javatuples.Tuple;
 
 import java.util.Collections;
 import java.util.Iterator;
@@ -40,21 +37,25 @@ import java.util.Set;
 /**
  * The vertex program for computing the shortest path between two instances.
  * <p>
+ * Vertices are referred to by their numeric vertex ids. A message is a single long holding both the id of the
+ * sender and whether it was reached from the source or from the destination, and the vertices found on the path are
+ * only mapped back to concept ids in the final result.
+ * <p>
  *
  * @author Jason Liu
  * @author Sheldon Hall
  */
 
-public class ShortestPathVertexProgram extends GraknVertexProgram<Tuple> {
+public class ShortestPathVertexProgram extends GraknVertexProgram<Long> {
 
     private static final int MAX_ITERATION = 50;
 
     public static final String FOUND_IN_ITERATION = "shortestPathVertexProgram.foundInIteration";
     public static final String MIDDLE = "shortestPathVertexProgram.middle";
 
-    private static final int ID = 0;
-    private static final int DIRECTION = 1;
-    private static final String DIVIDER = "\t";
+    // Vertex ids are never negative, so this can be used when there is no vertex to refer to
+    public static final long NO_VERTEX = -1L;
+    private static final long[] NO_PREDECESSORS = new long[0];
 
     private static final String PREDECESSOR = "shortestPathVertexProgram.fromVertex";
     private static final String VISITED_IN_ITERATION = "shortestPathVertexProgram.visitedInIteration";
@@ -84,8 +85,8 @@ public class ShortestPathVertexProgram extends GraknVertexProgram<Tuple> {
     }
 
     public ShortestPathVertexProgram(ConceptId sourceId, ConceptId destinationId) {
-        this.persistentProperties.put(SOURCE, sourceId.getValue());
-        this.persistentProperties.put(DESTINATION, destinationId.getValue());
+        this.persistentProperties.put(SOURCE, Utility.conceptIdToVertexId(sourceId));
+        this.persistentProperties.put(DESTINATION, Utility.conceptIdToVertexId(destinationId));
     }
 
     @Override
@@ -112,42 +113,42 @@ public class ShortestPathVertexProgram extends GraknVertexProgram<Tuple> {
         memory.set(VOTE_TO_HALT_SOURCE, true);
         memory.set(VOTE_TO_HALT_DESTINATION, true);
         memory.set(FOUND_PATH, false);
-        memory.set(PREDECESSOR_FROM_SOURCE, "");
-        memory.set(PREDECESSOR_FROM_DESTINATION, "");
-        memory.set(PREDECESSORS, "");
-        memory.set(MIDDLE, "");
+        memory.set(PREDECESSOR_FROM_SOURCE, NO_VERTEX);
+        memory.set(PREDECESSOR_FROM_DESTINATION, NO_VERTEX);
+        memory.set(PREDECESSORS, NO_PREDECESSORS);
+        memory.set(MIDDLE, NO_VERTEX);
     }
 
     @Override
-    public void safeExecute(final Vertex vertex, Messenger<Tuple> messenger, final Memory memory) {
-        String id;
+    public void safeExecute(final Vertex vertex, Messenger<Long> messenger, final Memory memory) {
+        long id;
         switch (memory.getIteration()) {
             case 0:
                 // send message from both source(1) and destination(-1) vertex
-                id = vertex.value(Schema.VertexProperty.ID.name());
-                if (persistentProperties.get(SOURCE).equals(id)) {
+                id = Utility.getVertexId(vertex);
+                if (source() == id) {
                     LOGGER.debug("Found source vertex");
-                    vertex.property(PREDECESSOR, "");
+                    vertex.property(PREDECESSOR, NO_VERTEX);
                     vertex.property(VISITED_IN_ITERATION, 1);
-                    messenger.sendMessage(messageScopeIn, Pair.with(id, 1));
-                    messenger.sendMessage(messageScopeOut, Pair.with(id, 1));
-                } else if (persistentProperties.get(DESTINATION).equals(id)) {
+                    messenger.sendMessage(messageScopeIn, message(id, 1));
+                    messenger.sendMessage(messageScopeOut, message(id, 1));
+                } else if (destination() == id) {
                     LOGGER.debug("Found destination vertex");
-                    vertex.property(PREDECESSOR, "");
+                    vertex.property(PREDECESSOR, NO_VERTEX);
                     vertex.property(VISITED_IN_ITERATION, -1);
-                    messenger.sendMessage(messageScopeIn, Pair.with(id, -1));
-                    messenger.sendMessage(messageScopeOut, Pair.with(id, -1));
+                    messenger.sendMessage(messageScopeIn, message(id, -1));
+                    messenger.sendMessage(messageScopeOut, message(id, -1));
                 }
                 break;
             default:
                 if (memory.<Boolean>get(FOUND_PATH)) {
                     //This will likely have to change as we support more and more vendors.
-                    id = vertex.value(Schema.VertexProperty.ID.name());
-                    if (memory.get(PREDECESSOR_FROM_SOURCE).equals(id)) {
+                    id = Utility.getVertexId(vertex);
+                    if (memory.<Long>get(PREDECESSOR_FROM_SOURCE) == id) {
                         LOGGER.debug("Traversing back to vertex " + id);
                         memory.add(PREDECESSOR_FROM_SOURCE, vertex.value(PREDECESSOR));
                         vertex.property(FOUND_IN_ITERATION, -1 * memory.getIteration());
-                    } else if (memory.get(PREDECESSOR_FROM_DESTINATION).equals(id)) {
+                    } else if (memory.<Long>get(PREDECESSOR_FROM_DESTINATION) == id) {
                         LOGGER.debug("Traversing back to vertex " + id);
                         memory.add(PREDECESSOR_FROM_DESTINATION, vertex.value(PREDECESSOR));
                         vertex.property(FOUND_IN_ITERATION, memory.getIteration());
@@ -159,34 +160,32 @@ public class ShortestPathVertexProgram extends GraknVertexProgram<Tuple> {
         }
     }
 
-    private void updateInstance(Vertex vertex, Messenger<Tuple> messenger, Memory memory) {
+    private void updateInstance(Vertex vertex, Messenger<Long> messenger, Memory memory) {
         if (!vertex.property(PREDECESSOR).isPresent()) {
-            String id = vertex.value(Schema.VertexProperty.ID.name());
+            long id = Utility.getVertexId(vertex);
             LOGGER.debug("Considering instance " + id);
 
-            Iterator<Tuple> iterator = messenger.receiveMessages();
+            Iterator<Long> iterator = messenger.receiveMessages();
             boolean hasMessageSource = false;
             boolean hasMessageDestination = false;
-            String predecessorFromSource = null;
-            String predecessorFromDestination = null;
+            long predecessorFromSource = NO_VERTEX;
+            long predecessorFromDestination = NO_VERTEX;
 
             while (iterator.hasNext()) {
-                Tuple message = iterator.next();
-                int messageDirection = (int) message.getValue(DIRECTION);
+                long message = iterator.next();
 
-                if (messageDirection > 0) {
+                if (messageDirection(message) > 0) {
                     if (!hasMessageSource) {
                         LOGGER.debug("Received a message from source vertex");
                         hasMessageSource = true;
-                        predecessorFromSource = (String) message.getValue(ID);
+                        predecessorFromSource = messageSender(message);
                         vertex.property(PREDECESSOR, predecessorFromSource);
                         vertex.property(VISITED_IN_ITERATION, memory.getIteration() + 1);
                         memory.add(VOTE_TO_HALT_SOURCE, false);
                         if (hasMessageDestination) {
                             LOGGER.debug("Found path");
                             memory.add(FOUND_PATH, true);
-                            memory.add(PREDECESSORS, predecessorFromSource + DIVIDER + predecessorFromDestination +
-                                    DIVIDER + id);
+                            memory.add(PREDECESSORS, new long[]{predecessorFromSource, predecessorFromDestination, id});
                             return;
                         }
                     }
@@ -194,48 +193,45 @@ public class ShortestPathVertexProgram extends GraknVertexProgram<Tuple> {
                     if (!hasMessageDestination) {
                         LOGGER.debug("Received a message from destination vertex");
                         hasMessageDestination = true;
-                        predecessorFromDestination = (String) message.getValue(ID);
+                        predecessorFromDestination = messageSender(message);
                         vertex.property(PREDECESSOR, predecessorFromDestination);
                         vertex.property(VISITED_IN_ITERATION, -1 * memory.getIteration() - 1);
                         memory.add(VOTE_TO_HALT_DESTINATION, false);
                         if (hasMessageSource) {
                             LOGGER.debug("Found path");
                             memory.add(FOUND_PATH, true);
-                            memory.add(PREDECESSORS, predecessorFromSource + DIVIDER + predecessorFromDestination +
-                                    DIVIDER + id);
+                            memory.add(PREDECESSORS, new long[]{predecessorFromSource, predecessorFromDestination, id});
                             return;
                         }
                     }
                 }
             }
 
-            int message = hasMessageSource ? 1 : -1;
-            messenger.sendMessage(messageScopeIn, Pair.with(id, message));
-            messenger.sendMessage(messageScopeOut, Pair.with(id, message));
+            int direction = hasMessageSource ? 1 : -1;
+            messenger.sendMessage(messageScopeIn, message(id, direction));
+            messenger.sendMessage(messageScopeOut, message(id, direction));
 
         } else {
             int messageDirection = memory.getIteration() / (int) vertex.value(VISITED_IN_ITERATION);
             if (messageDirection == 1) {
-                Iterator<Tuple> iterator = messenger.receiveMessages();
+                Iterator<Long> iterator = messenger.receiveMessages();
                 while (iterator.hasNext()) {
-                    Tuple message = iterator.next();
-                    if ((int) message.getValue(DIRECTION) == -1) {
+                    long message = iterator.next();
+                    if (messageDirection(message) == -1) {
                         LOGGER.debug("Found path");
                         memory.add(FOUND_PATH, true);
-                        memory.add(PREDECESSORS, vertex.value(Schema.VertexProperty.ID.name()) +
-                                DIVIDER + message.getValue(ID));
+                        memory.add(PREDECESSORS, new long[]{Utility.getVertexId(vertex), messageSender(message)});
                         return;
                     }
                 }
             } else if (messageDirection == -1) {
-                Iterator<Tuple> iterator = messenger.receiveMessages();
+                Iterator<Long> iterator = messenger.receiveMessages();
                 while (iterator.hasNext()) {
-                    Tuple message = iterator.next();
-                    if ((int) message.getValue(DIRECTION) == 1) {
+                    long message = iterator.next();
+                    if (messageDirection(message) == 1) {
                         LOGGER.debug("Found path");
                         memory.add(FOUND_PATH, true);
-                        memory.add(PREDECESSORS, message.getValue(ID) + DIVIDER +
-                                vertex.value(Schema.VertexProperty.ID.name()));
+                        memory.add(PREDECESSORS, new long[]{messageSender(message), Utility.getVertexId(vertex)});
                         return;
                     }
                 }
@@ -249,18 +245,18 @@ public class ShortestPathVertexProgram extends GraknVertexProgram<Tuple> {
         if (memory.getIteration() == 0) return false;
 
         if (memory.<Boolean>get(FOUND_PATH)) {
-            if (!memory.get(PREDECESSORS).equals("")) {
-                String[] predecessors = ((String) memory.get(PREDECESSORS)).split(DIVIDER);
-                memory.set(PREDECESSORS, "");
+            long[] predecessors = memory.get(PREDECESSORS);
+            if (predecessors.length > 0) {
+                memory.set(PREDECESSORS, NO_PREDECESSORS);
                 memory.set(PREDECESSOR_FROM_SOURCE, predecessors[0]);
                 memory.set(PREDECESSOR_FROM_DESTINATION, predecessors[1]);
                 if (predecessors.length > 2) {
                     memory.set(MIDDLE, predecessors[2]);
                 }
                 //Be careful in Tinkergraph as things set here cannot be got!!!
-                return predecessors[0].equals(persistentProperties.get(SOURCE));
+                return predecessors[0] == source();
             }
-            return memory.get(PREDECESSOR_FROM_SOURCE).equals(persistentProperties.get(SOURCE));
+            return memory.<Long>get(PREDECESSOR_FROM_SOURCE) == source();
         }
 
         if (memory.<Boolean>get(VOTE_TO_HALT_SOURCE) || memory.<Boolean>get(VOTE_TO_HALT_DESTINATION)) {
@@ -277,4 +273,28 @@ public class ShortestPathVertexProgram extends GraknVertexProgram<Tuple> {
         memory.set(VOTE_TO_HALT_DESTINATION, true);
         return false;
     }
+
+    private long source() {
+        return (long) persistentProperties.get(SOURCE);
+    }
+
+    private long destination() {
+        return (long) persistentProperties.get(DESTINATION);
+    }
+
+    /**
+     * Packs the id of the sending vertex and the direction of the search into a single long.
+     * Messages from the source side are the vertex id itself and messages from the destination side are negative.
+     */
+    private static long message(long vertexId, int direction) {
+        return direction > 0 ? vertexId : -vertexId - 1;
+    }
+
+    private static long messageSender(long message) {
+        return message >= 0 ? message : -message - 1;
+    }
+
+    private static int messageDirection(long message) {
+        return message >= 0 ? 1 : -1;
+    }
 }
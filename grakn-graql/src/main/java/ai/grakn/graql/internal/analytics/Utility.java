@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.analytics;
 
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.LabelId;
 import ai.grakn.concept.SchemaConcept;
@@ -25,11 +26,13 @@ import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.process.computer.KeyValue;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Some helper methods for MapReduce and vertex program.
@@ -81,6 +84,62 @@ public class Utility {
         }
     }
 
+    /**
+     * The numeric id of a vertex, which is what vertex programs send between vertices instead of its
+     * {@link ConceptId}. It can be mapped back using {@link #vertexIdToConceptId(long)}.
+     *
+     * @param vertex the Tinkerpop vertex
+     * @return the numeric id of the vertex
+     */
+    static long getVertexId(Vertex vertex) {
+        Object id = vertex.id();
+        if (id instanceof Number) return ((Number) id).longValue();
+        return conceptIdToVertexId(ConceptId.of(vertex.value(Schema.VertexProperty.ID.name())));
+    }
+
+    /**
+     * @param conceptId the id of a concept which is stored as a vertex
+     * @return the numeric id of the vertex
+     */
+    static long conceptIdToVertexId(ConceptId conceptId) {
+        return Long.parseLong(conceptId.getValue().substring(Schema.PREFIX_VERTEX.length()));
+    }
+
+    /**
+     * @param vertexId the numeric id of a vertex
+     * @return the id of the concept stored in the vertex
+     */
+    public static String vertexIdToConceptId(long vertexId) {
+        return Schema.PREFIX_VERTEX + vertexId;
+    }
+
+    /**
+     * @param vertexIds the numeric ids of some vertices
+     * @return the ids of the concepts stored in the vertices
+     */
+    public static Set<String> vertexIdsToConceptIds(Set<Long> vertexIds) {
+        return vertexIds.stream().map(Utility::vertexIdToConceptId).collect(Collectors.toSet());
+    }
+
+    /**
+     * @param conceptId the id of a concept
+     * @return if the concept is stored as a vertex, and so can be reached by a vertex program
+     */
+    public static boolean isVertexId(ConceptId conceptId) {
+        return conceptId.getValue().startsWith(Schema.PREFIX_VERTEX);
+    }
+
+    /**
+     * Maps the key of a MapReduce result back to a concept id when it is a numeric vertex id, such as a cluster label.
+     * Any other key is returned as it is.
+     *
+     * @param key the key emitted by the MapReduce
+     * @return the concept id of the vertex or the key itself
+     */
+    static Serializable vertexIdKeyToConceptId(Serializable key) {
+        return key instanceof Long ? vertexIdToConceptId((Long) key) : key;
+    }
+
     /**
      * A helper method for set MapReduce. It simply combines sets into one set.
      *
@@ -151,6 +151,23 @@ public class Fragments {
         return new ResourceIndexFragment(varProperty, start, label, resourceValue);
     }
 
+    /**
+     * A {@link Fragment} that uses an ordered index of attribute values to find the values matching a predicate.
+     */
+    public static Fragment rangeIndex(
+            VarProperty varProperty, Var start, ValuePredicateAdmin predicate, long estimatedCount) {
+        return new RangeIndexFragment(varProperty, start, predicate, estimatedCount);
+    }
+
+    /**
+     * A {@link Fragment} that uses a text index of string values to find the values which might match a predicate.
+     */
+    public static Fragment textIndex(
+            VarProperty varProperty, Var start, ValuePredicateAdmin predicate, P<Object> indexPredicate,
+            long estimatedCount) {
+        return new TextIndexFragment(varProperty, start, predicate, indexPredicate, estimatedCount);
+    }
+
     static <T> GraphTraversal<T, Vertex> outSubs(GraphTraversal<T, Vertex> traversal) {
         // These traversals make sure to only navigate types by checking they do not have a `THING_TYPE_LABEL_ID` property
         return union(traversal, ImmutableSet.of(
@@ -0,0 +1,84 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.gremlin.fragment;
+
+import ai.grakn.GraknTx;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.ValuePredicateAdmin;
+import ai.grakn.graql.admin.VarProperty;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+/**
+ * A {@link ValueFragment} comparing against a value by order, where the values are held in an ordered index.
+ * When it starts a traversal the index is used to find the attributes in the range, and its cost is based on the
+ * number of attributes the index found in the range when the query was planned.
+ */
+class RangeIndexFragment extends AbstractFragment {
+
+    private final ValuePredicateAdmin predicate;
+    private final long estimatedCount;
+
+    RangeIndexFragment(VarProperty varProperty, Var start, ValuePredicateAdmin predicate, long estimatedCount) {
+        super(varProperty, start);
+        this.predicate = predicate;
+        this.estimatedCount = estimatedCount;
+    }
+
+    @Override
+    public GraphTraversal<Element, ? extends Element> applyTraversal(
+            GraphTraversal<Element, ? extends Element> traversal, GraknTx graph) {
+
+        return predicate.applyPredicate(traversal);
+    }
+
+    @Override
+    public String getName() {
+        return "[range-index:" + predicate + "]";
+    }
+
+    @Override
+    public double fragmentCost() {
+        return Math.log1p(COST_INDEX * estimatedCount);
+    }
+
+    @Override
+    public boolean hasFixedFragmentCost() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+
+        RangeIndexFragment that = (RangeIndexFragment) o;
+
+        return estimatedCount == that.estimatedCount && predicate.equals(that.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + predicate.hashCode();
+        result = 31 * result + (int) (estimatedCount ^ (estimatedCount >>> 32));
+        return result;
+    }
+}
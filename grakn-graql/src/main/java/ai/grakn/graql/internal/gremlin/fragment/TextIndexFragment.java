@@ -0,0 +1,93 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.gremlin.fragment;
+
+import ai.grakn.GraknTx;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.ValuePredicateAdmin;
+import ai.grakn.graql.admin.VarProperty;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import static ai.grakn.util.Schema.VertexProperty.VALUE_STRING;
+
+/**
+ * A {@link ValueFragment} matching string values by their text, where the values are held in a text index.
+ * When it starts a traversal the index is used to find the attributes which might match, and these are then checked
+ * against the predicate. Its cost is based on the number of attributes the index found when the query was planned.
+ */
+class TextIndexFragment extends AbstractFragment {
+
+    private final ValuePredicateAdmin predicate;
+    private final P<Object> indexPredicate;
+    private final long estimatedCount;
+
+    TextIndexFragment(
+            VarProperty varProperty, Var start, ValuePredicateAdmin predicate, P<Object> indexPredicate,
+            long estimatedCount) {
+        super(varProperty, start);
+        this.predicate = predicate;
+        this.indexPredicate = indexPredicate;
+        this.estimatedCount = estimatedCount;
+    }
+
+    @Override
+    public GraphTraversal<Element, ? extends Element> applyTraversal(
+            GraphTraversal<Element, ? extends Element> traversal, GraknTx graph) {
+
+        return predicate.applyPredicate(traversal.has(VALUE_STRING.name(), indexPredicate));
+    }
+
+    @Override
+    public String getName() {
+        return "[text-index:" + predicate + "]";
+    }
+
+    @Override
+    public double fragmentCost() {
+        return Math.log1p(COST_INDEX * estimatedCount);
+    }
+
+    @Override
+    public boolean hasFixedFragmentCost() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+
+        TextIndexFragment that = (TextIndexFragment) o;
+
+        return estimatedCount == that.estimatedCount && predicate.equals(that.predicate) &&
+                indexPredicate.equals(that.indexPredicate);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + predicate.hashCode();
+        result = 31 * result + indexPredicate.hashCode();
+        result = 31 * result + (int) (estimatedCount ^ (estimatedCount >>> 32));
+        return result;
+    }
+}
@@ -38,9 +38,11 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static ai.grakn.graql.internal.gremlin.sets.LabelFragmentSet.applyRedundantLabelEliminationOptimisation;
+import static ai.grakn.graql.internal.gremlin.sets.RangeIndexFragmentSet.applyRangeIndexOptimisation;
 import static ai.grakn.graql.internal.gremlin.sets.ResourceIndexFragmentSet.applyResourceIndexOptimisation;
 import static ai.grakn.graql.internal.gremlin.sets.ShortcutFragmentSet.applyShortcutRelationTypeOptimisation;
 import static ai.grakn.graql.internal.gremlin.sets.ShortcutFragmentSet.applyShortcutRoleOptimisation;
+import static ai.grakn.graql.internal.gremlin.sets.TextIndexFragmentSet.applyTextIndexOptimisation;
 
 /**
  * Factory class for producing instances of {@link EquivalentFragmentSet}.
@@ -165,6 +167,8 @@ public class EquivalentFragmentSets {
         // TODO: Create a real interface for these when there are more of them
         ImmutableList<Supplier<Boolean>> optimisations = ImmutableList.of(
                 () -> applyResourceIndexOptimisation(fragmentSets, graph),
+                () -> applyRangeIndexOptimisation(fragmentSets, graph),
+                () -> applyTextIndexOptimisation(fragmentSets, graph),
                 () -> applyShortcutRoleOptimisation(fragmentSets, graph),
                 () -> applyShortcutRelationTypeOptimisation(fragmentSets, graph),
                 () -> applyRedundantLabelEliminationOptimisation(fragmentSets, graph)
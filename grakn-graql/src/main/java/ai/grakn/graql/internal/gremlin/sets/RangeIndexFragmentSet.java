@@ -0,0 +1,80 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ *
+ */
+package ai.grakn.graql.internal.gremlin.sets;
+
+import ai.grakn.GraknTx;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.ValuePredicateAdmin;
+import ai.grakn.graql.admin.VarProperty;
+import ai.grakn.graql.internal.gremlin.EquivalentFragmentSet;
+import ai.grakn.graql.internal.gremlin.fragment.Fragments;
+import ai.grakn.util.Schema;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import static ai.grakn.graql.internal.gremlin.sets.EquivalentFragmentSets.fragmentSetOfType;
+
+/**
+ * A query can use a range index traversal when the following criteria are met:
+ * <p>
+ * 1. There is a {@link ValueFragmentSet} comparing against a literal value by order.
+ * 2. The values of the type of the literal are held in an ordered index in the graph.
+ * 3. The index finds fewer than {@link #RANGE_INDEX_PROBE_LIMIT} attributes in the range.
+ * <p>
+ * When all these criteria are met, the {@link ValueFragmentSet} can be replaced with a {@link RangeIndexFragmentSet}
+ * which can start the traversal from the attributes found in the index, instead of checking the value of every
+ * attribute reached some other way.
+ */
+class RangeIndexFragmentSet extends EquivalentFragmentSet {
+
+    static final long RANGE_INDEX_PROBE_LIMIT = 1000;
+
+    private static final String RANGE_INDEX = "range";
+
+    private RangeIndexFragmentSet(
+            VarProperty varProperty, Var start, ValuePredicateAdmin predicate, long estimatedCount) {
+        super(Fragments.rangeIndex(varProperty, start, predicate, estimatedCount));
+    }
+
+    static boolean applyRangeIndexOptimisation(Collection<EquivalentFragmentSet> fragmentSets, GraknTx graph) {
+
+        Iterable<ValueFragmentSet> valueSets = fragmentSetOfType(ValueFragmentSet.class, fragmentSets)::iterator;
+
+        for (ValueFragmentSet valueSet : valueSets) {
+            ValuePredicateAdmin predicate = valueSet.predicate();
+            if (predicate.getInnerVar().isPresent()) continue;
+
+            Optional<Schema.VertexProperty> property = predicate.rangeProperty();
+            if (!property.isPresent() || !graph.admin().isRangeIndexed(property.get())) continue;
+
+            // Only counts up to the limit, so planning is never slower than a bounded index lookup
+            long count = valueSet.indexCount(RANGE_INDEX, () -> predicate.applyPredicate(
+                    graph.admin().getTinkerTraversal().V()).limit(RANGE_INDEX_PROBE_LIMIT).count().next());
+
+            if (count < RANGE_INDEX_PROBE_LIMIT) {
+                fragmentSets.remove(valueSet);
+                fragmentSets.add(new RangeIndexFragmentSet(valueSet.varProperty(), valueSet.resource(), predicate, count));
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.gremlin.sets;
+
+import ai.grakn.GraknTx;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.ValuePredicateAdmin;
+import ai.grakn.graql.admin.VarProperty;
+import ai.grakn.graql.internal.gremlin.EquivalentFragmentSet;
+import ai.grakn.graql.internal.gremlin.fragment.Fragments;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import static ai.grakn.graql.internal.gremlin.sets.EquivalentFragmentSets.fragmentSetOfType;
+import static ai.grakn.util.Schema.VertexProperty.VALUE_STRING;
+
+/**
+ * A query can use a text index traversal when the following criteria are met:
+ * <p>
+ * 1. There is a {@link ValueFragmentSet} matching string values by their text against a literal, such as "contains" or
+ * a regex with a literal prefix.
+ * 2. The string values are held in a text index in the graph.
+ * 3. The index finds fewer than {@link #TEXT_INDEX_PROBE_LIMIT} attributes which might match.
+ * <p>
+ * When all these criteria are met, the {@link ValueFragmentSet} can be replaced with a {@link TextIndexFragmentSet}
+ * which can start the traversal from the attributes found in the index, instead of checking the value of every
+ * attribute reached some other way.
+ */
+class TextIndexFragmentSet extends EquivalentFragmentSet {
+
+    static final long TEXT_INDEX_PROBE_LIMIT = 1000;
+
+    private static final String TEXT_INDEX = "text";
+
+    private TextIndexFragmentSet(
+            VarProperty varProperty, Var start, ValuePredicateAdmin predicate, P<Object> indexPredicate,
+            long estimatedCount) {
+        super(Fragments.textIndex(varProperty, start, predicate, indexPredicate, estimatedCount));
+    }
+
+    static boolean applyTextIndexOptimisation(Collection<EquivalentFragmentSet> fragmentSets, GraknTx graph) {
+
+        Iterable<ValueFragmentSet> valueSets = fragmentSetOfType(ValueFragmentSet.class, fragmentSets)::iterator;
+
+        for (ValueFragmentSet valueSet : valueSets) {
+            ValuePredicateAdmin predicate = valueSet.predicate();
+            if (predicate.getInnerVar().isPresent()) continue;
+
+            Optional<P<Object>> indexPredicate =
+                    predicate.textIndexPattern().flatMap(graph.admin()::getTextIndexPredicate);
+            if (!indexPredicate.isPresent()) continue;
+
+            // Only counts up to the limit, so planning is never slower than a bounded index lookup
+            long count = valueSet.indexCount(TEXT_INDEX, () -> graph.admin().getTinkerTraversal().V()
+                    .has(VALUE_STRING.name(), indexPredicate.get()).limit(TEXT_INDEX_PROBE_LIMIT).count().next());
+
+            if (count < TEXT_INDEX_PROBE_LIMIT) {
+                fragmentSets.remove(valueSet);
+                fragmentSets.add(new TextIndexFragmentSet(
+                        valueSet.varProperty(), valueSet.resource(), predicate, indexPredicate.get(), count));
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -25,17 +25,30 @@ import ai.grakn.graql.admin.VarProperty;
 import ai.grakn.graql.internal.gremlin.EquivalentFragmentSet;
 import ai.grakn.graql.internal.gremlin.fragment.Fragments;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
 class ValueFragmentSet extends EquivalentFragmentSet {
 
+    private final VarProperty varProperty;
     private final Var resource;
     private final ValuePredicateAdmin predicate;
 
+    // The number of attributes each index found when probed, so the indexes are only probed once per query plan
+    private final Map<String, Long> indexCounts = new HashMap<>();
+
     ValueFragmentSet(VarProperty varProperty, Var resource, ValuePredicateAdmin predicate) {
         super(Fragments.value(varProperty, resource, predicate));
+        this.varProperty = varProperty;
         this.resource = resource;
         this.predicate = predicate;
     }
 
+    VarProperty varProperty() {
+        return varProperty;
+    }
+
     Var resource() {
         return resource;
     }
@@ -43,4 +56,13 @@ class ValueFragmentSet extends EquivalentFragmentSet {
     ValuePredicateAdmin predicate() {
         return predicate;
     }
+
+    /**
+     * @param index The name of the index probed, e.g. "range"
+     * @param counter Counts the attributes the index finds for the predicate
+     * @return The number of attributes the index found, which is only counted the first time it is asked for
+     */
+    long indexCount(String index, Supplier<Long> counter) {
+        return indexCounts.computeIfAbsent(index, i -> counter.get());
+    }
 }
@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.hal;
 
+import ai.grakn.GraknTx;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.SchemaConcept;
@@ -76,7 +77,17 @@ public class HALBuilder {
     }
 
     public static Json renderHALArrayData(MatchQuery matchQuery, Collection<Answer> results, int offset, int limit, boolean filterInstances) {
-        String keyspace = matchQuery.admin().tx().get().getKeyspace();
+        GraknTx tx = matchQuery.admin().tx().get();
+
+        //Read the types and role players of all the concepts in the page at once rather than one concept at a time
+        Set<Concept> concepts = results.stream().flatMap(answer -> answer.map().values().stream())
+                .filter(concept -> !filterInstances || concept.isThing()).collect(toSet());
+        return renderHALArrayData(matchQuery, results, offset, limit, filterInstances, HALNeighbourhood.prefetch(tx, concepts));
+    }
+
+    static Json renderHALArrayData(MatchQuery matchQuery, Collection<Answer> results, int offset, int limit, boolean filterInstances, HALNeighbourhood neighbourhood) {
+        GraknTx tx = matchQuery.admin().tx().get();
+        String keyspace = tx.getKeyspace();
 
         //For each VarPatterAdmin containing a relation we store a map containing varNames associated to RoleTypes
         Map<VarPatternAdmin, Pair<Map<Var, String>, String>> roleTypes = new HashMap<>();
@@ -87,7 +98,7 @@ public class HALBuilder {
         //Collect all the types explicitly asked in the match query
         Set<Label> typesAskedInQuery = matchQuery.admin().getSchemaConcepts().stream().map(SchemaConcept::getLabel).collect(toSet());
 
-        return buildHALRepresentations(results, typesAskedInQuery, roleTypes, keyspace, offset, limit, filterInstances);
+        return buildHALRepresentations(results, typesAskedInQuery, roleTypes, keyspace, offset, limit, filterInstances, neighbourhood);
     }
 
     public static String renderHALConceptData(Concept concept, int separationDegree, String keyspace, int offset, int limit) {
@@ -126,7 +137,7 @@ public class HALBuilder {
         return conceptsArray;
     }
 
-    private static Json buildHALRepresentations(Collection<Answer> graqlResultsList, Set<Label> typesAskedInQuery, Map<VarPatternAdmin, Pair<Map<Var, String>, String>> roleTypes, String keyspace, int offset, int limit, boolean filterInstances) {
+    private static Json buildHALRepresentations(Collection<Answer> graqlResultsList, Set<Label> typesAskedInQuery, Map<VarPatternAdmin, Pair<Map<Var, String>, String>> roleTypes, String keyspace, int offset, int limit, boolean filterInstances, HALNeighbourhood neighbourhood) {
         final Json lines = Json.array();
         graqlResultsList.forEach(answer -> {
             Map<VarPatternAdmin, Boolean> inferredRelations = buildInferredRelationsMap(answer);
@@ -139,7 +150,7 @@ public class HALBuilder {
 
                 LOG.trace("Building HAL resource for concept with id {}", currentConcept.getId().getValue());
                 Representation currentHal = new HALConceptData(currentConcept, MATCH_QUERY_FIXED_DEGREE, true,
-                        typesAskedInQuery, keyspace, offset, limit).getRepresentation();
+                        typesAskedInQuery, keyspace, offset, limit, neighbourhood).getRepresentation();
 
 
                 // Local map that will allow us to fetch HAL representation of RolePlayers when populating _embedded of the generated relation (in loopThroughRelations)
@@ -149,7 +160,7 @@ public class HALBuilder {
                 // If current concept is a relation obtained with inference (and we are not building an explanation response) override Explore URL and BaseType
                 if(!answer.getExplanation().isEmpty() && currentConcept.isRelationship() && !filterInstances){
                     jsonRepresentation.set(BASETYPE_PROPERTY,INFERRED_RELATION);
-                    jsonRepresentation.at(LINKS_PROPERTY).set("self",Json.object().set("href", computeHrefInferred(currentConcept, keyspace, limit)));
+                    jsonRepresentation.at(LINKS_PROPERTY).set("self",Json.object().set("href", computeHrefInferred(currentConcept, keyspace, limit, neighbourhood)));
                 }
 
                 lines.add(jsonRepresentation);
@@ -163,10 +174,10 @@ public class HALBuilder {
         return lines;
     }
 
-    private static String computeHrefInferred(Concept currentConcept, String keyspace, int limit){
+    private static String computeHrefInferred(Concept currentConcept, String keyspace, int limit, HALNeighbourhood neighbourhood){
         Set<Thing> thingSet = new HashSet<>();
-        currentConcept.asRelationship().allRolePlayers().values().forEach(set -> set.forEach(thingSet::add));
-        String isaString =  "isa " + currentConcept.asRelationship().type().getLabel();
+        neighbourhood.rolePlayers(currentConcept.asRelationship()).values().forEach(set -> set.forEach(thingSet::add));
+        String isaString =  "isa " + neighbourhood.type(currentConcept.asRelationship()).getLabel();
         StringBuilder stringBuilderVarsWithIds = new StringBuilder();
         StringBuilder stringBuilderParenthesis = new StringBuilder().append('(');
         char currentVarLetter = 'a';
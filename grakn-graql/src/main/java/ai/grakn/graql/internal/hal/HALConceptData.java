@@ -71,9 +71,16 @@ public class HALConceptData {
     private final int offset;
     private final int limit;
 
+    private final HALNeighbourhood neighbourhood;
+
 
     public HALConceptData(Concept concept, int separationDegree, boolean embedTypeParam, Set<Label> typesInQuery, String keyspace, int offset, int limit){
+        this(concept, separationDegree, embedTypeParam, typesInQuery, keyspace, offset, limit, HALNeighbourhood.lazy());
+    }
+
+    HALConceptData(Concept concept, int separationDegree, boolean embedTypeParam, Set<Label> typesInQuery, String keyspace, int offset, int limit, HALNeighbourhood neighbourhood){
 
+        this.neighbourhood = neighbourhood;
         embedType = embedTypeParam;
         this.typesInQuery = typesInQuery;
         this.offset = offset;
@@ -107,10 +114,11 @@ public class HALConceptData {
 
         if (embedType && concept.isThing()) {
             Thing thing = concept.asThing();
-            if (typesInQuery.contains(thing.type().getLabel())
-                    || (thing.type().sup() != null &&
-                    typesInQuery.contains(thing.type().sup().getLabel()))) {
-                embedType(halResource, thing);
+            Type type = neighbourhood.type(thing);
+            if (typesInQuery.contains(type.getLabel())
+                    || (type.sup() != null &&
+                    typesInQuery.contains(type.sup().getLabel()))) {
+                embedType(halResource, type);
             }
         }
 
@@ -190,19 +198,19 @@ public class HALConceptData {
         halResource.withRepresentation(SUB_EDGE, HALType);
     }
 
-    private void embedType(Representation halResource, Thing thing) {
+    private void embedType(Representation halResource, Type type) {
 
-        Representation HALType = factory.newRepresentation(resourceLinkPrefix + thing.type().getId() + getURIParams(0))
+        Representation HALType = factory.newRepresentation(resourceLinkPrefix + type.getId() + getURIParams(0))
                 .withProperty(DIRECTION_PROPERTY, OUTBOUND_EDGE);
 
-        generateStateAndLinks(HALType, thing.type());
+        generateStateAndLinks(HALType, type);
         halResource.withRepresentation(ISA_EDGE, HALType);
     }
 
     private void generateStateAndLinks(Representation resource, Concept concept) {
 
         resource.withLink(EXPLORE_CONCEPT_LINK, EXPLORE + concept.getId() + getURIParams(0));
-        generateConceptState(resource, concept);
+        generateConceptState(resource, concept, neighbourhood);
     }
 
     // ======================================= _embedded ================================================//
@@ -226,7 +234,7 @@ public class HALConceptData {
 
 
     private void generateRelationEmbedded(Representation halResource, Relationship rel, int separationDegree) {
-        rel.allRolePlayers().forEach((roleType, instanceSet) -> {
+        neighbourhood.rolePlayers(rel).forEach((roleType, instanceSet) -> {
             instanceSet.forEach(instance -> {
                 if (instance != null) {
                     Representation roleResource = factory.newRepresentation(resourceLinkPrefix + instance.getId() + getURIParams(0))
@@ -247,7 +255,7 @@ public class HALConceptData {
     private void embedRelationsNotConnectedToResources(Representation halResource, Concept concept, Relationship relationship, int separationDegree) {
         Label rolePlayedByCurrentConcept = null;
         boolean isResource = false;
-        for (Map.Entry<Role, Set<Thing>> entry : relationship.allRolePlayers().entrySet()) {
+        for (Map.Entry<Role, Set<Thing>> entry : neighbourhood.rolePlayers(relationship).entrySet()) {
             for (Thing thing : entry.getValue()) {
                 //Some role players can be null
                 if (thing != null) {
@@ -0,0 +1,171 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.hal;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Relationship;
+import ai.grakn.concept.Role;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.concept.Thing;
+import ai.grakn.concept.Type;
+import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ *     The types and role players of the concepts rendered in a HAL response.
+ * </p>
+ *
+ * <p>
+ *     When a whole page of concepts is rendered the neighbourhood is prefetched with a couple of traversals over all
+ *     the concepts, instead of reading the type and role players of every concept one at a time.
+ *     Anything which was not prefetched is read from the concept the first time it is needed and then reused.
+ * </p>
+ */
+class HALNeighbourhood {
+
+    private static final String RELATIONSHIP = "relationship";
+    private static final String CASTING = "casting";
+    private static final String ROLE_PLAYER = "rolePlayer";
+
+    private final Map<ConceptId, Type> types = new HashMap<>();
+    private final Map<ConceptId, Map<Role, Set<Thing>>> rolePlayers = new HashMap<>();
+    private final Map<Integer, SchemaConcept> schemaConcepts = new HashMap<>();
+
+    private HALNeighbourhood() {
+    }
+
+    /**
+     * @return A neighbourhood which reads everything from the concepts when it is first needed
+     */
+    static HALNeighbourhood lazy() {
+        return new HALNeighbourhood();
+    }
+
+    /**
+     * Reads the types of the given concepts and the role players of the given relationships in batches.
+     *
+     * @param tx The transaction the concepts come from
+     * @param concepts The concepts which will be rendered
+     * @return The neighbourhood of the concepts
+     */
+    static HALNeighbourhood prefetch(GraknTx tx, Collection<Concept> concepts) {
+        HALNeighbourhood neighbourhood = new HALNeighbourhood();
+
+        Set<String> relationshipIds = new HashSet<>();
+        Set<String> thingIds = new HashSet<>();
+        concepts.stream().filter(Concept::isThing).map(concept -> concept.getId().getValue())
+                .filter(HALNeighbourhood::isVertexId)
+                .forEach(thingIds::add);
+        concepts.stream().filter(Concept::isRelationship).map(concept -> concept.getId().getValue())
+                .filter(HALNeighbourhood::isVertexId)
+                .forEach(relationshipIds::add);
+
+        if (!relationshipIds.isEmpty()) {
+            neighbourhood.prefetchRolePlayers(tx, relationshipIds);
+            neighbourhood.rolePlayers.values().forEach(roleMap -> roleMap.values().forEach(players ->
+                    players.stream().map(player -> player.getId().getValue())
+                            .filter(HALNeighbourhood::isVertexId)
+                            .forEach(thingIds::add)));
+        }
+
+        if (!thingIds.isEmpty()) {
+            neighbourhood.prefetchTypes(tx, thingIds);
+        }
+
+        // Roles without role players are expected in the role player map
+        concepts.stream().filter(Concept::isRelationship).map(Concept::asRelationship)
+                .filter(relationship -> neighbourhood.rolePlayers.containsKey(relationship.getId()))
+                .forEach(relationship -> neighbourhood.type(relationship).asRelationshipType().relates().forEach(role ->
+                        neighbourhood.rolePlayers.get(relationship.getId()).computeIfAbsent(role, k -> new HashSet<>())));
+
+        return neighbourhood;
+    }
+
+    private void prefetchRolePlayers(GraknTx tx, Set<String> relationshipIds) {
+        tx.admin().getTinkerTraversal().V()
+                .has(Schema.VertexProperty.ID.name(), P.within(relationshipIds)).as(RELATIONSHIP)
+                .outE(Schema.EdgeLabel.SHORTCUT.getLabel()).as(CASTING)
+                .inV().as(ROLE_PLAYER)
+                .<Element>select(RELATIONSHIP, CASTING, ROLE_PLAYER)
+                .forEachRemaining(casting -> {
+                    ConceptId relationshipId = ConceptId.of(casting.get(RELATIONSHIP).value(Schema.VertexProperty.ID.name()));
+                    int roleId = casting.get(CASTING).value(Schema.EdgeProperty.ROLE_LABEL_ID.name());
+                    Role role = schemaConcept(tx, roleId).asRole();
+                    Thing rolePlayer = tx.admin().buildConcept((Vertex) casting.get(ROLE_PLAYER));
+
+                    rolePlayers.computeIfAbsent(relationshipId, k -> new HashMap<>())
+                            .computeIfAbsent(role, k -> new HashSet<>()).add(rolePlayer);
+                });
+
+        // Relationships without any role players still need an entry so they are not read again
+        relationshipIds.forEach(id -> rolePlayers.computeIfAbsent(ConceptId.of(id), k -> new HashMap<>()));
+    }
+
+    private void prefetchTypes(GraknTx tx, Set<String> thingIds) {
+        tx.admin().getTinkerTraversal().V()
+                .has(Schema.VertexProperty.ID.name(), P.within(thingIds))
+                .has(Schema.VertexProperty.THING_TYPE_LABEL_ID.name())
+                .<List<Object>>valueMap(Schema.VertexProperty.ID.name(), Schema.VertexProperty.THING_TYPE_LABEL_ID.name())
+                .forEachRemaining(properties -> {
+                    ConceptId thingId = ConceptId.of((String) properties.get(Schema.VertexProperty.ID.name()).get(0));
+                    int typeId = (Integer) properties.get(Schema.VertexProperty.THING_TYPE_LABEL_ID.name()).get(0);
+                    types.put(thingId, schemaConcept(tx, typeId).asType());
+                });
+    }
+
+    /**
+     * Many rows share the same roles and types, so every label id is only looked up once per response
+     */
+    private SchemaConcept schemaConcept(GraknTx tx, int labelId) {
+        return schemaConcepts.computeIfAbsent(labelId, id -> tx.admin().getConcept(Schema.VertexProperty.LABEL_ID, id));
+    }
+
+    private static boolean isVertexId(String conceptId) {
+        // Relationships stored as edges are read from the concept itself
+        return conceptId.startsWith(Schema.PREFIX_VERTEX);
+    }
+
+    /**
+     * @param thing The thing to get the type of
+     * @return The type of the thing
+     */
+    Type type(Thing thing) {
+        return types.computeIfAbsent(thing.getId(), id -> thing.type());
+    }
+
+    /**
+     * @param relationship The relationship to get the role players of
+     * @return The role players of the relationship, including the roles which are not played
+     */
+    Map<Role, Set<Thing>> rolePlayers(Relationship relationship) {
+        return rolePlayers.computeIfAbsent(relationship.getId(), id -> relationship.allRolePlayers());
+    }
+}
@@ -113,12 +113,16 @@ public class HALUtils {
     }
 
     static void generateConceptState(Representation resource, Concept concept) {
+        generateConceptState(resource, concept, HALNeighbourhood.lazy());
+    }
+
+    static void generateConceptState(Representation resource, Concept concept, HALNeighbourhood neighbourhood) {
 
         resource.withProperty(ID_PROPERTY, concept.getId().getValue());
 
         if (concept.isThing()) {
             Thing thing = concept.asThing();
-            resource.withProperty(TYPE_PROPERTY, thing.type().getLabel().getValue())
+            resource.withProperty(TYPE_PROPERTY, neighbourhood.type(thing).getLabel().getValue())
                     .withProperty(BASETYPE_PROPERTY, getBaseType(thing).name());
         } else {
             resource.withProperty(BASETYPE_PROPERTY, getBaseType(concept.asSchemaConcept()).name());
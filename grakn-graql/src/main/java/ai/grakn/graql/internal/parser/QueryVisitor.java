@@ -265,6 +265,10 @@ class QueryVisitor extends GraqlBaseVisitor {
             count = count.in(visitInList(ctx.inList()));
         }
 
+        if (ctx.EXACT() != null) {
+            count = count.exact();
+        }
+
         return count;
     }
 
@@ -306,6 +310,13 @@ class QueryVisitor extends GraqlBaseVisitor {
         return query -> query.clusterSize(getInteger(ctx.INTEGER()));
     }
 
+    @Override
+    public UnaryOperator<ClusterQuery<?>> visitClusterPersist(GraqlParser.ClusterPersistContext ctx) {
+        if (ctx.label() == null) return ClusterQuery::persist;
+        Label label = visitLabel(ctx.label());
+        return query -> query.persist(label.getValue());
+    }
+
     @Override
     public DegreeQuery visitDegrees(GraqlParser.DegreesContext ctx) {
         DegreeQuery degree = queryBuilder.compute().degree();
@@ -318,6 +329,10 @@ class QueryVisitor extends GraqlBaseVisitor {
             degree = degree.in(visitInList(ctx.inList()));
         }
 
+        if (ctx.PERSIST() != null) {
+            degree = ctx.label() != null ? degree.persist(visitLabel(ctx.label()).getValue()) : degree.persist();
+        }
+
         return degree;
     }
 
@@ -24,7 +24,9 @@ import ai.grakn.graql.AggregateQuery;
 import ai.grakn.graql.Printer;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.MatchQueryAdmin;
+import ai.grakn.graql.internal.query.aggregate.TraversalAggregates;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -41,6 +43,10 @@ class AggregateQueryImpl<T> implements AggregateQuery<T> {
         this.aggregate = aggregate;
     }
 
+    MatchQueryAdmin matchQuery() {
+        return matchQuery;
+    }
+
     @Override
     public AggregateQuery<T> withTx(GraknTx tx) {
         return new AggregateQueryImpl<>(matchQuery.withTx(tx).admin(), aggregate);
@@ -48,7 +54,14 @@ class AggregateQueryImpl<T> implements AggregateQuery<T> {
 
     @Override
     public T execute() {
-        return aggregate.apply(matchQuery.stream());
+        // Counting or summing in the traversal avoids building a concept for every answer
+        Optional<T> result = TraversalAggregates.apply(aggregate, matchQuery);
+        if (result.isPresent()) return result.get();
+
+        // Closing the answers stops any work still finding them once the aggregate has what it needs, e.g. for ask
+        try (Stream<Answer> answers = matchQuery.stream()) {
+            return aggregate.apply(answers);
+        }
     }
 
     @Override
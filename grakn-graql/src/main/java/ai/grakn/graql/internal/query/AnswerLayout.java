@@ -0,0 +1,240 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ *
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Unifier;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ *
+ * <p>
+ * The variables of the {@link SlotAnswer}s of a query, each one stored in its own slot.
+ * </p>
+ *
+ * <p>
+ * Answers sharing a layout only store their concepts, so they take no more space than an array. Layouts also remember
+ * how their slots map onto the layouts resulting from merging, filtering and unifying answers, so those operations
+ * only copy concepts between arrays once the first answer has worked out the mapping.
+ * </p>
+ *
+ */
+public class AnswerLayout {
+
+    public static final AnswerLayout EMPTY = new AnswerLayout(ImmutableList.of());
+
+    // Layouts are derived from a handful of others in a query, this only stops the caches growing without bound
+    private static final int MAX_CACHED = 64;
+
+    private final ImmutableList<Var> vars;
+    private final ImmutableMap<Var, Integer> slots;
+
+    private final Cache<Var, AnswerLayout> extensions = cache();
+    private final Cache<AnswerLayout, Join> joins = cache();
+    private final Cache<Set<Var>, Projection> projections = cache();
+    private final Cache<Unifier, Unification> unifications =
+            CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_CACHED).build();
+
+    private AnswerLayout(ImmutableList<Var> vars){
+        this.vars = vars;
+        ImmutableMap.Builder<Var, Integer> slots = ImmutableMap.builder();
+        for (int slot = 0; slot < vars.size(); slot++) slots.put(vars.get(slot), slot);
+        this.slots = slots.build();
+    }
+
+    /**
+     * @param vars variables of the answers, duplicates are ignored
+     * @return layout with a slot for each of the variables, in order
+     */
+    public static AnswerLayout of(Collection<Var> vars){
+        return vars.isEmpty() ? EMPTY : new AnswerLayout(ImmutableList.copyOf(new LinkedHashSet<>(vars)));
+    }
+
+    private static <K, V> Cache<K, V> cache(){
+        return CacheBuilder.newBuilder().maximumSize(MAX_CACHED).build();
+    }
+
+    private static <K, V> V cached(Cache<K, V> cache, K key, Supplier<K> immutableKey, Supplier<V> value){
+        V cachedValue = cache.getIfPresent(key);
+        if (cachedValue == null){
+            cachedValue = value.get();
+            cache.put(immutableKey.get(), cachedValue);
+        }
+        return cachedValue;
+    }
+
+    /**
+     * @return variables of the layout, in the order of their slots
+     */
+    public ImmutableList<Var> vars(){ return vars;}
+
+    /**
+     * @return number of slots
+     */
+    public int size(){ return vars.size();}
+
+    /**
+     * @return variable of the given slot
+     */
+    public Var var(int slot){ return vars.get(slot);}
+
+    /**
+     * @return slot of the given variable, -1 if the layout does not have the variable
+     */
+    public int slotOf(Var var){
+        Integer slot = slots.get(var);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * @return layout with the slots of this one and one more for the given variable, which must not be in this one
+     */
+    AnswerLayout with(Var var){
+        return cached(extensions, var, () -> var, () ->
+                new AnswerLayout(ImmutableList.<Var>builder().addAll(vars).add(var).build()));
+    }
+
+    /**
+     * @return how answers of this layout and of the other one are merged
+     */
+    Join join(AnswerLayout other){
+        return cached(joins, other, () -> other, () -> new Join(this, other));
+    }
+
+    /**
+     * @return how answers of this layout are filtered to the given variables
+     */
+    Projection project(Set<Var> kept){
+        return cached(projections, kept, () -> ImmutableSet.copyOf(kept), () -> new Projection(this, kept));
+    }
+
+    /**
+     * @return how answers of this layout are unified with the given unifier
+     */
+    Unification unify(Unifier unifier){
+        // Unifiers can change, so the unification is only reused while the unifier has the same mappings
+        Unification unification = unifications.getIfPresent(unifier);
+        if (unification == null || !unification.isFor(unifier)){
+            unification = new Unification(this, unifier);
+            unifications.put(unifier, unification);
+        }
+        return unification;
+    }
+
+    @Override
+    public String toString(){ return vars.toString();}
+
+    /**
+     * The layout of merged answers, which starts with the slots of the left answer, and where the slots of both
+     * answers end up in it
+     */
+    static class Join {
+        final AnswerLayout layout;
+        final int[] rightSlots;
+        // Pairs of the left and right slots of the variables both answers have
+        final int[] sharedLeftSlots;
+        final int[] sharedRightSlots;
+
+        private Join(AnswerLayout left, AnswerLayout right){
+            List<Var> vars = new ArrayList<>(left.vars);
+            List<Integer> sharedLeft = new ArrayList<>();
+            List<Integer> sharedRight = new ArrayList<>();
+            rightSlots = new int[right.size()];
+            for (int slot = 0; slot < right.size(); slot++){
+                Var var = right.var(slot);
+                int leftSlot = left.slotOf(var);
+                if (leftSlot >= 0){
+                    rightSlots[slot] = leftSlot;
+                    sharedLeft.add(leftSlot);
+                    sharedRight.add(slot);
+                } else {
+                    rightSlots[slot] = vars.size();
+                    vars.add(var);
+                }
+            }
+            this.layout = vars.size() == left.size() ? left : new AnswerLayout(ImmutableList.copyOf(vars));
+            this.sharedLeftSlots = sharedLeft.stream().mapToInt(Integer::intValue).toArray();
+            this.sharedRightSlots = sharedRight.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * The layout of filtered answers, and which slot each of its slots is copied from
+     */
+    static class Projection {
+        final AnswerLayout layout;
+        final int[] sourceSlots;
+
+        private Projection(AnswerLayout source, Set<Var> kept){
+            List<Var> vars = new ArrayList<>();
+            List<Integer> sourceSlots = new ArrayList<>();
+            for (int slot = 0; slot < source.size(); slot++){
+                if (kept.contains(source.var(slot))){
+                    vars.add(source.var(slot));
+                    sourceSlots.add(slot);
+                }
+            }
+            this.layout = vars.size() == source.size() ? source : AnswerLayout.of(vars);
+            this.sourceSlots = sourceSlots.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * The layout of unified answers, and which of its slots each slot of the original answers is copied to
+     */
+    static class Unification {
+        final AnswerLayout layout;
+        final int[][] targetSlots;
+        private final ImmutableList<Map.Entry<Var, Var>> mappings;
+
+        private Unification(AnswerLayout source, Unifier unifier){
+            this.mappings = ImmutableList.copyOf(unifier.mappings());
+            Set<Var> unifiedVars = new LinkedHashSet<>();
+            List<Collection<Var>> targets = new ArrayList<>();
+            for (Var var : source.vars){
+                Collection<Var> uvars = unifier.get(var);
+                Collection<Var> target = uvars.isEmpty() && !unifier.containsValue(var) ?
+                        ImmutableList.of(var) : ImmutableList.copyOf(uvars);
+                unifiedVars.addAll(target);
+                targets.add(target);
+            }
+            this.layout = AnswerLayout.of(unifiedVars);
+            this.targetSlots = targets.stream()
+                    .map(target -> target.stream().mapToInt(layout::slotOf).toArray())
+                    .toArray(int[][]::new);
+        }
+
+        private boolean isFor(Unifier unifier){
+            return Iterables.elementsEqual(mappings, unifier.mappings());
+        }
+    }
+}
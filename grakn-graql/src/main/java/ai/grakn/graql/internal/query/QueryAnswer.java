@@ -79,8 +79,10 @@ public class QueryAnswer implements Answer {
     public boolean equals(Object obj) {
         if (obj == this) return true;
         if (obj == null || !(obj instanceof Answer)) return false;
-        QueryAnswer a2 = (QueryAnswer) obj;
-        return map.equals(a2.map);
+        // Compare with the slots of a slot answer directly, instead of through a view of them
+        if (obj instanceof SlotAnswer) return ((SlotAnswer) obj).hasConceptsOf(map);
+        Answer a2 = (Answer) obj;
+        return map.equals(a2.map());
     }
 
     @Override
@@ -67,6 +67,8 @@ public class QueryBuilderImpl implements QueryBuilder {
     private final TemplateParser templateParser;
     private boolean infer = false;
     private boolean materialise = false;
+    private boolean parallel = false;
+    private boolean keepOrder = false;
 
     public QueryBuilderImpl() {
         this.tx = Optional.empty();
@@ -92,6 +94,18 @@ public class QueryBuilderImpl implements QueryBuilder {
         return this;
     }
 
+    @Override
+    public QueryBuilder parallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    @Override
+    public QueryBuilder keepOrder(boolean keepOrder) {
+        this.keepOrder = keepOrder;
+        return this;
+    }
+
     /**
      * @param patterns an array of patterns to match in the graph
      * @return a match query that will find matches of the given patterns
@@ -109,7 +123,12 @@ public class QueryBuilderImpl implements QueryBuilder {
     public MatchQuery match(Collection<? extends Pattern> patterns) {
         Conjunction<PatternAdmin> conjunction = Patterns.conjunction(Sets.newHashSet(AdminConverter.getPatternAdmins(patterns)));
         MatchQueryBase base = new MatchQueryBase(conjunction);
-        MatchQuery query = infer ? base.infer(materialise).admin() : base;
+        MatchQuery query;
+        if (parallel && !infer) {
+            query = base.parallel(keepOrder);
+        } else {
+            query = infer ? base.infer(materialise).admin() : base;
+        }
         return tx.map(query::withTx).orElse(query);
     }
 
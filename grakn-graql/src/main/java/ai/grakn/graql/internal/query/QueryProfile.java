@@ -0,0 +1,307 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.GraknTx;
+import ai.grakn.graql.DeleteQuery;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.MatchQuery;
+import ai.grakn.graql.Query;
+import ai.grakn.graql.admin.MatchQueryAdmin;
+import ai.grakn.graql.internal.gremlin.GreedyTraversalPlan;
+import ai.grakn.graql.internal.query.match.MatchTraversal;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
+import mjson.Json;
+import org.apache.tinkerpop.gremlin.process.traversal.util.Metrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * <p>
+ * What the execution of a query did: the plan of the traversal answering it and, if the query was executed while
+ * profiling, the cardinality and time of every step of the traversal and the work done by the reasoner.
+ * </p>
+ *
+ * <p>
+ * A query is only ever profiled on request, because collecting the metrics of every step slows the traversal down.
+ * The reasoner reports what it did to the profile of the thread resolving the query, see {@link #current()}.
+ * </p>
+ */
+public class QueryProfile {
+
+    private static final ThreadLocal<QueryProfile> CURRENT = new ThreadLocal<>();
+
+    private final String query;
+    private final @Nullable String plan;
+    private boolean executed = false;
+    private long durationNanos = 0;
+    private @Nullable Long answers = null;
+    private List<Step> steps = ImmutableList.of();
+
+    private int resolutions = 0;
+    private int iterations = 0;
+    private long states = 0;
+    private long resolvedAnswers = 0;
+    private long cachedQueries = 0;
+    private long cachedAnswers = 0;
+
+    private QueryProfile(String query, @Nullable String plan) {
+        this.query = query;
+        this.plan = plan;
+    }
+
+    /**
+     * Plan a query without executing it
+     *
+     * @param tx the transaction the query would be executed in
+     * @param query the query to plan
+     * @return the plan of the traversal answering the query, if it has one
+     */
+    public static QueryProfile explain(GraknTx tx, Query<?> query) {
+        String plan = matchQuery(query)
+                .map(matchQuery -> GreedyTraversalPlan.createTraversal(matchQuery.getPattern(), tx).toString())
+                .orElse(null);
+        return new QueryProfile(query.toString(), plan);
+    }
+
+    /**
+     * Execute a query, recording what each step of its traversal and the reasoner did.
+     * The answers of the query are counted rather than returned.
+     *
+     * @param tx the transaction the query is executed in
+     * @param query the query to execute
+     * @return the plan of the query together with what its execution did
+     */
+    public static QueryProfile profile(GraknTx tx, Query<?> query) {
+        QueryProfile profile = explain(tx, query);
+
+        QueryProfile outer = CURRENT.get();
+        CURRENT.set(profile);
+        try {
+            profile.execute(query);
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+
+        return profile;
+    }
+
+    /**
+     * @return the profile of the query being profiled in this thread, if there is one
+     */
+    public static Optional<QueryProfile> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    private void execute(Query<?> query) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        Optional<MatchTraversal> traversal =
+                query instanceof MatchQuery ? MatchTraversal.of(((MatchQuery) query).admin()) : Optional.empty();
+
+        if (traversal.isPresent()) {
+            // The traversal is only profiled when it answers the query alone, without inference or modifiers
+            TraversalMetrics metrics = traversal.get().traversal().profile().next();
+            ImmutableList.Builder<Step> builder = ImmutableList.builder();
+            metrics.getMetrics().forEach(step -> builder.add(new Step(step)));
+            steps = builder.build();
+            answers = steps.isEmpty() ? 0 : steps.get(steps.size() - 1).elements();
+        } else if (query instanceof MatchQuery) {
+            answers = ((MatchQuery) query).stream().count();
+        } else {
+            query.execute();
+        }
+
+        durationNanos = stopwatch.elapsed(NANOSECONDS);
+        executed = true;
+    }
+
+    /**
+     * Record the work done by the reasoner to resolve a query, or a disjunct of it
+     *
+     * @param iterations number of times the query was resolved before no new answers were found
+     * @param states number of resolution states explored
+     * @param answers number of answers found
+     * @param cachedQueries number of queries in the cache of the resolution
+     * @param cachedAnswers number of answers in the cache of the resolution
+     */
+    public void recordResolution(int iterations, long states, long answers, long cachedQueries, long cachedAnswers) {
+        this.resolutions++;
+        this.iterations += iterations;
+        this.states += states;
+        this.resolvedAnswers += answers;
+        this.cachedQueries += cachedQueries;
+        this.cachedAnswers += cachedAnswers;
+    }
+
+    /**
+     * @return the plan of the traversal answering the query, if it has one
+     */
+    public Optional<String> plan() {
+        return Optional.ofNullable(plan);
+    }
+
+    /**
+     * @return whether the query was executed, or only planned
+     */
+    public boolean executed() {
+        return executed;
+    }
+
+    /**
+     * @return the steps of the traversal answering the query, if it was executed by a single traversal
+     */
+    public List<Step> steps() {
+        return steps;
+    }
+
+    /**
+     * @return the number of answers of the query, if it is a match query which was executed
+     */
+    public Optional<Long> answers() {
+        return Optional.ofNullable(answers);
+    }
+
+    /**
+     * @return how long the query took to execute
+     */
+    public long duration(TimeUnit unit) {
+        return unit.convert(durationNanos, NANOSECONDS);
+    }
+
+    /**
+     * @return the number of resolution states the reasoner explored to answer the query
+     */
+    public long resolutionStates() {
+        return states;
+    }
+
+    /**
+     * @return a Json description of the profile, as returned by the REST API
+     */
+    public Json toJson() {
+        Json json = Json.object("query", query);
+        if (plan != null) json.set("plan", plan);
+
+        if (executed) {
+            json.set("durationMs", duration(TimeUnit.MILLISECONDS));
+            if (answers != null) json.set("answers", answers);
+
+            if (!steps.isEmpty()) {
+                Json array = Json.array();
+                steps.forEach(step -> array.add(step.toJson()));
+                json.set("steps", array);
+            }
+
+            if (resolutions > 0) {
+                json.set("reasoner", Json.object(
+                        "resolutions", resolutions,
+                        "iterations", iterations,
+                        "states", states,
+                        "answers", resolvedAnswers,
+                        "cachedQueries", cachedQueries,
+                        "cachedAnswers", cachedAnswers
+                ));
+            }
+        }
+
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        return toJson().toString();
+    }
+
+    private static Optional<MatchQueryAdmin> matchQuery(Query<?> query) {
+        if (query instanceof MatchQuery) {
+            return Optional.of(((MatchQuery) query).admin());
+        } else if (query instanceof AggregateQueryImpl) {
+            return Optional.of(((AggregateQueryImpl<?>) query).matchQuery());
+        } else if (query instanceof DeleteQuery) {
+            return Optional.of(((DeleteQuery) query).admin().getMatchQuery().admin());
+        } else if (query instanceof InsertQuery) {
+            return ((InsertQuery) query).admin().getMatchQuery().map(MatchQuery::admin);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A step of a profiled traversal, with the number of elements and traversers leaving it and the time spent in it
+     */
+    public static class Step {
+        private final String name;
+        private final long elements;
+        private final long traversers;
+        private final long durationNanos;
+        private final double percentDuration;
+
+        private Step(Metrics metrics) {
+            this.name = metrics.getName();
+            this.elements = count(metrics, TraversalMetrics.ELEMENT_COUNT_ID);
+            this.traversers = count(metrics, TraversalMetrics.TRAVERSER_COUNT_ID);
+            this.durationNanos = metrics.getDuration(NANOSECONDS);
+            Object percent = metrics.getAnnotation(TraversalMetrics.PERCENT_DURATION_KEY);
+            this.percentDuration = percent instanceof Number ? ((Number) percent).doubleValue() : 0;
+        }
+
+        private static long count(Metrics metrics, String key) {
+            Long count = metrics.getCount(key);
+            return count != null ? count : 0;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public long elements() {
+            return elements;
+        }
+
+        public long traversers() {
+            return traversers;
+        }
+
+        public long duration(TimeUnit unit) {
+            return unit.convert(durationNanos, NANOSECONDS);
+        }
+
+        Json toJson() {
+            return Json.object(
+                    "step", name,
+                    "elements", elements,
+                    "traversers", traversers,
+                    "durationMs", durationNanos / 1_000_000.0,
+                    "percentDuration", percentDuration
+            );
+        }
+    }
+}
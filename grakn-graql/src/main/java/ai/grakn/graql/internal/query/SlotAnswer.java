@@ -0,0 +1,468 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ *
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.exception.GraqlQueryException;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.AnswerExplanation;
+import ai.grakn.graql.admin.Unifier;
+import ai.grakn.graql.internal.reasoner.explanation.Explanation;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Sets;
+
+import javax.annotation.Nullable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ *
+ * <p>
+ * An {@link Answer} storing its concepts in the slots of an {@link AnswerLayout} shared with the other answers of the
+ * query, instead of in a map of its own.
+ * </p>
+ *
+ * <p>
+ * A variable with an empty slot is not in the answer. Putting a variable which is not in the layout moves the answer
+ * to a layout with one more slot. The maps, sets and collections returned by the answer are views of its slots, so
+ * returning them does not copy the answer. They cannot be modified and they show later changes to the answer.
+ * </p>
+ *
+ */
+public class SlotAnswer implements Answer {
+
+    private AnswerLayout layout;
+    private Concept[] slots;
+    private AnswerExplanation explanation;
+
+    /**
+     * @param layout layout of the answer
+     * @param slots concept of each slot of the layout, null when the variable of the slot is not in the answer
+     */
+    public SlotAnswer(AnswerLayout layout, Concept[] slots){
+        this(layout, slots, new Explanation());
+    }
+
+    private SlotAnswer(AnswerLayout layout, Concept[] slots, AnswerExplanation explanation){
+        Preconditions.checkArgument(layout.size() == slots.length);
+        this.layout = layout;
+        this.slots = slots;
+        this.explanation = explanation;
+    }
+
+    @Override
+    public String toString(){
+        return entrySet().stream()
+                .sorted(Comparator.comparing(e -> e.getKey().getValue()))
+                .map(e -> "[" + e.getKey() + "/" + e.getValue().getId() + "]").collect(Collectors.joining());
+    }
+
+    @Override
+    public Answer copy(){ return new SlotAnswer(layout, slots.clone(), explanation);}
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj == null || !(obj instanceof Answer)) return false;
+        if (obj instanceof SlotAnswer){
+            SlotAnswer other = (SlotAnswer) obj;
+            if (other.layout == layout) return Arrays.equals(slots, other.slots);
+            if (size() != other.size()) return false;
+            for (int slot = 0; slot < slots.length; slot++){
+                if (slots[slot] != null && !slots[slot].equals(other.getOrNull(layout.var(slot)))) return false;
+            }
+            return true;
+        }
+        if (obj instanceof QueryAnswer) return hasConceptsOf(((QueryAnswer) obj).map());
+        return map().equals(((Answer) obj).map());
+    }
+
+    /**
+     * @param map variables and their concepts
+     * @return true if this answer has exactly the variables and concepts in the map
+     */
+    boolean hasConceptsOf(Map<Var, Concept> map){
+        int size = 0;
+        for (int slot = 0; slot < slots.length; slot++){
+            if (slots[slot] == null) continue;
+            if (!slots[slot].equals(map.get(layout.var(slot)))) return false;
+            size++;
+        }
+        return size == map.size();
+    }
+
+    @Override
+    public int hashCode(){
+        // Same as the hash code of the map of the answer
+        int hashCode = 0;
+        for (int slot = 0; slot < slots.length; slot++){
+            if (slots[slot] != null) hashCode += layout.var(slot).hashCode() ^ slots[slot].hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public Set<Var> keySet(){
+        return new AbstractSet<Var>() {
+            @Override
+            public Iterator<Var> iterator() {
+                return new SlotIterator<>((var, concept) -> var);
+            }
+
+            @Override
+            public int size() {
+                return SlotAnswer.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof Var && containsKey((Var) o);
+            }
+        };
+    }
+
+    @Override
+    public Collection<Concept> values(){
+        return new AbstractCollection<Concept>() {
+            @Override
+            public Iterator<Concept> iterator() {
+                return new SlotIterator<>((var, concept) -> concept);
+            }
+
+            @Override
+            public int size() {
+                return SlotAnswer.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Set<Concept> concepts(){ return new LinkedHashSet<>(values());}
+
+    @Override
+    public Set<Map.Entry<Var, Concept>> entrySet(){
+        return new AbstractSet<Map.Entry<Var, Concept>>() {
+            @Override
+            public Iterator<Map.Entry<Var, Concept>> iterator() {
+                return new SlotIterator<>(AbstractMap.SimpleImmutableEntry::new);
+            }
+
+            @Override
+            public int size() {
+                return SlotAnswer.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof Map.Entry)) return false;
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+                return entry.getKey() instanceof Var && entry.getValue() != null
+                        && entry.getValue().equals(getOrNull((Var) entry.getKey()));
+            }
+        };
+    }
+
+    @Override
+    public Concept get(String var) {
+        return get(Graql.var(var));
+    }
+
+    @Override
+    public Concept get(Var var) {
+        Concept concept = getOrNull(var);
+
+        if (concept == null) throw GraqlQueryException.varNotInQuery(var);
+
+        return concept;
+    }
+
+    @Nullable
+    private Concept getOrNull(Var var){
+        int slot = layout.slotOf(var);
+        return slot >= 0 ? slots[slot] : null;
+    }
+
+    @Override
+    public Concept put(Var var, Concept con){
+        int slot = layout.slotOf(var);
+        if (slot < 0){
+            layout = layout.with(var);
+            slots = Arrays.copyOf(slots, slots.length + 1);
+            slot = slots.length - 1;
+        }
+        Concept previous = slots[slot];
+        slots[slot] = con;
+        return previous;
+    }
+
+    @Override
+    public Concept remove(Var var){
+        int slot = layout.slotOf(var);
+        if (slot < 0) return null;
+        Concept previous = slots[slot];
+        slots[slot] = null;
+        return previous;
+    }
+
+    @Override
+    public Map<Var, Concept> map(){
+        return new AbstractMap<Var, Concept>() {
+            @Override
+            public Set<Entry<Var, Concept>> entrySet() {
+                return SlotAnswer.this.entrySet();
+            }
+
+            @Override
+            public Set<Var> keySet() {
+                return SlotAnswer.this.keySet();
+            }
+
+            @Override
+            public Collection<Concept> values() {
+                return SlotAnswer.this.values();
+            }
+
+            @Override
+            public int size() {
+                return SlotAnswer.this.size();
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return key instanceof Var && SlotAnswer.this.containsKey((Var) key);
+            }
+
+            @Override
+            public Concept get(Object key) {
+                return key instanceof Var ? getOrNull((Var) key) : null;
+            }
+        };
+    }
+
+    @Override
+    public void putAll(Answer a){
+        if (a instanceof SlotAnswer && ((SlotAnswer) a).layout == layout){
+            Concept[] otherSlots = ((SlotAnswer) a).slots;
+            for (int slot = 0; slot < slots.length; slot++){
+                if (otherSlots[slot] != null) slots[slot] = otherSlots[slot];
+            }
+        } else {
+            a.forEach(this::put);
+        }
+    }
+
+    @Override
+    public void putAll(Map<Var, Concept> m2){ m2.forEach(this::put);}
+
+    @Override
+    public boolean containsKey(Var var){ return getOrNull(var) != null;}
+
+    @Override
+    public boolean containsAll(Answer ans){
+        return ans.entrySet().stream().allMatch(e -> e.getValue().equals(getOrNull(e.getKey())));
+    }
+
+    @Override
+    public boolean isEmpty(){
+        for (Concept concept : slots) if (concept != null) return false;
+        return true;
+    }
+
+    @Override
+    public int size(){
+        int size = 0;
+        for (Concept concept : slots) if (concept != null) size++;
+        return size;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super Var, ? super Concept> consumer) {
+        for (int slot = 0; slot < slots.length; slot++){
+            if (slots[slot] != null) consumer.accept(layout.var(slot), slots[slot]);
+        }
+    }
+
+    /**
+     * @param other answer to join with
+     * @return true if the variables both answers have are mapped to the same concepts
+     */
+    public boolean isCompatibleWith(SlotAnswer other){
+        AnswerLayout.Join join = layout.join(other.layout);
+        for (int i = 0; i < join.sharedLeftSlots.length; i++){
+            Concept left = slots[join.sharedLeftSlots[i]];
+            Concept right = other.slots[join.sharedRightSlots[i]];
+            if (left != null && right != null && !left.equals(right)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Answer merge(Answer a2, boolean mergeExplanation){
+        if(a2.isEmpty()) return this;
+        if(this.isEmpty()) return a2;
+
+        AnswerExplanation exp = this.getExplanation();
+        Answer merged;
+        if (a2 instanceof SlotAnswer){
+            // The concepts of this answer win, as if they were put in a copy of the other one
+            SlotAnswer other = (SlotAnswer) a2;
+            AnswerLayout.Join join = layout.join(other.layout);
+            Concept[] mergedSlots = Arrays.copyOf(slots, join.layout.size());
+            for (int slot = 0; slot < other.slots.length; slot++){
+                int mergedSlot = join.rightSlots[slot];
+                if (mergedSlots[mergedSlot] == null) mergedSlots[mergedSlot] = other.slots[slot];
+            }
+            merged = new SlotAnswer(join.layout, mergedSlots);
+        } else {
+            merged = new QueryAnswer(a2);
+            merged.putAll(this);
+        }
+
+        if(mergeExplanation) {
+            exp = exp.merge(a2.getExplanation());
+            if(!this.getExplanation().isJoinExplanation()) exp.addAnswer(this);
+            if(!a2.getExplanation().isJoinExplanation()) exp.addAnswer(a2);
+        }
+
+        return merged.setExplanation(exp);
+    }
+
+    @Override
+    public Answer merge(Answer a2){ return this.merge(a2, false);}
+
+    @Override
+    public Answer explain(AnswerExplanation exp){
+        Set<Answer> answers = explanation.getAnswers();
+        explanation = exp;
+        answers.forEach(explanation::addAnswer);
+        return this;
+    }
+
+    @Override
+    public Answer filterVars(Set<Var> vars) {
+        AnswerLayout.Projection projection = layout.project(vars);
+        Concept[] filteredSlots = new Concept[projection.sourceSlots.length];
+        for (int slot = 0; slot < filteredSlots.length; slot++){
+            filteredSlots[slot] = slots[projection.sourceSlots[slot]];
+        }
+        return new SlotAnswer(projection.layout, filteredSlots, this.getExplanation());
+    }
+
+    @Override
+    public Answer unify(Unifier unifier){
+        if (unifier.isEmpty()) return this;
+        AnswerLayout.Unification unification = layout.unify(unifier);
+        Concept[] unifiedSlots = new Concept[unification.layout.size()];
+
+        for (int slot = 0; slot < slots.length; slot++){
+            Concept concept = slots[slot];
+            if (concept == null) continue;
+            for (int unifiedSlot : unification.targetSlots[slot]){
+                if (unifiedSlots[unifiedSlot] == null){
+                    unifiedSlots[unifiedSlot] = concept;
+                } else if (!unifiedSlots[unifiedSlot].equals(concept)){
+                    //ambiguous mapping
+                    return new SlotAnswer(AnswerLayout.EMPTY, new Concept[0], this.getExplanation());
+                }
+            }
+        }
+
+        return new SlotAnswer(unification.layout, unifiedSlots, this.getExplanation());
+    }
+
+    @Override
+    public Stream<Answer> permute(Set<Unifier> unifierSet){
+        if (unifierSet.isEmpty()) return Stream.of(this);
+        return unifierSet.stream().map(this::unify);
+    }
+
+    @Override
+    public AnswerExplanation getExplanation(){ return explanation;}
+
+    @Override
+    public SlotAnswer setExplanation(AnswerExplanation e){
+        this.explanation = e;
+        return this;
+    }
+
+    @Override
+    public Set<Answer> getExplicitPath(){
+        return getAnswers().stream().filter(ans -> ans.getExplanation().isLookupExplanation()).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<Answer> getAnswers(){
+        Set<Answer> answers = Sets.newHashSet(this);
+        this.getExplanation().getAnswers().forEach(ans -> ans.getAnswers().forEach(answers::add));
+        return answers;
+    }
+
+    @Override
+    public Set<AnswerExplanation> getExplanations(){
+        Set<AnswerExplanation> explanations = Sets.newHashSet(this.getExplanation());
+        this.getExplanation().getAnswers().forEach(ans -> ans.getExplanations().forEach(explanations::add));
+        return explanations;
+    }
+
+    /**
+     * Iterates over the filled slots of the answer, in the order of the layout
+     */
+    private class SlotIterator<T> implements Iterator<T> {
+        private final BiFunction<Var, Concept, T> element;
+        private int next = nextFilledSlot(0);
+
+        SlotIterator(BiFunction<Var, Concept, T> element){
+            this.element = element;
+        }
+
+        private int nextFilledSlot(int from){
+            int slot = from;
+            while (slot < slots.length && slots[slot] == null) slot++;
+            return slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < slots.length;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            T result = element.apply(layout.var(next), slots[next]);
+            next = nextFilledSlot(next + 1);
+            return result;
+        }
+    }
+}
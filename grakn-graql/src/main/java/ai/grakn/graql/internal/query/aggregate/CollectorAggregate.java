@@ -0,0 +1,67 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.aggregate;
+
+import ai.grakn.graql.Aggregate;
+
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An {@link Aggregate} computed by a {@link Collector}.
+ *
+ * <p>
+ * The collector keeps only the state the aggregate needs, such as a count and a sum, instead of every result. Partial
+ * states can be combined, so the aggregate can be applied to a parallel stream and to every group of a
+ * {@link GroupAggregate} without buffering the groups.
+ * </p>
+ *
+ * @param <T> The input type to the aggregate.
+ * @param <S> The result type of the aggregate.
+ */
+abstract class CollectorAggregate<T, S> extends AbstractAggregate<T, S> {
+
+    /**
+     * @return a collector computing the aggregate
+     */
+    abstract Collector<T, ?, S> collector();
+
+    @Override
+    public S apply(Stream<? extends T> stream) {
+        return stream.collect(collector());
+    }
+
+    /**
+     * @param aggregate the aggregate to compute
+     * @return a collector computing the aggregate, which only keeps every result if the aggregate has no collector
+     */
+    static <T, S> Collector<T, ?, S> collector(Aggregate<? super T, ? extends S> aggregate) {
+        if (aggregate instanceof CollectorAggregate) {
+            // An aggregate of a super-type of T can be applied to T
+            @SuppressWarnings("unchecked")
+            CollectorAggregate<T, S> collectorAggregate = (CollectorAggregate<T, S>) aggregate;
+            return collectorAggregate.collector();
+        } else {
+            return collectingAndThen(toList(), list -> aggregate.apply(list.stream()));
+        }
+    }
+}
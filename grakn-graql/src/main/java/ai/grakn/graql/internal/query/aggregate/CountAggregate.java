@@ -18,12 +18,20 @@
 
 package ai.grakn.graql.internal.query.aggregate;
 
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * Aggregate that counts results of a match query.
  */
-class CountAggregate extends AbstractAggregate<Object, Long> {
+class CountAggregate extends CollectorAggregate<Object, Long> {
+
+    @Override
+    Collector<Object, ?, Long> collector() {
+        return Collectors.counting();
+    }
+
     @Override
     public Long apply(Stream<?> stream) {
         return stream.count();
@@ -27,17 +27,15 @@ import ai.grakn.graql.admin.Answer;
 import javax.annotation.Nonnull;
 import java.util.Map;
 import java.util.stream.Collector;
-import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
 
 /**
  * Aggregate that groups results of a match query by variable name, applying an aggregate to each group.
+ * The results of a group are only kept when the inner aggregate is not a {@link CollectorAggregate}.
  * @param <T> the type of each group
  */
-class GroupAggregate<T> extends AbstractAggregate<Answer, Map<Concept, T>> {
+class GroupAggregate<T> extends CollectorAggregate<Answer, Map<Concept, T>> {
 
     private final Var varName;
     private final Aggregate<? super Answer, T> innerAggregate;
@@ -48,11 +46,8 @@ class GroupAggregate<T> extends AbstractAggregate<Answer, Map<Concept, T>> {
     }
 
     @Override
-    public Map<Concept, T> apply(Stream<? extends Answer> stream) {
-        Collector<Answer, ?, T> applyAggregate =
-                collectingAndThen(toList(), list -> innerAggregate.apply(list.stream()));
-
-        return stream.collect(groupingBy(this::getConcept, applyAggregate));
+    Collector<Answer, ?, Map<Concept, T>> collector() {
+        return groupingBy(this::getConcept, CollectorAggregate.<Answer, T>collector(innerAggregate));
     }
 
     private @Nonnull Concept getConcept(Answer result) {
@@ -63,6 +58,20 @@ class GroupAggregate<T> extends AbstractAggregate<Answer, Map<Concept, T>> {
         return concept;
     }
 
+    /**
+     * @return the variable the answers are grouped by
+     */
+    Var var() {
+        return varName;
+    }
+
+    /**
+     * @return the aggregate applied to each group
+     */
+    Aggregate<? super Answer, T> innerAggregate() {
+        return innerAggregate;
+    }
+
     @Override
     public String toString() {
         if (innerAggregate instanceof ListAggregate) {
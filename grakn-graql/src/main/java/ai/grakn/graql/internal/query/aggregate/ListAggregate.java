@@ -19,18 +19,18 @@
 package ai.grakn.graql.internal.query.aggregate;
 
 import java.util.List;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * An aggregate that changes match query results into a list.
  * @param <T> the type of the results of the match query
  */
-class ListAggregate<T> extends AbstractAggregate<T, List<T>> {
+class ListAggregate<T> extends CollectorAggregate<T, List<T>> {
 
     @Override
-    public List<T> apply(Stream<? extends T> stream) {
-        return stream.collect(Collectors.toList());
+    Collector<T, ?, List<T>> collector() {
+        return Collectors.toList();
     }
 
     @Override
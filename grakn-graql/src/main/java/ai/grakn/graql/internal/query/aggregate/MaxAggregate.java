@@ -22,14 +22,15 @@ import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 import static java.util.Comparator.naturalOrder;
 
 /**
  * Aggregate that finds maximum of a match query.
  */
-class MaxAggregate<T extends Comparable<T>> extends AbstractAggregate<Answer, Optional<T>> {
+class MaxAggregate<T extends Comparable<T>> extends CollectorAggregate<Answer, Optional<T>> {
 
     private final Var varName;
 
@@ -38,8 +39,15 @@ class MaxAggregate<T extends Comparable<T>> extends AbstractAggregate<Answer, Op
     }
 
     @Override
-    public Optional<T> apply(Stream<? extends Answer> stream) {
-        return stream.map(this::getValue).max(naturalOrder());
+    Collector<Answer, ?, Optional<T>> collector() {
+        return Collectors.mapping(this::getValue, Collectors.maxBy(naturalOrder()));
+    }
+
+    /**
+     * @return the variable the aggregate is applied to
+     */
+    Var var() {
+        return varName;
     }
 
     @Override
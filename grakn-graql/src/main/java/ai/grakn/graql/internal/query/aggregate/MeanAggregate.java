@@ -18,43 +18,41 @@
 
 package ai.grakn.graql.internal.query.aggregate;
 
-import ai.grakn.graql.Aggregate;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
-
-import static java.util.stream.Collectors.toList;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 /**
  * Aggregate that finds mean of a match query.
  */
-class MeanAggregate extends AbstractAggregate<Answer, Optional<Double>> {
+class MeanAggregate extends CollectorAggregate<Answer, Optional<Double>> {
 
     private final Var varName;
-    private final CountAggregate countAggregate;
-    private final Aggregate<Answer, Number> sumAggregate;
 
     MeanAggregate(Var varName) {
         this.varName = varName;
-        countAggregate = new CountAggregate();
-        sumAggregate = Aggregates.sum(varName);
     }
 
     @Override
-    public Optional<Double> apply(Stream<? extends Answer> stream) {
-        List<? extends Answer> list = stream.collect(toList());
+    Collector<Answer, ?, Optional<Double>> collector() {
+        return Collectors.mapping(result -> (Number) result.get(varName).asAttribute().getValue(), mean());
+    }
 
-        long count = countAggregate.apply(list.stream());
+    /**
+     * @return a collector finding the mean of numbers
+     */
+    static Collector<Number, ?, Optional<Double>> mean() {
+        return Collector.of(Mean::new, Mean::add, Mean::merge, Mean::result);
+    }
 
-        if (count == 0) {
-            return Optional.empty();
-        } else {
-            Number sum = sumAggregate.apply(list.stream());
-            return Optional.of(sum.doubleValue() / count);
-        }
+    /**
+     * @return the variable the aggregate is applied to
+     */
+    Var var() {
+        return varName;
     }
 
     @Override
@@ -76,4 +74,27 @@ class MeanAggregate extends AbstractAggregate<Answer, Optional<Double>> {
     public int hashCode() {
         return varName.hashCode();
     }
+
+    /**
+     * The count and sum of the numbers seen so far
+     */
+    private static class Mean {
+        private long count = 0;
+        private Number sum = 0;
+
+        void add(Number value) {
+            count += 1;
+            sum = SumAggregate.add(sum, value);
+        }
+
+        Mean merge(Mean other) {
+            count += other.count;
+            sum = SumAggregate.add(sum, other.sum);
+            return this;
+        }
+
+        Optional<Double> result() {
+            return count == 0 ? Optional.empty() : Optional.of(sum.doubleValue() / count);
+        }
+    }
 }
@@ -21,16 +21,19 @@ package ai.grakn.graql.internal.query.aggregate;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
-
-import static java.util.stream.Collectors.toList;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 /**
  * Aggregate that finds median of a match query.
+ *
+ * Only the numbers are kept, not the results, and the middle numbers are found by selection instead of sorting.
  */
-class MedianAggregate extends AbstractAggregate<Answer, Optional<Number>> {
+class MedianAggregate extends CollectorAggregate<Answer, Optional<Number>> {
 
     private final Var varName;
 
@@ -39,25 +42,71 @@ class MedianAggregate extends AbstractAggregate<Answer, Optional<Number>> {
     }
 
     @Override
-    public Optional<Number> apply(Stream<? extends Answer> stream) {
-        List<Number> results = stream
-                .map(result -> ((Number) result.get(varName).asAttribute().getValue()))
-                .sorted()
-                .collect(toList());
+    Collector<Answer, ?, Optional<Number>> collector() {
+        return Collectors.mapping(
+                result -> ((Number) result.get(varName).asAttribute().getValue()),
+                Collectors.collectingAndThen(Collectors.toCollection(ArrayList::new), MedianAggregate::median)
+        );
+    }
 
+    private static Optional<Number> median(List<Number> results) {
         int size = results.size();
         int halveFloor = Math.floorDiv(size - 1, 2);
-        int halveCeiling = (int) Math.ceil((size - 1) / 2.0);
 
         if (size == 0) {
             return Optional.empty();
         } else if (size % 2 == 1) {
             // Take exact middle result
-            return Optional.of(results.get(halveFloor));
+            return Optional.of(select(results, halveFloor));
         } else {
-            // Take average of middle results
-            return Optional.of((results.get(halveFloor).doubleValue() + results.get(halveCeiling).doubleValue()) / 2);
+            // Take average of middle results. Every result after the lower middle one is at least as big
+            Number lower = select(results, halveFloor);
+            Number upper = results.subList(halveFloor + 1, size).stream().min(MedianAggregate::compare).get();
+            return Optional.of((lower.doubleValue() + upper.doubleValue()) / 2);
+        }
+    }
+
+    /**
+     * Moves the k-th smallest number to index k, with smaller numbers before it and bigger numbers after it.
+     * This is quickselect, which takes linear time on average.
+     *
+     * @return the k-th smallest number
+     */
+    private static Number select(List<Number> numbers, int k) {
+        int left = 0;
+        int right = numbers.size() - 1;
+
+        while (left < right) {
+            Number pivot = numbers.get((left + right) >>> 1);
+            int i = left;
+            int j = right;
+
+            while (i <= j) {
+                while (compare(numbers.get(i), pivot) < 0) i++;
+                while (compare(numbers.get(j), pivot) > 0) j--;
+                if (i <= j) {
+                    Collections.swap(numbers, i, j);
+                    i++;
+                    j--;
+                }
+            }
+
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                break;
+            }
         }
+
+        return numbers.get(k);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Number x, Number y) {
+        // Numbers are compared in their natural order, like when they are sorted
+        return ((Comparable<Number>) x).compareTo(y);
     }
 
     @Override
@@ -21,20 +21,20 @@ package ai.grakn.graql.internal.query.aggregate;
 import com.google.common.collect.ImmutableSet;
 import ai.grakn.graql.NamedAggregate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-import static java.util.stream.Collectors.toList;
 
 /**
  * An aggregate that combines several aggregates together into a map (where keys are the names of the aggregates)
+ * The aggregates are computed together in one pass over the results.
  * @param <S> the type of the match query results
  * @param <T> the type of the aggregate results
  */
-class SelectAggregate<S, T> extends AbstractAggregate<S, Map<String, T>> {
+class SelectAggregate<S, T> extends CollectorAggregate<S, Map<String, T>> {
 
     private final ImmutableSet<NamedAggregate<? super S, ? extends T>> aggregates;
 
@@ -43,16 +43,42 @@ class SelectAggregate<S, T> extends AbstractAggregate<S, Map<String, T>> {
     }
 
     @Override
-    public Map<String, T> apply(Stream<? extends S> stream) {
-        List<? extends S> list = stream.collect(toList());
-
-        Map<String, T> map = new HashMap<>();
+    Collector<S, ?, Map<String, T>> collector() {
+        List<String> names = new ArrayList<>();
+        List<Collector<S, Object, T>> collectors = new ArrayList<>();
 
         for (NamedAggregate<? super S, ? extends T> aggregate : aggregates) {
-            map.put(aggregate.getName(), aggregate.getAggregate().apply(list.stream()));
+            names.add(aggregate.getName());
+            collectors.add(erase(CollectorAggregate.<S, T>collector(aggregate.getAggregate())));
         }
 
-        return map;
+        // The state is an array holding the state of each collector
+        return Collector.<S, Object[], Map<String, T>>of(
+                () -> collectors.stream().map(collector -> collector.supplier().get()).toArray(),
+                (states, result) -> {
+                    for (int i = 0; i < states.length; i++) {
+                        collectors.get(i).accumulator().accept(states[i], result);
+                    }
+                },
+                (states, otherStates) -> {
+                    for (int i = 0; i < states.length; i++) {
+                        states[i] = collectors.get(i).combiner().apply(states[i], otherStates[i]);
+                    }
+                    return states;
+                },
+                states -> {
+                    Map<String, T> map = new HashMap<>();
+                    for (int i = 0; i < states.length; i++) {
+                        map.put(names.get(i), collectors.get(i).finisher().apply(states[i]));
+                    }
+                    return map;
+                }
+        );
+    }
+
+    @SuppressWarnings("unchecked") // The state of each collector is only ever given back to the same collector
+    private static <S, T> Collector<S, Object, T> erase(Collector<S, ?, T> collector) {
+        return (Collector<S, Object, T>) collector;
     }
 
     @Override
@@ -23,14 +23,15 @@ import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 import static java.lang.Math.sqrt;
 
 /**
  * Aggregate that finds the unbiased sample standard deviation of a match query.
  */
-class StdAggregate extends AbstractAggregate<Answer, Optional<Double>> {
+class StdAggregate extends CollectorAggregate<Answer, Optional<Double>> {
 
     private final Var varName;
 
@@ -39,30 +40,11 @@ class StdAggregate extends AbstractAggregate<Answer, Optional<Double>> {
     }
 
     @Override
-    public Optional<Double> apply(Stream<? extends Answer> stream) {
-        Stream<Double> numStream = stream.map(result -> result.get(varName).<Number>asAttribute().getValue().doubleValue());
-
-        Iterable<Double> data = numStream::iterator;
-
-        // Online algorithm to calculate unbiased sample standard deviation
-        // https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Online_algorithm
-        long n = 0;
-        double mean = 0d;
-        double M2 = 0d;
-
-        for (double x : data) {
-            n += 1;
-            double delta = x - mean;
-            mean += delta / (double) n;
-            double delta2 = x - mean;
-            M2 += delta*delta2;
-        }
-
-        if (n < 2) {
-            return Optional.empty();
-        } else {
-            return Optional.of(sqrt(M2 / (double) (n - 1)));
-        }
+    Collector<Answer, ?, Optional<Double>> collector() {
+        return Collectors.mapping(
+                result -> result.get(varName).<Number>asAttribute().getValue().doubleValue(),
+                Collector.<Double, Variance, Optional<Double>>of(Variance::new, Variance::add, Variance::merge, Variance::std)
+        );
     }
 
     @Override
@@ -84,4 +66,43 @@ class StdAggregate extends AbstractAggregate<Answer, Optional<Double>> {
     public int hashCode() {
         return varName.hashCode();
     }
+
+    /**
+     * Online algorithm to calculate unbiased sample standard deviation, with the parallel algorithm to merge the
+     * variance of two parts of the data.
+     * https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance
+     */
+    private static class Variance {
+        private long n = 0;
+        private double mean = 0d;
+        private double M2 = 0d;
+
+        void add(double x) {
+            n += 1;
+            double delta = x - mean;
+            mean += delta / (double) n;
+            double delta2 = x - mean;
+            M2 += delta*delta2;
+        }
+
+        Variance merge(Variance other) {
+            if (other.n == 0) return this;
+            if (n == 0) return other;
+
+            long count = n + other.n;
+            double delta = other.mean - mean;
+            mean += delta * other.n / (double) count;
+            M2 += other.M2 + delta*delta * n * other.n / (double) count;
+            n = count;
+            return this;
+        }
+
+        Optional<Double> std() {
+            if (n < 2) {
+                return Optional.empty();
+            } else {
+                return Optional.of(sqrt(M2 / (double) (n - 1)));
+            }
+        }
+    }
 }
@@ -21,12 +21,13 @@ package ai.grakn.graql.internal.query.aggregate;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
-import java.util.stream.Stream;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 /**
  * Aggregate that sums results of a match query.
  */
-class SumAggregate extends AbstractAggregate<Answer, Number> {
+class SumAggregate extends CollectorAggregate<Answer, Number> {
 
     private final Var varName;
 
@@ -35,11 +36,18 @@ class SumAggregate extends AbstractAggregate<Answer, Number> {
     }
 
     @Override
-    public Number apply(Stream<? extends Answer> stream) {
-        return stream.map(result -> (Number) result.get(varName).asAttribute().getValue()).reduce(0, this::add);
+    Collector<Answer, ?, Number> collector() {
+        return Collectors.mapping(result -> (Number) result.get(varName).asAttribute().getValue(), sum());
     }
 
-    private Number add(Number x, Number y) {
+    /**
+     * @return a collector summing numbers
+     */
+    static Collector<Number, ?, Number> sum() {
+        return Collectors.reducing(0, SumAggregate::add);
+    }
+
+    static Number add(Number x, Number y) {
         // This method is necessary because Number doesn't support '+' because java!
         if (x instanceof Long || y instanceof Long) {
             return x.longValue() + y.longValue();
@@ -48,6 +56,13 @@ class SumAggregate extends AbstractAggregate<Answer, Number> {
         }
     }
 
+    /**
+     * @return the variable the aggregate is applied to
+     */
+    Var var() {
+        return varName;
+    }
+
     @Override
     public String toString() {
         return "sum " + varName;
@@ -0,0 +1,152 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.aggregate;
+
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.Concept;
+import ai.grakn.graql.Aggregate;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.MatchQueryAdmin;
+import ai.grakn.graql.internal.query.match.MatchTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collector;
+
+import static java.util.Comparator.naturalOrder;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.maxBy;
+import static java.util.stream.Collectors.minBy;
+
+/**
+ * Computes aggregates inside the gremlin traversal of a match query, so the answers are never built.
+ *
+ * <p>
+ * {@code count} and {@code group $x count} are counted by the traversal. {@code sum}, {@code min}, {@code max} and
+ * {@code mean} read the values of the attributes straight from their vertices. Any other aggregate, or a match query
+ * whose answers are not found by one traversal, is not supported and must be applied to the answers instead.
+ * </p>
+ */
+public class TraversalAggregates {
+
+    private static final String[] VALUE_PROPERTIES = AttributeType.DataType.SUPPORTED_TYPES.values().stream()
+            .map(dataType -> dataType.getVertexProperty().name()).toArray(String[]::new);
+
+    private static final Map<String, AttributeType.DataType<?>> DATA_TYPES = new HashMap<>();
+
+    static {
+        AttributeType.DataType.SUPPORTED_TYPES.values().forEach(dataType ->
+                DATA_TYPES.put(dataType.getVertexProperty().name(), dataType));
+    }
+
+    private TraversalAggregates() {}
+
+    /**
+     * @param aggregate the aggregate to compute
+     * @param matchQuery the match query the aggregate is applied to
+     * @param <T> the type of the result of the aggregate
+     * @return the result of the aggregate, or nothing if it cannot be computed inside the traversal
+     */
+    public static <T> Optional<T> apply(Aggregate<? super Answer, T> aggregate, MatchQueryAdmin matchQuery) {
+        if (!isSupported(aggregate)) return Optional.empty();
+
+        return MatchTraversal.of(matchQuery).flatMap(traversal -> apply(aggregate, traversal));
+    }
+
+    private static boolean isSupported(Aggregate<?, ?> aggregate) {
+        if (aggregate instanceof GroupAggregate) {
+            return ((GroupAggregate<?>) aggregate).innerAggregate() instanceof CountAggregate;
+        }
+
+        return aggregate instanceof CountAggregate || aggregate instanceof SumAggregate ||
+                aggregate instanceof MinAggregate || aggregate instanceof MaxAggregate ||
+                aggregate instanceof MeanAggregate;
+    }
+
+    @SuppressWarnings("unchecked") // The result types are known from the type of the aggregate
+    private static <T> Optional<T> apply(Aggregate<? super Answer, T> aggregate, MatchTraversal traversal) {
+        if (aggregate instanceof CountAggregate) {
+            return Optional.of((T) traversal.traversal().count().next());
+        } else if (aggregate instanceof GroupAggregate) {
+            return (Optional<T>) groupCount(traversal, ((GroupAggregate<?>) aggregate).var());
+        } else if (aggregate instanceof SumAggregate) {
+            return (Optional<T>) applyToValues(traversal, ((SumAggregate) aggregate).var(),
+                    mapping(value -> (Number) value, SumAggregate.sum()));
+        } else if (aggregate instanceof MinAggregate) {
+            return (Optional<T>) applyToValues(traversal, ((MinAggregate<?>) aggregate).var(),
+                    mapping(TraversalAggregates::comparable, minBy(naturalOrder())));
+        } else if (aggregate instanceof MaxAggregate) {
+            return (Optional<T>) applyToValues(traversal, ((MaxAggregate<?>) aggregate).var(),
+                    mapping(TraversalAggregates::comparable, maxBy(naturalOrder())));
+        } else if (aggregate instanceof MeanAggregate) {
+            return (Optional<T>) applyToValues(traversal, ((MeanAggregate) aggregate).var(),
+                    mapping(value -> (Number) value, MeanAggregate.mean()));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Map<Concept, Long>> groupCount(MatchTraversal traversal, Var var) {
+        // Grouping by a variable which is not in the answers fails, so the answers must be built to report it
+        if (!traversal.vars().contains(var)) return Optional.empty();
+
+        Map<Element, Long> counts = traversal.traversal().<Element>select(var.getValue()).<Element>groupCount().next();
+
+        Map<Concept, Long> countsByConcept = new HashMap<>();
+        counts.forEach((element, count) -> countsByConcept.put(traversal.buildConcept(element), count));
+        return Optional.of(countsByConcept);
+    }
+
+    /**
+     * Gives the value of the attribute bound to the variable in every answer to the collector of the aggregate.
+     *
+     * @return the result of the collector, or nothing if the variable is not always bound to an attribute
+     */
+    private static <A, T> Optional<T> applyToValues(MatchTraversal traversal, Var var, Collector<Object, A, T> collector) {
+        if (!traversal.vars().contains(var)) return Optional.empty();
+
+        A container = collector.supplier().get();
+        GraphTraversal<Vertex, Map<String, Object>> values =
+                traversal.traversal().<Element>select(var.getValue()).valueMap(VALUE_PROPERTIES);
+
+        while (values.hasNext()) {
+            Map<String, Object> properties = values.next();
+
+            // Not an attribute. The answers must be built to report it
+            if (properties.size() != 1) return Optional.empty();
+
+            Map.Entry<String, Object> property = properties.entrySet().iterator().next();
+            Object persistedValue = ((List<?>) property.getValue()).get(0);
+            collector.accumulator().accept(container, DATA_TYPES.get(property.getKey()).getValue(persistedValue));
+        }
+
+        return Optional.of(collector.finisher().apply(container));
+    }
+
+    @SuppressWarnings("unchecked") // Only values of the same data type are compared
+    private static Comparable<Object> comparable(Object value) {
+        return (Comparable<Object>) value;
+    }
+}
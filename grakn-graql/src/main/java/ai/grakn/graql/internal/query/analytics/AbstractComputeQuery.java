@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.query.analytics;
 
 import ai.grakn.Grakn;
 import ai.grakn.GraknComputer;
+import ai.grakn.GraknComputerType;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
@@ -63,10 +64,12 @@ abstract class AbstractComputeQuery<T> implements ComputeQuery<T> {
 
     Optional<GraknTx> tx = Optional.empty();
     GraknComputer graknComputer = null;
+    GraknComputerType computerType = GraknComputerType.AUTO;
     String keySpace;
 
     Set<Label> subLabels = new HashSet<>();
     Set<Type> subTypes = new HashSet<>();
+    boolean subTypeLabelsSet = false;
 
     private String url;
 
@@ -76,15 +79,23 @@ abstract class AbstractComputeQuery<T> implements ComputeQuery<T> {
         return this;
     }
 
+    @Override
+    public ComputeQuery<T> withComputerType(GraknComputerType computerType) {
+        this.computerType = computerType;
+        return this;
+    }
+
     @Override
     public ComputeQuery<T> in(String... subTypeLabels) {
         this.subLabels = Arrays.stream(subTypeLabels).map(Label::of).collect(Collectors.toSet());
+        this.subTypeLabelsSet = !this.subLabels.isEmpty();
         return this;
     }
 
     @Override
     public ComputeQuery<T> in(Collection<Label> subLabels) {
         this.subLabels = Sets.newHashSet(subLabels);
+        this.subTypeLabelsSet = !this.subLabels.isEmpty();
         return this;
     }
 
@@ -152,7 +163,7 @@ abstract class AbstractComputeQuery<T> implements ComputeQuery<T> {
 
     GraknComputer getGraphComputer() {
         if (graknComputer == null) {
-            graknComputer = Grakn.session(url, keySpace).getGraphComputer();
+            graknComputer = Grakn.session(url, keySpace).getGraphComputer(computerType);
         }
         return graknComputer;
     }
@@ -185,6 +196,17 @@ abstract class AbstractComputeQuery<T> implements ComputeQuery<T> {
         return "compute " + graqlString();
     }
 
+    /**
+     * Leave a resource type the results are persisted as out of the subgraph, so the results persisted by a previous
+     * query do not change the results
+     */
+    void excludeFromSubGraph(Label resourceType) {
+        Label hasResource = Schema.ImplicitType.HAS.getLabel(resourceType);
+        subLabels.remove(resourceType);
+        subLabels.remove(hasResource);
+        subTypes.removeIf(type -> type.getLabel().equals(resourceType) || type.getLabel().equals(hasResource));
+    }
+
     Set<Label> getHasResourceRelationTypes() {
         return subTypes.stream()
                 .filter(Concept::isAttributeType)
@@ -199,13 +221,14 @@ abstract class AbstractComputeQuery<T> implements ComputeQuery<T> {
 
         AbstractComputeQuery<?> that = (AbstractComputeQuery<?>) o;
 
-        return tx.equals(that.tx) && subLabels.equals(that.subLabels);
+        return tx.equals(that.tx) && subLabels.equals(that.subLabels) && computerType.equals(that.computerType);
     }
 
     @Override
     public int hashCode() {
         int result = tx.hashCode();
         result = 31 * result + subLabels.hashCode();
+        result = 31 * result + computerType.hashCode();
         return result;
     }
 
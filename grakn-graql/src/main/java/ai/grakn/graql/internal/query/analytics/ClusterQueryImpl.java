@@ -19,12 +19,17 @@
 package ai.grakn.graql.internal.query.analytics;
 
 import ai.grakn.GraknTx;
+import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.LabelId;
 import ai.grakn.graql.analytics.ClusterQuery;
 import ai.grakn.graql.internal.analytics.ClusterMemberMapReduce;
+import ai.grakn.graql.internal.analytics.ClusterPersistMapReduce;
 import ai.grakn.graql.internal.analytics.ClusterSizeMapReduce;
 import ai.grakn.graql.internal.analytics.ConnectedComponentVertexProgram;
+import ai.grakn.graql.internal.analytics.ResultWriter;
+import ai.grakn.graql.internal.analytics.Utility;
+import ai.grakn.graql.internal.util.StringConverter;
 import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 
 import java.util.Collection;
@@ -32,12 +37,16 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuery<T> {
 
+    static final Label DEFAULT_PERSISTED_TYPE = Label.of("cluster");
+
     private boolean members = false;
     private boolean anySize = true;
     private long clusterSize = -1L;
+    private Optional<Label> persistedAs = Optional.empty();
 
     ClusterQueryImpl(Optional<GraknTx> graph) {
         this.tx = graph;
@@ -48,6 +57,12 @@ class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuer
         LOGGER.info("ConnectedComponentsVertexProgram is called");
         long startTime = System.currentTimeMillis();
         initSubGraph();
+
+        Optional<ResultWriter> writer = persistedAs.map(resourceType -> {
+            excludeFromSubGraph(resourceType);
+            return ResultWriter.of(tx.get(), resourceType, AttributeType.DataType.STRING, subLabels);
+        });
+
         if (!selectedTypesHaveInstance()) return (T) Collections.emptyMap();
 
         ComputerResult result;
@@ -55,49 +70,61 @@ class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuer
         withResourceRelationTypes.addAll(subLabels);
 
         String randomId = getRandomJobId();
+        String clusterLabel = ConnectedComponentVertexProgram.CLUSTER_LABEL + randomId;
 
         Set<LabelId> withResourceRelationLabelIds = convertLabelsToIds(withResourceRelationTypes);
 
-        if (members) {
-            if (anySize) {
-                result = getGraphComputer().compute(
-                        new ConnectedComponentVertexProgram(randomId),
-                        new ClusterMemberMapReduce(
-                                ConnectedComponentVertexProgram.CLUSTER_LABEL + randomId),
-                        withResourceRelationLabelIds);
-            } else {
-                result = getGraphComputer().compute(
-                        new ConnectedComponentVertexProgram(randomId),
-                        new ClusterMemberMapReduce(
-                                ConnectedComponentVertexProgram.CLUSTER_LABEL + randomId, clusterSize),
-                        withResourceRelationLabelIds);
-            }
+        // Without writing from the workers, the members of each cluster must be collected to persist it
+        boolean persistedInWorkers = writer.filter(ResultWriter::inWorkers).isPresent();
+        if (members || (writer.isPresent() && !persistedInWorkers)) {
+            ClusterMemberMapReduce mapReduce = anySize ?
+                    new ClusterMemberMapReduce(clusterLabel) : new ClusterMemberMapReduce(clusterLabel, clusterSize);
+            if (persistedInWorkers) mapReduce.persistWith(writer.get());
+
+            result = getGraphComputer().compute(
+                    new ConnectedComponentVertexProgram(randomId), mapReduce, withResourceRelationLabelIds);
             LOGGER.info("ConnectedComponentsVertexProgram is done in "
                     + (System.currentTimeMillis() - startTime) + " ms");
-            return result.memory().get(ClusterMemberMapReduce.class.getName());
+            Map<String, Set<Long>> clusterVertices = result.memory().get(ClusterMemberMapReduce.class.getName());
+            Map<String, Set<String>> clusters = clusterVertices.entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey,
+                            cluster -> Utility.vertexIdsToConceptIds(cluster.getValue())));
+
+            if (!persistedInWorkers) {
+                writer.ifPresent(resultWriter -> {
+                    long persistStartTime = System.currentTimeMillis();
+                    resultWriter.write(clusters);
+                    LOGGER.info("Clusters are persisted in " + (System.currentTimeMillis() - persistStartTime) + " ms");
+                });
+            }
+
+            if (members) return (T) clusters;
+
+            Map<String, Long> clusterSizes = clusters.entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, cluster -> (long) cluster.getValue().size()));
+            return (T) clusterSizes;
         } else {
-            if (anySize) {
-                result = getGraphComputer().compute(
-                        new ConnectedComponentVertexProgram(randomId),
-                        new ClusterSizeMapReduce(
-                                ConnectedComponentVertexProgram.CLUSTER_LABEL + randomId),
-                        withResourceRelationLabelIds);
+            // The members of each cluster are written by the workers rather than returned
+            ClusterSizeMapReduce mapReduce;
+            if (persistedInWorkers) {
+                mapReduce = anySize ? new ClusterPersistMapReduce(clusterLabel, writer.get()) :
+                        new ClusterPersistMapReduce(clusterLabel, clusterSize, writer.get());
             } else {
-                result = getGraphComputer().compute(
-                        new ConnectedComponentVertexProgram(randomId),
-                        new ClusterSizeMapReduce(
-                                ConnectedComponentVertexProgram.CLUSTER_LABEL + randomId, clusterSize),
-                        withResourceRelationLabelIds);
+                mapReduce = anySize ?
+                        new ClusterSizeMapReduce(clusterLabel) : new ClusterSizeMapReduce(clusterLabel, clusterSize);
             }
+
+            result = getGraphComputer().compute(
+                    new ConnectedComponentVertexProgram(randomId), mapReduce, withResourceRelationLabelIds);
             LOGGER.info("ConnectedComponentsVertexProgram is done in "
                     + (System.currentTimeMillis() - startTime) + " ms");
-            return result.memory().get(ClusterSizeMapReduce.class.getName());
+            return result.memory().get(mapReduce.getMemoryKey());
         }
     }
 
     @Override
     public boolean isReadOnly() {
-        return true;
+        return !persistedAs.isPresent();
     }
 
     @Override
@@ -113,6 +140,18 @@ class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuer
         return this;
     }
 
+    @Override
+    public ClusterQuery<T> persist() {
+        this.persistedAs = Optional.of(DEFAULT_PERSISTED_TYPE);
+        return this;
+    }
+
+    @Override
+    public ClusterQuery<T> persist(String resourceTypeLabel) {
+        this.persistedAs = Optional.of(Label.of(resourceTypeLabel));
+        return this;
+    }
+
     @Override
     public ClusterQuery<T> in(String... subTypeLabels) {
         return (ClusterQuery<T>) super.in(subTypeLabels);
@@ -132,6 +171,9 @@ class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuer
         if (!anySize) {
             string += " size " + clusterSize + ";";
         }
+        if (persistedAs.isPresent()) {
+            string += " persist " + StringConverter.typeLabelToString(persistedAs.get()) + ";";
+        }
         return string;
     }
 
@@ -148,7 +190,8 @@ class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuer
 
         ClusterQueryImpl<?> that = (ClusterQueryImpl<?>) o;
 
-        return members == that.members && anySize == that.anySize && clusterSize == that.clusterSize;
+        return members == that.members && anySize == that.anySize && clusterSize == that.clusterSize &&
+                persistedAs.equals(that.persistedAs);
     }
 
     @Override
@@ -157,6 +200,7 @@ class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuer
         result = 31 * result + (members ? 1 : 0);
         result = 31 * result + (anySize ? 1 : 0);
         result = 31 * result + (int) (clusterSize ^ (clusterSize >>> 32));
+        result = 31 * result + persistedAs.hashCode();
         return result;
     }
 }
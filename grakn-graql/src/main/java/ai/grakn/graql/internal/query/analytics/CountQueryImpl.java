@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.query.analytics;
 
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.LabelId;
 import ai.grakn.concept.RelationshipType;
@@ -39,6 +40,8 @@ import static java.util.stream.Collectors.toSet;
 
 class CountQueryImpl extends AbstractComputeQuery<Long> implements CountQuery {
 
+    private boolean exact = false;
+
     CountQueryImpl(Optional<GraknTx> graph) {
         this.tx = graph;
     }
@@ -55,6 +58,20 @@ class CountQueryImpl extends AbstractComputeQuery<Long> implements CountQuery {
             return 0L;
         }
 
+        // Relationships may be stored as edges, which the maintained counts do not include
+        if (!exact && subTypes.stream().noneMatch(Concept::isRelationshipType)) {
+            Set<ConceptId> typeIds = subLabels.stream()
+                    .map(label -> tx.get().getSchemaConcept(label).getId())
+                    .collect(toSet());
+            Optional<Long> maintainedCount = tx.get().admin().getMaintainedInstanceCount(typeIds);
+            if (maintainedCount.isPresent()) {
+                LOGGER.debug("Count = " + maintainedCount.get());
+                LOGGER.info("Count is read from the maintained instance counts in " +
+                        (System.currentTimeMillis() - startTime) + " ms");
+                return maintainedCount.get();
+            }
+        }
+
         Set<LabelId> rolePlayerLabelIds = subTypes.stream()
                 .filter(Concept::isRelationshipType)
                 .map(relationType -> ((RelationshipType) relationType).relates().collect(toSet()))
@@ -104,9 +121,19 @@ class CountQueryImpl extends AbstractComputeQuery<Long> implements CountQuery {
         return (CountQuery) super.in(subLabels);
     }
 
+    @Override
+    public CountQuery exact() {
+        this.exact = true;
+        return this;
+    }
+
     @Override
     String graqlString() {
-        return "count" + subtypeString();
+        String string = "count" + subtypeString();
+        if (exact) {
+            string += " exact;";
+        }
+        return string;
     }
 
     @Override
@@ -114,4 +141,21 @@ class CountQueryImpl extends AbstractComputeQuery<Long> implements CountQuery {
         return (CountQuery) super.withTx(tx);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+
+        CountQueryImpl that = (CountQueryImpl) o;
+
+        return exact == that.exact;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + (exact ? 1 : 0);
+        return result;
+    }
 }
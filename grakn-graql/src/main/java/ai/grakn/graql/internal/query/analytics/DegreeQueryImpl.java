@@ -19,6 +19,9 @@
 package ai.grakn.graql.internal.query.analytics;
 
 import ai.grakn.GraknTx;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.LabelId;
 import ai.grakn.concept.SchemaConcept;
@@ -27,14 +30,19 @@ import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.analytics.DegreeQuery;
 import ai.grakn.graql.internal.analytics.DegreeDistributionMapReduce;
 import ai.grakn.graql.internal.analytics.DegreeVertexProgram;
+import ai.grakn.graql.internal.analytics.ResultWriter;
 import ai.grakn.graql.internal.util.StringConverter;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -44,8 +52,14 @@ import static java.util.stream.Collectors.joining;
 
 class DegreeQueryImpl extends AbstractComputeQuery<Map<Long, Set<String>>> implements DegreeQuery {
 
+    static final Label DEFAULT_PERSISTED_TYPE = Label.of("degree");
+
+    // The number of instances the maintained degrees are read for in one request to engine
+    private static final int DEGREES_PAGE_SIZE = 10000;
+
     private boolean ofTypeLabelsSet = false;
     private Set<Label> ofLabels = new HashSet<>();
+    private Optional<Label> persistedAs = Optional.empty();
 
     DegreeQueryImpl(Optional<GraknTx> graph) {
         this.tx = graph;
@@ -72,28 +86,91 @@ class DegreeQueryImpl extends AbstractComputeQuery<Map<Long, Set<String>>> imple
             subLabels.addAll(ofLabels);
         }
 
+        Optional<ResultWriter> writer = persistedAs.map(resourceType -> {
+            excludeFromSubGraph(resourceType);
+            ofLabels.remove(resourceType);
+            return ResultWriter.of(tx.get(), resourceType, AttributeType.DataType.LONG, ofLabels);
+        });
+
         if (!selectedTypesHaveInstance()) return Collections.emptyMap();
 
         Set<Label> withResourceRelationTypes = getHasResourceRelationTypes();
         withResourceRelationTypes.addAll(subLabels);
 
-        Set<LabelId> withResourceRelationLabelIds = convertLabelsToIds(withResourceRelationTypes);
-        Set<LabelId> ofLabelIds = convertLabelsToIds(ofLabels);
+        Map<Long, Set<String>> degrees;
+        // The maintained degrees count the roles played in all the relationships, so they are only read when the
+        // subgraph is the whole graph. A persisted resource type is always left out of the subgraph.
+        Optional<Map<Long, Set<String>>> maintainedDegrees = subTypeLabelsSet || writer.isPresent() ?
+                Optional.empty() : getMaintainedDegrees(withResourceRelationTypes);
+        if (maintainedDegrees.isPresent()) {
+            degrees = maintainedDegrees.get();
+            LOGGER.info("Maintained degrees are read in " + (System.currentTimeMillis() - startTime) + " ms");
+        } else {
+            Set<LabelId> withResourceRelationLabelIds = convertLabelsToIds(withResourceRelationTypes);
+            Set<LabelId> ofLabelIds = convertLabelsToIds(ofLabels);
+
+            String randomId = getRandomJobId();
+
+            DegreeDistributionMapReduce mapReduce =
+                    new DegreeDistributionMapReduce(ofLabelIds, DegreeVertexProgram.DEGREE + randomId);
+            writer.filter(ResultWriter::inWorkers).ifPresent(mapReduce::persistWith);
+
+            ComputerResult result = getGraphComputer().compute(
+                    new DegreeVertexProgram(ofLabelIds, randomId), mapReduce, withResourceRelationLabelIds);
+
+            LOGGER.info("DegreeVertexProgram is done in " + (System.currentTimeMillis() - startTime) + " ms");
+            degrees = result.memory().get(DegreeDistributionMapReduce.class.getName());
+        }
+
+        writer.filter(resultWriter -> !resultWriter.inWorkers()).ifPresent(resultWriter -> {
+            long persistStartTime = System.currentTimeMillis();
+            resultWriter.write(degrees);
+            LOGGER.info("Degrees are persisted in " + (System.currentTimeMillis() - persistStartTime) + " ms");
+        });
+
+        return degrees;
+    }
+
+    /**
+     * Read the degrees maintained by engine from the commit logs instead of computing them. This is only possible when
+     * all the instances given a degree are entities, because the degrees of relationships and attributes also count
+     * the role players and owners in the subgraph. The degrees are read a page of instances at a time.
+     *
+     * @param withResourceRelationTypes the types in the subgraph, including the implicit has-resource types
+     * @return the degrees, or nothing if they are not maintained for the keyspace
+     */
+    private Optional<Map<Long, Set<String>>> getMaintainedDegrees(Set<Label> withResourceRelationTypes) {
+        GraknTx graph = tx.get();
+        Set<Type> ofTypes = ofLabels.stream().<Type>map(graph::getSchemaConcept).collect(Collectors.toSet());
+        if (!ofTypes.stream().allMatch(Concept::isEntityType)) return Optional.empty();
+
+        // An implicit has-resource type only exists once the attribute type is owned by some type
+        Set<ConceptId> relationshipTypeIds = withResourceRelationTypes.stream()
+                .<SchemaConcept>map(graph::getSchemaConcept)
+                .filter(type -> type != null && type.isRelationshipType())
+                .map(Concept::getId)
+                .collect(Collectors.toSet());
 
-        String randomId = getRandomJobId();
+        Iterator<List<ConceptId>> pages = Iterators.partition(ofTypes.stream()
+                .flatMap(type -> type.instances().filter(thing -> thing.type().equals(type)))
+                .map(Concept::getId)
+                .iterator(), DEGREES_PAGE_SIZE);
 
-        ComputerResult result = getGraphComputer().compute(
-                new DegreeVertexProgram(ofLabelIds, randomId),
-                new DegreeDistributionMapReduce(ofLabelIds, DegreeVertexProgram.DEGREE + randomId),
-                withResourceRelationLabelIds);
+        Map<Long, Set<String>> degrees = new HashMap<>();
+        while (pages.hasNext()) {
+            Set<ConceptId> pageIds = Sets.newHashSet(pages.next());
+            Optional<Map<ConceptId, Long>> degreeOfThing = graph.admin().getMaintainedDegrees(relationshipTypeIds, pageIds);
+            if (!degreeOfThing.isPresent()) return Optional.empty();
 
-        LOGGER.info("DegreeVertexProgram is done in " + (System.currentTimeMillis() - startTime) + " ms");
-        return result.memory().get(DegreeDistributionMapReduce.class.getName());
+            pageIds.forEach(id -> degrees.computeIfAbsent(degreeOfThing.get().getOrDefault(id, 0L),
+                    degree -> new HashSet<>()).add(id.getValue()));
+        }
+        return Optional.of(degrees);
     }
 
     @Override
     public boolean isReadOnly() {
-        return true;
+        return !persistedAs.isPresent();
     }
 
     @Override
@@ -124,6 +201,18 @@ class DegreeQueryImpl extends AbstractComputeQuery<Map<Long, Set<String>>> imple
         return this;
     }
 
+    @Override
+    public DegreeQuery persist() {
+        this.persistedAs = Optional.of(DEFAULT_PERSISTED_TYPE);
+        return this;
+    }
+
+    @Override
+    public DegreeQuery persist(String resourceTypeLabel) {
+        this.persistedAs = Optional.of(Label.of(resourceTypeLabel));
+        return this;
+    }
+
     @Override
     String graqlString() {
         String string = "degrees";
@@ -133,6 +222,9 @@ class DegreeQueryImpl extends AbstractComputeQuery<Map<Long, Set<String>>> imple
                     .collect(joining(", "));
         }
         string += subtypeString();
+        if (persistedAs.isPresent()) {
+            string += " persist " + StringConverter.typeLabelToString(persistedAs.get()) + ";";
+        }
         return string;
     }
 
@@ -149,7 +241,8 @@ class DegreeQueryImpl extends AbstractComputeQuery<Map<Long, Set<String>>> imple
 
         DegreeQueryImpl that = (DegreeQueryImpl) o;
 
-        return ofTypeLabelsSet == that.ofTypeLabelsSet && ofLabels.equals(that.ofLabels);
+        return ofTypeLabelsSet == that.ofTypeLabelsSet && ofLabels.equals(that.ofLabels) &&
+                persistedAs.equals(that.persistedAs);
     }
 
     @Override
@@ -157,6 +250,7 @@ class DegreeQueryImpl extends AbstractComputeQuery<Map<Long, Set<String>>> imple
         int result = super.hashCode();
         result = 31 * result + (ofTypeLabelsSet ? 1 : 0);
         result = 31 * result + ofLabels.hashCode();
+        result = 31 * result + persistedAs.hashCode();
         return result;
     }
 }
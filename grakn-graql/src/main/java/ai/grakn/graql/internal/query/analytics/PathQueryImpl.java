@@ -28,6 +28,7 @@ import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.analytics.PathQuery;
 import ai.grakn.graql.internal.analytics.ClusterMemberMapReduce;
 import ai.grakn.graql.internal.analytics.ShortestPathVertexProgram;
+import ai.grakn.graql.internal.analytics.Utility;
 import ai.grakn.util.ErrorMessage;
 import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 
@@ -66,6 +67,11 @@ class PathQueryImpl extends AbstractComputeQuery<Optional<List<Concept>>> implem
         if (sourceId.equals(destinationId)) {
             return Optional.of(Collections.singletonList(tx.get().getConcept(sourceId)));
         }
+        // Relationships stored as edges cannot be reached by the vertex program
+        if (!Utility.isVertexId(sourceId) || !Utility.isVertexId(destinationId)) {
+            LOGGER.info("ShortestPathVertexProgram is done in " + (System.currentTimeMillis() - startTime) + " ms");
+            return Optional.empty();
+        }
         ComputerResult result;
 
         Set<LabelId> subLabelIds = convertLabelsToIds(subLabels);
@@ -83,15 +89,17 @@ class PathQueryImpl extends AbstractComputeQuery<Optional<List<Concept>>> implem
             }
             throw e;
         }
-        Map<Integer, Set<String>> map = result.memory().get(ClusterMemberMapReduce.class.getName());
-        String middlePoint = result.memory().get(ShortestPathVertexProgram.MIDDLE);
-        if (!middlePoint.equals("")) map.put(0, Collections.singleton(middlePoint));
+        Map<Integer, Set<Long>> map = result.memory().get(ClusterMemberMapReduce.class.getName());
+        long middlePoint = result.memory().get(ShortestPathVertexProgram.MIDDLE);
+        if (middlePoint != ShortestPathVertexProgram.NO_VERTEX) {
+            map.put(0, Collections.singleton(middlePoint));
+        }
 
         List<ConceptId> path = new ArrayList<>();
         path.add(sourceId);
         path.addAll(map.entrySet().stream()
                 .sorted(Comparator.comparingInt(Map.Entry::getKey))
-                .map(pair -> ConceptId.of(pair.getValue().iterator().next()))
+                .map(pair -> ConceptId.of(Utility.vertexIdToConceptId(pair.getValue().iterator().next())))
                 .collect(Collectors.toList()));
         path.add(destinationId);
 
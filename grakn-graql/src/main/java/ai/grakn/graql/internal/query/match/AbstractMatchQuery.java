@@ -70,7 +70,9 @@ abstract class AbstractMatchQuery implements MatchQueryAdmin {
 
     @Override
     public final List<Answer> execute() {
-        return stream().collect(toList());
+        try (Stream<Answer> answers = stream()) {
+            return answers.collect(toList());
+        }
     }
 
     /**
@@ -85,6 +87,14 @@ abstract class AbstractMatchQuery implements MatchQueryAdmin {
         return stream(Optional.empty());
     }
 
+    /**
+     * @param graph the graph to use to execute the query
+     * @return the traversal finding the answers of this query, if the answers are exactly the results of one traversal
+     */
+    Optional<MatchTraversal> traversal(Optional<GraknTx> graph) {
+        return Optional.empty();
+    }
+
     @Override
     public final MatchQuery withTx(GraknTx tx) {
         return new MatchQueryTx(tx, this);
@@ -32,7 +32,9 @@ import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.gremlin.GraqlTraversal;
 import ai.grakn.graql.internal.gremlin.GreedyTraversalPlan;
 import ai.grakn.graql.internal.pattern.property.VarPropertyInternal;
-import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.query.AnswerLayout;
+import ai.grakn.graql.internal.query.SlotAnswer;
+import com.google.common.collect.ImmutableList;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
@@ -40,12 +42,11 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
@@ -79,6 +80,23 @@ public class MatchQueryBase extends AbstractMatchQuery {
     public Stream<Answer> stream(Optional<GraknTx> optionalGraph) {
         GraknTx graph = optionalGraph.orElseThrow(GraqlQueryException::noTx);
 
+        // Every answer shares the same layout, so it only holds an array of concepts
+        AnswerLayout layout = AnswerLayout.of(pattern.commonVars());
+
+        return getGraphTraversal(graph, layout.vars()).toStream()
+                .map(elements -> makeResults(graph, layout, elements))
+                .sequential();
+    }
+
+    @Override
+    Optional<MatchTraversal> traversal(Optional<GraknTx> optionalGraph) {
+        return optionalGraph.map(graph -> {
+            ImmutableList<Var> vars = ImmutableList.copyOf(pattern.commonVars());
+            return new MatchTraversal(graph, vars, getGraphTraversal(graph, vars));
+        });
+    }
+
+    private GraphTraversal<Vertex, Map<String, Element>> getGraphTraversal(GraknTx graph, List<Var> selectedVars) {
         for (VarPatternAdmin var : pattern.varPatterns()) {
             var.getProperties().forEach(property -> ((VarPropertyInternal) property).checkValid(graph, var));}
 
@@ -87,7 +105,7 @@ public class MatchQueryBase extends AbstractMatchQuery {
         LOG.trace(graqlTraversal.toString());
         GraphTraversal<Vertex, Map<String, Element>> traversal = graqlTraversal.getGraphTraversal(graph);
 
-        String[] selectedNames = pattern.commonVars().stream().map(Var::getValue).toArray(String[]::new);
+        String[] selectedNames = selectedVars.stream().map(Var::getValue).toArray(String[]::new);
 
         // Must provide three arguments in order to pass an array to .select
         // If ordering, select the variable to order by as well
@@ -95,10 +113,7 @@ public class MatchQueryBase extends AbstractMatchQuery {
             traversal.select(selectedNames[0], selectedNames[0], selectedNames);
         }
 
-        return traversal.toStream()
-                .map(elements -> makeResults(graph, elements))
-                .sequential()
-                .map(QueryAnswer::new);
+        return traversal;
     }
 
     @Override
@@ -140,19 +155,28 @@ public class MatchQueryBase extends AbstractMatchQuery {
         return new MatchQueryInfer(this, materialise);
     }
 
+    /**
+     * @param keepOrder whether to return the answers of each disjunct in turn
+     * @return a match query that finds the answers of each disjunct of this query in parallel, without inference
+     */
+    public final MatchQuery parallel(boolean keepOrder) {
+        return new MatchQueryParallel(this, keepOrder);
+    }
+
     /**
      * @param graph the graph to get results from
      * @param elements a map of vertices and edges where the key is the variable name
      * @return a map of concepts where the key is the variable name
      */
-    private Map<Var, Concept> makeResults(GraknTx graph, Map<String, Element> elements) {
-        return pattern.commonVars().stream().collect(Collectors.<Var, Var, Concept>toMap(
-                Function.identity(),
-                name -> buildConcept(graph.admin(), elements.get(name.getValue()))
-        ));
+    private Answer makeResults(GraknTx graph, AnswerLayout layout, Map<String, Element> elements) {
+        Concept[] slots = new Concept[layout.size()];
+        for (int slot = 0; slot < slots.length; slot++) {
+            slots[slot] = buildConcept(graph.admin(), elements.get(layout.var(slot).getValue()));
+        }
+        return new SlotAnswer(layout, slots);
     }
 
-    private Concept buildConcept(GraknAdmin graph, Element element) {
+    static Concept buildConcept(GraknAdmin graph, Element element) {
         if (element instanceof Vertex) {
             return graph.buildConcept((Vertex) element);
         } else {
@@ -64,6 +64,16 @@ class MatchQueryInfer extends MatchQueryModifier {
         return answerStream.map(result -> result.filterVars(getSelectedNames()));
     }
 
+    @Override
+    Optional<MatchTraversal> traversal(Optional<GraknTx> optionalGraph) {
+        Optional<GraknTx> graph = optionalOr(optionalGraph, inner.tx());
+
+        // Inferred answers are not found by a traversal
+        if (!graph.isPresent() || RuleUtil.hasRules(graph.get())) return Optional.empty();
+
+        return inner.traversal(optionalGraph);
+    }
+
     @Override
     protected String modifierString() {
         return "";
@@ -21,9 +21,14 @@ package ai.grakn.graql.internal.query.match;
 import ai.grakn.GraknTx;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.admin.Answer;
+import com.google.common.collect.AbstractIterator;
 
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * "Limit" modifier for match query that limits the results of a query.
@@ -42,7 +47,26 @@ class MatchQueryLimit extends MatchQueryModifier {
 
     @Override
     public Stream<Answer> stream(Optional<GraknTx> graph) {
-        return inner.stream(graph).limit(limit);
+        Stream<Answer> answers = inner.stream(graph);
+        Iterator<Answer> iterator = answers.iterator();
+
+        // Close the answers as soon as the limit is reached, so any work still finding answers is stopped
+        Iterator<Answer> limited = new AbstractIterator<Answer>() {
+            private long returned = 0;
+
+            @Override
+            protected Answer computeNext() {
+                if (returned < limit && iterator.hasNext()) {
+                    returned++;
+                    return iterator.next();
+                }
+                answers.close();
+                return endOfData();
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(limited, Spliterator.ORDERED), false)
+                .onClose(answers::close);
     }
 
     @Override
@@ -0,0 +1,317 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.match;
+
+import ai.grakn.Grakn;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.exception.GraqlQueryException;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.query.QueryAnswer;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static ai.grakn.util.CommonUtil.optionalOr;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Modifier that finds the answers of each disjunct of the pattern in parallel.
+ *
+ * <p>
+ * Transactions are bound to their thread, so each disjunct is matched on a read transaction of its own, opened from
+ * the session of the keyspace. The threads belong to the query, at most one per processor, and stop once its
+ * disjuncts are matched or its answers are no longer wanted. The answers are passed back as concept IDs, and the
+ * concepts are looked up again in the transaction the query is executed in. Because the other transactions do not
+ * see uncommitted changes, the disjuncts are only split between them when the query is executed in a read
+ * transaction. Inferred concepts only exist in the transaction which inferred them, so queries with inference are
+ * never split.
+ * </p>
+ *
+ * <p>
+ * Each disjunct hands over its answers through a bounded queue, so it does not get far ahead of the answers being
+ * read. The answers of the disjuncts are either returned as soon as they are found, or disjunct by disjunct in the
+ * order they would be found by a single traversal. Closing the stream of answers stops the disjuncts still being
+ * matched.
+ * </p>
+ */
+class MatchQueryParallel extends MatchQueryModifier {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MatchQueryParallel.class);
+
+    private static final int QUEUE_SIZE = 1000;
+    private static final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
+
+    // How long to wait for answers to be read before giving up on a disjunct whose answers are not being read
+    private static final long ABANDON_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final boolean keepOrder;
+
+    MatchQueryParallel(AbstractMatchQuery inner, boolean keepOrder) {
+        super(inner);
+        this.keepOrder = keepOrder;
+    }
+
+    @Override
+    public Stream<Answer> stream(Optional<GraknTx> optionalGraph) {
+        GraknTx graph = optionalOr(optionalGraph, inner.tx()).orElseThrow(GraqlQueryException::noTx);
+
+        List<Conjunction<VarPatternAdmin>> disjuncts =
+                ImmutableList.copyOf(getPattern().getDisjunctiveNormalForm().getPatterns());
+
+        if (disjuncts.size() < 2 || !graph.isReadOnly()) return inner.stream(optionalGraph);
+
+        Set<Var> selectedNames = getSelectedNames();
+        String engineUrl = graph.admin().getEngineUrl();
+        String keyspace = graph.getKeyspace();
+
+        // When keeping the order each disjunct has a queue of its own, otherwise they all share one
+        BlockingQueue<Found> shared = new ArrayBlockingQueue<>(QUEUE_SIZE);
+        List<BlockingQueue<Found>> queues = disjuncts.stream()
+                .map(disjunct -> keepOrder ? new ArrayBlockingQueue<Found>(QUEUE_SIZE) : shared)
+                .collect(toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(disjuncts.size(), MAX_THREADS),
+                new ThreadFactoryBuilder().setNameFormat("graql-parallel-match-%d").setDaemon(true).build()
+        );
+        Matching matching = new Matching(executor);
+
+        for (int i = 0; i < disjuncts.size(); i++) {
+            Conjunction<VarPatternAdmin> disjunct = disjuncts.get(i);
+            BlockingQueue<Found> queue = queues.get(i);
+            executor.execute(() -> matchDisjunct(engineUrl, keyspace, disjunct, selectedNames, queue, matching));
+        }
+        // The threads stop once every disjunct has been matched
+        executor.shutdown();
+
+        AnswerIterator answers =
+                new AnswerIterator(graph, keepOrder ? queues : ImmutableList.of(shared), disjuncts.size(), matching);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(answers, Spliterator.ORDERED), false)
+                .onClose(matching::cancel);
+    }
+
+    @Override
+    Optional<MatchTraversal> traversal(Optional<GraknTx> graph) {
+        return inner.traversal(graph);
+    }
+
+    private static void matchDisjunct(
+            String engineUrl, String keyspace, Conjunction<VarPatternAdmin> disjunct, Set<Var> selectedNames,
+            BlockingQueue<Found> queue, Matching matching) {
+        Found end = Found.END;
+        boolean abandoned = false;
+
+        try (GraknTx tx = Grakn.session(engineUrl, keyspace).open(GraknTxType.READ)) {
+            if (matching.isCancelled()) return;
+
+            Stream<Answer> answers = tx.graql().infer(false).match(disjunct).stream();
+            for (Answer answer : (Iterable<Answer>) answers::iterator) {
+                ImmutableMap.Builder<Var, ConceptId> ids = ImmutableMap.builder();
+                answer.forEach((var, concept) -> {
+                    if (selectedNames.contains(var)) ids.put(var, concept.getId());
+                });
+
+                if (!handOver(queue, new Found(ids.build(), null), matching)) {
+                    abandoned = !matching.isCancelled();
+                    if (abandoned) LOG.warn("Stopped matching {} because its answers were not read", disjunct);
+                    return;
+                }
+            }
+        } catch (InterruptedException | TraversalInterruptedException e) {
+            if (!matching.isCancelled()) end = new Found(null, new TraversalInterruptedException());
+        } catch (Throwable e) {
+            end = new Found(null, e);
+        } finally {
+            // The end is always handed over, so the answers are not waited for after an error
+            if (!abandoned) {
+                try {
+                    handOver(queue, end, matching);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return false if the answers stopped being read before there was room in the queue
+     */
+    private static boolean handOver(BlockingQueue<Found> queue, Found found, Matching matching)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + ABANDON_TIMEOUT_MS;
+        while (!matching.isCancelled() && System.currentTimeMillis() < deadline) {
+            if (queue.offer(found, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected String modifierString() {
+        return "";
+    }
+
+    /**
+     * The threads matching the disjuncts of one execution of the query
+     */
+    private static class Matching {
+        private final ExecutorService executor;
+
+        // Set when the answers are no longer wanted, so the disjuncts stop being matched
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+        Matching(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        /**
+         * @return true if every disjunct has finished, so nothing more will be handed over
+         */
+        boolean isFinished() {
+            return executor.isTerminated();
+        }
+
+        /**
+         * Stop matching the disjuncts, interrupting those still being matched
+         */
+        void cancel() {
+            if (cancelled.compareAndSet(false, true)) executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The IDs of the concepts in an answer, or the end of the answers of a disjunct
+     */
+    private static class Found {
+        static final Found END = new Found(null, null);
+
+        private final @Nullable Map<Var, ConceptId> ids;
+        private final @Nullable Throwable error;
+
+        Found(@Nullable Map<Var, ConceptId> ids, @Nullable Throwable error) {
+            this.ids = ids;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Reads the answers of the disjuncts from their queues, in order, until every disjunct has ended
+     */
+    private static class AnswerIterator extends AbstractIterator<Answer> {
+        private final GraknTx graph;
+        private final List<BlockingQueue<Found>> queues;
+        private final Matching matching;
+        private int remaining;
+        private int current = 0;
+
+        AnswerIterator(GraknTx graph, List<BlockingQueue<Found>> queues, int disjuncts, Matching matching) {
+            this.graph = graph;
+            this.matching = matching;
+            this.queues = queues;
+            this.remaining = disjuncts;
+        }
+
+        @Override
+        protected Answer computeNext() {
+            while (remaining > 0) {
+                Found found = next(queues.get(current));
+
+                if (found.ids != null) {
+                    Answer answer = lookUp(found.ids);
+                    if (answer != null) return answer;
+                } else if (found.error != null) {
+                    matching.cancel();
+                    if (found.error instanceof RuntimeException) throw (RuntimeException) found.error;
+                    if (found.error instanceof Error) throw (Error) found.error;
+                    throw new RuntimeException(found.error);
+                } else {
+                    remaining--;
+                    if (queues.size() > 1) current++;
+                }
+            }
+            return endOfData();
+        }
+
+        /**
+         * Wait for the next answer or end in the queue, checking that the disjuncts are still being matched
+         */
+        private Found next(BlockingQueue<Found> queue) {
+            try {
+                while (true) {
+                    boolean finished = matching.isFinished();
+                    Found found = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                    if (found != null) return found;
+                    if (finished) {
+                        // Every disjunct stopped without handing over its end, so no more answers will come
+                        matching.cancel();
+                        throw new IllegalStateException("The disjuncts of the query stopped without ending");
+                    }
+                }
+            } catch (InterruptedException e) {
+                matching.cancel();
+                Thread.currentThread().interrupt();
+                throw new TraversalInterruptedException();
+            }
+        }
+
+        /**
+         * @return the answer in the transaction of the query, or null if one of its concepts no longer exists
+         */
+        private @Nullable Answer lookUp(Map<Var, ConceptId> ids) {
+            Map<Var, Concept> concepts = new HashMap<>();
+            for (Map.Entry<Var, ConceptId> entry : ids.entrySet()) {
+                Concept concept = graph.getConcept(entry.getValue());
+                if (concept == null) return null;
+                concepts.put(entry.getKey(), concept);
+            }
+            return new QueryAnswer(concepts);
+        }
+    }
+}
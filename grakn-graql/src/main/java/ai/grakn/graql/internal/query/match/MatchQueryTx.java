@@ -48,6 +48,13 @@ class MatchQueryTx extends MatchQueryModifier {
         return inner.stream(Optional.of(this.tx));
     }
 
+    @Override
+    Optional<MatchTraversal> traversal(Optional<GraknTx> graph) {
+        if (graph.isPresent()) return Optional.empty();
+
+        return inner.traversal(Optional.of(this.tx));
+    }
+
     @Override
     public Optional<GraknTx> tx() {
         return Optional.of(tx);
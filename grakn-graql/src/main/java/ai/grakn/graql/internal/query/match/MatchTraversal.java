@@ -0,0 +1,81 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.match;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.Concept;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.MatchQueryAdmin;
+import com.google.common.collect.ImmutableList;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The gremlin traversal whose results are the answers of a match query, before they are turned into concepts.
+ *
+ * Used to compute things about the answers, such as aggregates, inside the traversal.
+ */
+public class MatchTraversal {
+
+    private final GraknTx tx;
+    private final ImmutableList<Var> vars;
+    private final GraphTraversal<Vertex, Map<String, Element>> traversal;
+
+    MatchTraversal(GraknTx tx, ImmutableList<Var> vars, GraphTraversal<Vertex, Map<String, Element>> traversal) {
+        this.tx = tx;
+        this.vars = vars;
+        this.traversal = traversal;
+    }
+
+    /**
+     * @param matchQuery the match query to find the answers of
+     * @return the traversal finding the answers of the query, or nothing if the query needs more than one traversal,
+     * for example because it uses inference or modifiers
+     */
+    public static Optional<MatchTraversal> of(MatchQueryAdmin matchQuery) {
+        if (!(matchQuery instanceof AbstractMatchQuery)) return Optional.empty();
+        return ((AbstractMatchQuery) matchQuery).traversal(Optional.empty());
+    }
+
+    /**
+     * @return the variables selected by the traversal, which are the keys of every result
+     */
+    public ImmutableList<Var> vars() {
+        return vars;
+    }
+
+    /**
+     * @return the traversal, with results mapping the value of each variable to the element it is bound to
+     */
+    public GraphTraversal<Vertex, Map<String, Element>> traversal() {
+        return traversal;
+    }
+
+    /**
+     * @param element an element found by the traversal
+     * @return the concept of the element
+     */
+    public Concept buildConcept(Element element) {
+        return MatchQueryBase.buildConcept(tx.admin(), element);
+    }
+}
@@ -95,6 +95,21 @@ abstract class ComparatorPredicate implements ValuePredicateAdmin {
 
     abstract <V> P<V> gremlinPredicate(V value);
 
+    /**
+     * @return true if this predicate compares values by their order
+     */
+    boolean isRange() {
+        return false;
+    }
+
+    /**
+     * @param value the value this predicate is testing against
+     * @return a pattern to look up the string values this predicate could match in a text index, if it can be used
+     */
+    Optional<String> textIndexPatternOf(Object value) {
+        return Optional.empty();
+    }
+
     public String toString() {
         // If there is no value, then there must be a var
         //noinspection OptionalGetWithoutIsPresent
@@ -135,6 +150,17 @@ abstract class ComparatorPredicate implements ValuePredicateAdmin {
         return value.map(this::gremlinPredicate);
     }
 
+    @Override
+    public Optional<Schema.VertexProperty> rangeProperty() {
+        if (!isRange()) return Optional.empty();
+        return originalValue.map(theValue -> SUPPORTED_TYPES.get(theValue.getClass().getTypeName()).getVertexProperty());
+    }
+
+    @Override
+    public Optional<String> textIndexPattern() {
+        return originalValue.flatMap(this::textIndexPatternOf);
+    }
+
     @Override
     public Optional<VarPatternAdmin> getInnerVar() {
         return var;
@@ -21,6 +21,8 @@ package ai.grakn.graql.internal.query.predicate;
 import ai.grakn.graql.admin.VarPatternAdmin;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 
+import java.util.Optional;
+
 class ContainsPredicate extends ComparatorPredicate {
 
     /**
@@ -46,4 +48,9 @@ class ContainsPredicate extends ComparatorPredicate {
     <V> P<V> gremlinPredicate(V value) {
         return new P<>((v, s) -> ((String) v).contains((String) s), value);
     }
+
+    @Override
+    Optional<String> textIndexPatternOf(Object value) {
+        return Optional.of(TextIndexPatterns.contains((String) value));
+    }
 }
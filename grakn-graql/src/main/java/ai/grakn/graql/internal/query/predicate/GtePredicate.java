@@ -38,4 +38,9 @@ class GtePredicate extends ComparatorPredicate {
     <V> P<V> gremlinPredicate(V value) {
         return P.gte(value);
     }
+
+    @Override
+    boolean isRange() {
+        return true;
+    }
 }
@@ -38,4 +38,9 @@ class LtePredicate extends ComparatorPredicate {
     <V> P<V> gremlinPredicate(V value) {
         return P.lte(value);
     }
+
+    @Override
+    boolean isRange() {
+        return true;
+    }
 }
@@ -50,6 +50,11 @@ class RegexPredicate implements ValuePredicateAdmin {
         return Optional.of(regexPredicate());
     }
 
+    @Override
+    public Optional<String> textIndexPattern() {
+        return TextIndexPatterns.startOf(pattern);
+    }
+
     @Override
     public Optional<VarPatternAdmin> getInnerVar() {
         return Optional.empty();
@@ -0,0 +1,100 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.predicate;
+
+import ai.grakn.kb.admin.GraknAdmin;
+
+import java.util.Optional;
+
+/**
+ * <p>
+ * Builds the patterns used to look string values up in a text index.
+ * </p>
+ *
+ * <p>
+ * A pattern is a regular expression which must match the whole of a value, and every character other than a letter
+ * or a digit which is meant literally is escaped, so it means the same thing to Java and to the index.
+ * A pattern only needs to find every value a predicate could match, because the values found are checked against the
+ * predicate afterwards. See {@link GraknAdmin#getTextIndexPredicate(String)}.
+ * </p>
+ */
+class TextIndexPatterns {
+
+    private static final String ANYTHING = ".*";
+    private static final String METACHARACTERS = ".[]{}()*+?^$|\\";
+    private static final String QUANTIFIERS = "*+?{";
+
+    private TextIndexPatterns() {}
+
+    /**
+     * @param substring A string the values must contain
+     * @return A pattern matching every value containing the string
+     */
+    static String contains(String substring) {
+        return ANYTHING + escape(substring) + ANYTHING;
+    }
+
+    /**
+     * Finds the literal text every value matching a regular expression must start with, e.g. "abc" in "abc[0-9]+".
+     *
+     * @param regex A regular expression the whole of the values must match
+     * @return A pattern matching every value starting with the literal prefix of the regular expression, or nothing
+     * if the regular expression has no literal prefix
+     */
+    static Optional<String> startOf(String regex) {
+        // With an alternative at the top level the values do not have to start with the prefix
+        if (regex.contains("|")) return Optional.empty();
+
+        StringBuilder prefix = new StringBuilder();
+        int i = regex.startsWith("^") ? 1 : 0;
+
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            int length = 1;
+
+            if (c == '\\') {
+                // Only escaped punctuation is literal, e.g. "\d" is a character class
+                if (i + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) break;
+                c = regex.charAt(i + 1);
+                length = 2;
+            } else if (METACHARACTERS.indexOf(c) >= 0) {
+                break;
+            }
+
+            // A quantified character might not be in the value at all
+            if (i + length < regex.length() && QUANTIFIERS.indexOf(regex.charAt(i + length)) >= 0) break;
+
+            prefix.append(c);
+            i += length;
+        }
+
+        if (prefix.length() == 0) return Optional.empty();
+
+        return Optional.of(escape(prefix.toString()) + ANYTHING);
+    }
+
+    private static String escape(String literal) {
+        StringBuilder escaped = new StringBuilder();
+        literal.codePoints().forEach(c -> {
+            if (!Character.isLetterOrDigit(c)) escaped.append('\\');
+            escaped.appendCodePoint(c);
+        });
+        return escaped.toString();
+    }
+}
@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.reasoner;
 
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.query.QueryProfile;
 import ai.grakn.graql.internal.reasoner.cache.QueryCache;
 import ai.grakn.graql.internal.reasoner.iterator.ReasonerQueryIterator;
 import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
@@ -46,6 +47,8 @@ public class ResolutionIterator extends ReasonerQueryIterator {
 
     private int iter = 0;
     private long oldAns = 0;
+    private long statesExplored = 0;
+    private boolean profiled = false;
     private final ReasonerQueryImpl query;
     private final Set<Answer> answers = new HashSet<>();
 
@@ -66,6 +69,7 @@ public class ResolutionIterator extends ReasonerQueryIterator {
     private Answer findNextAnswer(){
         while(!states.isEmpty()) {
             ResolutionState state = states.pop();
+            statesExplored++;
 
             if (state.isAnswerState() && state.isTopState()) {
                 return state.getSubstitution();
@@ -108,6 +112,13 @@ public class ResolutionIterator extends ReasonerQueryIterator {
             }
         }
 
+        if (!profiled) {
+            profiled = true;
+            QueryProfile.current().ifPresent(profile -> profile.recordResolution(
+                    iter + 1, statesExplored, answers.size(),
+                    cache.getQueries().size(), cache.answerSize(cache.getQueries())
+            ));
+        }
         return false;
     }
 }
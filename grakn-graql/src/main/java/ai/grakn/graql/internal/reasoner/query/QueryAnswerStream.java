@@ -23,6 +23,7 @@ import ai.grakn.concept.SchemaConcept;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.query.SlotAnswer;
 import ai.grakn.graql.internal.reasoner.atom.binary.TypeAtom;
 import ai.grakn.graql.internal.reasoner.atom.predicate.IdPredicate;
 import ai.grakn.graql.internal.reasoner.atom.predicate.NeqPredicate;
@@ -110,6 +111,9 @@ public class QueryAnswerStream {
     }
 
     private static Answer joinOperator(Answer m1, Answer m2){
+        if (m1 instanceof SlotAnswer && m2 instanceof SlotAnswer){
+            return ((SlotAnswer) m1).isCompatibleWith((SlotAnswer) m2)? m1.merge(m2) : new QueryAnswer();
+        }
         boolean isCompatible = true;
         Set<Var> joinVars = Sets.intersection(m1.keySet(), m2.keySet());
         Iterator<Var> it = joinVars.iterator();
@@ -0,0 +1,171 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner.rule;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.Rule;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.concept.Type;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+import static ai.grakn.util.CommonUtil.toImmutableSet;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ *
+ * <p>
+ * The rules of a knowledge base in the form used by the reasoner, shared by all the transactions on it.
+ * </p>
+ *
+ * <p>
+ * The when and then patterns of every rule are parsed once, and the rules are indexed by the types in their
+ * conclusion and hypothesis, so finding the rules which may apply to an atom reads neither the rules nor their
+ * patterns from the graph. The {@link InferenceRule}s are still built in the transaction using them because their
+ * atoms refer to the schema concepts of that transaction.
+ * </p>
+ *
+ * <p>
+ * The compiled rules are cached by the version of the schema the transaction reads, which changes whenever rules are
+ * added or removed. A transaction which has itself changed the rules or removed types compiles them on every call.
+ * </p>
+ *
+ */
+public class CompiledRules {
+
+    private static final Cache<Long, CompiledRules> cachedRules = CacheBuilder.newBuilder()
+            .maximumSize(100)
+            .build();
+
+    private final ImmutableMap<ConceptId, CompiledRule> rules;
+    private final ImmutableSet<ConceptId> inferenceRules;
+    private final ImmutableSetMultimap<Label, ConceptId> rulesOfConclusion;
+    private final ImmutableSetMultimap<Label, ConceptId> rulesOfHypothesis;
+
+    private CompiledRules(GraknTx tx){
+        ImmutableMap.Builder<ConceptId, CompiledRule> rules = ImmutableMap.builder();
+        ImmutableSetMultimap.Builder<Label, ConceptId> rulesOfConclusion = ImmutableSetMultimap.builder();
+        ImmutableSetMultimap.Builder<Label, ConceptId> rulesOfHypothesis = ImmutableSetMultimap.builder();
+
+        tx.admin().getMetaRuleType().instances().forEach(rule -> {
+            CompiledRule compiledRule = new CompiledRule(rule);
+            rules.put(rule.getId(), compiledRule);
+            compiledRule.conclusionTypes.forEach(label -> rulesOfConclusion.put(label, rule.getId()));
+            rule.getHypothesisTypes().forEach(type -> rulesOfHypothesis.put(type.getLabel(), rule.getId()));
+        });
+
+        this.rules = rules.build();
+        this.inferenceRules = RuleUtil.getRules(tx).map(Rule::getId).collect(toImmutableSet());
+        this.rulesOfConclusion = rulesOfConclusion.build();
+        this.rulesOfHypothesis = rulesOfHypothesis.build();
+    }
+
+    /**
+     * @param tx transaction the rules are needed in
+     * @return compiled rules of the knowledge base of the transaction
+     */
+    public static CompiledRules get(GraknTx tx){
+        Optional<Long> schemaVersion = tx.admin().getSchemaVersion();
+        if(!schemaVersion.isPresent()) return new CompiledRules(tx);
+        try {
+            return cachedRules.get(schemaVersion.get(), () -> new CompiledRules(tx));
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    /**
+     * @return true if at least one inference rule is present
+     */
+    public boolean hasInferenceRules(){
+        return !inferenceRules.isEmpty();
+    }
+
+    /**
+     * @param type for which rules containing it in the head are sought, all inference rules if null
+     * @param tx transaction the rules are built in
+     * @return rules containing specified type or one of its subtypes in the head
+     */
+    public Stream<InferenceRule> getRulesWithType(@Nullable SchemaConcept type, GraknTx tx){
+        Stream<ConceptId> ruleIds = type != null ?
+                type.subs().flatMap(sub -> rulesOfConclusion.get(sub.getLabel()).stream()) :
+                inferenceRules.stream();
+        return ruleIds.map(ruleId -> rules.get(ruleId).build(ruleId, tx));
+    }
+
+    /**
+     * @param ruleId id of the rule of interest
+     * @return labels of the types in the conclusion of the rule
+     */
+    public Stream<Label> getConclusionTypes(ConceptId ruleId){
+        CompiledRule rule = rules.get(ruleId);
+        return rule != null ? rule.conclusionTypes.stream() : Stream.empty();
+    }
+
+    /**
+     * @param type label of the type of interest
+     * @return number of rules containing the type in the head
+     */
+    public long countRulesOfConclusion(Label type){
+        return rulesOfConclusion.get(type).size();
+    }
+
+    /**
+     * @param type label of the type of interest
+     * @return number of rules containing the type in the body
+     */
+    public long countRulesOfHypothesis(Label type){
+        return rulesOfHypothesis.get(type).size();
+    }
+
+    /**
+     * The parts of a rule which do not depend on a transaction
+     */
+    private static class CompiledRule {
+        private final Conjunction<VarPatternAdmin> body;
+        private final Conjunction<VarPatternAdmin> head;
+        private final Set<Label> conclusionTypes;
+
+        CompiledRule(Rule rule){
+            this.body = InferenceRule.conjunction(rule.getWhen().admin());
+            this.head = InferenceRule.conjunction(rule.getThen().admin());
+            this.conclusionTypes = rule.getConclusionTypes().map(Type::getLabel).collect(toSet());
+        }
+
+        InferenceRule build(ConceptId ruleId, GraknTx tx){
+            return new InferenceRule(ruleId, body, head, tx);
+        }
+    }
+}
@@ -63,10 +63,14 @@ public class InferenceRule {
     private int priority = Integer.MAX_VALUE;
 
     public InferenceRule(Rule rule, GraknTx graph){
-        ruleId = rule.getId();
         //TODO simplify once changes propagated to rule objects
-        body = ReasonerQueries.create(conjunction(rule.getWhen().admin()), graph);
-        head = ReasonerQueries.atomic(conjunction(rule.getThen().admin()), graph);
+        this(rule.getId(), conjunction(rule.getWhen().admin()), conjunction(rule.getThen().admin()), graph);
+    }
+
+    InferenceRule(ConceptId ruleId, Conjunction<VarPatternAdmin> body, Conjunction<VarPatternAdmin> head, GraknTx graph){
+        this.ruleId = ruleId;
+        this.body = ReasonerQueries.create(body, graph);
+        this.head = ReasonerQueries.atomic(head, graph);
     }
 
     public InferenceRule(InferenceRule r){
@@ -106,7 +110,7 @@ public class InferenceRule {
         return priority;
     }
 
-    private static Conjunction<VarPatternAdmin> conjunction(PatternAdmin pattern){
+    static Conjunction<VarPatternAdmin> conjunction(PatternAdmin pattern){
         Set<VarPatternAdmin> vars = pattern
                 .getDisjunctiveNormalForm().getPatterns()
                 .stream().flatMap(p -> p.getPatterns().stream()).collect(toSet());
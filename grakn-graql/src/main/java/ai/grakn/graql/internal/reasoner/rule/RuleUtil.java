@@ -19,22 +19,17 @@
 package ai.grakn.graql.internal.reasoner.rule;
 
 import ai.grakn.GraknTx;
-import ai.grakn.concept.Label;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.concept.Rule;
 import ai.grakn.concept.Type;
-import ai.grakn.graql.Graql;
 import ai.grakn.graql.internal.reasoner.atom.Atom;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
-import ai.grakn.util.Schema;
 
 import java.util.HashSet;
 import java.util.Set;
 import java.util.Stack;
 import java.util.stream.Stream;
 
-import static ai.grakn.graql.Graql.var;
-
 /**
  *
  * <p>
@@ -57,8 +52,7 @@ public class RuleUtil {
      * @return true if at least one inference rule is present in the graph
      */
     public static boolean hasRules(GraknTx graph) {
-        Label inferenceRule = Schema.MetaSchema.INFERENCE_RULE.getLabel();
-        return graph.graql().infer(false).match(var("x").isa(Graql.label(inferenceRule))).iterator().hasNext();
+        return CompiledRules.get(graph).hasInferenceRules();
     }
 
     /**
@@ -76,13 +70,14 @@ public class RuleUtil {
      * @return true if the rule subgraph formed from provided rules contains loops with negative net flux (appears in more rule heads than bodies)
      */
     public static boolean subGraphHasLoopsWithNegativeFlux(Set<InferenceRule> rules, GraknTx graph){
+        CompiledRules compiledRules = CompiledRules.get(graph);
         return rules.stream()
-                .map(r -> graph.<Rule>getConcept(r.getRuleId()))
-                .flatMap(Rule::getConclusionTypes)
+                .map(InferenceRule::getRuleId)
+                .flatMap(compiledRules::getConclusionTypes)
                 .distinct()
                 .filter(type -> {
-                    long outflux = type.getRulesOfHypothesis().count();
-                    long influx = type.getRulesOfConclusion().count();
+                    long outflux = compiledRules.countRulesOfHypothesis(type);
+                    long influx = compiledRules.countRulesOfConclusion(type);
                     return outflux > 0 && influx > outflux;
                 })
                 .findFirst().isPresent();
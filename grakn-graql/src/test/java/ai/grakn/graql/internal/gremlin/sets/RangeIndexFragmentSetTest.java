@@ -0,0 +1,152 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ *
+ */
+
+package ai.grakn.graql.internal.gremlin.sets;
+
+import ai.grakn.GraknTx;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.Pattern;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.internal.gremlin.EquivalentFragmentSet;
+import ai.grakn.graql.internal.gremlin.GreedyTraversalPlan;
+import ai.grakn.graql.internal.gremlin.fragment.Fragment;
+import ai.grakn.kb.admin.GraknAdmin;
+import ai.grakn.test.SampleKBContext;
+import ai.grakn.test.kbs.MovieKB;
+import ai.grakn.util.Schema;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Set;
+
+import static ai.grakn.graql.Graql.and;
+import static ai.grakn.graql.Graql.gt;
+import static ai.grakn.graql.Graql.var;
+import static ai.grakn.graql.internal.gremlin.sets.EquivalentFragmentSets.value;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RangeIndexFragmentSetTest {
+
+    @ClassRule
+    public static final SampleKBContext sampleKB = SampleKBContext.preLoad(MovieKB.get());
+
+    private static final Var x = Graql.var("x");
+    private static final Var y = Graql.var("y");
+
+    private GraknTx graph;
+    private GraknAdmin admin;
+
+    @Before
+    public void setUp() {
+        graph = mock(GraknTx.class);
+        admin = mock(GraknAdmin.class);
+
+        when(graph.admin()).thenReturn(admin);
+        when(admin.isRangeIndexed(Schema.VertexProperty.VALUE_LONG)).thenReturn(false);
+    }
+
+    @Test
+    public void whenValuesAreNotRangeIndexed_DoNotReplaceValueFragmentSet() {
+        Collection<EquivalentFragmentSet> originalFragmentSets = ImmutableSet.of(
+                value(null, x, Graql.gt(10L).admin())
+        );
+
+        Collection<EquivalentFragmentSet> fragmentSets = Sets.newHashSet(originalFragmentSets);
+
+        assertFalse(RangeIndexFragmentSet.applyRangeIndexOptimisation(fragmentSets, graph));
+        assertEquals(originalFragmentSets, fragmentSets);
+        verify(admin, never()).getTinkerTraversal();
+    }
+
+    @Test
+    public void whenComparingByEquality_DoNotLookUpRangeIndex() {
+        Collection<EquivalentFragmentSet> originalFragmentSets = ImmutableSet.of(
+                value(null, x, Graql.eq(10L).admin())
+        );
+
+        Collection<EquivalentFragmentSet> fragmentSets = Sets.newHashSet(originalFragmentSets);
+
+        assertFalse(RangeIndexFragmentSet.applyRangeIndexOptimisation(fragmentSets, graph));
+        assertEquals(originalFragmentSets, fragmentSets);
+        verify(admin, never()).isRangeIndexed(Schema.VertexProperty.VALUE_LONG);
+    }
+
+    @Test
+    public void whenComparingToAnotherVariable_DoNotLookUpRangeIndex() {
+        Collection<EquivalentFragmentSet> originalFragmentSets = ImmutableSet.of(
+                value(null, x, Graql.gt(y).admin())
+        );
+
+        Collection<EquivalentFragmentSet> fragmentSets = Sets.newHashSet(originalFragmentSets);
+
+        assertFalse(RangeIndexFragmentSet.applyRangeIndexOptimisation(fragmentSets, graph));
+        assertEquals(originalFragmentSets, fragmentSets);
+        verify(admin, never()).getTinkerTraversal();
+    }
+
+    @Test
+    public void whenValuesAreRangeIndexed_UseRangeIndexFragmentAndFindTheSameAnswers() {
+        GraknTx tx = sampleKB.tx();
+        GraknTx indexedTx = rangeIndexedTx(tx);
+
+        Pattern pattern = and(var("x").isa("movie").has("tmdb-vote-count", var("v")), var("v").val(gt(400L)));
+
+        Set<Fragment> fragments = GreedyTraversalPlan.createTraversal(pattern.admin(), indexedTx).fragments()
+                .stream().flatMap(Collection::stream).collect(toSet());
+        assertTrue(fragments.stream().anyMatch(fragment -> fragment.getName().startsWith("[range-index:")));
+
+        Set<Answer> indexedAnswers = indexedTx.graql().match(pattern).stream().collect(toSet());
+        Set<Answer> answers = tx.graql().match(pattern).stream().collect(toSet());
+        assertEquals(2, answers.size());
+        assertEquals(answers, indexedAnswers);
+    }
+
+    @Test
+    public void whenApplyingRangeIndexOptimisationRepeatedly_OnlyProbeTheIndexOnce() {
+        GraknTx indexedTx = rangeIndexedTx(sampleKB.tx());
+        EquivalentFragmentSet valueSet = value(null, x, Graql.gt(400L).admin());
+
+        assertTrue(RangeIndexFragmentSet.applyRangeIndexOptimisation(Sets.newHashSet(valueSet), indexedTx));
+        assertTrue(RangeIndexFragmentSet.applyRangeIndexOptimisation(Sets.newHashSet(valueSet), indexedTx));
+
+        verify((GraknAdmin) indexedTx, times(1)).getTinkerTraversal();
+    }
+
+    private static GraknTx rangeIndexedTx(GraknTx tx) {
+        GraknTx indexedTx = spy(tx);
+        doReturn(indexedTx).when(indexedTx).admin();
+        doReturn(true).when((GraknAdmin) indexedTx).isRangeIndexed(Schema.VertexProperty.VALUE_LONG);
+        return indexedTx;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.gremlin.sets;
+
+import ai.grakn.GraknTx;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.Pattern;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.internal.gremlin.EquivalentFragmentSet;
+import ai.grakn.graql.internal.gremlin.GreedyTraversalPlan;
+import ai.grakn.graql.internal.gremlin.fragment.Fragment;
+import ai.grakn.kb.admin.GraknAdmin;
+import ai.grakn.test.SampleKBContext;
+import ai.grakn.test.kbs.MovieKB;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+import static ai.grakn.graql.Graql.and;
+import static ai.grakn.graql.Graql.contains;
+import static ai.grakn.graql.Graql.var;
+import static ai.grakn.graql.internal.gremlin.sets.EquivalentFragmentSets.value;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TextIndexFragmentSetTest {
+
+    @ClassRule
+    public static final SampleKBContext sampleKB = SampleKBContext.preLoad(MovieKB.get());
+
+    private static final Var x = Graql.var("x");
+
+    @Test
+    public void whenValuesAreNotTextIndexed_DoNotReplaceValueFragmentSet() {
+        GraknTx tx = spy(sampleKB.tx());
+        doReturn(tx).when(tx).admin();
+
+        Collection<EquivalentFragmentSet> originalFragmentSets = ImmutableSet.of(
+                value(null, x, contains("Godfather").admin())
+        );
+
+        Collection<EquivalentFragmentSet> fragmentSets = Sets.newHashSet(originalFragmentSets);
+
+        assertFalse(TextIndexFragmentSet.applyTextIndexOptimisation(fragmentSets, tx));
+        assertEquals(originalFragmentSets, fragmentSets);
+        verify((GraknAdmin) tx, never()).getTinkerTraversal();
+    }
+
+    @Test
+    public void whenValuesAreTextIndexed_UseTextIndexFragmentAndFindTheSameAnswers() {
+        GraknTx tx = sampleKB.tx();
+        GraknTx indexedTx = textIndexedTx(tx);
+
+        Pattern pattern = and(var("x").isa("movie").has("title", var("t")), var("t").val(contains("o")));
+
+        Set<Fragment> fragments = GreedyTraversalPlan.createTraversal(pattern.admin(), indexedTx).fragments()
+                .stream().flatMap(Collection::stream).collect(toSet());
+        assertTrue(fragments.stream().anyMatch(fragment -> fragment.getName().startsWith("[text-index:")));
+
+        Set<Answer> indexedAnswers = indexedTx.graql().match(pattern).stream().collect(toSet());
+        Set<Answer> answers = tx.graql().match(pattern).stream().collect(toSet());
+        assertEquals(4, answers.size());
+        assertEquals(answers, indexedAnswers);
+    }
+
+    @Test
+    public void whenApplyingTextIndexOptimisationRepeatedly_OnlyProbeTheIndexOnce() {
+        GraknTx indexedTx = textIndexedTx(sampleKB.tx());
+        EquivalentFragmentSet valueSet = value(null, x, contains("Godfather").admin());
+
+        assertTrue(TextIndexFragmentSet.applyTextIndexOptimisation(Sets.newHashSet(valueSet), indexedTx));
+        assertTrue(TextIndexFragmentSet.applyTextIndexOptimisation(Sets.newHashSet(valueSet), indexedTx));
+
+        verify((GraknAdmin) indexedTx, times(1)).getTinkerTraversal();
+    }
+
+    /**
+     * A transaction where the string values are text indexed. The index is stood in for by matching the pattern
+     * against every string value, which is what a text index does.
+     */
+    private static GraknTx textIndexedTx(GraknTx tx) {
+        GraknTx indexedTx = spy(tx);
+        doReturn(indexedTx).when(indexedTx).admin();
+        doAnswer(invocation -> Optional.of(regex(invocation.getArgument(0))))
+                .when((GraknAdmin) indexedTx).getTextIndexPredicate(anyString());
+        return indexedTx;
+    }
+
+    private static P<Object> regex(String pattern) {
+        return new P<>((value, regex) -> value instanceof String && ((String) value).matches((String) regex), pattern);
+    }
+}
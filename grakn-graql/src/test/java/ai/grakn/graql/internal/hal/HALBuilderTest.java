@@ -23,6 +23,7 @@ import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.graql.MatchQuery;
 import ai.grakn.graql.Query;
+import ai.grakn.graql.admin.Answer;
 import ai.grakn.test.SampleKBContext;
 import ai.grakn.test.kbs.AcademyKB;
 import ai.grakn.test.kbs.GenealogyKB;
@@ -32,6 +33,8 @@ import org.junit.ClassRule;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.List;
+
 import static ai.grakn.graql.internal.hal.HALBuilder.HALExploreConcept;
 import static ai.grakn.graql.internal.hal.HALBuilder.renderHALArrayData;
 import static junit.framework.TestCase.assertFalse;
@@ -143,6 +146,20 @@ public class HALBuilderTest {
         });
     }
 
+    @Test
+    public void whenRenderingAPageOfConcepts_EnsurePrefetchingTheNeighbourhoodDoesNotChangeTheResponse() {
+        GraknTx graph = academyKB.tx();
+        MatchQuery query = graph.graql().infer(false).parse(
+                "match $x isa region; $y isa oil-platform; $r (located: $y, location: $x) isa located-in; limit 20;");
+        List<Answer> answers = query.execute();
+
+        Json prefetched = renderHALArrayData(query, answers, 0, 5, false);
+        Json lazy = renderHALArrayData(query, answers, 0, 5, false, HALNeighbourhood.lazy());
+
+        assertFalse(prefetched.asList().isEmpty());
+        assertEquals(lazy, prefetched);
+    }
+
     private Json getHALRepresentation(GraknTx graph, String queryString) {
         Query<?> query = graph.graql().materialise(false).infer(true).parse(queryString);
         return renderHALArrayData((MatchQuery) query, 0, 5);
@@ -36,6 +36,7 @@ import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.analytics.ClusterQuery;
+import ai.grakn.graql.analytics.DegreeQuery;
 import ai.grakn.graql.internal.pattern.property.DataTypeProperty;
 import ai.grakn.graql.internal.query.aggregate.AbstractAggregate;
 import ai.grakn.util.ErrorMessage;
@@ -541,6 +542,11 @@ public class QueryParserTest {
         assertParseEquivalence("compute count in movie, person;");
     }
 
+    @Test
+    public void testParseComputeCountExact() {
+        assertParseEquivalence("compute count in movie, person; exact;");
+    }
+
     @Test
     public void testParseComputeCluster() {
         assertParseEquivalence("compute cluster in movie, person; members;");
@@ -572,11 +578,30 @@ public class QueryParserTest {
         assertEquals(expected, parsed);
     }
 
+    @Test
+    public void testParseComputeClusterPersist() {
+        assertParseEquivalence("compute cluster in movie, person; members; persist cluster-id;");
+    }
+
     @Test
     public void testParseComputeDegree() {
         assertParseEquivalence("compute degrees in movie;");
     }
 
+    @Test
+    public void testParseComputeDegreePersist() {
+        assertParseEquivalence("compute degrees of person in movie, person; persist movie-count;");
+    }
+
+    @Test
+    public void testParseComputeDegreePersistWithoutLabel() {
+        DegreeQuery expected = Graql.compute().degree().in("movie").persist();
+        DegreeQuery parsed = Graql.parse("compute degrees in movie; persist;");
+
+        assertEquals(expected, parsed);
+        assertEquals("compute degrees in movie; persist degree;", parsed.toString());
+    }
+
     @Test
     public void testParseComputeMax() {
         assertParseEquivalence("compute max of person in movie;");
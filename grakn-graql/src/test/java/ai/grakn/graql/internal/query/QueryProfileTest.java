@@ -0,0 +1,87 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.graql.MatchQuery;
+import ai.grakn.graql.QueryBuilder;
+import ai.grakn.test.GraknTestSetup;
+import ai.grakn.test.SampleKBContext;
+import ai.grakn.test.kbs.GeoKB;
+import ai.grakn.test.kbs.MovieKB;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.List;
+
+import static ai.grakn.graql.Graql.var;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class QueryProfileTest {
+
+    @ClassRule
+    public static final SampleKBContext movieKB = SampleKBContext.preLoad(MovieKB.get());
+
+    @ClassRule
+    public static final SampleKBContext geoKB = SampleKBContext.preLoad(GeoKB.get());
+
+    @Test
+    public void whenExplainingAMatchQuery_ThePlanIsReturnedWithoutExecutingTheQuery() {
+        MatchQuery query = movieKB.tx().graql().match(var("x").isa("movie").has("title", var("t")));
+
+        QueryProfile profile = QueryProfile.explain(movieKB.tx(), query);
+
+        assertTrue(profile.plan().isPresent());
+        assertFalse(profile.executed());
+        assertFalse(profile.toJson().has("answers"));
+    }
+
+    @Test
+    public void whenProfilingAMatchQuery_EachStepOfTheTraversalIsReturnedWithTheNumberOfAnswers() {
+        QueryBuilder qb = movieKB.tx().graql();
+        MatchQuery query = qb.match(var("x").isa("movie").has("title", var("t")));
+        long count = query.stream().count();
+
+        QueryProfile profile = QueryProfile.profile(movieKB.tx(), query);
+
+        List<QueryProfile.Step> steps = profile.steps();
+        assertTrue(profile.executed());
+        assertFalse(steps.isEmpty());
+        assertEquals(count, steps.get(steps.size() - 1).elements());
+        assertEquals(Long.valueOf(count), profile.answers().get());
+    }
+
+    @Test
+    public void whenProfilingAnInferredQuery_TheResolutionStatesExploredAreReturned() {
+        assumeTrue(GraknTestSetup.usingTinker());
+
+        QueryBuilder qb = geoKB.tx().graql().infer(true).materialise(false);
+        String queryString = "match (geo-entity: $x, entity-location: $y) isa is-located-in;";
+        long count = qb.<MatchQuery>parse(queryString).stream().count();
+
+        QueryProfile profile = QueryProfile.profile(geoKB.tx(), qb.parse(queryString));
+
+        assertEquals(Long.valueOf(count), profile.answers().get());
+        assertTrue(profile.resolutionStates() > 0);
+        assertTrue(profile.toJson().has("reasoner"));
+        assertFalse(QueryProfile.current().isPresent());
+    }
+}
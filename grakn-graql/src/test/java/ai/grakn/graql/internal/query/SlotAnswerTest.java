@@ -0,0 +1,167 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ *
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.exception.GraqlQueryException;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.internal.reasoner.UnifierImpl;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.AbstractMap;
+import java.util.Map;
+
+import static ai.grakn.graql.Graql.var;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class SlotAnswerTest {
+
+    private final Var x = var("x");
+    private final Var y = var("y");
+    private final Var z = var("z");
+    private final Concept a = mock(Concept.class);
+    private final Concept b = mock(Concept.class);
+    private final Concept c = mock(Concept.class);
+
+    private final AnswerLayout xy = AnswerLayout.of(ImmutableList.of(x, y));
+    private final AnswerLayout yz = AnswerLayout.of(ImmutableList.of(y, z));
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void whenGettingAConceptThatIsInTheAnswer_ReturnTheConcept() {
+        SlotAnswer answer = new SlotAnswer(xy, new Concept[]{a, b});
+
+        assertEquals(a, answer.get(x));
+        assertEquals(b, answer.get(y));
+    }
+
+    @Test
+    public void whenGettingAConceptThatIsNotInTheAnswer_Throw() {
+        SlotAnswer answer = new SlotAnswer(xy, new Concept[]{a, null});
+
+        exception.expect(GraqlQueryException.class);
+        exception.expectMessage(GraqlQueryException.varNotInQuery(y).getMessage());
+
+        answer.get(y);
+    }
+
+    @Test
+    public void whenPuttingAVarNotInTheLayout_TheAnswerContainsIt() {
+        SlotAnswer answer = new SlotAnswer(xy, new Concept[]{a, b});
+        answer.put(z, c);
+
+        assertEquals(ImmutableMap.of(x, a, y, b, z, c), answer.map());
+    }
+
+    @Test
+    public void whenComparingWithAQueryAnswerWithTheSameConcepts_TheAnswersAreEqual() {
+        SlotAnswer answer = new SlotAnswer(xy, new Concept[]{a, b});
+        QueryAnswer queryAnswer = new QueryAnswer(ImmutableMap.of(x, a, y, b));
+
+        assertEquals(queryAnswer, answer);
+        assertEquals(answer, queryAnswer);
+        assertEquals(queryAnswer.hashCode(), answer.hashCode());
+    }
+
+    @Test
+    public void whenMergingAnswers_TheResultContainsTheConceptsOfBoth() {
+        SlotAnswer left = new SlotAnswer(xy, new Concept[]{a, b});
+        SlotAnswer right = new SlotAnswer(yz, new Concept[]{b, c});
+
+        assertTrue(left.isCompatibleWith(right));
+        assertEquals(new QueryAnswer(ImmutableMap.of(x, a, y, b, z, c)), left.merge(right));
+    }
+
+    @Test
+    public void whenAnswersDisagreeOnASharedVar_TheyAreNotCompatible() {
+        SlotAnswer left = new SlotAnswer(xy, new Concept[]{a, b});
+        SlotAnswer right = new SlotAnswer(yz, new Concept[]{c, c});
+
+        assertFalse(left.isCompatibleWith(right));
+    }
+
+    @Test
+    public void whenFilteringVars_OnlyThoseVarsAreKept() {
+        SlotAnswer answer = new SlotAnswer(xy, new Concept[]{a, b});
+
+        Answer filtered = answer.filterVars(ImmutableSet.of(y));
+
+        assertEquals(ImmutableMap.of(y, b), filtered.map());
+    }
+
+    @Test
+    public void whenUnifyingAnAnswer_ItIsTheSameAsUnifyingAQueryAnswer() {
+        SlotAnswer answer = new SlotAnswer(xy, new Concept[]{a, b});
+        QueryAnswer queryAnswer = new QueryAnswer(ImmutableMap.of(x, a, y, b));
+        UnifierImpl unifier = new UnifierImpl(ImmutableMap.of(x, z));
+
+        assertEquals(queryAnswer.unify(unifier), answer.unify(unifier));
+    }
+
+    @Test
+    public void whenUnifyingTwoVarsWithDifferentConceptsToOneVar_TheAnswerIsEmpty() {
+        SlotAnswer answer = new SlotAnswer(xy, new Concept[]{a, b});
+        UnifierImpl unifier = new UnifierImpl(ImmutableMap.of(x, z, y, z));
+
+        assertTrue(answer.unify(unifier).isEmpty());
+    }
+
+    @Test
+    public void theMapOfAnAnswerIsAViewWhichCannotBeModified() {
+        SlotAnswer answer = new SlotAnswer(xy, new Concept[]{a, null});
+        Map<Var, Concept> map = answer.map();
+
+        assertEquals(ImmutableMap.of(x, a), map);
+        assertEquals(ImmutableSet.of(x), answer.keySet());
+        answer.put(y, b);
+        assertEquals(ImmutableMap.of(x, a, y, b), map);
+        assertEquals(ImmutableSet.of(x, y), answer.keySet());
+        assertEquals(ImmutableList.of(a, b), ImmutableList.copyOf(answer.values()));
+        assertTrue(answer.entrySet().contains(new AbstractMap.SimpleImmutableEntry<>(y, b)));
+
+        exception.expect(UnsupportedOperationException.class);
+        map.put(z, c);
+    }
+
+    @Test
+    public void whenComparingAnswersWithDifferentLayouts_TheyAreEqualWhenTheyHaveTheSameConcepts() {
+        SlotAnswer answer = new SlotAnswer(xy, new Concept[]{null, b});
+        SlotAnswer other = new SlotAnswer(yz, new Concept[]{b, null});
+
+        assertEquals(answer, other);
+        assertEquals(answer.hashCode(), other.hashCode());
+
+        other.put(z, c);
+        assertNotEquals(answer, other);
+        assertNotEquals(other, answer);
+        assertNotEquals(new QueryAnswer(ImmutableMap.of(y, b)), other);
+    }
+}
@@ -23,6 +23,7 @@ import ai.grakn.concept.Thing;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.AggregateQuery;
 import ai.grakn.graql.Graql;
+import ai.grakn.graql.MatchQuery;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.matcher.MovieMatchers;
@@ -35,6 +36,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -168,6 +171,18 @@ public class AggregateTest {
         assertEquals(Optional.of("The Muppets"), query.execute());
     }
 
+    @Test
+    public void testMaxDate() {
+        AggregateQuery<Optional<LocalDateTime>> query = qb.match(var("x").isa("release-date")).aggregate(max("x"));
+        assertEquals(Optional.of(LocalDate.of(2000, 9, 2).atStartOfDay()), query.execute());
+    }
+
+    @Test
+    public void testMinDate() {
+        AggregateQuery<Optional<LocalDateTime>> query = qb.match(var("x").isa("release-date")).aggregate(min("x"));
+        assertEquals(Optional.of(LocalDate.of(1984, 1, 1).atStartOfDay()), query.execute());
+    }
+
     @Test
     public void testMinLong() {
         AggregateQuery<Optional<Long>> query = qb
@@ -234,6 +249,37 @@ public class AggregateTest {
         assertEquals(expected, query.execute().get().doubleValue(), 0.01d);
     }
 
+    @Test
+    public void whenCountingAQueryWithAModifier_TheCountIsOfTheModifiedAnswers() {
+        long count = qb.match(var("x").isa("movie")).limit(2).aggregate(count()).execute();
+        assertEquals(2L, count);
+    }
+
+    @Test
+    public void whenComputingAnAggregateInTheTraversal_TheResultIsTheSameAsOverTheAnswers() {
+        MatchQuery matchQuery = qb.match(var("x").isa("movie"), var().rel("x").rel("y"), var("y").isa("tmdb-vote-count"));
+
+        assertEquals(count().apply(matchQuery.stream()), matchQuery.aggregate(count()).execute());
+        assertEquals(sum("y").apply(matchQuery.stream()), matchQuery.aggregate(sum("y")).execute());
+        assertEquals(mean("y").apply(matchQuery.stream()), matchQuery.aggregate(mean("y")).execute());
+        assertEquals(group("x", count()).apply(matchQuery.stream()), matchQuery.aggregate(group("x", count())).execute());
+    }
+
+    @Test
+    public void whenGroupingAnAggregate_TheResultIsTheSameAsAggregatingEachGroup() {
+        MatchQuery matchQuery = qb.match(var("x").isa("movie"), var().rel("x").rel("y"), var("y").isa("tmdb-vote-count"));
+
+        Map<Concept, List<Answer>> groups = matchQuery.aggregate(group("x")).execute();
+        Map<Concept, Optional<Double>> stds = matchQuery.aggregate(group("x", std("y"))).execute();
+        Map<Concept, Optional<Number>> medians = matchQuery.aggregate(group("x", median("y"))).execute();
+
+        assertEquals(groups.keySet(), stds.keySet());
+        groups.forEach((movie, answers) -> {
+            assertEquals(std("y").apply(answers.stream()), stds.get(movie));
+            assertEquals(median("y").apply(answers.stream()), medians.get(movie));
+        });
+    }
+
     @Test
     public void testEmptyMatchCount() {
         assertEquals(0L, rule.tx().graql().match(var().isa("runtime")).aggregate(count()).execute().longValue());
@@ -18,7 +18,9 @@
 
 package ai.grakn.graql.internal.query.match;
 
+import ai.grakn.Grakn;
 import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
@@ -64,6 +66,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static ai.grakn.graql.Graql.and;
+import static ai.grakn.graql.Graql.ask;
 import static ai.grakn.graql.Graql.contains;
 import static ai.grakn.graql.Graql.eq;
 import static ai.grakn.graql.Graql.gt;
@@ -166,6 +169,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -1125,4 +1129,57 @@ public class MatchQueryTest {
 
         assertThat(results, containsInAnyOrder(entity));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenMatchingDisjunctsInParallel_TheAnswersAreTheSameAsMatchingThemInTurn() {
+        VarPattern pattern = or(var("x").isa("movie"), var("x").isa("person"), var("x").has("name", "Al Pacino"));
+
+        GraknTx tx = movieKB.tx();
+        List<Answer> expected = tx.graql().match(pattern).execute();
+        tx.close();
+
+        try (GraknTx readTx = openReadTx(tx)) {
+            List<Answer> parallel = readTx.graql().parallel(true).match(pattern).execute();
+            List<Answer> ordered = readTx.graql().parallel(true).keepOrder(true).match(pattern).execute();
+
+            assertThat(parallel, containsInAnyOrder(expected.toArray()));
+            assertThat(ordered, containsInAnyOrder(expected.toArray()));
+        }
+    }
+
+    @Test
+    public void whenLimitingOrAskingADisjunctiveQueryInParallel_OnlyTheAnswersNeededAreReturned() {
+        VarPattern pattern = or(var("x").isa("movie"), var("x").isa("person"));
+
+        GraknTx tx = movieKB.tx();
+        tx.close();
+
+        try (GraknTx readTx = openReadTx(tx)) {
+            QueryBuilder parallel = readTx.graql().parallel(true);
+
+            assertEquals(2, parallel.match(pattern).limit(2).execute().size());
+            assertTrue(parallel.match(pattern).aggregate(ask()).execute());
+            assertFalse(parallel.match(or(var("x").isa("movie").has("title", "No such movie"),
+                    var("x").isa("person").has("name", "No such person"))).aggregate(ask()).execute());
+        }
+    }
+
+    @Test
+    public void whenMatchingInParallelWithInference_TheQueryIsNotSplit() {
+        VarPattern pattern = or(var("x").isa("movie"), var("x").isa("person"));
+
+        GraknTx tx = movieKB.tx();
+        tx.close();
+
+        try (GraknTx readTx = openReadTx(tx)) {
+            MatchQuery inferred = readTx.graql().infer(true).match(pattern);
+            MatchQuery parallel = readTx.graql().infer(true).parallel(true).match(pattern);
+
+            assertThat(parallel.execute(), containsInAnyOrder(inferred.execute().toArray()));
+        }
+    }
+
+    private static GraknTx openReadTx(GraknTx tx) {
+        return Grakn.session(tx.admin().getEngineUrl(), tx.getKeyspace()).open(GraknTxType.READ);
+    }
+}
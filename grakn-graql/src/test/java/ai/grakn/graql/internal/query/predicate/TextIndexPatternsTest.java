@@ -0,0 +1,71 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ *
+ */
+package ai.grakn.graql.internal.query.predicate;
+
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TextIndexPatternsTest {
+
+    @Test
+    public void whenLookingUpContains_PatternMatchesValuesContainingTheSubstring() {
+        String pattern = TextIndexPatterns.contains("a.b (c)");
+
+        assertTrue(Pattern.matches(pattern, "xxa.b (c)yy"));
+        assertFalse(Pattern.matches(pattern, "xxaxb c yy"));
+    }
+
+    @Test
+    public void whenRegexStartsWithLiteral_PatternMatchesValuesStartingWithTheLiteral() {
+        Optional<String> pattern = TextIndexPatterns.startOf("abc[0-9]+");
+
+        assertEquals(Optional.of("abc.*"), pattern);
+    }
+
+    @Test
+    public void whenRegexStartsWithEscapedPunctuation_PunctuationIsPartOfTheLiteral() {
+        Optional<String> pattern = TextIndexPatterns.startOf("^a\\.b\\d");
+
+        assertEquals(Optional.of("a\\.b.*"), pattern);
+    }
+
+    @Test
+    public void whenRegexLiteralIsFollowedByAQuantifier_QuantifiedCharacterIsNotPartOfTheLiteral() {
+        assertEquals(Optional.of("ab.*"), TextIndexPatterns.startOf("abc?d"));
+        assertEquals(Optional.of("a.*"), TextIndexPatterns.startOf("ab{2}"));
+    }
+
+    @Test
+    public void whenRegexHasNoLiteralPrefix_PatternIsNotUsed() {
+        assertEquals(Optional.empty(), TextIndexPatterns.startOf(".*abc"));
+        assertEquals(Optional.empty(), TextIndexPatterns.startOf("(?i)abc"));
+        assertEquals(Optional.empty(), TextIndexPatterns.startOf("a*bc"));
+    }
+
+    @Test
+    public void whenRegexHasAlternatives_PatternIsNotUsed() {
+        assertEquals(Optional.empty(), TextIndexPatterns.startOf("abc|xyz"));
+    }
+}
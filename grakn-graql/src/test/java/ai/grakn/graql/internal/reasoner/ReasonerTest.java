@@ -34,6 +34,7 @@ import ai.grakn.graql.internal.pattern.Patterns;
 import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
+import ai.grakn.graql.internal.reasoner.rule.CompiledRules;
 import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
 import ai.grakn.graql.internal.reasoner.utils.ReasonerUtils;
 import ai.grakn.test.GraknTestSetup;
@@ -96,6 +97,9 @@ public class ReasonerTest {
     @ClassRule
     public static final SampleKBContext geoKB3 = SampleKBContext.preLoad(GeoKB.get()).assumeTrue(GraknTestSetup.usingTinker());
 
+    @ClassRule
+    public static final SampleKBContext geoKB4 = SampleKBContext.preLoad(GeoKB.get()).assumeTrue(GraknTestSetup.usingTinker());
+
     @org.junit.Rule
     public final ExpectedException exception = ExpectedException.none();
 
@@ -214,6 +218,19 @@ public class ReasonerTest {
         assertEquals(R1, R2);
     }
 
+    @Test
+    public void whenRulesAreAddedAndCommitted_CompiledRulesAreRefreshed() {
+        GraknTx graph = geoKB4.tx();
+        long initialRules = CompiledRules.get(graph).getRulesWithType(graph.getRelationshipType("is-located-in"), graph).count();
+
+        Pattern body = and(graph.graql().parsePatterns("(geo-entity: $x, entity-location: $y) isa is-located-in;"));
+        Pattern head = and(graph.graql().parsePatterns("(geo-entity: $y, entity-location: $x) isa is-located-in;"));
+        graph.admin().getMetaRuleInference().putRule(body, head);
+        graph.commit();
+        graph = geoKB4.tx();
+        assertEquals(initialRules + 1, CompiledRules.get(graph).getRulesWithType(graph.getRelationshipType("is-located-in"), graph).count());
+    }
+
     @Test
     public void testParsingQueryWithComma(){
         String queryString = "match $x isa person, has firstname 'Bob', has name 'Bob', val 'Bob', has age <21;";
@@ -20,6 +20,7 @@ package ai.grakn.factory;
 
 import ai.grakn.Grakn;
 import ai.grakn.GraknComputer;
+import ai.grakn.GraknComputerType;
 import ai.grakn.GraknTx;
 import ai.grakn.GraknSession;
 import ai.grakn.GraknTxType;
@@ -33,6 +34,7 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Optional;
 import java.util.Properties;
 
 import static ai.grakn.util.EngineCommunicator.contactEngine;
@@ -96,9 +98,25 @@ public class GraknSessionImpl implements GraknSession {
      */
     @Override
     public GraknComputer getGraphComputer() {
+        return getGraphComputer(GraknComputerType.AUTO);
+    }
+
+    /**
+     * @return A new or existing grakn tx compute with the defined name, executing on the given type of computer
+     */
+    @Override
+    public GraknComputer getGraphComputer(GraknComputerType computerType) {
         TxFactory<?> configuredFactory = configureGraphFactory(keyspace, location, REST.KBConfig.COMPUTER);
         Graph graph = configuredFactory.getTinkerPopGraph(false);
-        return new GraknComputerImpl(graph);
+        //The in memory graph is shared by transactions and the graph computer
+        if (Grakn.IN_MEMORY.equals(location)) return new GraknComputerImpl(graph, graph, computerType, 0L, typeIds -> Optional.empty());
+
+        //The local computer reads directly from the same graph transactions are opened on
+        TxFactory<?> defaultFactory = getConfiguredFactory();
+        long localThreshold = Long.parseLong(defaultFactory.properties()
+                .getProperty(GraknComputerImpl.LOCAL_COMPUTER_THRESHOLD, "0"));
+        return new GraknComputerImpl(graph, defaultFactory.getTinkerPopGraph(false), computerType, localThreshold,
+                typeIds -> GraknTxAbstract.getMaintainedInstanceCount(location, keyspace, typeIds));
     }
 
     @Override
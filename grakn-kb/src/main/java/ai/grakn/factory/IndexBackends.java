@@ -0,0 +1,79 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.factory;
+
+import com.google.common.collect.ImmutableSet;
+
+import javax.annotation.Nullable;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ *     The index backends which can hold the mixed indexes of a knowledge base
+ * </p>
+ *
+ * <p>
+ *     Every engine and client writing to a knowledge base writes to its mixed indexes too, so they are only built
+ *     and used on index backends which all of them share, such as Elasticsearch or Solr. An index backend kept on the
+ *     local disk, such as Lucene, would only hold the values written through the machine it is on.
+ * </p>
+ */
+public class IndexBackends {
+    public static final String INDEX_CONFIG_PREFIX = "index.";
+    public static final String INDEX_BACKEND = ".backend";
+
+    private static final Set<String> SHARED_BACKENDS = ImmutableSet.of("elasticsearch", "solr");
+
+    private IndexBackends(){
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @param backend The index backend, e.g. "elasticsearch" for "index.search.backend=elasticsearch"
+     * @return true if the index backend is shared by every machine using the knowledge base
+     */
+    public static boolean isShared(@Nullable String backend){
+        return backend != null && SHARED_BACKENDS.contains(backend.toLowerCase());
+    }
+
+    /**
+     * @param properties The configuration of the knowledge base
+     * @return The names of the index backends which have been configured, e.g. "search" for "index.search.backend"
+     */
+    public static Set<String> getIndexBackends(Properties properties){
+        return properties.stringPropertyNames().stream()
+                .filter(key -> key.startsWith(INDEX_CONFIG_PREFIX) && key.endsWith(INDEX_BACKEND))
+                .map(key -> key.substring(INDEX_CONFIG_PREFIX.length(), key.length() - INDEX_BACKEND.length()))
+                .filter(indexBackend -> !indexBackend.contains("."))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * @param properties The configuration of the knowledge base
+     * @param key A key of the configuration
+     * @return true if the key configures an index backend which is not shared
+     */
+    public static boolean isLocalIndexProperty(Properties properties, String key){
+        if(!key.startsWith(INDEX_CONFIG_PREFIX)) return false;
+        String indexBackend = key.substring(INDEX_CONFIG_PREFIX.length()).split("\\.", 2)[0];
+        return !isShared(properties.getProperty(INDEX_CONFIG_PREFIX + indexBackend + INDEX_BACKEND));
+    }
+}
@@ -22,6 +22,8 @@ import ai.grakn.GraknTxType;
 import ai.grakn.kb.internal.GraknTxAbstract;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 
+import java.util.Properties;
+
 /**
  * <p>
  *     Transaction Building Interface
@@ -50,4 +52,10 @@ public interface TxFactory<T extends Graph> {
      * @return An instance of a tinker graph
      */
     T getTinkerPopGraph(boolean batchLoading);
+
+    /**
+     *
+     * @return The properties this factory was configured with
+     */
+    Properties properties();
 }
@@ -105,6 +105,11 @@ abstract class TxFactoryAbstract<M extends GraknTxAbstract<G>, G extends Graph>
     }
 
 
+    @Override
+    public Properties properties(){
+        return properties;
+    }
+
     @Override
     public synchronized G getTinkerPopGraph(boolean batchLoading){
         if(batchLoading){
@@ -32,6 +32,7 @@ import ai.grakn.concept.Relationship;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
+import ai.grakn.concept.Rule;
 import ai.grakn.concept.RuleType;
 import ai.grakn.concept.Thing;
 import ai.grakn.concept.Type;
@@ -52,12 +53,14 @@ import ai.grakn.kb.internal.concept.RelationshipReified;
 import ai.grakn.kb.internal.concept.TypeImpl;
 import ai.grakn.kb.internal.structure.EdgeElement;
 import ai.grakn.kb.internal.structure.VertexElement;
+import ai.grakn.graql.Pattern;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.util.EngineCommunicator;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.REST;
 import ai.grakn.util.Schema;
 import mjson.Json;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ReadOnlyStrategy;
@@ -72,6 +75,7 @@ import javax.annotation.Nullable;
 import java.lang.reflect.Constructor;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -84,6 +88,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -100,18 +105,20 @@ import static java.util.stream.Collectors.toSet;
  * @author fppt
  */
 public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, GraknAdmin {
-    final Logger LOG = LoggerFactory.getLogger(GraknTxAbstract.class);
+    static final Logger LOG = LoggerFactory.getLogger(GraknTxAbstract.class);
     private static final String QUERY_BUILDER_CLASS_NAME = "ai.grakn.graql.internal.query.QueryBuilderImpl";
 
     //TODO: Is this the correct place for these config paths
     //----------------------------- Config Paths
     public static final String SHARDING_THRESHOLD = "graph.sharding-threshold";
     public static final String NORMAL_CACHE_TIMEOUT_MS = "graph.schema-cache-timeout-ms";
+    public static final String MAINTAIN_DEGREES = "graph.maintain-degrees";
 
     //----------------------------- Shared Variables
     private final String keyspace;
     private final String engineUri;
     private final Properties properties;
+    private final boolean maintainsDegrees;
     private final G graph;
     private final ElementFactory elementFactory;
     private final GlobalCache globalCache;
@@ -134,6 +141,7 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         this.keyspace = keyspace;
         this.engineUri = engineUri;
         this.properties = properties;
+        this.maintainsDegrees = Boolean.parseBoolean(properties.getProperty(MAINTAIN_DEGREES, "false"));
         elementFactory = new ElementFactory(this);
 
         //Initialise Graph Caches
@@ -205,6 +213,25 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         return properties;
     }
 
+    /**
+     * @return true if the changes to the degrees of things are logged, so that engine maintains the degrees
+     */
+    public boolean maintainsDegrees() {
+        return maintainsDegrees;
+    }
+
+    /**
+     * Logs that a {@link Thing} has started or stopped playing a role in a {@link Relationship}, if degrees are
+     * maintained
+     *
+     * @param rolePlayer The {@link Thing} playing the role
+     * @param relationshipType The type of the {@link Relationship}
+     * @param change 1 when the role is added and -1 when it is removed
+     */
+    public void changedDegree(Thing rolePlayer, RelationshipType relationshipType, long change) {
+        if (maintainsDegrees()) txCache().changedDegree(rolePlayer.getId(), relationshipType.getId(), change);
+    }
+
     @Override
     public String getKeyspace() {
         return keyspace;
@@ -304,16 +331,13 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
     }
 
     /**
-     * Copies the {@link SchemaConcept} and it's subs into the {@link TxCache}.
+     * Copies the {@link SchemaConcept} and it's subs into the {@link GlobalCache}.
      * This is important as lookups for {@link SchemaConcept}s based on {@link Label} depend on this caching.
      *
-     * @param schemaConcept the {@link SchemaConcept} to be copied into the {@link TxCache}
+     * @param schemaConcept the {@link SchemaConcept} to be copied into the {@link GlobalCache}
      */
     private void copyToCache(SchemaConcept schemaConcept) {
-        schemaConcept.subs().forEach(concept -> {
-            getGlobalCache().cacheLabel(concept.getLabel(), concept.getLabelId());
-            getGlobalCache().cacheType(concept.getLabel(), concept);
-        });
+        getGlobalCache().cacheSchema(schemaConcept.subs().collect(toSet()));
     }
 
     private boolean isMetaSchemaNotInitialised() {
@@ -701,6 +725,7 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
             edge.property(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID, fromRelation.type().getLabelId().getValue());
             edge.property(Schema.EdgeProperty.ROLE_LABEL_ID, roleType.getLabelId().getValue());
             txCache().trackForValidation(factory().buildCasting(edge));
+            changedDegree(toThing, fromRelation.type(), 1);
         }
     }
 
@@ -795,7 +820,8 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         validateGraph();
 
         boolean submissionNeeded = !txCache().getShardingCount().isEmpty() ||
-                !txCache().getModifiedAttributes().isEmpty();
+                !txCache().getModifiedAttributes().isEmpty() ||
+                !txCache().getDegreeChanges().isEmpty();
         Json conceptLog = txCache().getFormattedLog();
 
         LOG.trace("Graph is valid. Committing graph . . . ");
@@ -832,6 +858,17 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         return engineUri + REST.WebPath.COMMIT_LOG_URI + "?" + REST.Request.KEYSPACE_PARAM + "=" + keyspace;
     }
 
+    private static String getInstanceCountEndPoint(String engineUri, String keyspace, Set<ConceptId> typeIds) {
+        StringBuilder endPoint = new StringBuilder(engineUri + REST.WebPath.COMMIT_LOG_COUNT_URI + "?" +
+                REST.Request.KEYSPACE_PARAM + "=" + keyspace);
+        typeIds.forEach(id -> endPoint.append("&").append(REST.Request.COMMIT_LOG_CONCEPT_ID).append("=").append(id.getValue()));
+        return endPoint.toString();
+    }
+
+    private String getDegreesEndPoint() {
+        return engineUri + REST.WebPath.COMMIT_LOG_DEGREES_LOOKUP_URI + "?" + REST.Request.KEYSPACE_PARAM + "=" + keyspace;
+    }
+
     private String getDeleteKeyspaceEndpoint() {
         if (Grakn.IN_MEMORY.equals(engineUri)) {
             return Grakn.IN_MEMORY;
@@ -985,9 +1022,84 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         });
     }
 
+    @Override
+    public Optional<Long> getMaintainedInstanceCount(Set<ConceptId> typeIds) {
+        return getMaintainedInstanceCount(engineUri, keyspace, typeIds);
+    }
+
+    /**
+     * @param engineUri The engine maintaining the instance counts
+     * @param keyspace The keyspace the types belong to
+     * @param typeIds The ids of the types to count the instances of
+     * @return the number of instances of the types as maintained by engine, or nothing if it cannot be reached
+     */
+    public static Optional<Long> getMaintainedInstanceCount(String engineUri, String keyspace, Set<ConceptId> typeIds) {
+        if (Grakn.IN_MEMORY.equals(engineUri)) return Optional.empty();
+
+        try {
+            String response = EngineCommunicator.contactEngine(
+                    getInstanceCountEndPoint(engineUri, keyspace, typeIds), REST.HttpConn.GET_METHOD);
+            return Optional.of(Json.read(response).at(REST.Request.COMMIT_LOG_INSTANCE_COUNT).asLong());
+        } catch (RuntimeException e) {
+            LOG.warn("Could not retrieve the instance counts of keyspace [" + keyspace + "] from engine", e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<Map<ConceptId, Long>> getMaintainedDegrees(Set<ConceptId> relationshipTypeIds, Set<ConceptId> thingIds) {
+        if (Grakn.IN_MEMORY.equals(engineUri) || !maintainsDegrees()) return Optional.empty();
+
+        Json body = Json.object(
+                REST.Request.COMMIT_LOG_CONCEPT_ID, relationshipTypeIds.stream().map(ConceptId::getValue).collect(toList()),
+                REST.Request.COMMIT_LOG_THING_ID, thingIds.stream().map(ConceptId::getValue).collect(toList()));
+
+        try {
+            String response = EngineCommunicator.contactEngine(
+                    getDegreesEndPoint(), REST.HttpConn.POST_METHOD, body.toString());
+            Json degrees = Json.read(response).at(REST.Request.COMMIT_LOG_DEGREES);
+
+            //Engine only serves the degrees once they have been built for the whole keyspace
+            if (degrees == null || degrees.isNull()) return Optional.empty();
+
+            Map<ConceptId, Long> degreeOfThing = new HashMap<>();
+            degrees.asJsonMap().forEach((id, degree) -> degreeOfThing.put(ConceptId.of(id), degree.asLong()));
+            return Optional.of(degreeOfThing);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not retrieve the degrees of keyspace [" + keyspace + "] from engine", e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean isRangeIndexed(Schema.VertexProperty key) {
+        return false;
+    }
+
+    @Override
+    public Optional<P<Object>> getTextIndexPredicate(String pattern) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Long> getSchemaVersion() {
+        return txCache().schemaVersion();
+    }
+
+    /**
+     * Parses the pattern of a {@link Rule}. Rules cannot change once created so the parsed patterns are shared by
+     * all transactions.
+     *
+     * @param pattern The Graql of the pattern
+     * @return The parsed pattern
+     */
+    public Pattern parseRulePattern(String pattern) {
+        return getGlobalCache().getRulePattern(pattern, rulePattern -> graql().parsePattern(rulePattern));
+    }
+
     @Override
     public void shard(ConceptId conceptId) {
-        ConceptImpl type = getConcept(conceptId);
+        SchemaConceptImpl<?> type = getConcept(conceptId);
         if (type == null) {
             LOG.warn("Cannot shard concept [" + conceptId + "] due to it not existing in the graph");
         } else {
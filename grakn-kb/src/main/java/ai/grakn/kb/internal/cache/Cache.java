@@ -37,27 +37,90 @@ import java.util.function.Supplier;
  *     {@link RelationshipType}, and {@link Role}.
  * </p>
  *
+ * <p>
+ *     Every cache which holds a value for a transaction is tracked by the {@link TxCache} of that transaction, so the
+ *     value can be cleared when the transaction closes. Session caches are also flushed into the shared value when
+ *     the transaction is committed, transaction caches never are.
+ * </p>
+ *
+ * <p>
+ *     Schema concepts are shared by all the transactions, so their caches keep a value per thread. Instances are
+ *     built by a single transaction and are never shared, so their caches keep the value in a plain field which lives
+ *     as long as the concept. This avoids creating a {@link ThreadLocal} for every field of every instance read.
+ * </p>
+ *
  * @param <V> The object it is caching
  *
  * @author fppt
  *
  */
 public class Cache<V> {
+    //The transaction cache which tracks the transaction bound value. Null if the value is owned by the concept
+    @Nullable private final Supplier<TxCache> txCache;
+
     //If no cache can produce the data then the database is read
     private final Supplier<V> databaseReader;
 
     //Use to copy the cached value safely
     private final Cacheable<V> cacheable;
 
+    //If false the value is never shared with other transactions
+    private final boolean isSessionCache;
+
     //Transaction bound. If this is not set it does not yet exist in the scope of the transaction.
-    private final ThreadLocal<V> valueTx = new ThreadLocal<>();
+    //Null if the value is owned by the concept
+    @Nullable private final ThreadLocal<V> valueTx;
+
+    //Value of a cache owned by a concept which only exists in the scope of one transaction
+    @Nullable private V valueOwned = null;
 
     //Globally bound value which has already been persisted and acts as a shared component cache
     private Optional<V> valueGlobal = Optional.empty();
 
-    public Cache(Cacheable<V> cacheable, Supplier<V> databaseReader){
+    private Cache(@Nullable Supplier<TxCache> txCache, Cacheable<V> cacheable, Supplier<V> databaseReader, boolean isSessionCache){
+        this.txCache = txCache;
         this.cacheable = cacheable;
         this.databaseReader = databaseReader;
+        this.isSessionCache = isSessionCache;
+        this.valueTx = txCache != null ? new ThreadLocal<>() : null;
+    }
+
+    /**
+     * Creates a {@link Cache} whose value is shared with other transactions once a transaction using it commits.
+     *
+     * @param txCache Provides the {@link TxCache} of the transaction the cache is used in
+     * @param cacheable Copies the shared value into a transaction
+     * @param databaseReader Reads the value when nothing is cached
+     */
+    public static <V> Cache<V> createSessionCache(Supplier<TxCache> txCache, Cacheable<V> cacheable, Supplier<V> databaseReader){
+        return new Cache<>(txCache, cacheable, databaseReader, true);
+    }
+
+    /**
+     * Creates a {@link Cache} whose value is only ever visible to the transaction which read it.
+     *
+     * @param txCache Provides the {@link TxCache} of the transaction the cache is used in
+     * @param cacheable Copies the value
+     * @param databaseReader Reads the value when nothing is cached
+     */
+    public static <V> Cache<V> createTxCache(Supplier<TxCache> txCache, Cacheable<V> cacheable, Supplier<V> databaseReader){
+        return new Cache<>(txCache, cacheable, databaseReader, false);
+    }
+
+    /**
+     * Creates a {@link Cache} of a concept which is only used by the transaction which built it, such as an instance.
+     * The value is kept by the concept and is not tracked by the transaction.
+     *
+     * @param cacheable Copies the value
+     * @param databaseReader Reads the value when nothing is cached
+     */
+    public static <V> Cache<V> createInstanceCache(Cacheable<V> cacheable, Supplier<V> databaseReader){
+        return new Cache<>(null, cacheable, databaseReader, false);
+    }
+
+    @Nullable
+    private V txValue(){
+        return valueTx != null ? valueTx.get() : valueOwned;
     }
 
     /**
@@ -67,23 +130,27 @@ public class Cache<V> {
      */
     @Nullable
     public V get(){
-        V value = valueTx.get();
+        V value = txValue();
 
         if(value != null) return value;
         if(valueGlobal.isPresent()) value = cacheable.copy(valueGlobal.get());
         if(value == null) value = databaseReader.get();
         if(value == null) return null;
 
-        valueTx.set(value);
+        set(value);
 
-        return valueTx.get();
+        return value;
     }
 
     /**
      * Clears the cache.
      */
     public void clear(){
-        valueTx.remove();
+        if(valueTx != null) {
+            valueTx.remove();
+        } else {
+            valueOwned = null;
+        }
     }
 
     /**
@@ -92,7 +159,22 @@ public class Cache<V> {
      * @param value the value to be cached
      */
     public void set(@Nullable V value){
+        if(valueTx == null || txCache == null) {
+            valueOwned = value;
+            return;
+        }
+
+        if(value == null) {
+            valueTx.remove();
+            return;
+        }
+
+        //A value set outside of an open transaction would never be cleared, so it is not kept
+        TxCache tx = txCache.get();
+        if(!tx.isTxOpen()) return;
+
         valueTx.set(value);
+        tx.trackCache(this);
     }
 
     /**
@@ -100,7 +182,7 @@ public class Cache<V> {
      * @return true if there is anything stored in the cache
      */
     private boolean isPresent(){
-        return valueTx.get() != null || valueGlobal.isPresent();
+        return txValue() != null || valueGlobal.isPresent();
     }
 
     /**
@@ -116,12 +198,13 @@ public class Cache<V> {
 
     /**
      * Takes the current value in the transaction cache if it is present and puts it in the valueGlobal reference so
-     * that it can be accessed via all transactions.
+     * that it can be accessed via all transactions. Does nothing if this is not a session cache.
      */
     public void flush(){
-        if(isPresent()) {
-            V newValue = get();
-            if(!valueGlobal.isPresent() || !valueGlobal.get().equals(newValue)) valueGlobal = Optional.of(get());
+        //Only the value of the transaction is flushed, reading the shared value would track this cache again
+        V newValue = txValue();
+        if(isSessionCache && newValue != null) {
+            if(!valueGlobal.isPresent() || !valueGlobal.get().equals(newValue)) valueGlobal = Optional.of(newValue);
         }
     }
 
@@ -18,19 +18,27 @@
 
 package ai.grakn.kb.internal.cache;
 
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.LabelId;
 import ai.grakn.concept.SchemaConcept;
+import ai.grakn.graql.Pattern;
 import ai.grakn.kb.internal.GraknTxAbstract;
-import ai.grakn.kb.internal.concept.SchemaConceptImpl;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -40,10 +48,18 @@ import java.util.concurrent.TimeUnit;
  * <p>
  *     Caches Knowledge Base or Session specific data which is shared across transactions:
  *     <ol>
- *         <li>Schema Cache - All the types which make up the schema. This cache expires</li>
  *         <li>
- *             Label Cache - All the labels which make up the schema. This can never expire and is needed in order
- *             to perform fast lookups. Essentially it is used for mapping labels to ids.
+ *             Schema Snapshot - All the types which make up the schema and their labels, which are needed in order
+ *             to perform fast lookups. Essentially it is used for mapping labels to ids. A new immutable
+ *             {@link SchemaSnapshot} is published whenever a transaction which changed the schema or added or
+ *             removed rules is committed, so opening a transaction only takes a reference to the current one.
+ *             Anything derived from the schema and rules, such as the rules compiled by the reasoner, is keyed
+ *             by the version of the snapshot. The schema concepts are dropped from the snapshot once it is older
+ *             than the cache timeout, in case the schema or rules have been changed by another JVM.
+ *         </li>
+ *         <li>
+ *             Rule Pattern Cache - The parsed patterns of rules, keyed by their Graql. Rules cannot be changed once
+ *             created so these never go out of date.
  *         </li>
  *     <ol/>
  * </p>
@@ -53,71 +69,117 @@ import java.util.concurrent.TimeUnit;
  */
 public class GlobalCache {
     //Caches
-    private final Cache<Label, SchemaConcept> cachedTypes;
-    private final Map<Label, LabelId> cachedLabels;
+    private volatile SchemaSnapshot schemaSnapshot = SchemaSnapshot.empty();
+    private final Cache<String, Pattern> cachedRulePatterns;
+    private final long cacheTimeout;
 
     public GlobalCache(Properties properties){
-        cachedLabels = new ConcurrentHashMap<>();
-
-        int cacheTimeout = Integer.parseInt(properties.get(GraknTxAbstract.NORMAL_CACHE_TIMEOUT_MS).toString());
-        cachedTypes = CacheBuilder.newBuilder()
-                .maximumSize(1000)
-                .expireAfterAccess(cacheTimeout, TimeUnit.MILLISECONDS)
+        cacheTimeout = Long.parseLong(properties.get(GraknTxAbstract.NORMAL_CACHE_TIMEOUT_MS).toString());
+        cachedRulePatterns = CacheBuilder.newBuilder()
+                .maximumSize(10000)
                 .build();
     }
 
     /**
-     * Caches a type so that we can retrieve ontological concepts without making a DB read.
-     *
-     * @param label The label of the type to cache
-     * @param type The type to cache
-     */
-    public void cacheType(Label label, SchemaConcept type){
-        cachedTypes.put(label, type);
-    }
-
-    /**
-     * Caches a label so we can map type labels to type ids. This is necesssary so we can make fast indexed lookups.
+     * Caches types so that we can retrieve ontological concepts and map their labels to ids without making a DB read.
      *
-     * @param label The label of the type to cache
-     * @param id The id of the type to cache
+     * @param schemaConcepts The types to cache
      */
-    public void cacheLabel(Label label, LabelId id){
-        cachedLabels.put(label, id);
+    public void cacheSchema(Collection<? extends SchemaConcept> schemaConcepts){
+        Map<Label, SchemaConcept> types = new HashMap<>();
+        Map<Label, LabelId> labels = new HashMap<>();
+        schemaConcepts.forEach(schemaConcept -> {
+            types.put(schemaConcept.getLabel(), schemaConcept);
+            labels.put(schemaConcept.getLabel(), schemaConcept.getLabelId());
+        });
+        publishSchema(null, Collections.emptySet(), Collections.emptySet(), types, labels, false);
     }
 
     /**
-     * Reads the {@link SchemaConcept} and their {@link Label} currently in the transaction cache into the graph cache.
+     * Reads the {@link SchemaConcept} and their {@link Label} changed in the transaction cache into the graph cache.
      * This usually happens when a commit occurs and allows us to track schema mutations without having to read
      * the graph.
      *
      * @param txCache The transaction cache
      */
     void readTxCache(TxCache txCache){
-        //TODO: The difference between the caches need to be taken into account. For example if a type is delete then it should be removed from the cachedLabels
-        cachedLabels.putAll(txCache.getLabelCache());
-        cachedTypes.putAll(txCache.getSchemaConceptCache());
+        //Rules are not part of the snapshot but anything compiled from them is keyed by its version
+        boolean shared = publishSchema(txCache, txCache.getRemovedLabels(), txCache.getRemovedIds(),
+                txCache.getSchemaConceptCache(), txCache.getLabelCache(), txCache.rulesModified());
 
         //Flush All The Internal Transaction Caches
-        txCache.getSchemaConceptCache().values().forEach(schemaConcept
-                -> SchemaConceptImpl.from(schemaConcept).txCacheFlush());
+        if(shared) txCache.flushTrackedCaches();
     }
 
     /**
-     * A copy of the cached labels. This is used when creating a new transaction.
+     * Publishes the changes of a transaction in a new {@link SchemaSnapshot}
      *
-     * @return an immutable copy of the cached labels.
+     * @param txCache The cache of the transaction, or null if the changes were read outside of one
+     * @return true if the {@link SchemaConcept}s of the transaction are up to date and can be shared
      */
-    Map<Label, LabelId> getCachedLabels(){
-        return ImmutableMap.copyOf(cachedLabels);
+    private synchronized boolean publishSchema(@Nullable TxCache txCache, Set<Label> removedLabels, Set<ConceptId> removedIds,
+                                               Map<Label, SchemaConcept> schemaConcepts, Map<Label, LabelId> labels,
+                                               boolean rulesModified){
+        //The transaction started from an older version so the schema concepts it read may be out of date
+        SchemaSnapshot txSnapshot = txCache != null ? txCache.getSchemaSnapshot() : null;
+        if(txSnapshot != null && !txSnapshot.isEmpty() && txSnapshot != schemaSnapshot){
+            if(!GraknTxType.READ.equals(txCache.txType())) {
+                schemaSnapshot = schemaSnapshot.next(removedLabels, removedIds, Collections.emptyMap(), labels)
+                        .withoutSchemaConcepts();
+            }
+            return false;
+        }
+
+        //Read only transactions rarely change the schema so the snapshot is only copied when it would change
+        if(!rulesModified && schemaSnapshot.isUnchangedBy(removedLabels, schemaConcepts, labels)) return true;
+        schemaSnapshot = schemaSnapshot.next(removedLabels, removedIds, schemaConcepts, labels);
+        return true;
+    }
+
+    /**
+     * The current version of the schema. This is shared by reference when opening a new transaction.
+     * The {@link SchemaConcept}s are dropped from it once it is older than the cache timeout.
+     *
+     * @return the current {@link SchemaSnapshot}
+     */
+    SchemaSnapshot getSchemaSnapshot(){
+        SchemaSnapshot snapshot = schemaSnapshot;
+        if(snapshot.isOlderThan(cacheTimeout)) snapshot = expireSchema(snapshot);
+        return snapshot;
+    }
+
+    private synchronized SchemaSnapshot expireSchema(SchemaSnapshot expired){
+        if(schemaSnapshot == expired) schemaSnapshot = expired.withoutSchemaConcepts();
+        return schemaSnapshot;
+    }
+
+    /**
+     * Gets the parsed pattern of a rule, parsing it only if it has not been parsed before.
+     *
+     * @param pattern The Graql of the pattern
+     * @param parser Parses the pattern if it is not cached
+     * @return The parsed pattern
+     */
+    public Pattern getRulePattern(String pattern, Function<String, Pattern> parser){
+        return getOrLoad(cachedRulePatterns, pattern, () -> parser.apply(pattern));
+    }
+
+    private static <K, V> V getOrLoad(Cache<K, V> cache, K key, Callable<? extends V> loader){
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        }
     }
 
     /**
-     * A copy of the cached schema. This is used when creating a new transaction.
+     * The cached schema. This is the schema shared by all new transactions.
      *
-     * @return an immutable copy of the cached schema.
+     * @return an immutable map of the cached schema.
      */
     public Map<Label, SchemaConcept> getCachedTypes(){
-        return ImmutableMap.copyOf(cachedTypes.asMap());
+        return schemaSnapshot.schemaConcepts();
     }
 }
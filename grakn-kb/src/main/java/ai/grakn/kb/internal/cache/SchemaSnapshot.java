@@ -0,0 +1,162 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.LabelId;
+import ai.grakn.concept.SchemaConcept;
+import com.google.common.collect.ImmutableMap;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ *     An immutable version of the schema of a Knowledge Base
+ * </p>
+ *
+ * <p>
+ *     The {@link GlobalCache} publishes a new snapshot every time a transaction which changed the schema or the rules
+ *     commits.
+ *     Transactions share the snapshot which was current when they opened by reference and keep their own changes
+ *     to the schema on top of it in the {@link TxCache}.
+ * </p>
+ */
+class SchemaSnapshot {
+    //Versions are unique across all knowledge bases so they can be used as keys without the keyspace
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final long version;
+    private final long createdAt = System.currentTimeMillis();
+    private final ImmutableMap<Label, SchemaConcept> schemaConcepts;
+    private final ImmutableMap<ConceptId, SchemaConcept> schemaConceptsById;
+    private final ImmutableMap<Label, LabelId> labels;
+
+    private SchemaSnapshot(long version, ImmutableMap<Label, SchemaConcept> schemaConcepts,
+                           ImmutableMap<ConceptId, SchemaConcept> schemaConceptsById, ImmutableMap<Label, LabelId> labels){
+        this.version = version;
+        this.schemaConcepts = schemaConcepts;
+        this.schemaConceptsById = schemaConceptsById;
+        this.labels = labels;
+    }
+
+    static SchemaSnapshot empty(){
+        return new SchemaSnapshot(VERSIONS.incrementAndGet(), ImmutableMap.of(), ImmutableMap.of(), ImmutableMap.of());
+    }
+
+    /**
+     * Creates the next version of the schema.
+     *
+     * @param removedLabels The {@link Label}s which no longer belong to the schema
+     * @param removedIds The {@link ConceptId}s of the {@link SchemaConcept}s which no longer belong to the schema
+     * @param schemaConcepts The {@link SchemaConcept}s which have been added or changed
+     * @param labels The {@link Label}s which have been added or changed
+     * @return A new snapshot with the changes applied to this one
+     */
+    SchemaSnapshot next(Set<Label> removedLabels, Set<ConceptId> removedIds,
+                        Map<Label, SchemaConcept> schemaConcepts, Map<Label, LabelId> labels){
+        Map<Label, SchemaConcept> newSchemaConcepts = new HashMap<>(this.schemaConcepts);
+        Map<ConceptId, SchemaConcept> newSchemaConceptsById = new HashMap<>(this.schemaConceptsById);
+        Map<Label, LabelId> newLabels = new HashMap<>(this.labels);
+
+        removedLabels.forEach(label -> {
+            newSchemaConcepts.remove(label);
+            newLabels.remove(label);
+        });
+        removedIds.forEach(newSchemaConceptsById::remove);
+
+        schemaConcepts.forEach((label, schemaConcept) -> {
+            SchemaConcept replaced = newSchemaConcepts.put(label, schemaConcept);
+            if(replaced != null) newSchemaConceptsById.remove(replaced.getId());
+            newSchemaConceptsById.put(schemaConcept.getId(), schemaConcept);
+        });
+        newLabels.putAll(labels);
+
+        return new SchemaSnapshot(VERSIONS.incrementAndGet(), ImmutableMap.copyOf(newSchemaConcepts),
+                ImmutableMap.copyOf(newSchemaConceptsById), ImmutableMap.copyOf(newLabels));
+    }
+
+    /**
+     * Creates the next version of the schema which keeps the {@link Label}s but none of the {@link SchemaConcept}s,
+     * so they are read from the graph again.
+     *
+     * @return A new snapshot with the same {@link Label}s as this one
+     */
+    SchemaSnapshot withoutSchemaConcepts(){
+        return new SchemaSnapshot(VERSIONS.incrementAndGet(), ImmutableMap.of(), ImmutableMap.of(), labels);
+    }
+
+    /**
+     * @param removedLabels The {@link Label}s which would be removed from the schema
+     * @param schemaConcepts The {@link SchemaConcept}s which would be added to the schema
+     * @param labels The {@link Label}s which would be added to the schema
+     * @return true if applying the changes would not change this snapshot
+     */
+    boolean isUnchangedBy(Set<Label> removedLabels, Map<Label, SchemaConcept> schemaConcepts, Map<Label, LabelId> labels){
+        for (Label label : removedLabels) {
+            if(this.labels.containsKey(label) || this.schemaConcepts.containsKey(label)) return false;
+        }
+        for (Map.Entry<Label, SchemaConcept> entry : schemaConcepts.entrySet()) {
+            if(this.schemaConcepts.get(entry.getKey()) != entry.getValue()) return false;
+        }
+        for (Map.Entry<Label, LabelId> entry : labels.entrySet()) {
+            if(!entry.getValue().equals(this.labels.get(entry.getKey()))) return false;
+        }
+        return true;
+    }
+
+    long version(){
+        return version;
+    }
+
+    /**
+     * @param timeoutMs How long a snapshot may be used for
+     * @return true if this snapshot was created more than the given time ago
+     */
+    boolean isOlderThan(long timeoutMs){
+        return System.currentTimeMillis() - createdAt > timeoutMs;
+    }
+
+    boolean isEmpty(){
+        return labels.isEmpty();
+    }
+
+    @Nullable
+    SchemaConcept getSchemaConcept(Label label){
+        return schemaConcepts.get(label);
+    }
+
+    @Nullable
+    SchemaConcept getSchemaConcept(ConceptId id){
+        return schemaConceptsById.get(id);
+    }
+
+    @Nullable
+    LabelId getLabelId(Label label){
+        return labels.get(label);
+    }
+
+    Map<Label, SchemaConcept> schemaConcepts(){
+        return schemaConcepts;
+    }
+}
@@ -39,9 +39,11 @@ import ai.grakn.util.REST;
 import ai.grakn.util.Schema;
 import mjson.Json;
 
+import javax.annotation.Nullable;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -54,7 +56,11 @@ import java.util.Set;
  *     <ol>
  *         <li>Validation Concepts - Concepts which need to undergo validation.</li>
  *         <li>Built Concepts -  Prevents rebuilding when the same vertex is encountered</li>
- *         <li>The Schema - Optimises validation checks by preventing db read. </li>
+ *         <li>
+ *             The Schema - Optimises validation checks by preventing db read. The {@link SchemaSnapshot} shared by
+ *             all transactions is read through and only the schema concepts built or changed in this transaction are
+ *             cached here.
+ *         </li>
  *         <li> {@link Label} - Allows mapping type labels to type Ids</li>
  *         <li>Transaction meta Data - Allows transactions to function in different ways</li>
  *     <ol/>
@@ -72,6 +78,14 @@ public class TxCache {
     private final Map<Label, SchemaConcept> schemaConceptCache = new HashMap<>();
     private final Map<Label, LabelId> labelCache = new HashMap<>();
 
+    //The schema shared by all transactions and the parts of it which have been removed in this transaction
+    private SchemaSnapshot schemaSnapshot = null;
+    private final Set<Label> removedLabels = new HashSet<>();
+    private final Set<ConceptId> removedIds = new HashSet<>();
+
+    //Caches of concepts which hold values for this transaction
+    private final Set<Cache<?>> trackedCaches = new HashSet<>();
+
     //Elements Tracked For Validation
     private final Set<Entity> modifiedEntities = new HashSet<>();
 
@@ -82,6 +96,7 @@ public class TxCache {
     private final Set<Relationship> modifiedRelationships = new HashSet<>();
 
     private final Set<Rule> modifiedRules = new HashSet<>();
+    private boolean rulesModified = false;
 
     private final Set<Attribute> modifiedAttributes = new HashSet<>();
 
@@ -91,6 +106,9 @@ public class TxCache {
     //We Track the number of concept connections which have been made which may result in a new shard
     private final Map<ConceptId, Long> shardingCount = new HashMap<>();
 
+    //We Track the number of roles things have gained or lost in relationships of each type, to maintain their degrees
+    private final Map<ConceptId, Map<ConceptId, Long>> degreeChanges = new HashMap<>();
+
     //Transaction Specific Meta Data
     private boolean isTxOpen = false;
     private GraknTxType txType;
@@ -118,26 +136,25 @@ public class TxCache {
      * @return true if ths schema labels have been cached. The graph cannot operate if this is false.
      */
     public boolean schemaNotCached(){
-        return labelCache.isEmpty();
+        return schemaSnapshot == null || (schemaSnapshot.isEmpty() && labelCache.isEmpty());
     }
 
     /**
-     * Refreshes the transaction schema cache by reading the central schema cache is read into this transaction cache.
-     * This method performs this operation whilst making a deep clone of the cached concepts to ensure transactions
-     * do not accidentally break the central schema cache.
-     *
+     * Refreshes the transaction schema cache by taking the current {@link SchemaSnapshot} from the central schema
+     * cache. The snapshot is shared, the concepts in it are not copied. Transactions cannot break the central
+     * schema cache because the values cached inside the concepts are bound to the transaction until it commits.
      */
     public void refreshSchemaCache(){
-        Map<Label, SchemaConcept> cachedSchemaSnapshot = globalCache.getCachedTypes();
-        Map<Label, LabelId> cachedLabelsSnapshot = globalCache.getCachedLabels();
-
-        //Read central cache into txCache cloning only base concepts. Sets clones later
-        for (SchemaConcept type : cachedSchemaSnapshot.values()) {
-            cacheConcept(type);
-        }
+        schemaSnapshot = globalCache.getSchemaSnapshot();
+    }
 
-        //Load Labels Separately. We do this because the TypeCache may have expired.
-        cachedLabelsSnapshot.forEach(this::cacheLabel);
+    /**
+     *
+     * @return The {@link SchemaSnapshot} this transaction started from, or null if it has not been taken yet
+     */
+    @Nullable
+    SchemaSnapshot getSchemaSnapshot(){
+        return schemaSnapshot;
     }
 
     /**
@@ -158,6 +175,7 @@ public class TxCache {
             relationIndexCache.put(RelationshipReified.generateNewHash(relationship.type(), relationship.allRolePlayers()), relationship);
         } else if (concept.isRule()){
             modifiedRules.add(concept.asRule());
+            rulesModified = true;
         } else if (concept.isAttribute()){
             modifiedAttributes.add(concept.asAttribute());
         }
@@ -182,9 +200,16 @@ public class TxCache {
         return shardingCount;
     }
 
+    /**
+     * @return the number of roles each thing has gained or lost, by the types of the relationships they play them in
+     */
+    public Map<ConceptId, Map<ConceptId, Long>> getDegreeChanges(){
+        return degreeChanges;
+    }
+
     /**
      *
-     * @return All the types currently cached in the transaction. Used for
+     * @return All the types built or changed in the transaction.
      */
     Map<Label, SchemaConcept> getSchemaConceptCache(){
         return schemaConceptCache;
@@ -192,12 +217,44 @@ public class TxCache {
 
     /**
      *
-     * @return All the types labels currently cached in the transaction.
+     * @return All the types labels built or changed in the transaction.
      */
     Map<Label, LabelId> getLabelCache(){
         return labelCache;
     }
 
+    /**
+     *
+     * @return All the types labels which have been removed from the schema in the transaction.
+     */
+    Set<Label> getRemovedLabels(){
+        return removedLabels;
+    }
+
+    /**
+     *
+     * @return The ids of all the types which have been removed from the schema in the transaction.
+     */
+    Set<ConceptId> getRemovedIds(){
+        return removedIds;
+    }
+
+    /**
+     * Tracks a {@link Cache} which holds a value for this transaction so it can be cleared when the transaction closes
+     *
+     * @param cache The cache holding a value for this transaction
+     */
+    void trackCache(Cache<?> cache){
+        trackedCaches.add(cache);
+    }
+
+    /**
+     * Shares the values of the tracked {@link Cache}s with all transactions
+     */
+    void flushTrackedCaches(){
+        trackedCaches.forEach(Cache::flush);
+    }
+
     /**
      *
      * @return All the concepts which have been accessed in this transaction
@@ -212,6 +269,7 @@ public class TxCache {
      */
     @SuppressWarnings("SuspiciousMethodCalls")
     public void remove(Concept concept){
+        if(concept.isRule()) rulesModified = true;
         modifiedEntities.remove(concept);
         modifiedRoles.remove(concept);
         modifiedRelationshipTypes.remove(concept);
@@ -224,6 +282,8 @@ public class TxCache {
             Label label = ((SchemaConceptImpl) concept).getLabel();
             schemaConceptCache.remove(label);
             labelCache.remove(label);
+            removedLabels.add(label);
+            removedIds.add(concept.getId());
         }
     }
 
@@ -247,20 +307,11 @@ public class TxCache {
             SchemaConceptImpl schemaConcept = (SchemaConceptImpl) concept;
             schemaConceptCache.put(schemaConcept.getLabel(), schemaConcept);
             labelCache.put(schemaConcept.getLabel(), schemaConcept.getLabelId());
+            removedLabels.remove(schemaConcept.getLabel());
+            removedIds.remove(schemaConcept.getId());
         }
     }
 
-
-    /**
-     * Caches the mapping of a type label to a type id. This is necessary in order for ANY types to be looked up.
-     *
-     * @param label The type label to cache
-     * @param id Its equivalent id which can be looked up quickly in the graph
-     */
-    private void cacheLabel(Label label, LabelId id){
-        labelCache.put(label, id);
-    }
-
     /**
      * Checks if the concept has been built before and is currently cached
      *
@@ -268,7 +319,7 @@ public class TxCache {
      * @return true if the concept is cached
      */
     public boolean isConceptCached(ConceptId id){
-        return conceptCache.containsKey(id);
+        return conceptCache.containsKey(id) || getSharedSchemaConcept(id) != null;
     }
 
     /**
@@ -277,7 +328,7 @@ public class TxCache {
      * @return true if the concept is cached
      */
     public boolean isTypeCached(Label label){
-        return schemaConceptCache.containsKey(label);
+        return schemaConceptCache.containsKey(label) || getSharedSchemaConcept(label) != null;
     }
 
     /**
@@ -286,7 +337,7 @@ public class TxCache {
      * @return true if the label is cached and has a valid mapping to a id
      */
     public boolean isLabelCached(Label label){
-        return labelCache.containsKey(label);
+        return convertLabelToId(label) != null;
     }
 
     /**
@@ -297,8 +348,10 @@ public class TxCache {
      * @return The cached concept
      */
     public <X extends Concept> X getCachedConcept(ConceptId id){
+        Concept concept = conceptCache.get(id);
+        if(concept == null) concept = getSharedSchemaConcept(id);
         //noinspection unchecked
-        return (X) conceptCache.get(id);
+        return (X) concept;
     }
 
     /**
@@ -309,12 +362,30 @@ public class TxCache {
      * @return The cached type
      */
     public <X extends SchemaConcept> X getCachedSchemaConcept(Label label){
+        SchemaConcept schemaConcept = schemaConceptCache.get(label);
+        if(schemaConcept == null) schemaConcept = getSharedSchemaConcept(label);
         //noinspection unchecked
-        return (X) schemaConceptCache.get(label);
+        return (X) schemaConcept;
     }
 
     public LabelId convertLabelToId(Label label){
-        return labelCache.get(label);
+        LabelId labelId = labelCache.get(label);
+        if(labelId == null && schemaSnapshot != null && !removedLabels.contains(label)) {
+            labelId = schemaSnapshot.getLabelId(label);
+        }
+        return labelId;
+    }
+
+    @Nullable
+    private SchemaConcept getSharedSchemaConcept(Label label){
+        if(schemaSnapshot == null || removedLabels.contains(label)) return null;
+        return schemaSnapshot.getSchemaConcept(label);
+    }
+
+    @Nullable
+    private SchemaConcept getSharedSchemaConcept(ConceptId id){
+        if(schemaSnapshot == null || removedIds.contains(id)) return null;
+        return schemaSnapshot.getSchemaConcept(id);
     }
 
     public void addedInstance(ConceptId conceptId){
@@ -329,6 +400,20 @@ public class TxCache {
         if(shardingCount.get(conceptId) == 0) shardingCount.remove(conceptId);
     }
 
+    /**
+     * Records that a {@link Thing} has started or stopped playing a role in a {@link Relationship}
+     *
+     * @param rolePlayer The id of the {@link Thing} playing the role
+     * @param relationshipType The id of the type of the {@link Relationship}
+     * @param change 1 when the role is added and -1 when it is removed
+     */
+    public void changedDegree(ConceptId rolePlayer, ConceptId relationshipType, long change){
+        Map<ConceptId, Long> changes = degreeChanges.computeIfAbsent(relationshipType, (e) -> new HashMap<>());
+        changes.compute(rolePlayer, (key, value) -> value == null ? change : value + change);
+        if(changes.get(rolePlayer) == 0) changes.remove(rolePlayer);
+        if(changes.isEmpty()) degreeChanges.remove(relationshipType);
+    }
+
     public Json getFormattedLog(){
         //Concepts In Need of Inspection
         Json conceptsForInspection = Json.object();
@@ -349,6 +434,17 @@ public class TxCache {
         formattedLog.set(REST.Request.COMMIT_LOG_FIXING, conceptsForInspection);
         formattedLog.set(REST.Request.COMMIT_LOG_COUNTING, typesWithInstanceChanges);
 
+        //Changes to the degrees of things, only logged when they are maintained
+        if(!degreeChanges.isEmpty()) {
+            Json degrees = Json.object();
+            degreeChanges.forEach((relationshipType, changes) -> {
+                Json changesOfType = Json.object();
+                changes.forEach((rolePlayer, change) -> changesOfType.set(rolePlayer.getValue(), change));
+                degrees.set(relationshipType.getValue(), changesOfType);
+            });
+            formattedLog.set(REST.Request.COMMIT_LOG_DEGREE_CHANGES, degrees);
+        }
+
         return formattedLog;
     }
     private  <X extends Thing> Json loadConceptsForFixing(Set<X> instances){
@@ -378,6 +474,25 @@ public class TxCache {
         return modifiedRules;
     }
 
+    /**
+     *
+     * @return true if rules have been added or removed in this transaction
+     */
+    public boolean rulesModified() {
+        return rulesModified;
+    }
+
+    /**
+     * The version of the {@link SchemaSnapshot} this transaction reads. Types added in this transaction do not
+     * change what is derived from the shared schema, but removed or relabelled types and added or removed rules do.
+     *
+     * @return the version of the {@link SchemaSnapshot}, or empty if this transaction has changed it
+     */
+    public Optional<Long> schemaVersion() {
+        if(schemaSnapshot == null || rulesModified || !removedLabels.isEmpty()) return Optional.empty();
+        return Optional.of(schemaSnapshot.version());
+    }
+
     public Set<Attribute> getModifiedAttributes() {
         return modifiedAttributes;
     }
@@ -392,7 +507,7 @@ public class TxCache {
         this.closedReason = closedReason;
 
         //Clear Concept Caches
-        conceptCache.values().forEach(concept -> ContainsTxCache.from(concept).txCacheClear());
+        trackedCaches.forEach(Cache::clear);
 
         //Clear Collection Caches
         modifiedEntities.clear();
@@ -400,13 +515,19 @@ public class TxCache {
         modifiedRelationshipTypes.clear();
         modifiedRelationships.clear();
         modifiedRules.clear();
+        rulesModified = false;
         modifiedAttributes.clear();
         modifiedCastings.clear();
         relationIndexCache.clear();
         shardingCount.clear();
+        degreeChanges.clear();
         conceptCache.clear();
         schemaConceptCache.clear();
         labelCache.clear();
+        schemaSnapshot = null;
+        removedLabels.clear();
+        removedIds.clear();
+        trackedCaches.clear();
     }
     public void openTx(GraknTxType txType){
         isTxOpen = true;
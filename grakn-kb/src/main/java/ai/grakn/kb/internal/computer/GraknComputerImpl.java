@@ -19,6 +19,8 @@
 package ai.grakn.kb.internal.computer;
 
 import ai.grakn.GraknComputer;
+import ai.grakn.GraknComputerType;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.LabelId;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
@@ -34,10 +36,16 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputer;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -61,12 +69,36 @@ import java.util.stream.Collectors;
  * @author fppt
  */
 public class GraknComputerImpl implements GraknComputer {
+    public static final String LOCAL_COMPUTER_THRESHOLD = "graph.local-computer-threshold";
+
+    private static final Logger LOG = LoggerFactory.getLogger(GraknComputerImpl.class);
+
     private final Graph graph;
     private final Class<? extends GraphComputer> graphComputerClass;
+    @Nullable private final Graph localGraph;
+    private final GraknComputerType computerType;
+    private final long localThreshold;
+    private final Function<Set<ConceptId>, Optional<Long>> maintainedInstanceCount;
     private GraphComputer graphComputer = null;
 
     public GraknComputerImpl(Graph graph) {
+        this(graph, null, GraknComputerType.DISTRIBUTED, 0L, typeIds -> Optional.empty());
+    }
+
+    /**
+     * @param graph The graph the distributed graph computer runs on
+     * @param localGraph The OLTP graph the local graph computer reads from
+     * @param computerType Which graph computer to execute programs on
+     * @param localThreshold The number of instances below which {@link GraknComputerType#AUTO} uses the local computer
+     * @param maintainedInstanceCount Reads the number of instances of types maintained by engine
+     */
+    public GraknComputerImpl(Graph graph, @Nullable Graph localGraph, GraknComputerType computerType,
+                             long localThreshold, Function<Set<ConceptId>, Optional<Long>> maintainedInstanceCount) {
         this.graph = graph;
+        this.localGraph = localGraph;
+        this.computerType = computerType;
+        this.localThreshold = localThreshold;
+        this.maintainedInstanceCount = maintainedInstanceCount;
         if (graph instanceof TinkerGraph) {
             graphComputerClass = TinkerGraphComputer.class;
         } else {
@@ -78,7 +110,7 @@ public class GraknComputerImpl implements GraknComputer {
     public ComputerResult compute(@Nullable VertexProgram program, @Nullable MapReduce mapReduce,
                                   @Nullable Set<LabelId> types, Boolean includesShortcut) {
         try {
-            if (program != null) graphComputer = getGraphComputer().program(program);
+            if (program != null) graphComputer = getGraphComputer(types).program(program);
             if (mapReduce != null) graphComputer = graphComputer.mapReduce(mapReduce);
             applyFilters(types, includesShortcut);
             return graphComputer.submit().get();
@@ -95,8 +127,10 @@ public class GraknComputerImpl implements GraknComputer {
 
     @Override
     public void killJobs() {
-        if (graphComputer != null && graphComputerClass.equals(GraknSparkComputer.class)) {
+        if (graphComputer instanceof GraknSparkComputer) {
             ((GraknSparkComputer) graphComputer).cancelJobs();
+        } else if (graphComputer instanceof GraknLocalComputer) {
+            ((GraknLocalComputer) graphComputer).cancelJobs();
         }
     }
 
@@ -125,6 +159,74 @@ public class GraknComputerImpl implements GraknComputer {
         return graph.compute(this.graphComputerClass);
     }
 
+    private GraphComputer getGraphComputer(@Nullable Set<LabelId> types) {
+        if (useLocalComputer(types)) {
+            GraknLocalComputer localComputer = new GraknLocalComputer(localGraph);
+            if (types != null && !types.isEmpty()) {
+                localComputer.vertexLoader(oltpGraph -> instancesOfTypes(oltpGraph, types));
+            }
+            return localComputer;
+        }
+        return getGraphComputer();
+    }
+
+    /**
+     * Decides if the program should run on the {@link GraknLocalComputer}. When the choice is left to this computer
+     * the instance counts maintained by engine are used. Only if they cannot be read are the instances counted,
+     * stopping as soon as the threshold is exceeded.
+     */
+    private boolean useLocalComputer(@Nullable Set<LabelId> types) {
+        if (localGraph == null) return false;
+
+        switch (computerType) {
+            case LOCAL:
+                return true;
+            case DISTRIBUTED:
+                return false;
+            default:
+                if (graphComputerClass.equals(TinkerGraphComputer.class)) return false;
+                if (localThreshold <= 0 || types == null || types.isEmpty()) return false;
+                long size = countInstances(types);
+                LOG.debug("Selected subgraph has at least " + size + " instances");
+                return size <= localThreshold;
+        }
+    }
+
+    /**
+     * Counts the instances of the given types in a transaction of its own, so the transaction open on the calling
+     * thread is never touched
+     */
+    private long countInstances(Set<LabelId> types) {
+        Graph txGraph = localGraph.features().graph().supportsThreadedTransactions() ?
+                localGraph.tx().createThreadedTx() : localGraph;
+        try {
+            Set<Integer> labelIds = types.stream().map(LabelId::getValue).collect(Collectors.toSet());
+            Set<ConceptId> typeIds = txGraph.traversal().V()
+                    .has(Schema.VertexProperty.LABEL_ID.name(), P.within(labelIds))
+                    .<String>values(Schema.VertexProperty.ID.name())
+                    .toStream().map(ConceptId::of).collect(Collectors.toSet());
+
+            Optional<Long> count = maintainedInstanceCount.apply(typeIds);
+            if (count.isPresent()) return count.get();
+
+            int limit = (int) Math.min(localThreshold + 1, Integer.MAX_VALUE);
+            return IteratorUtils.count(IteratorUtils.limit(instancesOfTypes(txGraph, types), limit));
+        } finally {
+            if (txGraph != localGraph) txGraph.tx().rollback();
+        }
+    }
+
+    /**
+     * Reads the instances of the given types through the type shards, using the label index rather than a full scan
+     */
+    private static Iterator<Vertex> instancesOfTypes(Graph oltpGraph, Set<LabelId> types) {
+        Set<Integer> labelIds = types.stream().map(LabelId::getValue).collect(Collectors.toSet());
+        return oltpGraph.traversal().V()
+                .has(Schema.VertexProperty.LABEL_ID.name(), P.within(labelIds))
+                .in(Schema.EdgeLabel.SHARD.getLabel())
+                .in(Schema.EdgeLabel.ISA.getLabel());
+    }
+
     private void applyFilters(Set<LabelId> types, boolean includesShortcut) {
         if (types == null || types.isEmpty()) return;
         Set<Integer> labelIds = types.stream().map(LabelId::getValue).collect(Collectors.toSet());
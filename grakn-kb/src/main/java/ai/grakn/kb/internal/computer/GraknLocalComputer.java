@@ -0,0 +1,397 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.computer;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
+import org.apache.tinkerpop.gremlin.process.computer.KeyValue;
+import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.util.DefaultComputerResult;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * An in-JVM {@link GraphComputer} which runs vertex programs and map reduce jobs over an OLTP graph.
+ * </p>
+ *
+ * <p>
+ * The vertices of the filtered subgraph are read once through a threaded transaction on the OLTP graph and loaded
+ * into a {@link GraknLocalGraphView}. The view is split into partitions which are processed by a {@link ForkJoinPool},
+ * one cloned program per partition. There is no job startup, input format or serialisation involved, which makes
+ * this computer much faster than {@link GraknSparkComputer} for small and medium subgraphs.
+ * </p>
+ *
+ * <p>
+ * Only the {@link GraphComputer.ResultGraph#ORIGINAL} graph is returned and compute keys are never persisted.
+ * </p>
+ */
+public class GraknLocalComputer implements GraphComputer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GraknLocalComputer.class);
+    private static final int PARTITIONS_PER_WORKER = 4;
+
+    private final ThreadFactory threadFactoryBoss =
+            new BasicThreadFactory.Builder().namingPattern(GraknLocalComputer.class.getSimpleName() + "-boss").build();
+
+    private final Graph graph;
+    private final GraphFilter graphFilter = new GraphFilter();
+    private final Set<MapReduce> mapReducers = new HashSet<>();
+    private Function<Graph, Iterator<Vertex>> vertexLoader = oltpGraph -> oltpGraph.vertices();
+    private VertexProgram<?> vertexProgram = null;
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private boolean executed = false;
+    private volatile boolean cancelled = false;
+
+    public GraknLocalComputer(Graph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public GraphComputer result(ResultGraph resultGraph) {
+        if (!ResultGraph.ORIGINAL.equals(resultGraph)) {
+            LOGGER.warn("Result graph [" + resultGraph + "] is ignored by " + GraknLocalComputer.class.getSimpleName());
+        }
+        return this;
+    }
+
+    @Override
+    public GraphComputer persist(Persist persist) {
+        if (!Persist.NOTHING.equals(persist)) {
+            LOGGER.warn("Persist [" + persist + "] is ignored by " + GraknLocalComputer.class.getSimpleName());
+        }
+        return this;
+    }
+
+    @Override
+    public GraphComputer program(VertexProgram vertexProgram) {
+        this.vertexProgram = vertexProgram;
+        return this;
+    }
+
+    @Override
+    public GraphComputer mapReduce(MapReduce mapReduce) {
+        this.mapReducers.add(mapReduce);
+        return this;
+    }
+
+    @Override
+    public GraphComputer workers(int workers) {
+        this.workers = workers;
+        return this;
+    }
+
+    @Override
+    public GraphComputer vertices(Traversal<Vertex, Vertex> vertexFilter) {
+        graphFilter.setVertexFilter(vertexFilter);
+        return this;
+    }
+
+    @Override
+    public GraphComputer edges(Traversal<Vertex, Edge> edgeFilter) {
+        graphFilter.setEdgeFilter(edgeFilter);
+        return this;
+    }
+
+    /**
+     * Replaces the full vertex scan used to load the subgraph. The vertex filter is still applied to every loaded
+     * vertex, so the loader only needs to produce a superset of the subgraph.
+     *
+     * @param vertexLoader produces the vertices of the subgraph from the OLTP graph
+     * @return this computer
+     */
+    public GraknLocalComputer vertexLoader(Function<Graph, Iterator<Vertex>> vertexLoader) {
+        this.vertexLoader = vertexLoader;
+        return this;
+    }
+
+    @Override
+    public Future<ComputerResult> submit() {
+        if (executed) throw GraphComputer.Exceptions.computerHasAlreadyBeenSubmittedAVertexProgram();
+        if (vertexProgram == null && mapReducers.isEmpty()) {
+            throw GraphComputer.Exceptions.computerHasNoVertexProgramNorMapReducers();
+        }
+        executed = true;
+        if (vertexProgram != null) mapReducers.addAll(vertexProgram.getMapReducers());
+
+        ExecutorService computerService = Executors.newSingleThreadExecutor(threadFactoryBoss);
+        Future<ComputerResult> result = computerService.submit(this::execute);
+        computerService.shutdown();
+        return result;
+    }
+
+    /**
+     * Stops the running computation at the next partition boundary
+     */
+    public void cancelJobs() {
+        cancelled = true;
+    }
+
+    private ComputerResult execute() {
+        long startTime = System.currentTimeMillis();
+        Graph txGraph = openThreadedTx();
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        try {
+            GraknLocalMemory memory = new GraknLocalMemory(vertexProgram, mapReducers);
+            GraknLocalGraphView view = loadGraphView(txGraph, pool);
+            LOGGER.debug("Loaded " + view.size() + " vertices in " + (System.currentTimeMillis() - startTime) + " ms");
+
+            if (vertexProgram != null) executeVertexProgram(view, memory, pool);
+            for (MapReduce mapReduce : mapReducers) {
+                executeMapReduce(mapReduce, view, memory, pool);
+            }
+
+            memory.setRuntime(System.currentTimeMillis() - startTime);
+            memory.complete();
+            return new DefaultComputerResult(graph, memory.asImmutable());
+        } finally {
+            pool.shutdownNow();
+            closeThreadedTx(txGraph);
+        }
+    }
+
+    private GraknLocalGraphView loadGraphView(Graph txGraph, ForkJoinPool pool) {
+        List<Vertex> vertices = new ArrayList<>();
+        Set<Object> loadedIds = new HashSet<>();
+        vertexLoader.apply(txGraph).forEachRemaining(vertex -> {
+            if ((!graphFilter.hasVertexFilter() || graphFilter.legalVertex(vertex)) && loadedIds.add(vertex.id())) {
+                vertices.add(vertex);
+            }
+        });
+
+        GraknLocalGraphView view = new GraknLocalGraphView(vertices,
+                vertexProgram == null ? Collections.<VertexComputeKey>emptySet() : vertexProgram.getVertexComputeKeys());
+
+        runPartitions(pool, view.size(), (start, end) -> {
+            // Graph filters are not thread safe so every partition gets its own copy
+            GraphFilter filter = graphFilter.clone();
+            IntBuffer out = new IntBuffer();
+            IntBuffer in = new IntBuffer();
+            List<Edge> legalEdges = new ArrayList<>();
+            for (int position = start; position < end; position++) {
+                Vertex vertex = view.vertex(position).baseVertex();
+                Iterator<Edge> edges = filter.hasEdgeFilter() ?
+                        filter.legalEdges(vertex) : vertex.edges(Direction.BOTH);
+                out.clear();
+                in.clear();
+                legalEdges.clear();
+                while (edges.hasNext()) {
+                    Edge edge = edges.next();
+                    if (edge.outVertex().id().equals(vertex.id())) {
+                        int target = view.position(edge.inVertex().id());
+                        if (target < 0) continue;
+                        out.add(target);
+                    } else {
+                        int source = view.position(edge.outVertex().id());
+                        if (source < 0) continue;
+                        in.add(source);
+                    }
+                    legalEdges.add(edge);
+                }
+                view.setNeighbours(position, out.toArray(), in.toArray(), legalEdges.toArray(new Edge[legalEdges.size()]));
+            }
+        });
+        return view;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void executeVertexProgram(GraknLocalGraphView view, GraknLocalMemory memory, ForkJoinPool pool) {
+        GraknLocalMessageBoard<Object> messageBoard = new GraknLocalMessageBoard<>(
+                view.size(), ((VertexProgram<Object>) vertexProgram).getMessageCombiner().orElse(null));
+
+        vertexProgram.setup(memory);
+        while (true) {
+            memory.completeSubRound();
+            runPartitions(pool, view.size(), (start, end) -> {
+                VertexProgram<Object> workerProgram = (VertexProgram<Object>) vertexProgram.clone();
+                GraknLocalMessenger<Object> messenger = new GraknLocalMessenger<>(view, messageBoard);
+                workerProgram.workerIterationStart(memory.asImmutable());
+                for (int position = start; position < end; position++) {
+                    messenger.setVertex(position);
+                    workerProgram.execute(view.vertex(position), messenger, memory);
+                }
+                workerProgram.workerIterationEnd(memory.asImmutable());
+            });
+            messageBoard.completeIteration();
+            memory.completeSubRound();
+
+            boolean terminate = vertexProgram.terminate(memory);
+            memory.incrIteration();
+            if (terminate) break;
+        }
+        view.dropTransientComputeKeys();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void executeMapReduce(MapReduce mapReduce, GraknLocalGraphView view,
+                                  GraknLocalMemory memory, ForkJoinPool pool) {
+        Map<Object, Queue<Object>> mapResults = new ConcurrentHashMap<>();
+        boolean combine = mapReduce.doStage(MapReduce.Stage.COMBINE);
+
+        runPartitions(pool, view.size(), (start, end) -> {
+            MapReduce workerMapReduce = mapReduce.clone();
+            Map<Object, List<Object>> partitionResults = new HashMap<>();
+            MapReduce.MapEmitter<Object, Object> mapEmitter = (key, value) ->
+                    partitionResults.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+
+            workerMapReduce.workerStart(MapReduce.Stage.MAP);
+            for (int position = start; position < end; position++) {
+                workerMapReduce.map(view.vertex(position), mapEmitter);
+            }
+            workerMapReduce.workerEnd(MapReduce.Stage.MAP);
+
+            // Combining within the partition keeps the number of values which reach the reduce stage small
+            if (combine) workerMapReduce.workerStart(MapReduce.Stage.COMBINE);
+            partitionResults.forEach((key, values) -> {
+                Queue<Object> keyValues = mapResults.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>());
+                if (combine) {
+                    workerMapReduce.combine(key, values.iterator(), (MapReduce.ReduceEmitter<Object, Object>)
+                            (combinedKey, combinedValue) -> keyValues.add(combinedValue));
+                } else {
+                    keyValues.addAll(values);
+                }
+            });
+            if (combine) workerMapReduce.workerEnd(MapReduce.Stage.COMBINE);
+        });
+
+        Queue<KeyValue<Object, Object>> results = new ConcurrentLinkedQueue<>();
+        if (mapReduce.doStage(MapReduce.Stage.REDUCE)) {
+            List<Map.Entry<Object, Queue<Object>>> entries = new ArrayList<>(mapResults.entrySet());
+            runPartitions(pool, entries.size(), (start, end) -> {
+                MapReduce workerMapReduce = mapReduce.clone();
+                MapReduce.ReduceEmitter<Object, Object> reduceEmitter =
+                        (key, value) -> results.add(new KeyValue<>(key, value));
+
+                workerMapReduce.workerStart(MapReduce.Stage.REDUCE);
+                for (int i = start; i < end; i++) {
+                    Map.Entry<Object, Queue<Object>> entry = entries.get(i);
+                    workerMapReduce.reduce(entry.getKey(), entry.getValue().iterator(), reduceEmitter);
+                }
+                workerMapReduce.workerEnd(MapReduce.Stage.REDUCE);
+            });
+        } else {
+            mapResults.forEach((key, values) -> values.forEach(value -> results.add(new KeyValue<>(key, value))));
+        }
+        mapReduce.addResultToMemory(memory, results.iterator());
+    }
+
+    /**
+     * Splits the positions from 0 to size into partitions and runs the task on each of them in the pool
+     */
+    private void runPartitions(ForkJoinPool pool, int size, PartitionTask task) {
+        if (cancelled) throw new TraversalInterruptedException();
+
+        int partitions = Math.max(1, workers * PARTITIONS_PER_WORKER);
+        int partitionSize = Math.max(1, (size + partitions - 1) / partitions);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int start = 0; start < size; start += partitionSize) {
+            int partitionStart = start;
+            int partitionEnd = Math.min(size, start + partitionSize);
+            tasks.add(() -> {
+                if (!cancelled) task.run(partitionStart, partitionEnd);
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TraversalInterruptedException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new RuntimeException(e.getCause());
+        }
+
+        if (cancelled) throw new TraversalInterruptedException();
+    }
+
+    private Graph openThreadedTx() {
+        if (graph.features().graph().supportsThreadedTransactions()) {
+            return graph.tx().createThreadedTx();
+        }
+        return graph;
+    }
+
+    private void closeThreadedTx(Graph txGraph) {
+        if (txGraph != graph) txGraph.tx().rollback();
+    }
+
+    /**
+     * A unit of work over the positions [start, end) of a {@link GraknLocalGraphView}
+     */
+    @FunctionalInterface
+    private interface PartitionTask {
+        void run(int start, int end);
+    }
+
+    /**
+     * A growable array of ints used to build the adjacency of a vertex without boxing
+     */
+    private static class IntBuffer {
+        private int[] values = new int[16];
+        private int size = 0;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * The subgraph a {@link GraknLocalComputer} runs over.
+ * </p>
+ *
+ * <p>
+ * Every vertex of the subgraph is given a dense position. Adjacency is stored as arrays of positions and every
+ * {@link VertexComputeKey} is stored as a column indexed by position, so vertex programs never allocate
+ * per vertex maps and messages never need to resolve vertex ids.
+ * </p>
+ *
+ * <p>
+ * A {@link VertexComputeKey} does not declare the type of its values, and the same key may hold numbers in one program
+ * and sets in another, so the columns hold objects rather than primitives.
+ * </p>
+ */
+class GraknLocalGraphView {
+    private static final int[] NO_NEIGHBOURS = new int[0];
+    private static final Edge[] NO_EDGES = new Edge[0];
+
+    private final GraknLocalVertex[] vertices;
+    private final Map<Object, Integer> positions;
+    private final int[][] outNeighbours;
+    private final int[][] inNeighbours;
+    private final Edge[][] edges;
+    private final Map<String, Object[]> computeValues = new HashMap<>();
+    private final Set<String> transientKeys = new HashSet<>();
+
+    GraknLocalGraphView(List<Vertex> baseVertices, Set<VertexComputeKey> computeKeys) {
+        int size = baseVertices.size();
+        vertices = new GraknLocalVertex[size];
+        positions = new HashMap<>(size * 2);
+        outNeighbours = new int[size][];
+        inNeighbours = new int[size][];
+        edges = new Edge[size][];
+
+        for (int position = 0; position < size; position++) {
+            Vertex vertex = baseVertices.get(position);
+            vertices[position] = new GraknLocalVertex(this, vertex, position);
+            positions.put(vertex.id(), position);
+            outNeighbours[position] = NO_NEIGHBOURS;
+            inNeighbours[position] = NO_NEIGHBOURS;
+            edges[position] = NO_EDGES;
+        }
+
+        for (VertexComputeKey computeKey : computeKeys) {
+            computeValues.put(computeKey.getKey(), new Object[size]);
+            if (computeKey.isTransient()) transientKeys.add(computeKey.getKey());
+        }
+    }
+
+    int size() {
+        return vertices.length;
+    }
+
+    GraknLocalVertex vertex(int position) {
+        return vertices[position];
+    }
+
+    /**
+     * @param id the id of a vertex
+     * @return the position of the vertex in this view or -1 if the vertex is not part of the subgraph
+     */
+    int position(Object id) {
+        Integer position = positions.get(id);
+        return position == null ? -1 : position;
+    }
+
+    void setNeighbours(int position, int[] out, int[] in, Edge[] legalEdges) {
+        outNeighbours[position] = out;
+        inNeighbours[position] = in;
+        edges[position] = legalEdges;
+    }
+
+    /**
+     * @return the edges of the given vertex which passed the edge filter and lead to a vertex in the subgraph
+     */
+    Edge[] edges(int position) {
+        return edges[position];
+    }
+
+    /**
+     * @return the positions of the vertices at the end of the outgoing edges of the given vertex
+     */
+    int[] outNeighbours(int position) {
+        return outNeighbours[position];
+    }
+
+    /**
+     * @return the positions of the vertices at the start of the incoming edges of the given vertex
+     */
+    int[] inNeighbours(int position) {
+        return inNeighbours[position];
+    }
+
+    boolean isComputeKey(String key) {
+        return computeValues.containsKey(key);
+    }
+
+    Set<String> computeKeys() {
+        return computeValues.keySet();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    <V> V getComputeValue(String key, int position) {
+        return (V) computeValues.get(key)[position];
+    }
+
+    void setComputeValue(String key, int position, @Nullable Object value) {
+        computeValues.get(key)[position] = value;
+    }
+
+    /**
+     * Drops the values of all transient compute keys, they are only visible while the vertex program runs
+     */
+    void dropTransientComputeKeys() {
+        transientKeys.forEach(computeValues::remove);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.util.MemoryHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * The {@link Memory} used by {@link GraknLocalComputer}.
+ * </p>
+ *
+ * <p>
+ * Values written during an iteration are reduced into the current map, which becomes readable once the
+ * sub round is completed. Only broadcast keys can be read while the vertex program is executing.
+ * </p>
+ */
+class GraknLocalMemory implements Memory.Admin {
+
+    private final Map<String, MemoryComputeKey> memoryComputeKeys = new HashMap<>();
+    private Map<String, Object> previousMap = new ConcurrentHashMap<>();
+    private final Map<String, Object> currentMap = new ConcurrentHashMap<>();
+    private final AtomicInteger iteration = new AtomicInteger(0);
+    private final AtomicLong runtime = new AtomicLong(0L);
+    private volatile boolean inExecute = false;
+
+    GraknLocalMemory(@Nullable VertexProgram<?> vertexProgram, Set<MapReduce> mapReducers) {
+        if (vertexProgram != null) {
+            for (MemoryComputeKey key : vertexProgram.getMemoryComputeKeys()) {
+                memoryComputeKeys.put(key.getKey(), key);
+            }
+        }
+        for (MapReduce mapReduce : mapReducers) {
+            memoryComputeKeys.put(mapReduce.getMemoryKey(),
+                    MemoryComputeKey.of(mapReduce.getMemoryKey(), Operator.assign, false, false));
+        }
+    }
+
+    @Override
+    public Set<String> keys() {
+        return previousMap.keySet().stream()
+                .filter(key -> !inExecute || memoryComputeKeys.get(key).isBroadcast())
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void incrIteration() {
+        iteration.getAndIncrement();
+    }
+
+    @Override
+    public void setIteration(final int iteration) {
+        this.iteration.set(iteration);
+    }
+
+    @Override
+    public int getIteration() {
+        return iteration.get();
+    }
+
+    @Override
+    public void setRuntime(final long runTime) {
+        runtime.set(runTime);
+    }
+
+    @Override
+    public long getRuntime() {
+        return runtime.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> R get(final String key) throws IllegalArgumentException {
+        R value = (R) previousMap.get(key);
+        if (value == null || (inExecute && !memoryComputeKeys.get(key).isBroadcast())) {
+            throw Memory.Exceptions.memoryDoesNotExist(key);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void add(final String key, final Object value) {
+        checkKeyValue(key, value);
+        if (!inExecute) throw Memory.Exceptions.memoryAddOnlyDuringVertexProgramExecute(key);
+        BinaryOperator<Object> reducer = memoryComputeKeys.get(key).getReducer();
+        currentMap.merge(key, value, reducer);
+    }
+
+    @Override
+    public void set(final String key, final Object value) {
+        checkKeyValue(key, value);
+        if (inExecute) throw Memory.Exceptions.memorySetOnlyDuringVertexProgramSetUpAndTerminate(key);
+        currentMap.put(key, value);
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.memoryString(this);
+    }
+
+    /**
+     * Publishes the values written so far and flips between the execute and the setup/terminate phases.
+     */
+    void completeSubRound() {
+        previousMap = new ConcurrentHashMap<>(currentMap);
+        inExecute = !inExecute;
+    }
+
+    /**
+     * Drops all transient keys once the computation is finished
+     */
+    void complete() {
+        // the iteration is incremented once more after the vertex program terminates
+        iteration.updateAndGet(current -> current > 0 ? current - 1 : current);
+        previousMap = currentMap;
+        memoryComputeKeys.values().stream()
+                .filter(MemoryComputeKey::isTransient)
+                .forEach(memoryComputeKey -> previousMap.remove(memoryComputeKey.getKey()));
+    }
+
+    private void checkKeyValue(final String key, final Object value) {
+        if (!memoryComputeKeys.containsKey(key)) {
+            throw GraphComputer.Exceptions.providedKeyIsNotAMemoryComputeKey(key);
+        }
+        MemoryHelper.validateValue(value);
+    }
+}
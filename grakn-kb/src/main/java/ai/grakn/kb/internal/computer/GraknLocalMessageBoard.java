@@ -0,0 +1,128 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.computer;
+
+import ai.grakn.util.ErrorMessage;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Holds the messages sent between the vertices of a {@link GraknLocalGraphView}.
+ * </p>
+ *
+ * <p>
+ * Messages are kept in an array indexed by the position of the receiving vertex. A vertex which receives a single
+ * message stores it directly, and when the vertex program defines a {@link MessageCombiner} the messages are combined
+ * as they arrive so every vertex holds at most one message.
+ * </p>
+ *
+ * @param <M> The type of the messages
+ */
+class GraknLocalMessageBoard<M> {
+    private static final int LOCK_STRIPES = 1024;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final Map<MessageScope.Local<?>, Direction> incidentDirections = new ConcurrentHashMap<>();
+    private final MessageCombiner<M> combiner;
+    private Object[] receivedMessages;
+    private Object[] sentMessages;
+
+    GraknLocalMessageBoard(int size, @Nullable MessageCombiner<M> combiner) {
+        this.combiner = combiner;
+        this.receivedMessages = new Object[size];
+        this.sentMessages = new Object[size];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void send(int position, M message) {
+        synchronized (locks[position & (LOCK_STRIPES - 1)]) {
+            Object current = sentMessages[position];
+            if (current == null) {
+                sentMessages[position] = message;
+            } else if (combiner != null) {
+                sentMessages[position] = combiner.combine((M) current, message);
+            } else if (current instanceof MessageList) {
+                ((MessageList) current).add(message);
+            } else {
+                MessageList messages = new MessageList();
+                messages.add(current);
+                messages.add(message);
+                sentMessages[position] = messages;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    Iterator<M> receive(int position) {
+        Object messages = receivedMessages[position];
+        if (messages == null) return Collections.emptyIterator();
+        if (messages instanceof MessageList) return (Iterator<M>) ((MessageList) messages).iterator();
+        return Collections.singleton((M) messages).iterator();
+    }
+
+    /**
+     * Makes the messages sent during this iteration available to the next one
+     */
+    void completeIteration() {
+        receivedMessages = sentMessages;
+        sentMessages = new Object[receivedMessages.length];
+    }
+
+    /**
+     * @param scope a local message scope
+     * @return the direction of the edges the receiving vertex reads messages from
+     */
+    Direction incidentDirection(MessageScope.Local<?> scope) {
+        return incidentDirections.computeIfAbsent(scope, GraknLocalMessageBoard::readIncidentDirection);
+    }
+
+    private static Direction readIncidentDirection(MessageScope.Local<?> scope) {
+        Traversal.Admin<Vertex, Edge> incidentTraversal = scope.getIncidentTraversal().get().asAdmin();
+        Step<?, ?> endStep = incidentTraversal.getEndStep();
+        if (incidentTraversal.getSteps().size() == 1 && endStep instanceof VertexStep &&
+                ((VertexStep<?>) endStep).getEdgeLabels().length == 0) {
+            return ((VertexStep<?>) endStep).getDirection();
+        }
+        throw new UnsupportedOperationException(ErrorMessage.UNSUPPORTED_MESSAGE_SCOPE.getMessage(scope));
+    }
+
+    /**
+     * Marks a group of messages so it cannot be confused with a single message which happens to be a list
+     */
+    private static class MessageList extends ArrayList<Object> {
+        private static final long serialVersionUID = 7381265128464316032L;
+    }
+}
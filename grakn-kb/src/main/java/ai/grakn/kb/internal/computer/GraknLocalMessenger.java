@@ -0,0 +1,79 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.Messenger;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Iterator;
+
+/**
+ * <p>
+ * The {@link Messenger} of the {@link GraknLocalComputer}.
+ * </p>
+ *
+ * <p>
+ * One messenger is used by each partition and is moved from vertex to vertex. Local messages are routed through the
+ * adjacency of the {@link GraknLocalGraphView}, so sending a message never touches the underlying graph.
+ * </p>
+ *
+ * @param <M> The type of the messages
+ */
+class GraknLocalMessenger<M> implements Messenger<M> {
+    private final GraknLocalGraphView view;
+    private final GraknLocalMessageBoard<M> messageBoard;
+    private int position;
+
+    GraknLocalMessenger(GraknLocalGraphView view, GraknLocalMessageBoard<M> messageBoard) {
+        this.view = view;
+        this.messageBoard = messageBoard;
+    }
+
+    void setVertex(int position) {
+        this.position = position;
+    }
+
+    @Override
+    public Iterator<M> receiveMessages() {
+        return messageBoard.receive(position);
+    }
+
+    @Override
+    public void sendMessage(MessageScope messageScope, M message) {
+        if (messageScope instanceof MessageScope.Local) {
+            Direction direction = messageBoard.incidentDirection((MessageScope.Local<?>) messageScope);
+            // The receiver reads messages from its incident edges, so they travel along the opposite direction
+            if (!direction.equals(Direction.OUT)) sendAll(view.outNeighbours(position), message);
+            if (!direction.equals(Direction.IN)) sendAll(view.inNeighbours(position), message);
+        } else {
+            for (Vertex vertex : ((MessageScope.Global) messageScope).vertices()) {
+                int target = view.position(vertex.id());
+                if (target >= 0) messageBoard.send(target, message);
+            }
+        }
+    }
+
+    private void sendAll(int[] targets, M message) {
+        for (int target : targets) {
+            messageBoard.send(target, message);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * <p>
+ * A {@link Vertex} as seen by a program running on the {@link GraknLocalComputer}.
+ * </p>
+ *
+ * <p>
+ * Compute keys are read from and written to the {@link GraknLocalGraphView}, and only the edges which passed the
+ * edge filter are visible. Everything else is read from the underlying OLTP vertex, which is never written to.
+ * </p>
+ */
+class GraknLocalVertex implements Vertex {
+    private final GraknLocalGraphView view;
+    private final Vertex baseVertex;
+    private final int position;
+
+    GraknLocalVertex(GraknLocalGraphView view, Vertex baseVertex, int position) {
+        this.view = view;
+        this.baseVertex = baseVertex;
+        this.position = position;
+    }
+
+    Vertex baseVertex() {
+        return baseVertex;
+    }
+
+    @Override
+    public Object id() {
+        return baseVertex.id();
+    }
+
+    @Override
+    public String label() {
+        return baseVertex.label();
+    }
+
+    @Override
+    public Graph graph() {
+        return baseVertex.graph();
+    }
+
+    @Override
+    public <V> VertexProperty<V> property(String key) {
+        if (view.isComputeKey(key)) {
+            V value = view.getComputeValue(key, position);
+            return value == null ? VertexProperty.<V>empty() : new ComputeProperty<>(key, value);
+        }
+        return baseVertex.property(key);
+    }
+
+    @Override
+    public <V> VertexProperty<V> property(VertexProperty.Cardinality cardinality, String key, V value, Object... keyValues) {
+        if (!view.isComputeKey(key)) throw GraphComputer.Exceptions.providedKeyIsNotAnElementComputeKey(key);
+        view.setComputeValue(key, position, value);
+        return new ComputeProperty<>(key, value);
+    }
+
+    @Override
+    public <V> Iterator<VertexProperty<V>> properties(String... propertyKeys) {
+        List<VertexProperty<V>> properties = new ArrayList<>();
+        if (propertyKeys.length == 0) {
+            for (String key : view.computeKeys()) {
+                VertexProperty<V> property = property(key);
+                if (property.isPresent()) properties.add(property);
+            }
+            baseVertex.<V>properties().forEachRemaining(properties::add);
+        } else {
+            for (String key : propertyKeys) {
+                if (view.isComputeKey(key)) {
+                    VertexProperty<V> property = property(key);
+                    if (property.isPresent()) properties.add(property);
+                } else {
+                    baseVertex.<V>properties(key).forEachRemaining(properties::add);
+                }
+            }
+        }
+        return properties.iterator();
+    }
+
+    @Override
+    public Iterator<Edge> edges(Direction direction, String... edgeLabels) {
+        List<Edge> edges = new ArrayList<>();
+        for (Edge edge : view.edges(position)) {
+            if (hasLabel(edge, edgeLabels) && (direction.equals(Direction.BOTH) || otherEnd(edge, direction) != null)) {
+                edges.add(edge);
+            }
+        }
+        return edges.iterator();
+    }
+
+    @Override
+    public Iterator<Vertex> vertices(Direction direction, String... edgeLabels) {
+        List<Vertex> vertices = new ArrayList<>();
+        for (Edge edge : view.edges(position)) {
+            if (!hasLabel(edge, edgeLabels)) continue;
+            if (direction.equals(Direction.BOTH)) {
+                //A loop is reached in both directions
+                Vertex out = otherEnd(edge, Direction.OUT);
+                Vertex in = otherEnd(edge, Direction.IN);
+                if (out != null) vertices.add(out);
+                if (in != null) vertices.add(in);
+            } else {
+                Vertex other = otherEnd(edge, direction);
+                if (other != null) vertices.add(other);
+            }
+        }
+        return vertices.iterator();
+    }
+
+    /**
+     * @return the vertex at the other end of an edge leaving this vertex in the given direction, or null if the edge
+     * does not leave this vertex in that direction
+     */
+    private Vertex otherEnd(Edge edge, Direction direction) {
+        Vertex start = direction.equals(Direction.OUT) ? edge.outVertex() : edge.inVertex();
+        if (!start.id().equals(id())) return null;
+        Vertex end = direction.equals(Direction.OUT) ? edge.inVertex() : edge.outVertex();
+        return view.vertex(view.position(end.id()));
+    }
+
+    private static boolean hasLabel(Edge edge, String... edgeLabels) {
+        if (edgeLabels.length == 0) return true;
+        for (String edgeLabel : edgeLabels) {
+            if (edgeLabel.equals(edge.label())) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Edge addEdge(String label, Vertex inVertex, Object... keyValues) {
+        throw Vertex.Exceptions.edgeAdditionsNotSupported();
+    }
+
+    @Override
+    public void remove() {
+        throw Vertex.Exceptions.vertexRemovalNotSupported();
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return ElementHelper.areEqual(this, object);
+    }
+
+    @Override
+    public int hashCode() {
+        return ElementHelper.hashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.vertexString(this);
+    }
+
+    /**
+     * A compute key value of a {@link GraknLocalVertex}
+     *
+     * @param <V> The type of the value
+     */
+    private class ComputeProperty<V> implements VertexProperty<V> {
+        private final String key;
+        private final V value;
+
+        ComputeProperty(String key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public String key() {
+            return key;
+        }
+
+        @Override
+        public V value() {
+            return value;
+        }
+
+        @Override
+        public boolean isPresent() {
+            return true;
+        }
+
+        @Override
+        public Vertex element() {
+            return GraknLocalVertex.this;
+        }
+
+        @Override
+        public Object id() {
+            return GraknLocalVertex.this.id() + ":" + key;
+        }
+
+        @Override
+        public String label() {
+            return key;
+        }
+
+        @Override
+        public Graph graph() {
+            return GraknLocalVertex.this.graph();
+        }
+
+        @Override
+        public <U> Property<U> property(String key, U value) {
+            throw VertexProperty.Exceptions.metaPropertiesNotSupported();
+        }
+
+        @Override
+        public <U> Iterator<Property<U>> properties(String... propertyKeys) {
+            return Collections.emptyIterator();
+        }
+
+        @Override
+        public void remove() {
+            view.setComputeValue(key, position, null);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return ElementHelper.areEqual(this, object);
+        }
+
+        @Override
+        public int hashCode() {
+            return ElementHelper.hashCode((Property) this);
+        }
+
+        @Override
+        public String toString() {
+            return StringFactory.propertyString(this);
+        }
+    }
+}
@@ -25,7 +25,6 @@ import ai.grakn.kb.internal.cache.Cache;
 import ai.grakn.kb.internal.cache.Cacheable;
 import ai.grakn.kb.internal.cache.ContainsTxCache;
 import ai.grakn.kb.internal.structure.EdgeElement;
-import ai.grakn.kb.internal.structure.Shard;
 import ai.grakn.kb.internal.structure.VertexElement;
 import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.structure.Direction;
@@ -48,13 +47,8 @@ import java.util.stream.Stream;
  *
  */
 public abstract class ConceptImpl implements Concept, ConceptVertex, ContainsTxCache {
-    //WARNING: DO not flush the current shard into the central cache. It is not safe to do so in a concurrent environment
-    private final Cache<Shard> currentShard = new Cache<>(Cacheable.shard(), () -> {
-        String currentShardId = vertex().property(Schema.VertexProperty.CURRENT_SHARD);
-        Vertex shardVertex = vertex().tx().getTinkerTraversal().V().has(Schema.VertexProperty.ID.name(), currentShardId).next();
-        return vertex().tx().factory().buildShard(shardVertex);
-    });
-    private final Cache<ConceptId> conceptId = new Cache<>(Cacheable.conceptId(), () -> ConceptId.of(vertex().property(Schema.VertexProperty.ID)));
+    //The id of a vertex never changes, so it can be kept by the concept even when the concept is shared
+    private final Cache<ConceptId> conceptId = Cache.createInstanceCache(Cacheable.conceptId(), () -> ConceptId.of(vertex().property(Schema.VertexProperty.ID)));
     private final VertexElement vertexElement;
 
     @SuppressWarnings("unchecked")
@@ -194,22 +188,6 @@ public abstract class ConceptImpl implements Concept, ConceptVertex, ContainsTxC
     }
 
     //----------------------------------- Sharding Functionality
-    public void createShard(){
-        VertexElement shardVertex = vertex().tx().addVertex(Schema.BaseType.SHARD);
-        Shard shard = vertex().tx().factory().buildShard(this, shardVertex);
-        vertex().property(Schema.VertexProperty.CURRENT_SHARD, shard.id());
-        currentShard.set(shard);
-    }
-
-    public Stream<Shard> shards(){
-        return vertex().getEdgesOfType(Direction.IN, Schema.EdgeLabel.SHARD).map(edge ->
-                vertex().tx().factory().buildShard(edge.source()));
-    }
-
-    public Shard currentShard(){
-        return currentShard.get();
-    }
-
     public long getShardCount(){
         Long value = vertex().property(Schema.VertexProperty.SHARD_COUNT);
         if(value == null) return 0L;
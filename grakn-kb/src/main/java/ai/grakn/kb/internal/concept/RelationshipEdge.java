@@ -53,17 +53,17 @@ import java.util.stream.Stream;
 public class RelationshipEdge implements RelationshipStructure {
     private final EdgeElement edgeElement;
 
-    private final Cache<RelationshipType> relationType = new Cache<>(Cacheable.concept(), () ->
+    private final Cache<RelationshipType> relationType = Cache.createInstanceCache(Cacheable.concept(), () ->
             edge().tx().getSchemaConcept(LabelId.of(edge().property(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID))));
 
-    private final Cache<Role> ownerRole = new Cache<>(Cacheable.concept(), () -> edge().tx().getSchemaConcept(LabelId.of(
+    private final Cache<Role> ownerRole = Cache.createInstanceCache(Cacheable.concept(), () -> edge().tx().getSchemaConcept(LabelId.of(
             edge().property(Schema.EdgeProperty.RELATIONSHIP_ROLE_OWNER_LABEL_ID))));
 
-    private final Cache<Role> valueRole = new Cache<>(Cacheable.concept(), () -> edge().tx().getSchemaConcept(LabelId.of(
+    private final Cache<Role> valueRole = Cache.createInstanceCache(Cacheable.concept(), () -> edge().tx().getSchemaConcept(LabelId.of(
             edge().property(Schema.EdgeProperty.RELATIONSHIP_ROLE_VALUE_LABEL_ID))));
 
-    private final Cache<Thing> owner = new Cache<>(Cacheable.concept(), () -> edge().tx().factory().buildConcept(edge().source()));
-    private final Cache<Thing> value = new Cache<>(Cacheable.concept(), () -> edge().tx().factory().buildConcept(edge().target()));
+    private final Cache<Thing> owner = Cache.createInstanceCache(Cacheable.concept(), () -> edge().tx().factory().buildConcept(edge().source()));
+    private final Cache<Thing> value = Cache.createInstanceCache(Cacheable.concept(), () -> edge().tx().factory().buildConcept(edge().target()));
 
     RelationshipEdge(EdgeElement edgeElement) {
         this.edgeElement = edgeElement;
@@ -162,6 +162,10 @@ public class RelationshipEdge implements RelationshipStructure {
 
     @Override
     public void delete() {
+        if(edge().tx().maintainsDegrees()) {
+            edge().tx().changedDegree(owner(), type(), -1);
+            edge().tx().changedDegree(value(), type(), -1);
+        }
         edge().delete();
     }
 
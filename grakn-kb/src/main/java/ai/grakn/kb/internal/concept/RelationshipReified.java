@@ -90,6 +90,15 @@ public class RelationshipReified extends ThingImpl<Relationship, RelationshipTyp
         vertex().tx().putShortcutEdge(thing, this, role);
     }
 
+    @Override
+    public void delete() {
+        //The roles played in this relationship are deleted together with it
+        if(vertex().tx().maintainsDegrees()) {
+            castingsRelation().forEach(casting -> vertex().tx().changedDegree(casting.getInstance(), type(), -1));
+        }
+        super.delete();
+    }
+
     /**
      * Sets the internal hash in order to perform a faster lookup
      */
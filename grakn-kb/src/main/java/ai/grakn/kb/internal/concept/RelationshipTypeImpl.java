@@ -46,7 +46,7 @@ import java.util.stream.Stream;
  *
  */
 public class RelationshipTypeImpl extends TypeImpl<RelationshipType, Relationship> implements RelationshipType {
-    private final Cache<Set<Role>> cachedRelates = new Cache<>(Cacheable.set(), () -> this.<Role>neighbours(Direction.OUT, Schema.EdgeLabel.RELATES).collect(Collectors.toSet()));
+    private final Cache<Set<Role>> cachedRelates = Cache.createSessionCache(() -> vertex().tx().txCache(), Cacheable.set(), () -> this.<Role>neighbours(Direction.OUT, Schema.EdgeLabel.RELATES).collect(Collectors.toSet()));
 
     RelationshipTypeImpl(VertexElement vertexElement) {
         super(vertexElement);
@@ -62,12 +62,6 @@ public class RelationshipTypeImpl extends TypeImpl<RelationshipType, Relationshi
                 (vertex, type) -> vertex().tx().factory().buildRelation(vertex, type), true);
     }
 
-    @Override
-    public void txCacheFlush(){
-        super.txCacheFlush();
-        cachedRelates.flush();
-    }
-
     @Override
     public void txCacheClear(){
         super.txCacheClear();
@@ -50,8 +50,8 @@ import java.util.stream.Stream;
  *
  */
 public class RoleImpl extends SchemaConceptImpl<Role> implements Role {
-    private final Cache<Set<Type>> cachedDirectPlayedByTypes = new Cache<>(Cacheable.set(), () -> this.<Type>neighbours(Direction.IN, Schema.EdgeLabel.PLAYS).collect(Collectors.toSet()));
-    private final Cache<Set<RelationshipType>> cachedRelationTypes = new Cache<>(Cacheable.set(), () -> this.<RelationshipType>neighbours(Direction.IN, Schema.EdgeLabel.RELATES).collect(Collectors.toSet()));
+    private final Cache<Set<Type>> cachedDirectPlayedByTypes = Cache.createSessionCache(() -> vertex().tx().txCache(), Cacheable.set(), () -> this.<Type>neighbours(Direction.IN, Schema.EdgeLabel.PLAYS).collect(Collectors.toSet()));
+    private final Cache<Set<RelationshipType>> cachedRelationTypes = Cache.createSessionCache(() -> vertex().tx().txCache(), Cacheable.set(), () -> this.<RelationshipType>neighbours(Direction.IN, Schema.EdgeLabel.RELATES).collect(Collectors.toSet()));
 
     RoleImpl(VertexElement vertexElement) {
         super(vertexElement);
@@ -61,13 +61,6 @@ public class RoleImpl extends SchemaConceptImpl<Role> implements Role {
         super(vertexElement, type, isImplicit);
     }
 
-    @Override
-    public void txCacheFlush(){
-        super.txCacheFlush();
-        cachedDirectPlayedByTypes.flush();
-        cachedRelationTypes.flush();
-    }
-
     @Override
     public void txCacheClear(){
         super.txCacheClear();
@@ -30,9 +30,11 @@ import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.exception.PropertyNotUniqueException;
 import ai.grakn.kb.internal.cache.Cache;
 import ai.grakn.kb.internal.cache.Cacheable;
+import ai.grakn.kb.internal.structure.Shard;
 import ai.grakn.kb.internal.structure.VertexElement;
 import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -59,11 +61,17 @@ import static scala.tools.scalap.scalax.rules.scalasig.NoSymbol.isAbstract;
  *           For example an {@link EntityType} or {@link RelationshipType} or {@link Role}
  */
 public abstract class SchemaConceptImpl<T extends SchemaConcept> extends ConceptImpl implements SchemaConcept {
-    private final Cache<Label> cachedLabel = new Cache<>(Cacheable.label(), () ->  Label.of(vertex().property(Schema.VertexProperty.SCHEMA_LABEL)));
-    private final Cache<LabelId> cachedLabelId = new Cache<>(Cacheable.labelId(), () -> LabelId.of(vertex().property(Schema.VertexProperty.LABEL_ID)));
-    private final Cache<T> cachedSuperType = new Cache<>(Cacheable.concept(), () -> this.<T>neighbours(Direction.OUT, Schema.EdgeLabel.SUB).findFirst().orElse(null));
-    private final Cache<Set<T>> cachedDirectSubTypes = new Cache<>(Cacheable.set(), () -> this.<T>neighbours(Direction.IN, Schema.EdgeLabel.SUB).collect(Collectors.toSet()));
-    private final Cache<Boolean> cachedIsImplicit = new Cache<>(Cacheable.bool(), () -> vertex().propertyBoolean(Schema.VertexProperty.IS_IMPLICIT));
+    private final Cache<Label> cachedLabel = Cache.createSessionCache(() -> vertex().tx().txCache(), Cacheable.label(), () ->  Label.of(vertex().property(Schema.VertexProperty.SCHEMA_LABEL)));
+    private final Cache<LabelId> cachedLabelId = Cache.createSessionCache(() -> vertex().tx().txCache(), Cacheable.labelId(), () -> LabelId.of(vertex().property(Schema.VertexProperty.LABEL_ID)));
+    private final Cache<T> cachedSuperType = Cache.createSessionCache(() -> vertex().tx().txCache(), Cacheable.concept(), () -> this.<T>neighbours(Direction.OUT, Schema.EdgeLabel.SUB).findFirst().orElse(null));
+    private final Cache<Set<T>> cachedDirectSubTypes = Cache.createSessionCache(() -> vertex().tx().txCache(), Cacheable.set(), () -> this.<T>neighbours(Direction.IN, Schema.EdgeLabel.SUB).collect(Collectors.toSet()));
+    private final Cache<Boolean> cachedIsImplicit = Cache.createSessionCache(() -> vertex().tx().txCache(), Cacheable.bool(), () -> vertex().propertyBoolean(Schema.VertexProperty.IS_IMPLICIT));
+    //WARNING: DO not flush the current shard into the central cache. It is not safe to do so in a concurrent environment
+    private final Cache<Shard> currentShard = Cache.createTxCache(() -> vertex().tx().txCache(), Cacheable.shard(), () -> {
+        String currentShardId = vertex().property(Schema.VertexProperty.CURRENT_SHARD);
+        Vertex shardVertex = vertex().tx().getTinkerTraversal().V().has(Schema.VertexProperty.ID.name(), currentShardId).next();
+        return vertex().tx().factory().buildShard(shardVertex);
+    });
 
     SchemaConceptImpl(VertexElement vertexElement) {
         super(vertexElement);
@@ -111,15 +119,6 @@ public abstract class SchemaConceptImpl<T extends SchemaConcept> extends Concept
         return cachedLabel.get();
     }
 
-    /**
-     * Flushes the internal transaction caches so they can refresh with persisted graph
-     */
-    public void txCacheFlush(){
-        cachedSuperType.flush();
-        cachedDirectSubTypes.flush();
-        cachedIsImplicit.flush();
-    }
-
     @Override
     public void txCacheClear(){
         cachedSuperType.clear();
@@ -354,4 +353,21 @@ public abstract class SchemaConceptImpl<T extends SchemaConcept> extends Concept
         //noinspection unchecked
         return (SchemaConceptImpl<X>) schemaConcept;
     }
+
+    //----------------------------------- Sharding Functionality
+    public void createShard(){
+        VertexElement shardVertex = vertex().tx().addVertex(Schema.BaseType.SHARD);
+        Shard shard = vertex().tx().factory().buildShard(this, shardVertex);
+        vertex().property(Schema.VertexProperty.CURRENT_SHARD, shard.id());
+        currentShard.set(shard);
+    }
+
+    public Stream<Shard> shards(){
+        return vertex().getEdgesOfType(Direction.IN, Schema.EdgeLabel.SHARD).map(edge ->
+                vertex().tx().factory().buildShard(edge.source()));
+    }
+
+    public Shard currentShard(){
+        return currentShard.get();
+    }
 }
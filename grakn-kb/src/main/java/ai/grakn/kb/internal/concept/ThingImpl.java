@@ -68,13 +68,13 @@ import java.util.stream.Stream;
  *           For example {@link ai.grakn.concept.EntityType} or {@link RelationshipType}
  */
 public abstract class ThingImpl<T extends Thing, V extends Type> extends ConceptImpl implements Thing {
-    private final Cache<Label> cachedInternalType = new Cache<>(Cacheable.label(), () -> {
+    private final Cache<Label> cachedInternalType = Cache.createInstanceCache(Cacheable.label(), () -> {
         int typeId = vertex().property(Schema.VertexProperty.THING_TYPE_LABEL_ID);
         Type type = vertex().tx().getConcept(Schema.VertexProperty.LABEL_ID, typeId);
         return type.getLabel();
     });
 
-    private final Cache<V> cachedType = new Cache<>(Cacheable.concept(), () -> {
+    private final Cache<V> cachedType = Cache.createInstanceCache(Cacheable.concept(), () -> {
         Optional<EdgeElement> typeEdge = vertex().getEdgesOfType(Direction.OUT, Schema.EdgeLabel.ISA).
                 flatMap(edge -> edge.target().getEdgesOfType(Direction.OUT, Schema.EdgeLabel.SHARD)).findAny();
 
@@ -101,6 +101,8 @@ public abstract class ThingImpl<T extends Thing, V extends Type> extends Concept
     public void delete() {
         Set<Relationship> relationships = castingsInstance().map(Casting::getRelation).collect(Collectors.toSet());
 
+        if(vertex().tx().maintainsDegrees()) logRemovedRoles();
+
         vertex().tx().txCache().removedInstance(type().getId());
         deleteNode();
 
@@ -115,6 +117,20 @@ public abstract class ThingImpl<T extends Thing, V extends Type> extends Concept
         });
     }
 
+    /**
+     * Logs the roles played by this {@link Thing} and the roles played in the {@link Relationship}s stored as edges
+     * on it as removed, because they are deleted together with it
+     */
+    private void logRemovedRoles(){
+        castingsInstance().forEach(casting -> vertex().tx().changedDegree(this, casting.getRelationType(), -1));
+
+        vertex().getEdgesOfType(Direction.BOTH, Schema.EdgeLabel.RESOURCE).forEach(edge -> {
+            Relationship relationship = vertex().tx().factory().buildRelation(edge);
+            relationship.rolePlayers().forEach(rolePlayer ->
+                    vertex().tx().changedDegree(rolePlayer, relationship.type(), -1));
+        });
+    }
+
     @Override
     public void txCacheClear(){
         //TODO: Clearing the caches at th Thing Level may not be needed. Need to experiment
@@ -252,9 +268,18 @@ public abstract class ThingImpl<T extends Thing, V extends Type> extends Concept
             throw GraknTxOperationException.hasNotAllowed(this, attribute);
         }
 
+        //The edge may already exist, in which case no roles are added
+        boolean newEdge = vertex().tx().maintainsDegrees() &&
+                neighbours(Direction.OUT, Schema.EdgeLabel.RESOURCE).noneMatch(attribute::equals);
+
         EdgeElement resourceEdge = putEdge(AttributeImpl.from(attribute), Schema.EdgeLabel.RESOURCE);
         vertex().tx().factory().buildRelation(resourceEdge, hasResource, hasResourceOwner, hasResourceValue);
 
+        if(newEdge) {
+            vertex().tx().changedDegree(this, hasResource, 1);
+            vertex().tx().changedDegree(attribute, hasResource, 1);
+        }
+
         return getThis();
     }
 
@@ -64,11 +64,11 @@ import java.util.stream.Stream;
 public class TypeImpl<T extends Type, V extends Thing> extends SchemaConceptImpl<T> implements Type{
     protected final Logger LOG = LoggerFactory.getLogger(TypeImpl.class);
 
-    private final Cache<Boolean> cachedIsAbstract = new Cache<>(Cacheable.bool(), () -> vertex().propertyBoolean(Schema.VertexProperty.IS_ABSTRACT));
-    private final Cache<Set<T>> cachedShards = new Cache<>(Cacheable.set(), () -> this.<T>neighbours(Direction.IN, Schema.EdgeLabel.SHARD).collect(Collectors.toSet()));
+    private final Cache<Boolean> cachedIsAbstract = Cache.createSessionCache(() -> vertex().tx().txCache(), Cacheable.bool(), () -> vertex().propertyBoolean(Schema.VertexProperty.IS_ABSTRACT));
+    private final Cache<Set<T>> cachedShards = Cache.createSessionCache(() -> vertex().tx().txCache(), Cacheable.set(), () -> this.<T>neighbours(Direction.IN, Schema.EdgeLabel.SHARD).collect(Collectors.toSet()));
 
     //This cache is different in order to keep track of which plays are required
-    private final Cache<Map<Role, Boolean>> cachedDirectPlays = new Cache<>(Cacheable.map(), () -> {
+    private final Cache<Map<Role, Boolean>> cachedDirectPlays = Cache.createSessionCache(() -> vertex().tx().txCache(), Cacheable.map(), () -> {
         Map<Role, Boolean> roleTypes = new HashMap<>();
 
         vertex().getEdgesOfType(Direction.OUT, Schema.EdgeLabel.PLAYS).forEach(edge -> {
@@ -92,17 +92,6 @@ public class TypeImpl<T extends Type, V extends Thing> extends SchemaConceptImpl
         super(vertexElement, superType, isImplicit);
     }
 
-    /**
-     * Flushes the internal transaction caches so they can refresh with persisted graph
-     */
-    @Override
-    public void txCacheFlush(){
-        super.txCacheFlush();
-        cachedIsAbstract.flush();
-        cachedShards.flush();
-        cachedDirectPlays.flush();
-    }
-
     /**
      * Clears the internal transaction caches
      */
@@ -42,10 +42,10 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
  */
 public class Casting {
     private final EdgeElement edgeElement;
-    private final Cache<Role> cachedRoleType = new Cache<>(Cacheable.concept(), () -> (Role) edge().tx().getSchemaConcept(LabelId.of(edge().property(Schema.EdgeProperty.ROLE_LABEL_ID))));
-    private final Cache<RelationshipType> cachedRelationType = new Cache<>(Cacheable.concept(), () -> (RelationshipType) edge().tx().getSchemaConcept(LabelId.of(edge().property(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID))));
-    private final Cache<Thing> cachedInstance = new Cache<>(Cacheable.concept(), () -> edge().tx().factory().buildConcept(edge().target()));
-    private final Cache<Relationship> cachedRelation = new Cache<>(Cacheable.concept(), () -> edge().tx().factory().buildConcept(edge().source()));
+    private final Cache<Role> cachedRoleType = Cache.createInstanceCache(Cacheable.concept(), () -> (Role) edge().tx().getSchemaConcept(LabelId.of(edge().property(Schema.EdgeProperty.ROLE_LABEL_ID))));
+    private final Cache<RelationshipType> cachedRelationType = Cache.createInstanceCache(Cacheable.concept(), () -> (RelationshipType) edge().tx().getSchemaConcept(LabelId.of(edge().property(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID))));
+    private final Cache<Thing> cachedInstance = Cache.createInstanceCache(Cacheable.concept(), () -> edge().tx().factory().buildConcept(edge().target()));
+    private final Cache<Relationship> cachedRelation = Cache.createInstanceCache(Cacheable.concept(), () -> edge().tx().factory().buildConcept(edge().source()));
 
     public Casting(EdgeElement edgeElement){
         this.edgeElement = edgeElement;
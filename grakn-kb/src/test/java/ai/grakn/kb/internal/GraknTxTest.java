@@ -24,9 +24,11 @@ import ai.grakn.GraknSession;
 import ai.grakn.GraknTxType;
 import ai.grakn.concept.Attribute;
 import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
+import ai.grakn.concept.Relationship;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.concept.Role;
@@ -38,11 +40,14 @@ import ai.grakn.kb.internal.structure.Shard;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.VerificationException;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.hamcrest.core.IsInstanceOf;
 import org.junit.Test;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -56,6 +61,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
@@ -397,5 +403,45 @@ public class GraknTxTest extends TxTestBase {
             graph.commit();
         }
     }
-}
 
+    @Test
+    public void whenMaintainingDegrees_EnsureRolesGainedAndLostAreLogged(){
+        assertFalse(tx.maintainsDegrees());
+
+        Properties properties = new Properties();
+        properties.putAll(tx.getProperties());
+        properties.setProperty(GraknTxAbstract.MAINTAIN_DEGREES, "true");
+        GraknTxAbstract<?> degreesTx = new GraknTxTinker(TinkerGraph.open(), "maintaining-degrees", Grakn.IN_MEMORY, properties);
+        degreesTx.openTransaction(GraknTxType.WRITE);
+        assertTrue(degreesTx.maintainsDegrees());
+
+        Role role1 = degreesTx.putRole("role 1");
+        Role role2 = degreesTx.putRole("role 2");
+        RelationshipType relationshipType = degreesTx.putRelationshipType("relationship type").relates(role1).relates(role2);
+        AttributeType<String> attributeType = degreesTx.putAttributeType("attribute type", AttributeType.DataType.STRING);
+        EntityType entityType = degreesTx.putEntityType("entity type").plays(role1).plays(role2).attribute(attributeType);
+        RelationshipType hasAttribute = degreesTx.getRelationshipType(Schema.ImplicitType.HAS.getLabel(attributeType.getLabel()).getValue());
+
+        Entity e1 = entityType.addEntity();
+        Entity e2 = entityType.addEntity();
+        Attribute<String> attribute = attributeType.putAttribute("value");
+        Relationship relationship = relationshipType.addRelationship().addRolePlayer(role1, e1).addRolePlayer(role2, e2);
+        e1.attribute(attribute);
+        e1.attribute(attribute);
+
+        Map<ConceptId, Map<ConceptId, Long>> degreeChanges = degreesTx.txCache().getDegreeChanges();
+        assertEquals(2L, degreeChanges.get(relationshipType.getId()).size());
+        assertEquals(1L, (long) degreeChanges.get(relationshipType.getId()).get(e1.getId()));
+        assertEquals(1L, (long) degreeChanges.get(relationshipType.getId()).get(e2.getId()));
+        assertEquals(1L, (long) degreeChanges.get(hasAttribute.getId()).get(e1.getId()));
+        assertEquals(1L, (long) degreeChanges.get(hasAttribute.getId()).get(attribute.getId()));
+
+        relationship.delete();
+        e1.delete();
+
+        assertFalse(degreeChanges.containsKey(relationshipType.getId()));
+        assertFalse(degreeChanges.containsKey(hasAttribute.getId()));
+
+        degreesTx.close();
+    }
+}
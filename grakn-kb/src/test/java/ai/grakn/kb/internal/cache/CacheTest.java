@@ -0,0 +1,143 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.GraknTxType;
+import ai.grakn.kb.internal.GraknTxAbstract;
+import org.junit.Test;
+
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class CacheTest {
+
+    @Test
+    public void whenGettingAnInstanceCacheTwice_TheDatabaseIsReadOnce() {
+        AtomicInteger reads = new AtomicInteger();
+        Cache<Boolean> cache = Cache.createInstanceCache(Cacheable.bool(), () -> {
+            reads.incrementAndGet();
+            return true;
+        });
+
+        assertEquals(true, cache.get());
+        assertEquals(true, cache.get());
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    public void whenSettingAnInstanceCache_TheValueIsReturnedWithoutReadingTheDatabase() {
+        AtomicInteger reads = new AtomicInteger();
+        Cache<Boolean> cache = Cache.createInstanceCache(Cacheable.bool(), () -> {
+            reads.incrementAndGet();
+            return true;
+        });
+
+        cache.set(false);
+
+        assertEquals(false, cache.get());
+        assertEquals(0, reads.get());
+    }
+
+    @Test
+    public void whenClearingAnInstanceCache_TheDatabaseIsReadAgain() {
+        AtomicInteger reads = new AtomicInteger();
+        Cache<Boolean> cache = Cache.createInstanceCache(Cacheable.bool(), () -> {
+            reads.incrementAndGet();
+            return true;
+        });
+
+        cache.get();
+        cache.clear();
+        cache.get();
+
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void whenAnInstanceCacheIsReadFromAnotherThread_TheValueIsNotBoundToTheThread() throws ExecutionException, InterruptedException {
+        AtomicInteger reads = new AtomicInteger();
+        Cache<Boolean> cache = Cache.createInstanceCache(Cacheable.bool(), () -> {
+            reads.incrementAndGet();
+            return true;
+        });
+        cache.set(false);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(false, pool.submit(cache::get).get());
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(0, reads.get());
+    }
+
+    @Test
+    public void whenReadingASessionCacheOutsideOfAnOpenTransaction_TheValueIsNotKept() {
+        TxCache txCache = newTxCache();
+        AtomicInteger reads = new AtomicInteger();
+        Cache<Boolean> cache = Cache.createSessionCache(() -> txCache, Cacheable.bool(), () -> {
+            reads.incrementAndGet();
+            return true;
+        });
+
+        cache.get();
+        cache.get();
+        assertEquals(2, reads.get());
+
+        txCache.openTx(GraknTxType.WRITE);
+        cache.get();
+        cache.get();
+        assertEquals(3, reads.get());
+
+        txCache.closeTx("closed");
+        cache.get();
+        assertEquals(4, reads.get());
+    }
+
+    @Test
+    public void whenFlushingASessionCache_TheValueIsSharedWithTheNextTransaction() {
+        TxCache txCache = newTxCache();
+        AtomicInteger reads = new AtomicInteger();
+        Cache<Boolean> cache = Cache.createSessionCache(() -> txCache, Cacheable.bool(), () -> {
+            reads.incrementAndGet();
+            return true;
+        });
+
+        txCache.openTx(GraknTxType.WRITE);
+        cache.set(false);
+        txCache.flushTrackedCaches();
+        txCache.closeTx("committed");
+
+        txCache.openTx(GraknTxType.WRITE);
+        assertEquals(false, cache.get());
+        txCache.flushTrackedCaches();
+        assertEquals(0, reads.get());
+    }
+
+    private static TxCache newTxCache(){
+        Properties properties = new Properties();
+        properties.put(GraknTxAbstract.NORMAL_CACHE_TIMEOUT_MS, "600000");
+        return new TxCache(new GlobalCache(properties));
+    }
+}
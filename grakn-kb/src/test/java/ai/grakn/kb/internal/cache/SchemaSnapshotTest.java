@@ -0,0 +1,77 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.EntityType;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.LabelId;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.kb.internal.TxTestBase;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SchemaSnapshotTest extends TxTestBase {
+
+    @Test
+    public void whenPublishingALargeSchema_AllLabelsAndSchemaConceptsAreKept(){
+        Map<Label, SchemaConcept> types = new HashMap<>();
+        Map<Label, LabelId> labels = new HashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            EntityType type = tx.putEntityType("type-" + i);
+            types.put(type.getLabel(), type);
+            labels.put(type.getLabel(), type.getLabelId());
+        }
+
+        SchemaSnapshot snapshot = SchemaSnapshot.empty().next(
+                Collections.emptySet(), Collections.emptySet(), types, labels);
+
+        assertEquals(types.size(), snapshot.schemaConcepts().size());
+        types.forEach((label, type) -> assertEquals(type, snapshot.getSchemaConcept(label)));
+        labels.forEach((label, labelId) -> assertEquals(labelId, snapshot.getLabelId(label)));
+        assertTrue(snapshot.isUnchangedBy(Collections.emptySet(), types, labels));
+    }
+
+    @Test
+    public void whenDroppingTheSchemaConcepts_LabelsAreKeptUnderANewVersion(){
+        EntityType type = tx.putEntityType("My Type");
+        SchemaSnapshot snapshot = SchemaSnapshot.empty().next(Collections.emptySet(), Collections.emptySet(),
+                Collections.singletonMap(type.getLabel(), type), Collections.singletonMap(type.getLabel(), type.getLabelId()));
+
+        SchemaSnapshot dropped = snapshot.withoutSchemaConcepts();
+
+        assertNotEquals(snapshot.version(), dropped.version());
+        assertNull(dropped.getSchemaConcept(type.getLabel()));
+        assertNull(dropped.getSchemaConcept(type.getId()));
+        assertNotNull(dropped.getLabelId(type.getLabel()));
+    }
+
+    @Test
+    public void whenCreatingSnapshotsOfDifferentKnowledgeBases_TheirVersionsAreDifferent(){
+        assertNotEquals(SchemaSnapshot.empty().version(), SchemaSnapshot.empty().version());
+    }
+}
@@ -19,6 +19,7 @@
 package ai.grakn.kb.internal.cache;
 
 import ai.grakn.Grakn;
+import ai.grakn.GraknTx;
 import ai.grakn.GraknTxType;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Entity;
@@ -40,7 +41,10 @@ import mjson.Json;
 import org.hamcrest.Matcher;
 import org.junit.Test;
 
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 
 import static java.util.stream.Collectors.toSet;
@@ -50,6 +54,8 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -302,6 +308,94 @@ public class TxCacheTest extends TxTestBase {
         assertTxBoundConceptMatches(rel, t -> t.relates().collect(toSet()), containsInAnyOrder(rol1));
     }
 
+    @Test
+    public void whenOpeningTransaction_SchemaSnapshotIsSharedNotCopied(){
+        tx.putEntityType("My Type");
+        tx.commit();
+
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.READ);
+        EntityType type = tx.getEntityType("My Type");
+        assertTrue(tx.txCache().isTypeCached(type.getLabel()));
+        assertThat(tx.txCache().getSchemaConceptCache().keySet(), empty());
+        assertThat(tx.txCache().getLabelCache().keySet(), empty());
+    }
+
+    @Test
+    public void whenClosingTransactionWithoutSchemaChanges_SchemaSnapshotIsNotRepublished(){
+        tx.putEntityType("My Type");
+        tx.commit();
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.READ);
+        Optional<Long> version = tx.admin().getSchemaVersion();
+        tx.close();
+
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.WRITE);
+        tx.getEntityType("My Type").addEntity();
+        tx.commit();
+
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.READ);
+        assertTrue(version.isPresent());
+        assertEquals(version, tx.admin().getSchemaVersion());
+    }
+
+    @Test
+    public void whenDeletingTypeAndCommitting_SchemaVersionChanges(){
+        tx.putEntityType("My Type");
+        tx.commit();
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.WRITE);
+        Optional<Long> version = tx.admin().getSchemaVersion();
+
+        tx.getEntityType("My Type").delete();
+        assertEquals(Optional.empty(), tx.admin().getSchemaVersion());
+        tx.commit();
+
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.READ);
+        assertTrue(tx.admin().getSchemaVersion().isPresent());
+        assertNotEquals(version, tx.admin().getSchemaVersion());
+    }
+
+    @Test
+    public void whenDeletingTypeAndCommitting_TypeIsRemovedFromSchemaSnapshot(){
+        EntityType type = tx.putEntityType("My Type");
+        tx.commit();
+
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.WRITE);
+        assertTrue(tx.txCache().isTypeCached(type.getLabel()));
+        tx.getEntityType("My Type").delete();
+        assertFalse(tx.txCache().isTypeCached(type.getLabel()));
+        assertFalse(tx.txCache().isConceptCached(type.getId()));
+        tx.commit();
+
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.WRITE);
+        assertFalse(tx.txCache().isTypeCached(type.getLabel()));
+        assertNull(tx.getEntityType("My Type"));
+    }
+
+    @Test
+    public void whenCommittingTransactionStartedFromAnOlderSchema_SchemaConceptsAreReadFromTheGraphAgain() throws Exception {
+        EntityType type = tx.putEntityType("My Type");
+        tx.commit();
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.WRITE);
+        tx.getEntityType("My Type").addEntity();
+
+        //Change the schema in another transaction while this one is open
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            pool.submit(() -> {
+                GraknTx other = session.open(GraknTxType.WRITE);
+                other.putEntityType("Other Type");
+                other.commit();
+            }).get();
+        } finally {
+            pool.shutdown();
+        }
+        tx.commit();
+
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.READ);
+        assertFalse(tx.txCache().isTypeCached(type.getLabel()));
+        assertTrue(tx.txCache().isLabelCached(type.getLabel()));
+        assertEquals(type, tx.getEntityType("My Type"));
+    }
+
     /**
      * Helper method which will check that the cache and the provided type have the same expected values.
      *
@@ -121,23 +121,24 @@ public class Migrator {
         this.startTime = System.currentTimeMillis();
         this.batchSize = batchSize;
 
-        BatchMutatorClient loader = new BatchMutatorClient(keyspace, uri, recordMigrationStates());
-        loader.setBatchSize(batchSize);
-        loader.setNumberActiveTasks(numberActiveTasks);
-        loader.setRetryPolicy(retry);
-        loader.setTaskCompletionConsumer(json -> {
-            if (json.has(STACK_TRACE) && json.at(STACK_TRACE).isString()) {
-                System.err.println(json.at(STACK_TRACE).asString());
-            }
-        });
-
-        converter
-                .flatMap(d -> template(template, d))
-                .forEach(q -> {
-                    numberQueriesSubmitted.incrementAndGet();
-                    loader.add(q);
-                });
-        loader.waitToFinish();
+        try(BatchMutatorClient loader = new BatchMutatorClient(keyspace, uri, recordMigrationStates())) {
+            loader.setBatchSize(batchSize);
+            loader.setNumberActiveTasks(numberActiveTasks);
+            loader.setRetryPolicy(retry);
+            loader.setTaskCompletionConsumer(json -> {
+                if (json.has(STACK_TRACE) && json.at(STACK_TRACE).isString()) {
+                    System.err.println(json.at(STACK_TRACE).asString());
+                }
+            });
+
+            converter
+                    .flatMap(d -> template(template, d))
+                    .forEach(q -> {
+                        numberQueriesSubmitted.incrementAndGet();
+                        loader.add(q);
+                    });
+            loader.waitToFinish();
+        }
     }
 
     /**
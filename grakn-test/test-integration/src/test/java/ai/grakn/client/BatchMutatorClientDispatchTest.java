@@ -0,0 +1,173 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.client;
+
+import ai.grakn.engine.TaskId;
+import ai.grakn.graql.Query;
+import mjson.Json;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static ai.grakn.client.BatchMutatorClient.MAX_TASKS_PER_REQUEST;
+import static ai.grakn.client.BatchMutatorClient.TARGET_REQUEST_LATENCY;
+import static ai.grakn.client.BatchMutatorClient.nextTasksPerRequest;
+import static ai.grakn.graql.Graql.insert;
+import static ai.grakn.graql.Graql.var;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchMutatorClientDispatchTest {
+
+    private static final Duration FAST = TARGET_REQUEST_LATENCY.dividedBy(2);
+    private static final Duration SLOW = TARGET_REQUEST_LATENCY.multipliedBy(2);
+
+    private final TaskClient taskClient = mock(TaskClient.class);
+
+    @Test
+    public void whenRequestsAreFastAndBatchesAreWaiting_SendMoreTasksPerRequest() {
+        assertEquals(2, nextTasksPerRequest(1, FAST, true));
+        assertEquals(MAX_TASKS_PER_REQUEST, nextTasksPerRequest(MAX_TASKS_PER_REQUEST, FAST, true));
+    }
+
+    @Test
+    public void whenRequestsAreFastAndNoBatchIsWaiting_KeepTheTasksPerRequest() {
+        assertEquals(4, nextTasksPerRequest(4, FAST, false));
+    }
+
+    @Test
+    public void whenRequestsAreSlow_HalveTheTasksPerRequest() {
+        assertEquals(4, nextTasksPerRequest(8, SLOW, true));
+        assertEquals(1, nextTasksPerRequest(1, SLOW, true));
+    }
+
+    @Test
+    public void whenEngineIsSlowToAnswer_AddingQueriesDoesNotWait() throws Exception {
+        CountDownLatch engineAnswers = new CountDownLatch(1);
+        when(taskClient.sendTasks(anyList())).thenAnswer(invocation -> {
+            engineAnswers.await();
+            return submitted(invocation.getArgument(0));
+        });
+        finishTasksStraightAway();
+
+        BatchMutatorClient loader = loader(json -> {}).setBatchSize(1).setNumberActiveTasks(2);
+
+        // Two batches are sent and two more can wait to be sent, while engine has not answered
+        CompletableFuture<Void> adding = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 4; i++) loader.add(query());
+        });
+        adding.get(10, TimeUnit.SECONDS);
+
+        engineAnswers.countDown();
+        assertTrue(loader.waitToFinish(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    public void whenBatchesAreWaiting_TheyAreSentTogether() {
+        AtomicInteger largestRequest = new AtomicInteger(0);
+        when(taskClient.sendTasks(anyList())).thenAnswer(invocation -> {
+            List<Json> tasks = invocation.getArgument(0);
+            largestRequest.accumulateAndGet(tasks.size(), Math::max);
+            return submitted(tasks);
+        });
+        finishTasksStraightAway();
+
+        BatchMutatorClient loader = loader(json -> {}).setBatchSize(1).setNumberActiveTasks(MAX_TASKS_PER_REQUEST);
+        for (int i = 0; i < 500; i++) loader.add(query());
+
+        assertTrue(loader.waitToFinish(Duration.ofSeconds(10)));
+        assertTrue(largestRequest.get() > 1);
+    }
+
+    @Test
+    public void whenARequestFails_TheBatchesFailAndOneTaskIsSentPerRequest() {
+        when(taskClient.sendTasks(anyList())).thenThrow(new RuntimeException("engine is down"));
+
+        AtomicInteger failed = new AtomicInteger(0);
+        BatchMutatorClient loader = loader(json -> {
+            if (json == null) failed.incrementAndGet();
+        }).setBatchSize(1);
+
+        loader.add(query());
+        loader.add(query());
+        loader.waitToFinish();
+
+        assertEquals(2, failed.get());
+        assertEquals(1, loader.getTasksPerRequest());
+    }
+
+    @Test
+    public void whenClosedWithATaskInFlight_TheTaskIsGivenUpAndTheConnectionsAreClosed() throws Exception {
+        when(taskClient.sendTasks(anyList())).thenAnswer(invocation -> submitted(invocation.getArgument(0)));
+        CountDownLatch waitingForTask = new CountDownLatch(1);
+        when(taskClient.waitForCompletion(any(), any())).thenAnswer(invocation -> {
+            waitingForTask.countDown();
+            return emptyList();
+        });
+
+        AtomicInteger failed = new AtomicInteger(0);
+        BatchMutatorClient loader = loader(json -> {
+            if (json == null) failed.incrementAndGet();
+        }).setBatchSize(1);
+
+        loader.add(query());
+        assertTrue(waitingForTask.await(10, TimeUnit.SECONDS));
+        loader.close();
+
+        assertTrue(loader.waitToFinish(Duration.ofSeconds(10)));
+        assertEquals(1, failed.get());
+        verify(taskClient).close();
+    }
+
+    private BatchMutatorClient loader(Consumer<Json> onCompletionOfTask) {
+        return new BatchMutatorClient("keyspace", "localhost:4567", taskClient, onCompletionOfTask);
+    }
+
+    private void finishTasksStraightAway() {
+        when(taskClient.waitForCompletion(any(), any())).thenAnswer(invocation -> {
+            Collection<TaskId> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> Json.object("id", id.getValue(), "status", "COMPLETED")).collect(toList());
+        });
+    }
+
+    private static List<Json> submitted(List<Json> tasks) {
+        return tasks.stream()
+                .map(task -> Json.object("code", 200, "id", UUID.randomUUID().toString()))
+                .collect(toList());
+    }
+
+    private static Query<?> query() {
+        return insert(var().isa("name_tag").has("name_tag_id", UUID.randomUUID().toString()));
+    }
+}
@@ -33,6 +33,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -44,7 +45,9 @@ import static java.util.stream.Stream.generate;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -83,6 +86,33 @@ public class BatchMutatorClientTest {
         assertEquals(1, tasksCompleted.get());
     }
 
+    @Test
+    public void whenTasksDoNotFinishInTime_WaitToFinishGivesUpOnThem(){
+        AtomicInteger tasksGivenUp = new AtomicInteger(0);
+
+        BatchMutatorClient loader = loader();
+        loader.setTaskCompletionConsumer((json) -> {
+            if (json == null) tasksGivenUp.incrementAndGet();
+        });
+
+        generate(this::query).limit(1).forEach(loader::add);
+
+        assertFalse(loader.waitToFinish(Duration.ZERO));
+
+        // Wait for the completion function to be called for the task given up on
+        loader.waitToFinish();
+        assertEquals(1, tasksGivenUp.get());
+    }
+
+    @Test
+    public void whenTasksFinishInTime_WaitToFinishReturnsTrue(){
+        BatchMutatorClient loader = loader();
+
+        generate(this::query).limit(10).forEach(loader::add);
+
+        assertTrue(loader.waitToFinish(Duration.ofMinutes(1)));
+    }
+
     @Test
     public void whenSending50InsertQueries_50EntitiesAreLoadedIntoGraph() {
         BatchMutatorClient loader = loader();
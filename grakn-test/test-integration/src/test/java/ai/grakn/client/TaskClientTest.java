@@ -25,6 +25,7 @@ import com.codahale.metrics.MetricRegistry;
 import static java.time.Instant.now;
 import static junit.framework.TestCase.assertFalse;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -44,8 +45,11 @@ import ai.grakn.engine.tasks.mock.ShortExecutionMockTask;
 import ai.grakn.exception.GraknBackendException;
 import ai.grakn.test.SparkContext;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import mjson.Json;
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -153,6 +157,31 @@ public class TaskClientTest {
         assertThat(status, equalTo(CREATED));
     }
 
+    @Test
+    public void whenWaitingForTasksAndOneHasFinished_TheClientReceivesOnlyTheFinishedTask(){
+        TaskState finishedTask = createTask().markCompleted();
+        TaskState runningTask = createTask();
+        when(manager.storage().getStates(any())).thenReturn(ImmutableMap.of(
+                finishedTask.getId(), finishedTask, runningTask.getId(), runningTask));
+
+        List<Json> finished = client.waitForCompletion(
+                ImmutableList.of(finishedTask.getId(), runningTask.getId()), Duration.ofSeconds(1));
+
+        assertThat(finished.size(), equalTo(1));
+        assertThat(finished.get(0).at("id").asString(), equalTo(finishedTask.getId().getValue()));
+        assertThat(finished.get(0).at("status").asString(), equalTo(TaskStatus.COMPLETED.name()));
+    }
+
+    @Test
+    public void whenWaitingForTasksAndNoneFinish_TheClientReceivesNothingAfterTheTimeout(){
+        TaskState runningTask = createTask();
+        when(manager.storage().getStates(any())).thenReturn(ImmutableMap.of(runningTask.getId(), runningTask));
+
+        List<Json> finished = client.waitForCompletion(ImmutableList.of(runningTask.getId()), Duration.ofMillis(200));
+
+        assertThat(finished, empty());
+    }
+
     @Test
     public void whenStoppingATask_TheTaskManagerIsToldToStopTheTask() {
         TaskId taskId = TaskId.generate();
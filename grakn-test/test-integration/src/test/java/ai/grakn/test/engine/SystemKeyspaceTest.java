@@ -7,6 +7,7 @@ import ai.grakn.concept.Concept;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.engine.SystemKeyspace;
+import ai.grakn.engine.data.RedisKeyspaceChannel;
 import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.test.EngineContext;
 import ai.grakn.util.ErrorMessage;
@@ -20,6 +21,7 @@ import org.junit.rules.ExpectedException;
 
 import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -171,6 +173,56 @@ public class SystemKeyspaceTest {
         assertFalse(engine.server().factory().systemKeyspace().containsKeyspace(deletedGraph.getKeyspace()));
     }
 
+    @Test
+    public void whenAKeyspaceIsKnownToExist_EnsureItIsNotLookedUpAgainInTheSystemGraph(){
+        SystemKeyspace systemKeyspace = new SystemKeyspace(engine.server().factory(), false);
+        systemKeyspace.ensureKeyspaceInitialised("c1");
+        assertTrue(systemKeyspace.containsKeyspace("c1"));
+
+        //Remove the keyspace from the system graph behind the back of the cache
+        cleanSystemKeySpaceGraph();
+
+        assertTrue(systemKeyspace.containsKeyspace("c1"));
+        assertFalse(new SystemKeyspace(engine.server().factory(), false).containsKeyspace("c1"));
+    }
+
+    @Test
+    public void whenAKeyspaceIsNotKnownToExist_EnsureItIsLookedUpAgainInTheSystemGraph(){
+        SystemKeyspace systemKeyspace = new SystemKeyspace(engine.server().factory(), false);
+        assertFalse(systemKeyspace.containsKeyspace("c2"));
+
+        //Create the keyspace as another engine would
+        new SystemKeyspace(engine.server().factory(), false).ensureKeyspaceInitialised("c2");
+
+        assertTrue(systemKeyspace.containsKeyspace("c2"));
+    }
+
+    @Test
+    public void whenAKeyspaceIsDeletedByAnotherEngine_EnsureItIsDroppedFromTheCache() throws InterruptedException {
+        SystemKeyspace systemKeyspace = new SystemKeyspace(engine.server().factory(), false);
+        SystemKeyspace otherSystemKeyspace = new SystemKeyspace(engine.server().factory(), false);
+
+        try (RedisKeyspaceChannel channel = RedisKeyspaceChannel.create(engine.getJedisPool());
+             RedisKeyspaceChannel otherChannel = RedisKeyspaceChannel.create(engine.getJedisPool())) {
+            systemKeyspace.shareDeletionsThrough(channel);
+            otherSystemKeyspace.shareDeletionsThrough(otherChannel);
+
+            //The subscriptions are made in the background so keep deleting until the deletion is received
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            boolean dropped = false;
+            while (!dropped && System.currentTimeMillis() < deadline) {
+                otherSystemKeyspace.ensureKeyspaceInitialised("c3");
+                assertTrue(systemKeyspace.containsKeyspace("c3"));
+
+                otherSystemKeyspace.deleteKeyspace("c3");
+                Thread.sleep(100);
+                dropped = !systemKeyspace.containsKeyspace("c3");
+            }
+
+            assertTrue("Deleted keyspace was not dropped from the cache of the other engine", dropped);
+        }
+    }
+
     private void setVersionInSystemGraph(String version){
         String versionResourceType = "system-version";
 
@@ -19,8 +19,10 @@
 package ai.grakn.test.engine.lock;
 
 import ai.grakn.engine.lock.JedisLock;
+import ai.grakn.engine.lock.JedisLockProvider;
 import ai.grakn.engine.lock.NonReentrantLock;
 import ai.grakn.test.EngineContext;
+import org.junit.AfterClass;
 import org.junit.ClassRule;
 import org.junit.Ignore;
 import org.junit.Rule;
@@ -60,10 +62,22 @@ public class LockTestIT {
         REDIS, NONREENTRANT;
     }
 
+    private static JedisLockProvider lockProvider = null;
+
+    @AfterClass
+    public static void closeLockProvider(){
+        if (lockProvider != null) lockProvider.close();
+    }
+
+    private static JedisLockProvider lockProvider(){
+        if (lockProvider == null) lockProvider = new JedisLockProvider(engineContext.getJedisPool());
+        return lockProvider;
+    }
+
     private Lock getLock(Locks lock, String lockName){
         switch (lock){
             case REDIS:
-                return new JedisLock(engineContext.getJedisPool(), lockName);
+                return lockProvider().getLock(lockName);
             case NONREENTRANT:
                 return new NonReentrantLock();
         }
@@ -72,7 +86,7 @@ public class LockTestIT {
 
     private Lock copy(Lock lock){
         if(lock instanceof JedisLock){
-            return new JedisLock(engineContext.getJedisPool(), ((JedisLock) lock).getLockName());
+            return lockProvider().getLock(((JedisLock) lock).getLockName());
         } else if(lock instanceof NonReentrantLock){
             return lock;
         }
@@ -0,0 +1,101 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.engine.postprocessing;
+
+import ai.grakn.Grakn;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Entity;
+import ai.grakn.concept.EntityType;
+import ai.grakn.concept.RelationshipType;
+import ai.grakn.concept.Role;
+import ai.grakn.engine.postprocessing.RebuildingDegreesTask;
+import ai.grakn.engine.tasks.connection.RedisCountStorage;
+import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.test.EngineContext;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import static ai.grakn.engine.TaskStatus.COMPLETED;
+import static ai.grakn.test.engine.tasks.BackgroundTaskTestUtils.waitForDoneStatus;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+
+public class RebuildingDegreesTaskTest {
+
+    @ClassRule
+    public static final EngineContext engine = EngineContext.startSingleQueueServer();
+
+    @Test
+    public void whenRebuildingDegrees_EnsureRedisHoldsTheRolesPlayedByEachThing(){
+        RedisCountStorage redis = engine.redis();
+        String keyspace = "rebuildingdegreeskeyspace";
+        ConceptId friendship;
+        ConceptId marriage;
+        String e1, e2, e3;
+
+        try(GraknTx graknTx = Grakn.session(engine.uri(), keyspace).open(GraknTxType.WRITE)){
+            Role friend = graknTx.putRole("friend");
+            Role spouse = graknTx.putRole("spouse");
+            RelationshipType friendshipType = graknTx.putRelationshipType("friendship").relates(friend);
+            RelationshipType marriageType = graknTx.putRelationshipType("marriage").relates(spouse);
+            EntityType person = graknTx.putEntityType("person").plays(friend).plays(spouse);
+
+            Entity entity1 = person.addEntity();
+            Entity entity2 = person.addEntity();
+            Entity entity3 = person.addEntity();
+            friendshipType.addRelationship().addRolePlayer(friend, entity1).addRolePlayer(friend, entity2);
+            friendshipType.addRelationship().addRolePlayer(friend, entity1).addRolePlayer(friend, entity3);
+            marriageType.addRelationship().addRolePlayer(spouse, entity1).addRolePlayer(spouse, entity2);
+
+            friendship = friendshipType.getId();
+            marriage = marriageType.getId();
+            e1 = entity1.getId().getValue();
+            e2 = entity2.getId().getValue();
+            e3 = entity3.getId().getValue();
+            graknTx.admin().commitNoLogs();
+        }
+
+        //Drifted degrees, and degrees left over by a rebuild which did not finish
+        redis.adjustCounts(RedisCountStorage.getKeyDegrees(keyspace, friendship), ImmutableMap.of(e1, 7L, "deleted", 1L));
+        redis.adjustCounts(RedisCountStorage.getKeyDegreesRebuilding(keyspace, marriage), ImmutableMap.of(e3, 1L));
+
+        executeRebuildingTask(keyspace);
+
+        ImmutableList<String> things = ImmutableList.of(e1, e2, e3, "deleted");
+        assertEquals(ImmutableMap.of(e1, 2L, e2, 1L, e3, 1L),
+                redis.getCounts(RedisCountStorage.getKeyDegrees(keyspace, friendship), things));
+        assertEquals(ImmutableMap.of(e1, 1L, e2, 1L),
+                redis.getCounts(RedisCountStorage.getKeyDegrees(keyspace, marriage), things));
+        assertEquals(1L, redis.getCount(RedisCountStorage.getKeyDegreesBuilt(keyspace)));
+    }
+
+    private void executeRebuildingTask(String keyspace){
+        TaskState task = RebuildingDegreesTask.createTask(getClass());
+        engine.getTaskManager().addTask(task, RebuildingDegreesTask.createConfig(keyspace));
+
+        // Wait for task to complete
+        waitForDoneStatus(engine.getTaskManager().storage(), singleton(task));
+
+        assertEquals(COMPLETED, engine.getTaskManager().storage().getState(task.getId()).status());
+    }
+}
@@ -22,6 +22,8 @@ import ai.grakn.concept.ConceptId;
 import ai.grakn.engine.tasks.connection.RedisCountStorage;
 import ai.grakn.test.EngineContext;
 import ai.grakn.util.MockRedisRule;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
@@ -97,4 +99,101 @@ public class RedisCountStorageTest {
         assertEquals(0, redis.getCount(RedisCountStorage.getKeyNumInstances(keyspace1, ciri)));
         assertEquals(1, redis.getCount(RedisCountStorage.getKeyNumInstances(keyspace2, ciri)));
     }
+
+    @Test
+    public void whenAdjustingCountsOfAHash_EnsureFieldsReachingZeroAreRemoved(){
+        //The mock redis server does not run scripts
+        RedisCountStorage redis = engine.redis();
+        String key = RedisCountStorage.getKeyDegrees("k3", ConceptId.of("Friendship"));
+
+        redis.adjustCounts(key, ImmutableMap.of("Geralt", 2L, "Yennefer", 1L));
+        redis.adjustCounts(key, ImmutableMap.of("Geralt", -1L, "Yennefer", -1L, "Ciri", 0L));
+
+        assertEquals(ImmutableMap.of("Geralt", 1L), redis.getCounts(key, ImmutableList.of("Geralt", "Yennefer", "Ciri")));
+    }
+
+    @Test
+    public void whenADecreaseIsAppliedBeforeItsIncrease_EnsureTheFieldEndsAtZero(){
+        RedisCountStorage redis = engine.redis();
+        String key = RedisCountStorage.getKeyDegrees("k6", ConceptId.of("Friendship"));
+
+        redis.adjustCounts(key, ImmutableMap.of("Geralt", -1L));
+        assertEquals(ImmutableMap.of("Geralt", -1L), redis.getCounts(key, ImmutableList.of("Geralt")));
+
+        redis.adjustCounts(key, ImmutableMap.of("Geralt", 1L));
+        assertEquals(ImmutableMap.of(), redis.getCounts(key, ImmutableList.of("Geralt")));
+
+        redis.adjustCounts(key, ImmutableMap.of("Geralt", 1L));
+        assertEquals(ImmutableMap.of("Geralt", 1L), redis.getCounts(key, ImmutableList.of("Geralt")));
+    }
+
+    @Test
+    public void whenAdjustingCountsOfAHashConcurrently_EnsureAllThreadCountsArePersisted() throws ExecutionException, InterruptedException {
+        RedisCountStorage redis = engine.redis();
+        String key = RedisCountStorage.getKeyDegrees("k4", ConceptId.of("Friendship"));
+        int[] counts = {5, 5, 10, 10, 3, 5, 8, 2, 2};
+        ExecutorService pool = Executors.newCachedThreadPool();
+        Set<Future> futures = new HashSet<>();
+
+        for(int i =0; i < counts.length; i ++) {
+            int finalI = i;
+            futures.add(pool.submit(() -> redis.adjustCounts(key, ImmutableMap.of("Roach", (long) counts[finalI]))));
+        }
+        for (Future future : futures) {
+            future.get();
+        }
+
+        assertEquals(ImmutableMap.of("Roach", 50L), redis.getCounts(key, ImmutableList.of("Roach")));
+    }
+
+    @Test
+    public void whenReplacingCounts_EnsureTheNewHashReplacesTheOldOne(){
+        RedisCountStorage redis = engine.redis();
+        String key = RedisCountStorage.getKeyDegrees("k5", ConceptId.of("Friendship"));
+        String newKey = RedisCountStorage.getKeyDegreesRebuilding("k5", ConceptId.of("Friendship"));
+
+        redis.adjustCounts(key, ImmutableMap.of("Geralt", 2L, "Yennefer", 1L));
+        redis.adjustCounts(newKey, ImmutableMap.of("Geralt", 3L));
+        redis.replaceCounts(key, newKey);
+
+        assertEquals(ImmutableMap.of("Geralt", 3L), redis.getCounts(key, ImmutableList.of("Geralt", "Yennefer")));
+        assertEquals(ImmutableMap.of(), redis.getCounts(newKey, ImmutableList.of("Geralt")));
+
+        //Nothing was counted in the new hash
+        redis.replaceCounts(key, newKey);
+        assertEquals(ImmutableMap.of(), redis.getCounts(key, ImmutableList.of("Geralt", "Yennefer")));
+    }
+
+    @Test
+    public void whenReplacingCountsWhichAreHeld_EnsureTheHeldAdjustmentsAreAppliedToTheNewHash(){
+        RedisCountStorage redis = engine.redis();
+        String key = RedisCountStorage.getKeyDegrees("k7", ConceptId.of("Friendship"));
+        String newKey = RedisCountStorage.getKeyDegreesRebuilding("k7", ConceptId.of("Friendship"));
+
+        redis.adjustCounts(key, ImmutableMap.of("Geralt", 2L));
+        redis.holdCounts(key);
+        redis.adjustCounts(key, ImmutableMap.of("Geralt", 1L, "Yennefer", 1L));
+        assertEquals(ImmutableMap.of("Geralt", 2L), redis.getCounts(key, ImmutableList.of("Geralt", "Yennefer")));
+
+        redis.adjustCounts(newKey, ImmutableMap.of("Geralt", 3L));
+        redis.replaceCounts(key, newKey);
+        assertEquals(ImmutableMap.of("Geralt", 4L, "Yennefer", 1L), redis.getCounts(key, ImmutableList.of("Geralt", "Yennefer")));
+
+        //The adjustments are not held any more
+        redis.adjustCounts(key, ImmutableMap.of("Yennefer", 1L));
+        assertEquals(ImmutableMap.of("Geralt", 4L, "Yennefer", 2L), redis.getCounts(key, ImmutableList.of("Geralt", "Yennefer")));
+    }
+
+    @Test
+    public void whenReleasingCountsWhichAreHeld_EnsureTheHeldAdjustmentsAreApplied(){
+        RedisCountStorage redis = engine.redis();
+        String key = RedisCountStorage.getKeyDegrees("k8", ConceptId.of("Friendship"));
+
+        redis.adjustCounts(key, ImmutableMap.of("Geralt", 2L));
+        redis.holdCounts(key);
+        redis.adjustCounts(key, ImmutableMap.of("Geralt", -2L, "Yennefer", 1L));
+        redis.releaseCounts(key);
+
+        assertEquals(ImmutableMap.of("Yennefer", 1L), redis.getCounts(key, ImmutableList.of("Geralt", "Yennefer")));
+    }
 }
@@ -214,6 +214,76 @@ public class ClusteringTest {
         }
     }
 
+    @Test
+    public void testClusterIsLabelledWithTheSmallestVertexIdOfItsMembers() throws Exception {
+        addSchemaAndEntities();
+        addResourceRelations();
+
+        try (GraknTx graph = factory.open(GraknTxType.READ)) {
+            Map<String, Set<String>> memberMap = graph.graql().compute().cluster().members().execute();
+            Map<String, Long> sizeMap = graph.graql().compute().cluster().execute();
+            assertEquals(memberMap.keySet(), sizeMap.keySet());
+
+            memberMap.forEach((label, members) -> {
+                long smallestVertexId = members.stream()
+                        .mapToLong(id -> Long.parseLong(id.substring(Schema.PREFIX_VERTEX.length())))
+                        .min().getAsLong();
+                assertEquals(Schema.PREFIX_VERTEX + smallestVertexId, label);
+                assertTrue(members.contains(label));
+                assertEquals(members.size(), sizeMap.get(label).longValue());
+            });
+        }
+    }
+
+    @Test
+    public void testClustersArePersistedWithoutReturningTheirMembers() throws Exception {
+        ConceptId entity5;
+        try (GraknTx graph = factory.open(GraknTxType.WRITE)) {
+            EntityType entityType = graph.putEntityType(thing);
+            AttributeType<String> cluster = graph.putAttributeType("cluster", AttributeType.DataType.STRING);
+            entityType.attribute(cluster);
+            Role role1 = graph.putRole("role1");
+            Role role2 = graph.putRole("role2");
+            entityType.plays(role1).plays(role2);
+            RelationshipType relationshipType = graph.putRelationshipType(related).relates(role1).relates(role2);
+
+            Entity entity1 = entityType.addEntity();
+            Entity entity2 = entityType.addEntity();
+            entityId1 = entity1.getId();
+            entityId2 = entity2.getId();
+            entity5 = entityType.addEntity().getId();
+            relationshipType.addRelationship().addRolePlayer(role1, entity1).addRolePlayer(role2, entity2);
+            graph.commit();
+        }
+
+        Map<String, Set<String>> memberMap;
+        try (GraknTx graph = factory.open(GraknTxType.WRITE)) {
+            memberMap = graph.graql().compute().cluster().members().execute();
+            Map<String, Long> sizeMap = graph.graql().compute().cluster().persist().execute();
+            assertEquals(memberMap.keySet(), sizeMap.keySet());
+            memberMap.forEach((label, members) -> assertEquals(members.size(), sizeMap.get(label).longValue()));
+        }
+
+        try (GraknTx graph = factory.open(GraknTxType.READ)) {
+            memberMap.forEach((label, members) -> members.stream()
+                    .map(ConceptId::of)
+                    .filter(id -> graph.getConcept(id).isEntity())
+                    .forEach(id -> assertEquals(Sets.newHashSet(label), persistedClusters(graph, id))));
+        }
+
+        // Only the clusters of the given size are persisted, replacing the clusters persisted before
+        try (GraknTx graph = factory.open(GraknTxType.WRITE)) {
+            Map<String, Long> sizeMap = graph.graql().compute().cluster().clusterSize(1L).persist().execute();
+            assertEquals(Sets.newHashSet(entity5.getValue()), sizeMap.keySet());
+        }
+
+        try (GraknTx graph = factory.open(GraknTxType.READ)) {
+            assertEquals(Sets.newHashSet(entity5.getValue()), persistedClusters(graph, entity5));
+            assertEquals(1, persistedClusters(graph, entityId1).size());
+            assertEquals(persistedClusters(graph, entityId1), persistedClusters(graph, entityId2));
+        }
+    }
+
     @Test
     public void testConnectedComponentConcurrency() throws Exception {
         addSchemaAndEntities();
@@ -236,6 +306,11 @@ public class ClusteringTest {
         });
     }
 
+    private static Set<Object> persistedClusters(GraknTx graph, ConceptId id) {
+        AttributeType<String> cluster = graph.getAttributeType("cluster");
+        return graph.getConcept(id).asThing().attributes(cluster).map(Attribute::getValue).collect(Collectors.toSet());
+    }
+
     private void addSchemaAndEntities() throws InvalidKBException {
         try (GraknTx graph = factory.open(GraknTxType.WRITE)) {
 
@@ -18,9 +18,11 @@
 
 package ai.grakn.test.graql.analytics;
 
+import ai.grakn.GraknComputerType;
 import ai.grakn.GraknTx;
 import ai.grakn.GraknSession;
 import ai.grakn.GraknTxType;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
@@ -28,6 +30,7 @@ import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Attribute;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Role;
+import ai.grakn.engine.tasks.connection.RedisCountStorage;
 import ai.grakn.graql.Graql;
 import ai.grakn.test.EngineContext;
 import ai.grakn.test.GraknTestSetup;
@@ -63,8 +66,8 @@ public class CountTest {
 
         // assert the graph is empty
         try (GraknTx graph = factory.open(GraknTxType.READ)) {
-            Assert.assertEquals(0L, Graql.compute().count().withTx(graph).execute().longValue());
-            Assert.assertEquals(0L, graph.graql().compute().count().execute().longValue());
+            Assert.assertEquals(0L, Graql.compute().count().exact().withTx(graph).execute().longValue());
+            Assert.assertEquals(0L, graph.graql().compute().count().exact().execute().longValue());
         }
 
         // add 2 instances
@@ -77,7 +80,7 @@ public class CountTest {
 
         try (GraknTx graph = factory.open(GraknTxType.READ)) {
             Assert.assertEquals(2L,
-                    Graql.compute().withTx(graph).count().in(nameThing).execute().longValue());
+                    Graql.compute().withTx(graph).count().exact().in(nameThing).execute().longValue());
         }
 
         // create 1 more, rdd is refreshed
@@ -90,8 +93,8 @@ public class CountTest {
         try (GraknTx graph = factory.open(GraknTxType.READ)) {
             // assert computer returns the correct count of instances
             Assert.assertEquals(2L,
-                    Graql.compute().withTx(graph).count().in(nameThing).execute().longValue());
-            Assert.assertEquals(3L, graph.graql().compute().count().execute().longValue());
+                    Graql.compute().withTx(graph).count().exact().in(nameThing).execute().longValue());
+            Assert.assertEquals(3L, graph.graql().compute().count().exact().execute().longValue());
         }
 
         List<Long> list = new ArrayList<>(4);
@@ -118,6 +121,46 @@ public class CountTest {
 
     }
 
+    @Test
+    public void testCountIsReadFromMaintainedInstanceCounts() {
+        ConceptId thingyId;
+        String keyspace;
+        try (GraknTx graph = factory.open(GraknTxType.WRITE)) {
+            EntityType thingy = graph.putEntityType("thingy");
+            thingy.addEntity();
+            thingy.addEntity();
+            thingyId = thingy.getId();
+            keyspace = graph.getKeyspace();
+            graph.admin().commitNoLogs();
+        }
+
+        // no commit log was submitted, so engine only knows about the counts we give it
+        rule.redis().adjustCount(RedisCountStorage.getKeyNumInstances(keyspace, thingyId), 5L);
+
+        try (GraknTx graph = factory.open(GraknTxType.READ)) {
+            assertEquals(5L, graph.graql().compute().count().in("thingy").execute().longValue());
+            assertEquals(2L, graph.graql().compute().count().in("thingy").exact().execute().longValue());
+        }
+    }
+
+    @Test
+    public void testCountOnLocalComputer() {
+        try (GraknTx graph = factory.open(GraknTxType.WRITE)) {
+            EntityType thingy = graph.putEntityType("thingy");
+            thingy.addEntity();
+            thingy.addEntity();
+            graph.putEntityType("another").addEntity();
+            graph.commit();
+        }
+
+        try (GraknTx graph = factory.open(GraknTxType.READ)) {
+            assertEquals(2L, graph.graql().compute().count().exact().in("thingy")
+                    .withComputerType(GraknComputerType.LOCAL).execute().longValue());
+            assertEquals(3L, graph.graql().compute().count().exact()
+                    .withComputerType(GraknComputerType.LOCAL).execute().longValue());
+        }
+    }
+
     @Test
     public void testDegreeWithHasResourceEdges() {
         try (GraknTx graph = factory.open(GraknTxType.WRITE)) {
@@ -131,16 +174,16 @@ public class CountTest {
 
         long count;
         try (GraknTx graph = factory.open(GraknTxType.READ)) {
-            count = graph.graql().compute().count().execute();
+            count = graph.graql().compute().count().exact().execute();
             assertEquals(count, 3L);
 
-            count = graph.graql().compute().count().in("name").execute();
+            count = graph.graql().compute().count().exact().in("name").execute();
             assertEquals(count, 1L);
 
-            count = graph.graql().compute().count().in("has-name").execute();
+            count = graph.graql().compute().count().exact().in("has-name").execute();
             assertEquals(count, 1L);
 
-            count = graph.graql().compute().count().in("has-name", "name").execute();
+            count = graph.graql().compute().count().exact().in("has-name", "name").execute();
             assertEquals(count, 2L);
         }
     }
@@ -170,23 +213,23 @@ public class CountTest {
 
         long count;
         try (GraknTx graph = factory.open(GraknTxType.READ)) {
-            count = graph.graql().compute().count().execute();
+            count = graph.graql().compute().count().exact().execute();
             assertEquals(count, 3L);
 
-            count = graph.graql().compute().count().in("name").execute();
+            count = graph.graql().compute().count().exact().in("name").execute();
             assertEquals(count, 1L);
 
-            count = graph.graql().compute().count().in("has-name").execute();
+            count = graph.graql().compute().count().exact().in("has-name").execute();
             assertEquals(count, 1L);
 
-            count = graph.graql().compute().count().in("has-name", "name").execute();
+            count = graph.graql().compute().count().exact().in("has-name", "name").execute();
             assertEquals(count, 2L);
         }
     }
 
     private Long executeCount(GraknSession factory) {
         try (GraknTx graph = factory.open(GraknTxType.READ)) {
-            return graph.graql().compute().count().execute();
+            return graph.graql().compute().count().exact().execute();
         }
     }
 }
\ No newline at end of file
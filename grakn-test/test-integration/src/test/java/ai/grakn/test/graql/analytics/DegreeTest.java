@@ -18,6 +18,7 @@
 
 package ai.grakn.test.graql.analytics;
 
+import ai.grakn.GraknComputerType;
 import ai.grakn.GraknTx;
 import ai.grakn.GraknSession;
 import ai.grakn.GraknTxType;
@@ -30,6 +31,7 @@ import ai.grakn.concept.Label;
 import ai.grakn.concept.Relationship;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
+import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.exception.InvalidKBException;
 import ai.grakn.test.EngineContext;
 import ai.grakn.test.GraknTestSetup;
@@ -192,6 +194,38 @@ public class DegreeTest {
         }
     }
 
+    @Test
+    public void testDegreesOnLocalComputerMatchDistributedComputer() throws Exception {
+        EntityType thingy = tx.putEntityType("thingy");
+        Role role1 = tx.putRole("role1");
+        Role role2 = tx.putRole("role2");
+        thingy.plays(role1).plays(role2);
+        RelationshipType related = tx.putRelationshipType("related").relates(role1).relates(role2);
+
+        Entity entity1 = thingy.addEntity();
+        Entity entity2 = thingy.addEntity();
+        Entity entity3 = thingy.addEntity();
+        related.addRelationship().addRolePlayer(role1, entity1).addRolePlayer(role2, entity2);
+        related.addRelationship().addRolePlayer(role1, entity2).addRolePlayer(role2, entity3);
+        tx.commit();
+
+        try (GraknTx graph = factory.open(GraknTxType.READ)) {
+            Map<Long, Set<String>> localDegrees = graph.graql().compute().degree()
+                    .withComputerType(GraknComputerType.LOCAL).execute();
+            Map<Long, Set<String>> distributedDegrees = graph.graql().compute().degree()
+                    .withComputerType(GraknComputerType.DISTRIBUTED).execute();
+
+            assertEquals(distributedDegrees, localDegrees);
+            assertEquals(Sets.newHashSet(entity1.getId().getValue(), entity3.getId().getValue()), localDegrees.get(1L));
+
+            //Only the edges inside the subgraph are counted
+            assertEquals(graph.graql().compute().degree().in("thingy")
+                            .withComputerType(GraknComputerType.DISTRIBUTED).execute(),
+                    graph.graql().compute().degree().in("thingy")
+                            .withComputerType(GraknComputerType.LOCAL).execute());
+        }
+    }
+
     @Test
     public void testSubIsAccountedForInSubgraph() throws Exception {
         // create a simple tx
@@ -540,6 +574,68 @@ public class DegreeTest {
         }
     }
 
+    @Test
+    public void testDegreesArePersisted() {
+        EntityType thingy = tx.putEntityType("thingy");
+        AttributeType<Long> degree = tx.putAttributeType("degree", AttributeType.DataType.LONG);
+        thingy.attribute(degree);
+        Role role1 = tx.putRole("role1");
+        Role role2 = tx.putRole("role2");
+        thingy.plays(role1).plays(role2);
+        RelationshipType related = tx.putRelationshipType("related").relates(role1).relates(role2);
+
+        ConceptId entity1 = thingy.addEntity().getId();
+        ConceptId entity2 = thingy.addEntity().getId();
+        ConceptId entity3 = thingy.addEntity().getId();
+        related.addRelationship()
+                .addRolePlayer(role1, tx.getConcept(entity1)).addRolePlayer(role2, tx.getConcept(entity2));
+        tx.commit();
+
+        try (GraknTx graph = factory.open(GraknTxType.WRITE)) {
+            graph.graql().compute().degree().of("thingy").persist().execute();
+        }
+
+        try (GraknTx graph = factory.open(GraknTxType.READ)) {
+            assertEquals(Sets.newHashSet(1L), persistedDegrees(graph, entity1));
+            assertEquals(Sets.newHashSet(1L), persistedDegrees(graph, entity2));
+            assertEquals(Sets.newHashSet(0L), persistedDegrees(graph, entity3));
+        }
+
+        tx = factory.open(GraknTxType.WRITE);
+        related.addRelationship()
+                .addRolePlayer(role1, tx.getConcept(entity1)).addRolePlayer(role2, tx.getConcept(entity3));
+        tx.commit();
+
+        // The degrees persisted before are not counted, and are replaced by the new degrees
+        try (GraknTx graph = factory.open(GraknTxType.WRITE)) {
+            Map<Long, Set<String>> degrees = graph.graql().compute().degree().of("thingy").persist().execute();
+            assertEquals(Sets.newHashSet(entity2.getValue(), entity3.getValue()), degrees.get(1L));
+        }
+
+        try (GraknTx graph = factory.open(GraknTxType.READ)) {
+            assertEquals(Sets.newHashSet(2L), persistedDegrees(graph, entity1));
+            assertEquals(Sets.newHashSet(1L), persistedDegrees(graph, entity2));
+            assertEquals(Sets.newHashSet(1L), persistedDegrees(graph, entity3));
+        }
+    }
+
+    @Test(expected = GraqlQueryException.class)
+    public void testPersistingDegreesAsResourceTypeWithWrongDataType() {
+        EntityType thingy = tx.putEntityType("thingy");
+        thingy.attribute(tx.putAttributeType("degree", AttributeType.DataType.STRING));
+        thingy.addEntity();
+        tx.commit();
+
+        try (GraknTx graph = factory.open(GraknTxType.WRITE)) {
+            graph.graql().compute().degree().of("thingy").persist().execute();
+        }
+    }
+
+    private static Set<Object> persistedDegrees(GraknTx graph, ConceptId id) {
+        AttributeType<Long> degree = graph.getAttributeType("degree");
+        return graph.getConcept(id).asThing().attributes(degree).map(Attribute::getValue).collect(Collectors.toSet());
+    }
+
     @Test
     public void testDegreeRolePlayerWrongType()
             throws InvalidKBException, ExecutionException, InterruptedException {
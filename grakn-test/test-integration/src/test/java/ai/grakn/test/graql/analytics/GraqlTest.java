@@ -89,9 +89,9 @@ public class GraqlTest {
         addSchemaAndEntities();
         try (GraknTx graph = factory.open(GraknTxType.WRITE)) {
             assertEquals(6L,
-                    ((Long) graph.graql().parse("compute count;").execute()).longValue());
+                    ((Long) graph.graql().parse("compute count; exact;").execute()).longValue());
             assertEquals(3L,
-                    ((Long) graph.graql().parse("compute count in thingy, thingy;").execute()).longValue());
+                    ((Long) graph.graql().parse("compute count in thingy, thingy; exact;").execute()).longValue());
         }
     }
 
@@ -328,7 +328,7 @@ public class GraqlShellIT {
                 anything(),
                 anything(),
                 "commit",
-                "compute count;",
+                "compute count; exact;",
                 is("3")
         );
     }